@@ -21,6 +21,9 @@ import java.io.FileFilter;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 
 import android.content.res.AssetFileDescriptor;
 import android.content.res.AssetManager;
@@ -80,6 +83,31 @@ public class AndroidFileHandle extends FileHandle {
 		return super.read();
 	}
 
+	public ByteBuffer map (FileChannel.MapMode mode) {
+		if (type == FileType.Internal) {
+			if (mode != FileChannel.MapMode.READ_ONLY)
+				throw new GdxRuntimeException("Internal files can only be mapped read only: " + file + " (" + type + ")");
+			AssetFileDescriptor fd = null;
+			try {
+				fd = getAssetFileDescriptor();
+				long startOffset = fd.getStartOffset(), length = fd.getLength();
+				ByteBuffer map = fd.createInputStream().getChannel().map(mode, startOffset, length);
+				map.order(ByteOrder.nativeOrder());
+				return map;
+			} catch (Exception ex) {
+				throw new GdxRuntimeException("Error memory mapping file: " + file + " (" + type + ")", ex);
+			} finally {
+				if (fd != null) {
+					try {
+						fd.close();
+					} catch (IOException ignored) {
+					}
+				}
+			}
+		}
+		return super.map(mode);
+	}
+
 	public FileHandle[] list () {
 		if (type == FileType.Internal) {
 			try {
@@ -16,9 +16,13 @@
 
 package com.badlogic.gdx.backends.headless;
 
+import com.badlogic.gdx.net.NetJavaImpl;
+
 public class HeadlessApplicationConfiguration {
 	/** The minimum time (in seconds) between each call to the render method or negative to not call the render method at all. */
 	public float renderInterval = 1f / 60f;
 	/** Preferences directory for headless. Default is ".prefs/". */
 	public String preferencesDirectory = ".prefs/";
+	/** The maximum number of HTTP requests processed at the same time. Default is {@link NetJavaImpl#DEFAULT_MAX_THREADS}. */
+	public int maxNetThreads = NetJavaImpl.DEFAULT_MAX_THREADS;
 }
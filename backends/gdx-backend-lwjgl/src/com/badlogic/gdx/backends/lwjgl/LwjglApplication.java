@@ -86,7 +86,7 @@ public class LwjglApplication implements Application {
 		if (!LwjglApplicationConfiguration.disableAudio) {
 			try {
 				audio = new OpenALAudio(config.audioDeviceSimultaneousSources, config.audioDeviceBufferCount,
-					config.audioDeviceBufferSize);
+					config.audioDeviceBufferSize, config.audioDecoderThreads, config.audioPcmCacheSize);
 			} catch (Throwable t) {
 				log("LwjglApplication", "Couldn't initialize audio, disabling audio", t);
 				LwjglApplicationConfiguration.disableAudio = true;
@@ -94,7 +94,7 @@ public class LwjglApplication implements Application {
 		}
 		files = new LwjglFiles();
 		input = new LwjglInput();
-		net = new LwjglNet();
+		net = new LwjglNet(config);
 		this.listener = listener;
 		this.preferencesdir = config.preferencesDirectory;
 		this.preferencesFileType = config.preferencesFileType;
@@ -26,6 +26,7 @@ import com.badlogic.gdx.Files.FileType;
 import com.badlogic.gdx.Graphics;
 import com.badlogic.gdx.Graphics.DisplayMode;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.net.NetJavaImpl;
 import com.badlogic.gdx.utils.Array;
 
 public class LwjglApplicationConfiguration {
@@ -76,6 +77,11 @@ public class LwjglApplicationConfiguration {
 	public int audioDeviceBufferSize = 512;
 	/** the audio device buffer count **/
 	public int audioDeviceBufferCount = 9;
+	/** the number of threads decoding Ogg, MP3 and WAV music ahead of playback, 0 to decode on the rendering thread. Sounds are
+	 * always decoded when they are created. **/
+	public int audioDecoderThreads = 1;
+	/** the maximum number of bytes of decoded sound samples kept to load sounds again without decoding, 0 to disable **/
+	public int audioPcmCacheSize = 0;
 	public Color initialBackgroundColor = Color.BLACK;
 	/** Target framerate when the window is in the foreground. The CPU sleeps as needed. Use 0 to never sleep. **/
 	public int foregroundFPS = 60;
@@ -92,6 +98,8 @@ public class LwjglApplicationConfiguration {
 	public LwjglGraphics.SetDisplayModeCallback setDisplayModeCallback;
 	/** enable HDPI mode on Mac OS X **/
 	public boolean useHDPI = false;
+	/** The maximum number of HTTP requests processed at the same time. Default is {@link NetJavaImpl#DEFAULT_MAX_THREADS}. */
+	public int maxNetThreads = NetJavaImpl.DEFAULT_MAX_THREADS;
 
 	Array<String> iconPaths = new Array();
 	Array<FileType> iconFileTypes = new Array();
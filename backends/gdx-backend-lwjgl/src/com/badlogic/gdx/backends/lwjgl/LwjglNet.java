@@ -34,7 +34,15 @@ import com.badlogic.gdx.utils.StreamUtils;
  * @author acoppes */
 public class LwjglNet implements Net {
 
-	NetJavaImpl netJavaImpl = new NetJavaImpl();
+	NetJavaImpl netJavaImpl;
+
+	public LwjglNet () {
+		netJavaImpl = new NetJavaImpl();
+	}
+
+	public LwjglNet (LwjglApplicationConfiguration configuration) {
+		netJavaImpl = new NetJavaImpl(configuration.maxNetThreads);
+	}
 
 	@Override
 	public void sendHttpRequest (HttpRequest httpRequest, HttpResponseListener httpResponseListener) {
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.lwjgl.audio;
+
+import java.io.ByteArrayOutputStream;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+
+/** Decodes an audio file to 16 bit little endian PCM samples. Decoders don't use OpenAL, so they can run on any thread, but a
+ * decoder must only be used by one thread at a time. {@link OpenALSound} decodes the whole file with {@link #readAll()},
+ * {@link OpenALMusic} streams it with {@link #read(byte[])}. */
+public abstract class AudioDecoder implements Disposable {
+	protected final FileHandle file;
+	protected int channels, sampleRate;
+
+	public AudioDecoder (FileHandle file) {
+		this.file = file;
+	}
+
+	public FileHandle getFile () {
+		return file;
+	}
+
+	/** Returns 1 for mono or 2 for stereo. */
+	public int getChannels () {
+		return channels;
+	}
+
+	public int getSampleRate () {
+		return sampleRate;
+	}
+
+	/** Fills as much of the buffer as possible and returns the number of bytes filled. Returns <= 0 to indicate the end of the
+	 * stream. */
+	abstract public int read (byte[] buffer);
+
+	/** Resets the stream to the beginning. Resources may be released until the next {@link #read(byte[])}. */
+	abstract public void reset ();
+
+	/** Restarts the stream to loop it. By default, does the same as {@link #reset()}. */
+	public void loop () {
+		reset();
+	}
+
+	/** Decodes the rest of the stream. */
+	public byte[] readAll () {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(4096);
+		byte[] buffer = new byte[4096 * 10];
+		while (true) {
+			int length = read(buffer);
+			if (length <= 0) break;
+			output.write(buffer, 0, length);
+		}
+		return output.toByteArray();
+	}
+
+	/** Releases the resources of the decoder. */
+	public void dispose () {
+		reset();
+	}
+}
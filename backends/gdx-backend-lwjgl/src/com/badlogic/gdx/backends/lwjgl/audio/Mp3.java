@@ -16,8 +16,6 @@
 
 package com.badlogic.gdx.backends.lwjgl.audio;
 
-import java.io.ByteArrayOutputStream;
-
 import javazoom.jl.decoder.Bitstream;
 import javazoom.jl.decoder.BitstreamException;
 import javazoom.jl.decoder.Header;
@@ -30,36 +28,71 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 /** @author Nathan Sweet */
 public class Mp3 {
 	static public class Music extends OpenALMusic {
+		private Decoder decoder;
+
+		public Music (OpenALAudio audio, FileHandle file) {
+			super(audio, file);
+			if (audio.noDevice) return;
+			decoder = new Decoder(file);
+			bufferOverhead = 4096;
+			setup(decoder.getChannels(), decoder.getSampleRate());
+		}
+
+		public int read (byte[] buffer) {
+			return decoder.read(buffer);
+		}
+
+		public void reset () {
+			decoder.reset();
+		}
+
+		@Override
+		protected boolean canDecodeAhead () {
+			return true;
+		}
+	}
+
+	static public class Sound extends OpenALSound {
+		public Sound (OpenALAudio audio, FileHandle file) {
+			super(audio);
+			if (audio.noDevice) return;
+			load(file);
+		}
+
+		protected AudioDecoder newDecoder (FileHandle file) {
+			return new Decoder(file);
+		}
+	}
+
+	static public class Decoder extends AudioDecoder {
 		// Note: This uses a slightly modified version of JLayer.
 
 		private Bitstream bitstream;
 		private OutputBuffer outputBuffer;
 		private MP3Decoder decoder;
 
-		public Music (OpenALAudio audio, FileHandle file) {
-			super(audio, file);
-			if (audio.noDevice) return;
+		public Decoder (FileHandle file) {
+			super(file);
 			bitstream = new Bitstream(file.read());
-			decoder = new MP3Decoder();
-			bufferOverhead = 4096;
 			try {
 				Header header = bitstream.readFrame();
 				if (header == null) throw new GdxRuntimeException("Empty MP3");
-				int channels = header.mode() == Header.SINGLE_CHANNEL ? 1 : 2;
-				outputBuffer = new OutputBuffer(channels, false);
-				decoder.setOutputBuffer(outputBuffer);
-				setup(channels, header.getSampleRate());
+				channels = header.mode() == Header.SINGLE_CHANNEL ? 1 : 2;
+				sampleRate = header.getSampleRate();
 			} catch (BitstreamException e) {
 				throw new GdxRuntimeException("error while preloading mp3", e);
+			} finally {
+				reset();
 			}
+			outputBuffer = new OutputBuffer(channels, false);
 		}
 
 		public int read (byte[] buffer) {
 			try {
-				boolean setup = bitstream == null;
-				if (setup) {
+				if (bitstream == null) {
 					bitstream = new Bitstream(file.read());
 					decoder = new MP3Decoder();
+					decoder.setOutputBuffer(outputBuffer);
 				}
 
 				int totalLength = 0;
@@ -67,13 +100,6 @@ public class Mp3 {
 				while (totalLength <= minRequiredLength) {
 					Header header = bitstream.readFrame();
 					if (header == null) break;
-					if (setup) {
-						int channels = header.mode() == Header.SINGLE_CHANNEL ? 1 : 2;
-						outputBuffer = new OutputBuffer(channels, false);
-						decoder.setOutputBuffer(outputBuffer);
-						setup(channels, header.getSampleRate());
-						setup = false;
-					}
 					try {
 						decoder.decodeFrame(header, bitstream);
 					} catch (Exception ignored) {
@@ -101,43 +127,4 @@ public class Mp3 {
 			bitstream = null;
 		}
 	}
-
-	static public class Sound extends OpenALSound {
-		// Note: This uses a slightly modified version of JLayer.
-
-		public Sound (OpenALAudio audio, FileHandle file) {
-			super(audio);
-			if (audio.noDevice) return;
-			ByteArrayOutputStream output = new ByteArrayOutputStream(4096);
-
-			Bitstream bitstream = new Bitstream(file.read());
-			MP3Decoder decoder = new MP3Decoder();
-
-			try {
-				OutputBuffer outputBuffer = null;
-				int sampleRate = -1, channels = -1;
-				while (true) {
-					Header header = bitstream.readFrame();
-					if (header == null) break;
-					if (outputBuffer == null) {
-						channels = header.mode() == Header.SINGLE_CHANNEL ? 1 : 2;
-						outputBuffer = new OutputBuffer(channels, false);
-						decoder.setOutputBuffer(outputBuffer);
-						sampleRate = header.getSampleRate();
-					}
-					try {
-						decoder.decodeFrame(header, bitstream);
-					} catch (Exception ignored) {
-						// JLayer's decoder throws ArrayIndexOutOfBoundsException sometimes!?
-					}
-					bitstream.closeFrame();
-					output.write(outputBuffer.getBuffer(), 0, outputBuffer.reset());
-				}
-				bitstream.close();
-				setup(output.toByteArray(), channels, sampleRate);
-			} catch (Throwable ex) {
-				throw new GdxRuntimeException("Error reading audio data.", ex);
-			}
-		}
-	}
 }
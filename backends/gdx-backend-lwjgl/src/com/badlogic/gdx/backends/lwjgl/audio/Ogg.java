@@ -16,28 +16,66 @@
 
 package com.badlogic.gdx.backends.lwjgl.audio;
 
-import java.io.ByteArrayOutputStream;
-
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.StreamUtils;
 
 /** @author Nathan Sweet */
 public class Ogg {
 	static public class Music extends OpenALMusic {
-		private OggInputStream input;
-		private OggInputStream previousInput;
+		private Decoder decoder;
 
 		public Music (OpenALAudio audio, FileHandle file) {
 			super(audio, file);
 			if (audio.noDevice) return;
+			decoder = new Decoder(file);
+			setup(decoder.getChannels(), decoder.getSampleRate());
+		}
+
+		public int read (byte[] buffer) {
+			return decoder.read(buffer);
+		}
+
+		public void reset () {
+			decoder.reset();
+		}
+
+		@Override
+		protected void loop () {
+			decoder.loop();
+		}
+
+		@Override
+		protected boolean canDecodeAhead () {
+			return true;
+		}
+	}
+
+	static public class Sound extends OpenALSound {
+		public Sound (OpenALAudio audio, FileHandle file) {
+			super(audio);
+			if (audio.noDevice) return;
+			load(file);
+		}
+
+		protected AudioDecoder newDecoder (FileHandle file) {
+			return new Decoder(file);
+		}
+	}
+
+	static public class Decoder extends AudioDecoder {
+		private OggInputStream input;
+		private OggInputStream previousInput;
+
+		public Decoder (FileHandle file) {
+			super(file);
 			input = new OggInputStream(file.read());
-			setup(input.getChannels(), input.getSampleRate());
+			channels = input.getChannels();
+			sampleRate = input.getSampleRate();
 		}
 
 		public int read (byte[] buffer) {
 			if (input == null) {
 				input = new OggInputStream(file.read(), previousInput);
-				setup(input.getChannels(), input.getSampleRate());
 				previousInput = null; // release this reference
 			}
 			return input.read(buffer);
@@ -49,32 +87,10 @@ public class Ogg {
 			input = null;
 		}
 
-		@Override
-		protected void loop () {
+		public void loop () {
 			StreamUtils.closeQuietly(input);
 			previousInput = input;
 			input = null;
 		}
 	}
-
-	static public class Sound extends OpenALSound {
-		public Sound (OpenALAudio audio, FileHandle file) {
-			super(audio);
-			if (audio.noDevice) return;
-			OggInputStream input = null;
-			try {
-				input = new OggInputStream(file.read());
-				ByteArrayOutputStream output = new ByteArrayOutputStream(4096);
-				byte[] buffer = new byte[2048];
-				while (!input.atEnd()) {
-					int length = input.read(buffer);
-					if (length == -1) break;
-					output.write(buffer, 0, length);
-				}
-				setup(output.toByteArray(), input.getChannels(), input.getSampleRate());
-			} finally {
-				StreamUtils.closeQuietly(input);
-			}
-		}
-	}
 }
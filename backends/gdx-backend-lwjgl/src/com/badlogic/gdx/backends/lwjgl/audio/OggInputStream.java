@@ -453,20 +453,25 @@ public class OggInputStream extends InputStream {
 	}
 
 	public int read (byte[] b, int off, int len) {
-		for (int i = 0; i < len; i++) {
-			int value = read();
-			if (value >= 0) {
-				b[i] = (byte)value;
-			} else {
-				if (i == 0) {
-					return -1;
-				} else {
-					return i;
-				}
+		int total = 0;
+		while (total < len) {
+			if (readIndex >= pcmBuffer.position()) {
+				pcmBuffer.clear();
+				readPCM();
+				readIndex = 0;
+				if (readIndex >= pcmBuffer.position()) break;
 			}
+			// Copy in bulk, the position of the PCM buffer is the end of the decoded data.
+			int end = pcmBuffer.position();
+			int count = Math.min(len - total, end - readIndex);
+			pcmBuffer.position(readIndex);
+			pcmBuffer.get(b, off + total, count);
+			pcmBuffer.position(end);
+			readIndex += count;
+			total += count;
 		}
-
-		return len;
+		if (total == 0 && len > 0) return -1;
+		return total;
 	}
 
 	public int read (byte[] b) {
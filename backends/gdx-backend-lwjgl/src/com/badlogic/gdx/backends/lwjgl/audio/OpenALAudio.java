@@ -31,35 +31,55 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.IntArray;
-import com.badlogic.gdx.utils.IntMap;
-import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.IntIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 
 import static org.lwjgl.openal.AL10.*;
 
 /** @author Nathan Sweet */
 public class OpenALAudio implements Audio {
+	static private final int SLOT_BITS = 16;
+	static private final long SLOT_MASK = (1 << SLOT_BITS) - 1;
+
 	private final int deviceBufferSize;
 	private final int deviceBufferCount;
-	private IntArray idleSources, allSources;
-	private LongMap<Integer> soundIdToSource;
-	private IntMap<Long> sourceToSoundId;
+	// The sources are stored by slot. A sound ID has the slot of its source in the low bits, so a sound is found without a map.
+	private int[] sources;
+	private long[] slotSoundIds; // The ID of the sound using the slot, or -1.
+	private int[] slotBuffers; // The buffer of the sound using the slot.
+	private int[] slotPriorities;
+	private boolean[] slotReserved; // True if the slot is used by music or an audio device.
+	private IntArray freeSlots;
+	private IntIntMap sourceToSlot;
 	private long nextSoundId = 0;
 	private ObjectMap<String, Class<? extends OpenALSound>> extensionToSoundClass = new ObjectMap();
 	private ObjectMap<String, Class<? extends OpenALMusic>> extensionToMusicClass = new ObjectMap();
-	private OpenALSound[] recentSounds;
-	private int mostRecetSound = -1;
+
+	private PcmCache pcmCache;
 
 	Array<OpenALMusic> music = new Array(false, 1, OpenALMusic.class);
 	boolean noDevice = false;
+	/** Decodes music ahead of playback, or null to decode on the thread calling {@link #update()}. */
+	AsyncExecutor decoderExecutor;
 
 	public OpenALAudio () {
 		this(16, 9, 512);
 	}
 
 	public OpenALAudio (int simultaneousSources, int deviceBufferCount, int deviceBufferSize) {
+		this(simultaneousSources, deviceBufferCount, deviceBufferSize, 1, 0);
+	}
+
+	/** @param decoderThreads The number of threads that decode music ahead of playback. If 0, music is decoded when
+	 *           {@link #update()} is called.
+	 * @param pcmCacheSize The maximum number of bytes of decoded sound samples to cache, see {@link #getPcmCache()}. If 0, decoded
+	 *           samples are not cached. */
+	public OpenALAudio (int simultaneousSources, int deviceBufferCount, int deviceBufferSize, int decoderThreads,
+		int pcmCacheSize) {
 		this.deviceBufferSize = deviceBufferSize;
 		this.deviceBufferCount = deviceBufferCount;
+		if (pcmCacheSize > 0) pcmCache = new PcmCache(pcmCacheSize);
 
 		registerSound("ogg", Ogg.Sound.class);
 		registerMusic("ogg", Ogg.Music.class);
@@ -76,15 +96,26 @@ public class OpenALAudio implements Audio {
 			return;
 		}
 
-		allSources = new IntArray(false, simultaneousSources);
+		simultaneousSources = Math.min(simultaneousSources, 1 << SLOT_BITS);
+		IntArray allSources = new IntArray(false, simultaneousSources);
 		for (int i = 0; i < simultaneousSources; i++) {
 			int sourceID = alGenSources();
 			if (alGetError() != AL_NO_ERROR) break;
 			allSources.add(sourceID);
 		}
-		idleSources = new IntArray(allSources);
-		soundIdToSource = new LongMap<Integer>();
-		sourceToSoundId = new IntMap<Long>();
+		int count = allSources.size;
+		sources = allSources.toArray();
+		slotSoundIds = new long[count];
+		slotBuffers = new int[count];
+		slotPriorities = new int[count];
+		slotReserved = new boolean[count];
+		freeSlots = new IntArray(false, count);
+		sourceToSlot = new IntIntMap(count);
+		for (int slot = count - 1; slot >= 0; slot--) {
+			slotSoundIds[slot] = -1;
+			freeSlots.add(slot);
+			sourceToSlot.put(sources[slot], slot);
+		}
 
 		FloatBuffer orientation = (FloatBuffer)BufferUtils.createFloatBuffer(6)
 			.put(new float[] {0.0f, 0.0f, -1.0f, 0.0f, 1.0f, 0.0f}).flip();
@@ -93,8 +124,14 @@ public class OpenALAudio implements Audio {
 		alListener(AL_VELOCITY, velocity);
 		FloatBuffer position = (FloatBuffer)BufferUtils.createFloatBuffer(3).put(new float[] {0.0f, 0.0f, 0.0f}).flip();
 		alListener(AL_POSITION, position);
-		
-		recentSounds = new OpenALSound[simultaneousSources];
+
+		if (decoderThreads > 0) decoderExecutor = new AsyncExecutor(decoderThreads);
+	}
+
+	/** Returns the cache of decoded sound samples, which is used when a sound is created for a file that was decoded before, or
+	 * null if caching is disabled. */
+	public PcmCache getPcmCache () {
+		return pcmCache;
 	}
 
 	public void registerSound (String extension, Class<? extends OpenALSound> soundClass) {
@@ -133,91 +170,124 @@ public class OpenALAudio implements Audio {
 
 	int obtainSource (boolean isMusic) {
 		if (noDevice) return 0;
-		for (int i = 0, n = idleSources.size; i < n; i++) {
-			int sourceId = idleSources.get(i);
-			int state = alGetSourcei(sourceId, AL_SOURCE_STATE);
-			if (state != AL_PLAYING && state != AL_PAUSED) {
-				if (isMusic) {
-					idleSources.removeIndex(i);
-				} else {
-					if (sourceToSoundId.containsKey(sourceId)) {
-						long soundId = sourceToSoundId.get(sourceId);
-						sourceToSoundId.remove(sourceId);
-						soundIdToSource.remove(soundId);
-					}
-
-					long soundId = nextSoundId++;
-					sourceToSoundId.put(sourceId, soundId);
-					soundIdToSource.put(soundId, sourceId);
-				}
-				alSourceStop(sourceId);
-				alSourcei(sourceId, AL_BUFFER, 0);
-				AL10.alSourcef(sourceId, AL10.AL_GAIN, 1);
-				AL10.alSourcef(sourceId, AL10.AL_PITCH, 1);
-				AL10.alSource3f(sourceId, AL10.AL_POSITION, 0, 0, 1f);
-				return sourceId;
-			}
+		if (!isMusic) return obtainSource(0, 0);
+		int slot = obtainSlot();
+		if (slot == -1) return -1;
+		slotReserved[slot] = true;
+		int sourceID = sources[slot];
+		resetSource(sourceID);
+		return sourceID;
+	}
+
+	/** Obtains a source to play a sound. If all sources are in use, the oldest sound with the lowest priority is stopped, unless
+	 * its priority is higher than the specified priority.
+	 * @return the source ID, or -1 if no source is available. */
+	int obtainSource (int bufferID, int priority) {
+		if (noDevice) return 0;
+		int slot = obtainSlot();
+		if (slot == -1) {
+			slot = lowestPrioritySlot(priority);
+			if (slot == -1) return -1;
 		}
-		return -1;
+		slotSoundIds[slot] = nextSoundId++ << SLOT_BITS | slot;
+		slotBuffers[slot] = bufferID;
+		slotPriorities[slot] = priority;
+		int sourceID = sources[slot];
+		resetSource(sourceID);
+		return sourceID;
+	}
+
+	private int obtainSlot () {
+		if (freeSlots.size == 0) reclaimSlots();
+		if (freeSlots.size == 0) return -1;
+		return freeSlots.pop();
+	}
+
+	/** Frees the slots of sounds that are done playing. Only called when no slot is free, so finished sounds are found with one pass
+	 * over the sources instead of querying the sources every time a sound is played. */
+	private void reclaimSlots () {
+		for (int slot = 0, n = sources.length; slot < n; slot++) {
+			if (slotSoundIds[slot] == -1) continue;
+			int state = alGetSourcei(sources[slot], AL_SOURCE_STATE);
+			if (state != AL_PLAYING && state != AL_PAUSED) freeSlot(slot);
+		}
+	}
+
+	private int lowestPrioritySlot (int maxPriority) {
+		int lowest = -1;
+		for (int slot = 0, n = sources.length; slot < n; slot++) {
+			if (slotSoundIds[slot] == -1) continue;
+			int priority = slotPriorities[slot];
+			if (priority > maxPriority) continue;
+			// Sound IDs increase, so the lowest ID is the oldest sound.
+			if (lowest == -1 || priority < slotPriorities[lowest]
+				|| (priority == slotPriorities[lowest] && slotSoundIds[slot] < slotSoundIds[lowest])) lowest = slot;
+		}
+		return lowest;
+	}
+
+	private void resetSource (int sourceID) {
+		alSourceStop(sourceID);
+		alSourcei(sourceID, AL_BUFFER, 0);
+		AL10.alSourcef(sourceID, AL10.AL_GAIN, 1);
+		AL10.alSourcef(sourceID, AL10.AL_PITCH, 1);
+		AL10.alSource3f(sourceID, AL10.AL_POSITION, 0, 0, 1f);
+	}
+
+	private void freeSlot (int slot) {
+		slotSoundIds[slot] = -1;
+		slotBuffers[slot] = 0;
+		slotReserved[slot] = false;
+		freeSlots.add(slot);
+	}
+
+	/** Returns the slot of the sound, or -1 if the sound is not playing. */
+	private int slotOf (long soundId) {
+		if (noDevice || soundId < 0) return -1;
+		int slot = (int)(soundId & SLOT_MASK);
+		if (slot >= sources.length || slotSoundIds[slot] != soundId) return -1;
+		return slot;
 	}
 
 	void freeSource (int sourceID) {
 		if (noDevice) return;
 		alSourceStop(sourceID);
 		alSourcei(sourceID, AL_BUFFER, 0);
-		if (sourceToSoundId.containsKey(sourceID)) {
-			long soundId = sourceToSoundId.remove(sourceID);
-			soundIdToSource.remove(soundId);
-		}
-		idleSources.add(sourceID);
+		int slot = sourceToSlot.get(sourceID, -1);
+		if (slot != -1 && (slotReserved[slot] || slotSoundIds[slot] != -1)) freeSlot(slot);
 	}
 
 	void freeBuffer (int bufferID) {
 		if (noDevice) return;
-		for (int i = 0, n = idleSources.size; i < n; i++) {
-			int sourceID = idleSources.get(i);
-			if (alGetSourcei(sourceID, AL_BUFFER) == bufferID) {
-				if (sourceToSoundId.containsKey(sourceID)) {
-					long soundId = sourceToSoundId.remove(sourceID);
-					soundIdToSource.remove(soundId);
-				}
-				alSourceStop(sourceID);
-				alSourcei(sourceID, AL_BUFFER, 0);
-			}
+		for (int slot = 0, n = sources.length; slot < n; slot++) {
+			if (slotBuffers[slot] != bufferID || slotSoundIds[slot] == -1) continue;
+			alSourceStop(sources[slot]);
+			alSourcei(sources[slot], AL_BUFFER, 0);
+			freeSlot(slot);
 		}
 	}
 
 	void stopSourcesWithBuffer (int bufferID) {
 		if (noDevice) return;
-		for (int i = 0, n = idleSources.size; i < n; i++) {
-			int sourceID = idleSources.get(i);
-			if (alGetSourcei(sourceID, AL_BUFFER) == bufferID) {
-				if (sourceToSoundId.containsKey(sourceID)) {
-					long soundId = sourceToSoundId.remove(sourceID);
-					soundIdToSource.remove(soundId);
-				}
-				alSourceStop(sourceID);
-			}
+		for (int slot = 0, n = sources.length; slot < n; slot++) {
+			if (slotBuffers[slot] != bufferID || slotSoundIds[slot] == -1) continue;
+			alSourceStop(sources[slot]);
+			freeSlot(slot);
 		}
 	}
-	
+
 	void pauseSourcesWithBuffer (int bufferID) {
 		if (noDevice) return;
-		for (int i = 0, n = idleSources.size; i < n; i++) {
-			int sourceID = idleSources.get(i);
-			if (alGetSourcei(sourceID, AL_BUFFER) == bufferID)
-				alSourcePause(sourceID);
-		}
+		for (int slot = 0, n = sources.length; slot < n; slot++)
+			if (slotBuffers[slot] == bufferID && slotSoundIds[slot] != -1) alSourcePause(sources[slot]);
 	}
-	
+
 	void resumeSourcesWithBuffer (int bufferID) {
 		if (noDevice) return;
-		for (int i = 0, n = idleSources.size; i < n; i++) {
-			int sourceID = idleSources.get(i);
-			if (alGetSourcei(sourceID, AL_BUFFER) == bufferID) {
-				if (alGetSourcei(sourceID, AL_SOURCE_STATE) == AL_PAUSED)
-					alSourcePlay(sourceID);
-			}
+		for (int slot = 0, n = sources.length; slot < n; slot++) {
+			if (slotBuffers[slot] != bufferID || slotSoundIds[slot] == -1) continue;
+			int sourceID = sources[slot];
+			if (alGetSourcei(sourceID, AL_SOURCE_STATE) == AL_PAUSED) alSourcePlay(sourceID);
 		}
 	}
 
@@ -227,52 +297,56 @@ public class OpenALAudio implements Audio {
 			music.items[i].update();
 	}
 
+	/** Returns the ID of the sound played by the source, or -1. */
 	public long getSoundId (int sourceId) {
-		if (!sourceToSoundId.containsKey(sourceId)) return -1;
-		return sourceToSoundId.get(sourceId);
+		if (noDevice) return -1;
+		int slot = sourceToSlot.get(sourceId, -1);
+		if (slot == -1) return -1;
+		return slotSoundIds[slot];
 	}
 
 	public void stopSound (long soundId) {
-		if (!soundIdToSource.containsKey(soundId)) return;
-		int sourceId = soundIdToSource.get(soundId);
-		alSourceStop(sourceId);
+		int slot = slotOf(soundId);
+		if (slot == -1) return;
+		alSourceStop(sources[slot]);
+		freeSlot(slot);
 	}
-	
+
 	public void pauseSound (long soundId) {
-		if (!soundIdToSource.containsKey(soundId)) return;
-		int sourceId = soundIdToSource.get(soundId);
-		alSourcePause(sourceId);
+		int slot = slotOf(soundId);
+		if (slot == -1) return;
+		alSourcePause(sources[slot]);
 	}
-	
+
 	public void resumeSound (long soundId) {
-		if (!soundIdToSource.containsKey(soundId)) return;
-		int sourceId = soundIdToSource.get(soundId);
-		if (alGetSourcei(sourceId, AL_SOURCE_STATE) == AL_PAUSED)
-			alSourcePlay(sourceId);
+		int slot = slotOf(soundId);
+		if (slot == -1) return;
+		int sourceId = sources[slot];
+		if (alGetSourcei(sourceId, AL_SOURCE_STATE) == AL_PAUSED) alSourcePlay(sourceId);
 	}
 
 	public void setSoundGain (long soundId, float volume) {
-		if (!soundIdToSource.containsKey(soundId)) return;
-		int sourceId = soundIdToSource.get(soundId);
-		AL10.alSourcef(sourceId, AL10.AL_GAIN, volume);
+		int slot = slotOf(soundId);
+		if (slot == -1) return;
+		AL10.alSourcef(sources[slot], AL10.AL_GAIN, volume);
 	}
 
 	public void setSoundLooping (long soundId, boolean looping) {
-		if (!soundIdToSource.containsKey(soundId)) return;
-		int sourceId = soundIdToSource.get(soundId);
-		alSourcei(sourceId, AL10.AL_LOOPING, looping ? AL10.AL_TRUE : AL10.AL_FALSE);
+		int slot = slotOf(soundId);
+		if (slot == -1) return;
+		alSourcei(sources[slot], AL10.AL_LOOPING, looping ? AL10.AL_TRUE : AL10.AL_FALSE);
 	}
 
 	public void setSoundPitch (long soundId, float pitch) {
-		if (!soundIdToSource.containsKey(soundId)) return;
-		int sourceId = soundIdToSource.get(soundId);
-		AL10.alSourcef(sourceId, AL10.AL_PITCH, pitch);
+		int slot = slotOf(soundId);
+		if (slot == -1) return;
+		AL10.alSourcef(sources[slot], AL10.AL_PITCH, pitch);
 	}
 
 	public void setSoundPan (long soundId, float pan, float volume) {
-		if (!soundIdToSource.containsKey(soundId)) return;
-		int sourceId = soundIdToSource.get(soundId);
-
+		int slot = slotOf(soundId);
+		if (slot == -1) return;
+		int sourceId = sources[slot];
 		AL10.alSource3f(sourceId, AL10.AL_POSITION, MathUtils.cos((pan - 1) * MathUtils.PI / 2), 0,
 			MathUtils.sin((pan + 1) * MathUtils.PI / 2));
 		AL10.alSourcef(sourceId, AL10.AL_GAIN, volume);
@@ -280,15 +354,20 @@ public class OpenALAudio implements Audio {
 
 	public void dispose () {
 		if (noDevice) return;
-		for (int i = 0, n = allSources.size; i < n; i++) {
-			int sourceID = allSources.get(i);
+		for (int slot = 0, n = sources.length; slot < n; slot++) {
+			int sourceID = sources[slot];
 			int state = alGetSourcei(sourceID, AL_SOURCE_STATE);
 			if (state != AL_STOPPED) alSourceStop(sourceID);
 			alDeleteSources(sourceID);
+			slotSoundIds[slot] = -1;
 		}
+		freeSlots.clear();
+		sourceToSlot.clear();
 
-		sourceToSoundId.clear();
-		soundIdToSource.clear();
+		if (decoderExecutor != null) {
+			decoderExecutor.dispose();
+			decoderExecutor = null;
+		}
 
 		AL.destroy();
 		while (AL.isCreated()) {
@@ -342,26 +421,4 @@ public class OpenALAudio implements Audio {
 		};
 		return new JavaSoundAudioRecorder(samplingRate, isMono);
 	}
-
-	/** Retains a list of the most recently played sounds and stops the sound played least recently if necessary for a new sound to
-	 * play */
-	protected void retain (OpenALSound sound, boolean stop) {
-		// Move the pointer ahead and wrap
-		mostRecetSound++;
-		mostRecetSound %= recentSounds.length;
-
-		if (stop) {
-			// Stop the least recent sound (the one we are about to bump off the buffer)
-			if (recentSounds[mostRecetSound] != null) recentSounds[mostRecetSound].stop();
-		}
-
-		recentSounds[mostRecetSound] = sound;
-	}
-
-	/** Removes the disposed sound from the least recently played list */
-	public void forget (OpenALSound sound) {
-		for (int i = 0; i < recentSounds.length; i++) {
-			if (recentSounds[i] == sound) recentSounds[i] = null;
-		}
-	}
 }
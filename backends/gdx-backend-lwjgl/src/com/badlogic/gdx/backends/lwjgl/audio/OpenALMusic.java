@@ -26,6 +26,8 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 import static org.lwjgl.openal.AL10.*;
 
@@ -41,7 +43,8 @@ public abstract class OpenALMusic implements Music {
 	private IntBuffer buffers;
 	private int sourceID = -1;
 	private int format, sampleRate;
-	private boolean isLooping, isPlaying;
+	private volatile boolean isLooping;
+	private boolean isPlaying;
 	private float volume = 1;
 	private float pan = 0;
 	private float renderedSeconds, secondsPerBuffer;
@@ -51,6 +54,13 @@ public abstract class OpenALMusic implements Music {
 
 	private OnCompletionListener onCompletionListener;
 
+	// Decoding ahead on the audio's decoder executor. The decoder thread only calls read and loop, which happens before the
+	// result is taken on the thread calling update.
+	private byte[] decodeBytes;
+	private AsyncResult<Integer> decodeResult;
+	private AsyncTask<Integer> decodeTask;
+	private boolean decodeLooped;
+
 	public OpenALMusic (OpenALAudio audio, FileHandle file) {
 		this.audio = audio;
 		this.file = file;
@@ -104,6 +114,7 @@ public abstract class OpenALMusic implements Music {
 		if (audio.noDevice) return;
 		if (sourceID == -1) return;
 		audio.music.removeValue(this, true);
+		cancelDecode();
 		reset();
 		audio.freeSource(sourceID);
 		sourceID = -1;
@@ -159,6 +170,7 @@ public abstract class OpenALMusic implements Music {
 		alSourceStop(sourceID);
 		alSourceUnqueueBuffers(sourceID, buffers);
 		renderedSeconds += (secondsPerBuffer * bufferCount);
+		if (cancelDecode()) renderedSeconds += secondsPerBuffer;
 		if (position <= renderedSeconds) {
 			reset();
 			renderedSeconds = 0;
@@ -203,6 +215,13 @@ public abstract class OpenALMusic implements Music {
 		reset();
 	}
 
+	/** Returns true if {@link #read(byte[])}, {@link #loop()} and {@link #reset()} can be called on a decoder thread, so the next
+	 * buffer is decoded while the queued buffers play. Returns false by default, so the stream is only used by the thread calling
+	 * {@link #update()}. */
+	protected boolean canDecodeAhead () {
+		return false;
+	}
+
 	public int getChannels () {
 		return format == AL_FORMAT_STEREO16 ? 2 : 1;
 	}
@@ -237,22 +256,68 @@ public abstract class OpenALMusic implements Music {
 	}
 
 	private boolean fill (int bufferID) {
+		byte[] bytes = tempBytes;
+		int length;
+		if (decodeResult != null) {
+			length = decodeResult.get();
+			decodeResult = null;
+			bytes = decodeBytes;
+			if (length <= 0 && isLooping) {
+				// Looping was enabled after the end was decoded.
+				bytes = tempBytes;
+				length = decode(bytes);
+			}
+		} else
+			length = decode(bytes);
+		if (decodeLooped) renderedSeconds = 0;
+		if (length <= 0) return false;
 		tempBuffer.clear();
-		int length = read(tempBytes);
-		if (length <= 0) {
-			if (isLooping) {
-				loop();
-				renderedSeconds = 0;
-				length = read(tempBytes);
-				if (length <= 0) return false;
-			} else
-				return false;
-		}
-		tempBuffer.put(tempBytes, 0, length).flip();
+		tempBuffer.put(bytes, 0, length).flip();
 		alBufferData(bufferID, format, tempBuffer, sampleRate);
+		decodeAhead();
 		return true;
 	}
 
+	/** Reads the next buffer of samples, restarting the stream if looping. Called by the decoder thread when decoding ahead. */
+	private int decode (byte[] bytes) {
+		decodeLooped = false;
+		int length = read(bytes);
+		if (length <= 0 && isLooping) {
+			loop();
+			decodeLooped = true;
+			length = read(bytes);
+		}
+		return length;
+	}
+
+	/** Decodes the next buffer on the decoder executor while the queued buffers are played, if the audio has a decoder executor
+	 * and {@link #canDecodeAhead()}. */
+	private void decodeAhead () {
+		if (audio.decoderExecutor == null || !canDecodeAhead()) return;
+		if (decodeTask == null) {
+			decodeBytes = new byte[bufferSize];
+			decodeTask = new AsyncTask<Integer>() {
+				public Integer call () {
+					return decode(decodeBytes);
+				}
+			};
+		}
+		decodeResult = audio.decoderExecutor.submit(decodeTask);
+	}
+
+	/** Waits for the buffer being decoded ahead and discards it, so the stream can be used by this thread.
+	 * @return true if a buffer was discarded. */
+	private boolean cancelDecode () {
+		if (decodeResult == null) return false;
+		try {
+			return decodeResult.get() > 0;
+		} catch (GdxRuntimeException ignored) {
+			return false;
+		} finally {
+			decodeResult = null;
+		}
+	}
+
 	public void dispose () {
 		stop();
 		if (audio.noDevice) return;
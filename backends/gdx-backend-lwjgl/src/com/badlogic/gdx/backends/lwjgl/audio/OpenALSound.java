@@ -20,6 +20,9 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.backends.lwjgl.audio.PcmCache.Pcm;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
 import static org.lwjgl.openal.AL10.*;
 
@@ -28,11 +31,34 @@ public class OpenALSound implements Sound {
 	private int bufferID = -1;
 	private final OpenALAudio audio;
 	private float duration;
+	private int priority;
 
 	public OpenALSound (OpenALAudio audio) {
 		this.audio = audio;
 	}
 
+	/** Decodes the file with the decoder returned by {@link #newDecoder(FileHandle)} and uploads the samples. The samples are
+	 * taken from the {@link OpenALAudio#getPcmCache() PCM cache} if possible. */
+	protected void load (FileHandle file) {
+		PcmCache cache = audio.getPcmCache();
+		Pcm pcm = cache != null ? cache.get(file) : null;
+		if (pcm == null) {
+			AudioDecoder decoder = newDecoder(file);
+			try {
+				pcm = new Pcm(decoder.readAll(), decoder.getChannels(), decoder.getSampleRate());
+			} finally {
+				decoder.dispose();
+			}
+			if (cache != null) cache.put(file, pcm);
+		}
+		setup(pcm.samples, pcm.channels, pcm.sampleRate);
+	}
+
+	/** Returns a decoder for the file, used by {@link #load(FileHandle)}. */
+	protected AudioDecoder newDecoder (FileHandle file) {
+		throw new GdxRuntimeException("No decoder for sound: " + file);
+	}
+
 	void setup (byte[] pcm, int channels, int sampleRate) {
 		int bytes = pcm.length - (pcm.length % (channels > 1 ? 4 : 2));
 		int samples = bytes / (2 * channels);
@@ -55,13 +81,7 @@ public class OpenALSound implements Sound {
 
 	public long play (float volume) {
 		if (audio.noDevice) return 0;
-		int sourceID = audio.obtainSource(false);
-		if (sourceID == -1) {
-			// Attempt to recover by stopping the least recently played sound
-			audio.retain(this, true);
-			sourceID = audio.obtainSource(false);
-		} else audio.retain(this, false);
-		// In case it still didn't work
+		int sourceID = audio.obtainSource(bufferID, priority);
 		if (sourceID == -1) return -1;
 		long soundId = audio.getSoundId(sourceID);
 		alSourcei(sourceID, AL_BUFFER, bufferID);
@@ -78,7 +98,7 @@ public class OpenALSound implements Sound {
 	@Override
 	public long loop (float volume) {
 		if (audio.noDevice) return 0;
-		int sourceID = audio.obtainSource(false);
+		int sourceID = audio.obtainSource(bufferID, priority);
 		if (sourceID == -1) return -1;
 		long soundId = audio.getSoundId(sourceID);
 		alSourcei(sourceID, AL_BUFFER, bufferID);
@@ -99,7 +119,6 @@ public class OpenALSound implements Sound {
 		audio.freeBuffer(bufferID);
 		alDeleteBuffers(bufferID);
 		bufferID = -1;
-		audio.forget(this);
 	}
 
 	@Override
@@ -172,6 +191,17 @@ public class OpenALSound implements Sound {
 		return id;
 	}
 
+	/** Sets the priority of instances played after this call. When all sources are in use, playing a sound stops the oldest
+	 * instance with the lowest priority, unless that priority is higher than the priority of the sound being played. Default is
+	 * 0. */
+	public void setPriority (int priority) {
+		this.priority = priority;
+	}
+
+	public int getPriority () {
+		return priority;
+	}
+
 	/** Returns the length of the sound in seconds. */
 	public float duration () {
 		return duration;
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.lwjgl.audio;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/** Caches the decoded samples of sounds, so sounds that are loaded again don't have to be decoded again. When the cache is full,
+ * the least recently used samples are removed. The cache can be used by multiple threads.
+ * @see OpenALAudio#getPcmCache() */
+public class PcmCache {
+	private final LinkedHashMap<FileHandle, Pcm> entries = new LinkedHashMap(16, 0.75f, true);
+	private int maxBytes, bytes;
+
+	/** @param maxBytes The maximum number of bytes of samples held by the cache. */
+	public PcmCache (int maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	/** Returns the samples of the file, or null. */
+	public synchronized Pcm get (FileHandle file) {
+		return entries.get(file);
+	}
+
+	/** Adds the samples of the file, removing the least recently used samples if the cache is full. Samples larger than the cache
+	 * are not added. */
+	public synchronized void put (FileHandle file, Pcm pcm) {
+		if (pcm.samples.length > maxBytes) return;
+		Pcm old = entries.put(file, pcm);
+		if (old != null) bytes -= old.samples.length;
+		bytes += pcm.samples.length;
+		trim();
+	}
+
+	/** Removes the samples of the file. */
+	public synchronized void remove (FileHandle file) {
+		Pcm old = entries.remove(file);
+		if (old != null) bytes -= old.samples.length;
+	}
+
+	public synchronized void clear () {
+		entries.clear();
+		bytes = 0;
+	}
+
+	/** Returns the number of bytes of samples held by the cache. */
+	public synchronized int getBytes () {
+		return bytes;
+	}
+
+	public synchronized int getMaxBytes () {
+		return maxBytes;
+	}
+
+	/** Sets the maximum number of bytes of samples, removing the least recently used samples if necessary. */
+	public synchronized void setMaxBytes (int maxBytes) {
+		this.maxBytes = maxBytes;
+		trim();
+	}
+
+	private void trim () {
+		Iterator<Pcm> iter = entries.values().iterator();
+		while (bytes > maxBytes && iter.hasNext()) {
+			bytes -= iter.next().samples.length;
+			iter.remove();
+		}
+	}
+
+	/** Decoded 16 bit PCM samples. The samples must not be modified. */
+	static public class Pcm {
+		public final byte[] samples;
+		public final int channels, sampleRate;
+
+		public Pcm (byte[] samples, int channels, int sampleRate) {
+			this.samples = samples;
+			this.channels = channels;
+			this.sampleRate = sampleRate;
+		}
+	}
+}
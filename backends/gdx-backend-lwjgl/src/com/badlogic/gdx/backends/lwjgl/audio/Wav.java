@@ -26,30 +26,26 @@ import com.badlogic.gdx.utils.StreamUtils;
 
 public class Wav {
 	static public class Music extends OpenALMusic {
-		private WavInputStream input;
+		private Decoder decoder;
 
 		public Music (OpenALAudio audio, FileHandle file) {
 			super(audio, file);
-			input = new WavInputStream(file);
+			decoder = new Decoder(file);
 			if (audio.noDevice) return;
-			setup(input.channels, input.sampleRate);
+			setup(decoder.getChannels(), decoder.getSampleRate());
 		}
 
 		public int read (byte[] buffer) {
-			if (input == null) {
-				input = new WavInputStream(file);
-				setup(input.channels, input.sampleRate);
-			}
-			try {
-				return input.read(buffer);
-			} catch (IOException ex) {
-				throw new GdxRuntimeException("Error reading WAV file: " + file, ex);
-			}
+			return decoder.read(buffer);
 		}
 
 		public void reset () {
-			StreamUtils.closeQuietly(input);
-			input = null;
+			decoder.reset();
+		}
+
+		@Override
+		protected boolean canDecodeAhead () {
+			return true;
 		}
 	}
 
@@ -57,17 +53,46 @@ public class Wav {
 		public Sound (OpenALAudio audio, FileHandle file) {
 			super(audio);
 			if (audio.noDevice) return;
+			load(file);
+		}
+
+		protected AudioDecoder newDecoder (FileHandle file) {
+			return new Decoder(file);
+		}
+	}
+
+	static public class Decoder extends AudioDecoder {
+		private WavInputStream input;
 
-			WavInputStream input = null;
+		public Decoder (FileHandle file) {
+			super(file);
+			input = new WavInputStream(file);
+			channels = input.channels;
+			sampleRate = input.sampleRate;
+		}
+
+		public int read (byte[] buffer) {
+			if (input == null) input = new WavInputStream(file);
 			try {
-				input = new WavInputStream(file);
-				setup(StreamUtils.copyStreamToByteArray(input, input.dataRemaining), input.channels, input.sampleRate);
+				return input.read(buffer);
 			} catch (IOException ex) {
 				throw new GdxRuntimeException("Error reading WAV file: " + file, ex);
-			} finally {
-				StreamUtils.closeQuietly(input);
 			}
 		}
+
+		public byte[] readAll () {
+			if (input == null) input = new WavInputStream(file);
+			try {
+				return StreamUtils.copyStreamToByteArray(input, input.dataRemaining);
+			} catch (IOException ex) {
+				throw new GdxRuntimeException("Error reading WAV file: " + file, ex);
+			}
+		}
+
+		public void reset () {
+			StreamUtils.closeQuietly(input);
+			input = null;
+		}
 	}
 
 	/** @author Nathan Sweet */
@@ -25,6 +25,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 
 import com.badlogic.gdx.Files.FileType;
 import com.badlogic.gdx.utils.GdxRuntimeException;
@@ -136,6 +137,18 @@ public class FileHandle {
 		throw new GdxRuntimeException("Stub");
 	}
 
+	/** Reads the entire file into a direct byte buffer with native byte order.
+	 * @throws GdxRuntimeException if the file handle represents a directory, doesn't exist, or could not be read. */
+	public ByteBuffer readByteBuffer () {
+		throw new GdxRuntimeException("Stub");
+	}
+
+	/** Memory maps this file in read only mode.
+	 * @throws GdxRuntimeException if this file handle represents a directory, doesn't exist, or could not be mapped. */
+	public ByteBuffer map () {
+		throw new GdxRuntimeException("Stub");
+	}
+
 	/** Returns a stream for writing to this file. Parent directories will be created if necessary.
 	 * @param append If false, this file will be overwritten if it exists, otherwise it will be appended.
 	 * @throw GdxRuntimeException if this file handle represents a directory, if it is a {@link FileType#Classpath} or
@@ -26,9 +26,11 @@
 #include <cstdio>
 using namespace std;
 
+#if b2_collectStats
 float32 b2_toiTime, b2_toiMaxTime;
 int32 b2_toiCalls, b2_toiIters, b2_toiMaxIters;
 int32 b2_toiRootIters, b2_toiMaxRootIters;
+#endif
 
 //
 struct b2SeparationFunction
@@ -254,9 +256,11 @@ struct b2SeparationFunction
 // by computing the largest time at which separation is maintained.
 void b2TimeOfImpact(b2TOIOutput* output, const b2TOIInput* input)
 {
+#if b2_collectStats
 	b2Timer timer;
 
 	++b2_toiCalls;
+#endif
 
 	output->state = b2TOIOutput::e_unknown;
 	output->t = input->tMax;
@@ -423,7 +427,9 @@ void b2TimeOfImpact(b2TOIOutput* output, const b2TOIInput* input)
 				}
 
 				++rootIterCount;
+#if b2_collectStats
 				++b2_toiRootIters;
+#endif
 
 				float32 s = fcn.Evaluate(indexA, indexB, t);
 
@@ -452,7 +458,9 @@ void b2TimeOfImpact(b2TOIOutput* output, const b2TOIInput* input)
 				}
 			}
 
+#if b2_collectStats
 			b2_toiMaxRootIters = b2Max(b2_toiMaxRootIters, rootIterCount);
+#endif
 
 			++pushBackIter;
 
@@ -463,7 +471,9 @@ void b2TimeOfImpact(b2TOIOutput* output, const b2TOIInput* input)
 		}
 
 		++iter;
+#if b2_collectStats
 		++b2_toiIters;
+#endif
 
 		if (done)
 		{
@@ -479,9 +489,11 @@ void b2TimeOfImpact(b2TOIOutput* output, const b2TOIInput* input)
 		}
 	}
 
+#if b2_collectStats
 	b2_toiMaxIters = b2Max(b2_toiMaxIters, iter);
 
 	float32 time = timer.GetMilliseconds();
 	b2_toiMaxTime = b2Max(b2_toiMaxTime, time);
 	b2_toiTime += time;
+#endif
 }
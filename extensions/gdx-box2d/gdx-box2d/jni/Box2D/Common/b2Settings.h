@@ -113,6 +113,15 @@ extern float b2_velocityThreshold;
 #define b2_baumgarte				0.2f
 #define b2_toiBaugarte				0.75f
 
+// Statistics
+
+/// Define b2_collectStats as 1 to count the GJK and time of impact calls in the global
+/// b2_gjk* and b2_toi* variables. The counters are shared by all worlds and are not
+/// synchronized, so they are off by default: worlds may be stepped by several threads.
+#ifndef b2_collectStats
+#define b2_collectStats				0
+#endif
+
 
 // Sleep
 
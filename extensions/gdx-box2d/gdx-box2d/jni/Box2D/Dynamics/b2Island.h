@@ -36,6 +36,14 @@ class b2Island
 public:
 	b2Island(int32 bodyCapacity, int32 contactCapacity, int32 jointCapacity,
 			b2StackAllocator* allocator, b2ContactListener* listener);
+
+	/// Creates an island over arrays owned by the caller, used to solve islands in parallel.
+	/// The bodies must already have their island indices set. The state of the bodies is stored
+	/// at [bodyOffset, bodyOffset + bodyCount) in the position and velocity arrays, other
+	/// indices may be used by static bodies shared with other islands. No contact listener is used.
+	b2Island(b2Body** bodies, int32 bodyCount, int32 bodyOffset,
+			b2Contact** contacts, int32 contactCount, b2Joint** joints, int32 jointCount,
+			b2Position* positions, b2Velocity* velocities, b2StackAllocator* allocator);
 	~b2Island();
 
 	void Clear()
@@ -81,6 +89,9 @@ public:
 	b2Position* m_positions;
 	b2Velocity* m_velocities;
 
+	int32 m_bodyOffset;
+	bool m_ownsArrays;
+
 	int32 m_bodyCount;
 	int32 m_jointCount;
 	int32 m_contactCount;
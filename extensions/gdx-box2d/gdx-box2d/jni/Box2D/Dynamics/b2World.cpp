@@ -61,10 +61,30 @@ b2World::b2World(const b2Vec2& gravity)
 	m_contactManager.m_allocator = &m_blockAllocator;
 
 	memset(&m_profile, 0, sizeof(b2Profile));
+
+	m_islands = NULL;
+	m_islandCount = 0;
+	m_islandBodies = NULL;
+	m_islandContacts = NULL;
+	m_islandContactCount = 0;
+	m_islandJoints = NULL;
+	m_islandPositions = NULL;
+	m_islandVelocities = NULL;
+
+	// Register the contact types now instead of lazily in b2Contact::Create, which runs
+	// during collision and so may run on several threads when worlds are stepped at the
+	// same time. Worlds must not be created concurrently.
+	if (b2Contact::s_initialized == false)
+	{
+		b2Contact::InitializeRegisters();
+		b2Contact::s_initialized = true;
+	}
 }
 
 b2World::~b2World()
 {
+	FreeIslands();
+
 	// Some shapes allocate using b2Alloc.
 	b2Body* b = m_bodyList;
 	while (b)
@@ -962,6 +982,345 @@ void b2World::Step(float32 dt, int32 velocityIterations, int32 positionIteration
 	m_profile.step = stepTimer.GetMilliseconds();
 }
 
+int32 b2World::StepBegin(float32 dt, int32 velocityIterations, int32 positionIterations)
+{
+	m_parallelTimer.Reset();
+
+	// If new fixtures were added, we need to find the new contacts.
+	if (m_flags & e_newFixture)
+	{
+		m_contactManager.FindNewContacts();
+		m_flags &= ~e_newFixture;
+	}
+
+	m_flags |= e_locked;
+
+	b2TimeStep& step = m_parallelStep;
+	step.dt = dt;
+	step.velocityIterations	= velocityIterations;
+	step.positionIterations = positionIterations;
+	if (dt > 0.0f)
+	{
+		step.inv_dt = 1.0f / dt;
+	}
+	else
+	{
+		step.inv_dt = 0.0f;
+	}
+
+	step.dtRatio = m_inv_dt0 * dt;
+
+	step.warmStarting = m_warmStarting;
+
+	// Update contacts. This is where some contacts are destroyed.
+	{
+		b2Timer timer;
+		m_contactManager.Collide();
+		m_profile.collide = timer.GetMilliseconds();
+	}
+
+	m_profile.solveInit = 0.0f;
+	m_profile.solveVelocity = 0.0f;
+	m_profile.solvePosition = 0.0f;
+
+	if (m_stepComplete && step.dt > 0.0f)
+	{
+		BuildIslands();
+	}
+
+	return m_islandCount;
+}
+
+void b2World::BuildIslands()
+{
+	m_islandBodies = (b2Body**)b2Alloc(b2Max(m_bodyCount, 1) * sizeof(b2Body*));
+	m_islandContacts = (b2Contact**)b2Alloc(b2Max(m_contactManager.m_contactCount, 1) * sizeof(b2Contact*));
+	m_islandJoints = (b2Joint**)b2Alloc(b2Max(m_jointCount, 1) * sizeof(b2Joint*));
+	m_islandPositions = (b2Position*)b2Alloc(b2Max(m_bodyCount, 1) * sizeof(b2Position));
+	m_islandVelocities = (b2Velocity*)b2Alloc(b2Max(m_bodyCount, 1) * sizeof(b2Velocity));
+	m_islands = (b2IslandRange*)b2Alloc(b2Max(m_bodyCount, 1) * sizeof(b2IslandRange));
+
+	// Clear all the island flags.
+	for (b2Body* b = m_bodyList; b; b = b->m_next)
+	{
+		b->m_flags &= ~b2Body::e_islandFlag;
+	}
+	for (b2Contact* c = m_contactManager.m_contactList; c; c = c->m_next)
+	{
+		c->m_flags &= ~b2Contact::e_islandFlag;
+	}
+	for (b2Joint* j = m_jointList; j; j = j->m_next)
+	{
+		j->m_islandFlag = false;
+	}
+
+	int32 bodyCount = 0;
+	int32 contactCount = 0;
+	int32 jointCount = 0;
+	int32 staticIndex = m_bodyCount;
+
+	// Build all awake islands like Solve, except static bodies are not added to the islands. A static
+	// body gets a single slot at the end of the state arrays that is read by all islands touching it.
+	// The contact and joint solvers only store the state of bodies with a non-zero inverse mass or
+	// inertia, so the shared slots are never written and islands can be solved concurrently.
+	int32 stackSize = m_bodyCount;
+	b2Body** stack = (b2Body**)m_stackAllocator.Allocate(stackSize * sizeof(b2Body*));
+	for (b2Body* seed = m_bodyList; seed; seed = seed->m_next)
+	{
+		if (seed->m_flags & b2Body::e_islandFlag)
+		{
+			continue;
+		}
+
+		if (seed->IsAwake() == false || seed->IsActive() == false)
+		{
+			continue;
+		}
+
+		// The seed can be dynamic or kinematic.
+		if (seed->GetType() == b2_staticBody)
+		{
+			continue;
+		}
+
+		b2IslandRange* island = m_islands + m_islandCount++;
+		island->bodyStart = bodyCount;
+		island->contactStart = contactCount;
+		island->jointStart = jointCount;
+
+		int32 stackCount = 0;
+		stack[stackCount++] = seed;
+		seed->m_flags |= b2Body::e_islandFlag;
+
+		// Perform a depth first search (DFS) on the constraint graph.
+		while (stackCount > 0)
+		{
+			// Grab the next body off the stack and add it to the island.
+			b2Body* b = stack[--stackCount];
+			b2Assert(b->IsActive() == true);
+			b->m_islandIndex = bodyCount;
+			m_islandBodies[bodyCount++] = b;
+
+			// Make sure the body is awake.
+			b->SetAwake(true);
+
+			// Search all contacts connected to this body.
+			for (b2ContactEdge* ce = b->m_contactList; ce; ce = ce->next)
+			{
+				b2Contact* contact = ce->contact;
+
+				// Has this contact already been added to an island?
+				if (contact->m_flags & b2Contact::e_islandFlag)
+				{
+					continue;
+				}
+
+				// Is this contact solid and touching?
+				if (contact->IsEnabled() == false ||
+					contact->IsTouching() == false)
+				{
+					continue;
+				}
+
+				// Skip sensors.
+				bool sensorA = contact->m_fixtureA->m_isSensor;
+				bool sensorB = contact->m_fixtureB->m_isSensor;
+				if (sensorA || sensorB)
+				{
+					continue;
+				}
+
+				m_islandContacts[contactCount++] = contact;
+				contact->m_flags |= b2Contact::e_islandFlag;
+
+				b2Body* other = ce->other;
+
+				// Was the other body already added to this island?
+				if (other->m_flags & b2Body::e_islandFlag)
+				{
+					continue;
+				}
+
+				other->m_flags |= b2Body::e_islandFlag;
+				if (other->GetType() == b2_staticBody)
+				{
+					other->m_islandIndex = --staticIndex;
+					m_islandPositions[staticIndex].c = other->m_sweep.c;
+					m_islandPositions[staticIndex].a = other->m_sweep.a;
+					m_islandVelocities[staticIndex].v.SetZero();
+					m_islandVelocities[staticIndex].w = 0.0f;
+					continue;
+				}
+
+				b2Assert(stackCount < stackSize);
+				stack[stackCount++] = other;
+			}
+
+			// Search all joints connect to this body.
+			for (b2JointEdge* je = b->m_jointList; je; je = je->next)
+			{
+				if (je->joint->m_islandFlag == true)
+				{
+					continue;
+				}
+
+				b2Body* other = je->other;
+
+				// Don't simulate joints connected to inactive bodies.
+				if (other->IsActive() == false)
+				{
+					continue;
+				}
+
+				m_islandJoints[jointCount++] = je->joint;
+				je->joint->m_islandFlag = true;
+
+				if (other->m_flags & b2Body::e_islandFlag)
+				{
+					continue;
+				}
+
+				other->m_flags |= b2Body::e_islandFlag;
+				if (other->GetType() == b2_staticBody)
+				{
+					other->m_islandIndex = --staticIndex;
+					m_islandPositions[staticIndex].c = other->m_sweep.c;
+					m_islandPositions[staticIndex].a = other->m_sweep.a;
+					m_islandVelocities[staticIndex].v.SetZero();
+					m_islandVelocities[staticIndex].w = 0.0f;
+					continue;
+				}
+
+				b2Assert(stackCount < stackSize);
+				stack[stackCount++] = other;
+			}
+		}
+
+		island->bodyCount = bodyCount - island->bodyStart;
+		island->contactCount = contactCount - island->contactStart;
+		island->jointCount = jointCount - island->jointStart;
+	}
+
+	m_stackAllocator.Free(stack);
+
+	b2Assert(bodyCount <= staticIndex);
+	m_islandContactCount = contactCount;
+}
+
+void b2World::SolveIslands(int32 first, int32 last, b2StackAllocator* allocator)
+{
+	for (int32 i = first; i < last; ++i)
+	{
+		const b2IslandRange& range = m_islands[i];
+		b2Island island(m_islandBodies + range.bodyStart, range.bodyCount, range.bodyStart,
+						m_islandContacts + range.contactStart, range.contactCount,
+						m_islandJoints + range.jointStart, range.jointCount,
+						m_islandPositions, m_islandVelocities, allocator);
+
+		b2Profile profile;
+		island.Solve(&profile, m_parallelStep, m_gravity, m_allowSleep);
+	}
+}
+
+void b2World::StepEnd()
+{
+	const b2TimeStep& step = m_parallelStep;
+
+	if (m_islands)
+	{
+		// Report the impulses stored in the manifolds by the contact solvers.
+		b2ContactListener* listener = m_contactManager.m_contactListener;
+		if (listener)
+		{
+			for (int32 i = 0; i < m_islandContactCount; ++i)
+			{
+				b2Contact* c = m_islandContacts[i];
+				const b2Manifold* manifold = c->GetManifold();
+
+				b2ContactImpulse impulse;
+				impulse.count = manifold->pointCount;
+				for (int32 j = 0; j < manifold->pointCount; ++j)
+				{
+					impulse.normalImpulses[j] = manifold->points[j].normalImpulse;
+					impulse.tangentImpulses[j] = manifold->points[j].tangentImpulse;
+				}
+
+				listener->PostSolve(c, &impulse);
+			}
+		}
+
+		FreeIslands();
+
+		b2Timer timer;
+		// Synchronize fixtures, check for out of range bodies.
+		for (b2Body* b = m_bodyList; b; b = b->GetNext())
+		{
+			// If a body was not in an island then it did not move.
+			if ((b->m_flags & b2Body::e_islandFlag) == 0)
+			{
+				continue;
+			}
+
+			if (b->GetType() == b2_staticBody)
+			{
+				continue;
+			}
+
+			// Update fixtures (for broad-phase).
+			b->SynchronizeFixtures();
+		}
+
+		// Look for new contacts.
+		m_contactManager.FindNewContacts();
+		m_profile.broadphase = timer.GetMilliseconds();
+	}
+
+	// Handle TOI events.
+	if (m_continuousPhysics && step.dt > 0.0f)
+	{
+		b2Timer timer;
+		SolveTOI(step);
+		m_profile.solveTOI = timer.GetMilliseconds();
+	}
+
+	if (step.dt > 0.0f)
+	{
+		m_inv_dt0 = step.inv_dt;
+	}
+
+	if (m_flags & e_clearForces)
+	{
+		ClearForces();
+	}
+
+	m_flags &= ~e_locked;
+
+	m_profile.step = m_parallelTimer.GetMilliseconds();
+}
+
+void b2World::FreeIslands()
+{
+	if (m_islands == NULL)
+	{
+		return;
+	}
+
+	b2Free(m_islands);
+	b2Free(m_islandBodies);
+	b2Free(m_islandContacts);
+	b2Free(m_islandJoints);
+	b2Free(m_islandPositions);
+	b2Free(m_islandVelocities);
+	m_islands = NULL;
+	m_islandCount = 0;
+	m_islandBodies = NULL;
+	m_islandContacts = NULL;
+	m_islandContactCount = 0;
+	m_islandJoints = NULL;
+	m_islandPositions = NULL;
+	m_islandVelocities = NULL;
+}
+
 void b2World::ClearForces()
 {
 	for (b2Body* body = m_bodyList; body; body = body->GetNext())
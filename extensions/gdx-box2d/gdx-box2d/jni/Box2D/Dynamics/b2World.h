@@ -25,6 +25,7 @@
 #include <Box2D/Dynamics/b2ContactManager.h>
 #include <Box2D/Dynamics/b2WorldCallbacks.h>
 #include <Box2D/Dynamics/b2TimeStep.h>
+#include <Box2D/Common/b2Timer.h>
 
 struct b2AABB;
 struct b2BodyDef;
@@ -95,6 +96,24 @@ public:
 				int32 velocityIterations,
 				int32 positionIterations);
 
+	/// Begin a time step whose islands can be solved by multiple threads. This performs collision
+	/// detection and builds the awake islands. SolveIslands must then be called once for every island
+	/// index, after which StepEnd completes the step. No other function of this world may be called
+	/// until StepEnd returns.
+	/// @return the number of islands to solve.
+	int32 StepBegin(	float32 timeStep,
+						int32 velocityIterations,
+						int32 positionIterations);
+
+	/// Solve the islands in [first, last) of the step started by StepBegin. Different ranges may be
+	/// solved by different threads at the same time, each thread with its own stack allocator. The
+	/// contact listener is not called.
+	void SolveIslands(int32 first, int32 last, b2StackAllocator* allocator);
+
+	/// Complete the step started by StepBegin. This reports the contact impulses to the contact
+	/// listener, updates the broad-phase and handles TOI events.
+	void StepEnd();
+
 	/// Manually clear the force buffer on all bodies. By default, forces are cleared automatically
 	/// after each call to Step. The default behavior is modified by calling SetAutoClearForces.
 	/// The purpose of this function is to support sub-stepping. Sub-stepping is often used to maintain
@@ -227,6 +246,9 @@ private:
 	void Solve(const b2TimeStep& step);
 	void SolveTOI(const b2TimeStep& step);
 
+	void BuildIslands();
+	void FreeIslands();
+
 	void DrawJoint(b2Joint* joint);
 	void DrawShape(b2Fixture* shape, const b2Transform& xf, const b2Color& color);
 
@@ -261,6 +283,26 @@ private:
 	bool m_stepComplete;
 
 	b2Profile m_profile;
+
+	// The step started by StepBegin. The bodies, contacts and joints of the islands are stored
+	// consecutively, island bodies use the start of the position and velocity arrays and static
+	// bodies the end.
+	struct b2IslandRange
+	{
+		int32 bodyStart, bodyCount;
+		int32 contactStart, contactCount;
+		int32 jointStart, jointCount;
+	};
+	b2TimeStep m_parallelStep;
+	b2Timer m_parallelTimer;
+	b2IslandRange* m_islands;
+	int32 m_islandCount;
+	b2Body** m_islandBodies;
+	b2Contact** m_islandContacts;
+	int32 m_islandContactCount;
+	b2Joint** m_islandJoints;
+	b2Position* m_islandPositions;
+	b2Velocity* m_islandVelocities;
 };
 
 inline b2Body* b2World::GetBodyList()
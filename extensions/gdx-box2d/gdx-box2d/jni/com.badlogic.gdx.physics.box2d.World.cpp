@@ -1,6 +1,6 @@
 #include <com.badlogic.gdx.physics.box2d.World.h>
 
-//@line:56
+//@line:60
 
 #include <Box2D/Box2D.h>
 
@@ -97,6 +97,60 @@ public:
 		}
 };
 
+class BufferedContactListener: public b2ContactListener
+{
+private:
+	char* events;
+	int capacity;
+	bool recordPostSolve;
+
+	void add( int type, b2Contact* contact, const b2ContactImpulse* impulse )
+	{
+		if( count < capacity )
+		{
+			char* event = events + count * 40;
+			int pointCount = impulse ? impulse->count : 0;
+			*(int*)event = type;
+			*(int*)(event + 4) = pointCount;
+			*(jlong*)(event + 8) = (jlong)contact->GetFixtureA();
+			*(jlong*)(event + 16) = (jlong)contact->GetFixtureB();
+			float* impulses = (float*)(event + 24);
+			for( int i = 0; i < 2; i++ )
+			{
+				impulses[i] = i < pointCount ? impulse->normalImpulses[i] : 0;
+				impulses[i + 2] = i < pointCount ? impulse->tangentImpulses[i] : 0;
+			}
+		}
+		count++;
+	}
+
+public:
+	int count;
+
+	BufferedContactListener( char* events, int capacity, int count, bool recordPostSolve )
+	{
+		this->events = events;
+		this->capacity = capacity;
+		this->count = count;
+		this->recordPostSolve = recordPostSolve;
+	}
+
+	virtual void BeginContact(b2Contact* contact)
+	{
+		add( 0, contact, 0 );
+	}
+
+	virtual void EndContact(b2Contact* contact)
+	{
+		add( 1, contact, 0 );
+	}
+
+	virtual void PostSolve(b2Contact* contact, const b2ContactImpulse* impulse)
+	{
+		if( recordPostSolve ) add( 2, contact, impulse );
+	}
+};
+
 class CustomQueryCallback: public b2QueryCallback
 {
 private:
@@ -129,10 +183,107 @@ inline b2BodyType getBodyType( int type )
 }
 
 b2ContactFilter defaultFilter;
+
+inline void writeBodyState( b2Body* body, float* state )
+{
+	const b2Vec2& position = body->GetPosition();
+	const b2Vec2& velocity = body->GetLinearVelocity();
+	state[0] = position.x;
+	state[1] = position.y;
+	state[2] = body->GetAngle();
+	state[3] = velocity.x;
+	state[4] = velocity.y;
+	state[5] = body->GetAngularVelocity();
+	state[6] = body->IsAwake() ? 1 : 0;
+}
+
+inline void writeFixtureAABB( b2Fixture* fixture, float* aabb )
+{
+	b2Shape* shape = fixture->GetShape();
+	const b2Transform& transform = fixture->GetBody()->GetTransform();
+	b2AABB result;
+	shape->ComputeAABB( &result, transform, 0 );
+	for( int32 i = 1, n = shape->GetChildCount(); i < n; i++ )
+	{
+		b2AABB child;
+		shape->ComputeAABB( &child, transform, i );
+		result.Combine( child );
+	}
+	aabb[0] = result.lowerBound.x;
+	aabb[1] = result.lowerBound.y;
+	aabb[2] = result.upperBound.x;
+	aabb[3] = result.upperBound.y;
+}
+
+class BatchRayCastCallback: public b2RayCastCallback
+{
+public:
+	uint16 maskBits;
+	bool all;
+	// Closest hit.
+	b2Fixture* fixture;
+	float hit[5];
+	// All hits.
+	float* hits;
+	long long* fixtureAddrs;
+	int* rayIndices;
+	int capacity;
+	int count;
+	int rayIndex;
+
+	virtual float32 ReportFixture( b2Fixture* fixture, const b2Vec2& point, const b2Vec2& normal, float32 fraction )
+	{
+		if( (fixture->GetFilterData().categoryBits & maskBits) == 0 ) return -1;
+		float* hit = this->hit;
+		if( all )
+		{
+			if( count >= capacity )
+			{
+				count++;
+				return 1;
+			}
+			hit = hits + count * 5;
+			fixtureAddrs[count] = (long long)fixture;
+			rayIndices[count] = rayIndex;
+			count++;
+		}
+		else
+			this->fixture = fixture;
+		hit[0] = fraction;
+		hit[1] = point.x;
+		hit[2] = point.y;
+		hit[3] = normal.x;
+		hit[4] = normal.y;
+		return all ? 1 : fraction;
+	}
+};
+
+class BatchQueryCallback: public b2QueryCallback
+{
+public:
+	uint16 maskBits;
+	long long* fixtureAddrs;
+	int* aabbIndices;
+	int capacity;
+	int count;
+	int aabbIndex;
+
+	virtual bool ReportFixture( b2Fixture* fixture )
+	{
+		if( (fixture->GetFilterData().categoryBits & maskBits) == 0 ) return true;
+		if( count < capacity )
+		{
+			fixtureAddrs[count] = (long long)fixture;
+			aabbIndices[count] = aabbIndex;
+		}
+		count++;
+		return true;
+	}
+};
 	 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_newWorld(JNIEnv* env, jobject object, jfloat gravityX, jfloat gravityY, jboolean doSleep) {
 
 
-//@line:237
+//@line:397
 
 		// we leak one global ref. 
 		if(!worldClass) {
@@ -156,7 +307,7 @@ b2ContactFilter defaultFilter;
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_setUseDefaultContactFilter(JNIEnv* env, jobject object, jboolean use) {
 
 
-//@line:268
+//@line:428
 
 		// FIXME
 	
@@ -166,7 +317,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_setUseDefaultCo
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateBody(JNIEnv* env, jobject object, jlong addr, jint type, jfloat positionX, jfloat positionY, jfloat angle, jfloat linearVelocityX, jfloat linearVelocityY, jfloat angularVelocity, jfloat linearDamping, jfloat angularDamping, jboolean allowSleep, jboolean awake, jboolean fixedRotation, jboolean bullet, jboolean active, jfloat inertiaScale) {
 
 
-//@line:294
+//@line:467
 
 		b2BodyDef bodyDef;
 		bodyDef.type = getBodyType(type);
@@ -193,7 +344,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateBody(
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyBody(JNIEnv* env, jobject object, jlong addr, jlong bodyAddr) {
 
 
-//@line:336
+//@line:509
 
 		b2World* world = (b2World*)addr;
 		b2Body* body = (b2Body*)bodyAddr;
@@ -211,7 +362,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyBody(
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyFixture(JNIEnv* env, jobject object, jlong addr, jlong bodyAddr, jlong fixtureAddr) {
 
 
-//@line:356
+//@line:529
 
 		b2World* world = (b2World*)(addr);
 		b2Body* body = (b2Body*)(bodyAddr);
@@ -230,7 +381,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyFixtu
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDeactivateBody(JNIEnv* env, jobject object, jlong addr, jlong bodyAddr) {
 
 
-//@line:376
+//@line:549
 
 		b2World* world = (b2World*)(addr);
 		b2Body* body = (b2Body*)(bodyAddr);	
@@ -248,7 +399,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDeactivateBo
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateWheelJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat localAxisAX, jfloat localAxisAY, jboolean enableMotor, jfloat maxMotorTorque, jfloat motorSpeed, jfloat frequencyHz, jfloat dampingRatio) {
 
 
-//@line:481
+//@line:654
 
 		b2World* world = (b2World*)addr;
 		b2WheelJointDef def;
@@ -272,7 +423,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateWheel
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateRopeJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat maxLength) {
 
 
-//@line:500
+//@line:673
 
 		b2World* world = (b2World*)addr;
 		b2RopeJointDef def;
@@ -291,7 +442,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateRopeJ
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateDistanceJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat length, jfloat frequencyHz, jfloat dampingRatio) {
 
 
-//@line:514
+//@line:687
 
 		b2World* world = (b2World*)addr;
 		b2DistanceJointDef def;
@@ -312,7 +463,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateDista
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateFrictionJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat maxForce, jfloat maxTorque) {
 
 
-//@line:530
+//@line:703
 
 		b2World* world = (b2World*)addr;
 		b2FrictionJointDef def;
@@ -331,7 +482,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateFrict
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateGearJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jlong joint1, jlong joint2, jfloat ratio) {
 
 
-//@line:544
+//@line:717
 
 		b2World* world = (b2World*)addr;
 		b2GearJointDef def;
@@ -349,7 +500,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateGearJ
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateMotorJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat linearOffsetX, jfloat linearOffsetY, jfloat angularOffset, jfloat maxForce, jfloat maxTorque, jfloat correctionFactor) {
 
 
-//@line:557
+//@line:730
 
 		b2World* world = (b2World*)addr;
 		b2MotorJointDef def;
@@ -369,7 +520,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateMotor
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateMouseJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat targetX, jfloat targetY, jfloat maxForce, jfloat frequencyHz, jfloat dampingRatio) {
 
 
-//@line:572
+//@line:745
 
 		b2World* world = (b2World*)addr;
 		b2MouseJointDef def;
@@ -388,7 +539,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateMouse
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreatePrismaticJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat localAxisAX, jfloat localAxisAY, jfloat referenceAngle, jboolean enableLimit, jfloat lowerTranslation, jfloat upperTranslation, jboolean enableMotor, jfloat maxMotorForce, jfloat motorSpeed) {
 
 
-//@line:588
+//@line:761
 
 		b2World* world = (b2World*)addr;
 		b2PrismaticJointDef def;
@@ -413,7 +564,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreatePrism
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreatePulleyJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat groundAnchorAX, jfloat groundAnchorAY, jfloat groundAnchorBX, jfloat groundAnchorBY, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat lengthA, jfloat lengthB, jfloat ratio) {
 
 
-//@line:609
+//@line:782
 
 		b2World* world = (b2World*)addr;
 		b2PulleyJointDef def;
@@ -436,7 +587,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreatePulle
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateRevoluteJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat referenceAngle, jboolean enableLimit, jfloat lowerAngle, jfloat upperAngle, jboolean enableMotor, jfloat motorSpeed, jfloat maxMotorTorque) {
 
 
-//@line:628
+//@line:801
 
 		b2World* world = (b2World*)addr;
 		b2RevoluteJointDef def;
@@ -460,7 +611,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateRevol
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateWeldJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat referenceAngle, jfloat frequencyHz, jfloat dampingRatio) {
 
 
-//@line:647
+//@line:820
 
 		b2World* world = (b2World*)addr;
 		b2WeldJointDef def;
@@ -481,7 +632,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateWeldJ
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyJoint(JNIEnv* env, jobject object, jlong addr, jlong jointAddr) {
 
 
-//@line:672
+//@line:845
 
 		b2World* world = (b2World*)addr;
 		b2Joint* joint = (b2Joint*)jointAddr;
@@ -499,7 +650,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyJoint
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniStep(JNIEnv* env, jobject object, jlong addr, jfloat timeStep, jint velocityIterations, jint positionIterations) {
 
 
-//@line:692
+//@line:872
 
 		b2World* world = (b2World*)addr;
 		CustomContactFilter contactFilter(env, object);
@@ -513,10 +664,123 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniStep(JNIEnv*
 
 }
 
+static inline jint wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniStepBuffered
+(JNIEnv* env, jobject object, jlong addr, jfloat timeStep, jint velocityIterations, jint positionIterations, jobject obj_events, jint capacity, jint count, jboolean recordPostSolve, char* events) {
+
+//@line:884
+
+		b2World* world = (b2World*)addr;
+		CustomContactFilter contactFilter(env, object);
+		BufferedContactListener contactListener(events, capacity, count, recordPostSolve);
+		world->SetContactFilter(&contactFilter);
+		world->SetContactListener(&contactListener);
+		world->Step( timeStep, velocityIterations, positionIterations );
+		world->SetContactFilter(&defaultFilter);
+		world->SetContactListener(0);
+		return contactListener.count;
+	
+}
+
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniStepBuffered(JNIEnv* env, jobject object, jlong addr, jfloat timeStep, jint velocityIterations, jint positionIterations, jobject obj_events, jint capacity, jint count, jboolean recordPostSolve) {
+	char* events = (char*)(obj_events?env->GetDirectBufferAddress(obj_events):0);
+
+	jint JNI_returnValue = wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniStepBuffered(env, object, addr, timeStep, velocityIterations, positionIterations, obj_events, capacity, count, recordPostSolve, events);
+
+
+	return JNI_returnValue;
+}
+
+static inline jlong wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniStepBegin
+(JNIEnv* env, jobject object, jlong addr, jfloat timeStep, jint velocityIterations, jint positionIterations, jobject obj_events, jint capacity, jint count, jboolean recordPostSolve, char* events) {
+
+//@line:935
+
+		b2World* world = (b2World*)addr;
+		CustomContactFilter contactFilter(env, object);
+		CustomContactListener contactListener(env, object);
+		BufferedContactListener bufferedListener((char*)events, capacity, count, recordPostSolve);
+		world->SetContactFilter(&contactFilter);
+		if (events) world->SetContactListener(&bufferedListener);
+		else world->SetContactListener(&contactListener);
+		jlong islandCount = world->StepBegin( timeStep, velocityIterations, positionIterations );
+		world->SetContactFilter(&defaultFilter);
+		world->SetContactListener(0);
+		return (islandCount << 32) | (jlong)(unsigned int)bufferedListener.count;
+	
+}
+
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniStepBegin(JNIEnv* env, jobject object, jlong addr, jfloat timeStep, jint velocityIterations, jint positionIterations, jobject obj_events, jint capacity, jint count, jboolean recordPostSolve) {
+	char* events = (char*)(obj_events?env->GetDirectBufferAddress(obj_events):0);
+
+	jlong JNI_returnValue = wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniStepBegin(env, object, addr, timeStep, velocityIterations, positionIterations, obj_events, capacity, count, recordPostSolve, events);
+
+
+	return JNI_returnValue;
+}
+
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSolveIslands(JNIEnv* env, jclass clazz, jlong addr, jint first, jint last, jlong allocator) {
+
+
+//@line:949
+
+		b2World* world = (b2World*)addr;
+		world->SolveIslands( first, last, (b2StackAllocator*)allocator );
+	
+
+}
+
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniNewStackAllocator(JNIEnv* env, jclass clazz) {
+
+
+//@line:964
+
+		return (jlong)new b2StackAllocator();
+	
+
+}
+
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniFreeStackAllocator(JNIEnv* env, jclass clazz, jlong allocator) {
+
+
+//@line:968
+
+		delete (b2StackAllocator*)allocator;
+	
+
+}
+
+static inline jint wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniStepEnd
+(JNIEnv* env, jobject object, jlong addr, jobject obj_events, jint capacity, jint count, jboolean recordPostSolve, char* events) {
+
+//@line:972
+
+		b2World* world = (b2World*)addr;
+		CustomContactFilter contactFilter(env, object);
+		CustomContactListener contactListener(env, object);
+		BufferedContactListener bufferedListener((char*)events, capacity, count, recordPostSolve);
+		world->SetContactFilter(&contactFilter);
+		if (events) world->SetContactListener(&bufferedListener);
+		else world->SetContactListener(&contactListener);
+		world->StepEnd();
+		world->SetContactFilter(&defaultFilter);
+		world->SetContactListener(0);
+		return bufferedListener.count;
+	
+}
+
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniStepEnd(JNIEnv* env, jobject object, jlong addr, jobject obj_events, jint capacity, jint count, jboolean recordPostSolve) {
+	char* events = (char*)(obj_events?env->GetDirectBufferAddress(obj_events):0);
+
+	jint JNI_returnValue = wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniStepEnd(env, object, addr, obj_events, capacity, count, recordPostSolve, events);
+
+
+	return JNI_returnValue;
+}
+
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniClearForces(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:712
+//@line:995
 
 		b2World* world = (b2World*)addr;
 		world->ClearForces();
@@ -527,7 +791,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniClearForces(
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetWarmStarting(JNIEnv* env, jobject object, jlong addr, jboolean flag) {
 
 
-//@line:722
+//@line:1005
 
 		b2World* world = (b2World*)addr;
 		world->SetWarmStarting(flag);
@@ -538,7 +802,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetWarmStart
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetContiousPhysics(JNIEnv* env, jobject object, jlong addr, jboolean flag) {
 
 
-//@line:732
+//@line:1015
 
 		b2World* world = (b2World*)addr;
 		world->SetContinuousPhysics(flag);
@@ -549,7 +813,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetContiousP
 JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetProxyCount(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:742
+//@line:1025
 
 		b2World* world = (b2World*)addr;
 		return world->GetProxyCount();
@@ -560,7 +824,7 @@ JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetProxyCoun
 JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyCount(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:752
+//@line:1035
 
 		b2World* world = (b2World*)addr;
 		return world->GetBodyCount();
@@ -571,7 +835,7 @@ JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyCount
 JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetJointcount(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:767
+//@line:1050
 
 		b2World* world = (b2World*)addr;
 		return world->GetJointCount();
@@ -582,7 +846,7 @@ JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetJointcoun
 JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetContactCount(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:777
+//@line:1060
 
 		b2World* world = (b2World*)addr;
 		return world->GetContactCount();
@@ -593,7 +857,7 @@ JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetContactCo
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetGravity(JNIEnv* env, jobject object, jlong addr, jfloat gravityX, jfloat gravityY) {
 
 
-//@line:787
+//@line:1070
 
 		b2World* world = (b2World*)addr;
 		world->SetGravity( b2Vec2( gravityX, gravityY ) );
@@ -605,7 +869,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetGravity(J
 	float* gravity = (float*)env->GetPrimitiveArrayCritical(obj_gravity, 0);
 
 
-//@line:803
+//@line:1086
 
 		b2World* world = (b2World*)addr;
 		b2Vec2 g = world->GetGravity();
@@ -619,7 +883,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetGravity(J
 JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniIsLocked(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:815
+//@line:1098
 
 		b2World* world = (b2World*)addr;
 		return world->IsLocked();
@@ -630,7 +894,7 @@ JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniIsLocked
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetAutoClearForces(JNIEnv* env, jobject object, jlong addr, jboolean flag) {
 
 
-//@line:825
+//@line:1108
 
 		b2World* world = (b2World*)addr;
 		world->SetAutoClearForces(flag);
@@ -641,7 +905,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetAutoClear
 JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetAutoClearForces(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:835
+//@line:1118
 
 		b2World* world = (b2World*)addr;
 		return world->GetAutoClearForces();
@@ -652,7 +916,7 @@ JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetAutoC
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABB(JNIEnv* env, jobject object, jlong addr, jfloat lowX, jfloat lowY, jfloat upX, jfloat upY) {
 
 
-//@line:853
+//@line:1136
 
 		b2World* world = (b2World*)addr;
 		b2AABB aabb;
@@ -665,11 +929,229 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABB(JN
 
 }
 
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyStates(JNIEnv* env, jobject object, jlongArray obj_bodyAddrs, jint count, jfloatArray obj_states) {
+	long long* bodyAddrs = (long long*)env->GetPrimitiveArrayCritical(obj_bodyAddrs, 0);
+	float* states = (float*)env->GetPrimitiveArrayCritical(obj_states, 0);
+
+
+//@line:1259
+
+		for( int i = 0; i < count; i++ )
+			writeBodyState( (b2Body*)bodyAddrs[i], states + i * 7 );
+	
+	env->ReleasePrimitiveArrayCritical(obj_bodyAddrs, bodyAddrs, 0);
+	env->ReleasePrimitiveArrayCritical(obj_states, states, 0);
+
+}
+
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyStatesBuffer(JNIEnv* env, jobject object, jlongArray obj_bodyAddrs, jint count, jobject obj_states) {
+	float* states = (float*)(obj_states?env->GetDirectBufferAddress(obj_states):0);
+	long long* bodyAddrs = (long long*)env->GetPrimitiveArrayCritical(obj_bodyAddrs, 0);
+
+
+//@line:1264
+
+		for( int i = 0; i < count; i++ )
+			writeBodyState( (b2Body*)bodyAddrs[i], states + i * 7 );
+	
+	env->ReleasePrimitiveArrayCritical(obj_bodyAddrs, bodyAddrs, 0);
+
+}
+
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetAllBodyStates(JNIEnv* env, jobject object, jlong addr, jlongArray obj_bodyAddrs, jfloatArray obj_states) {
+	long long* bodyAddrs = (long long*)env->GetPrimitiveArrayCritical(obj_bodyAddrs, 0);
+	float* states = (float*)env->GetPrimitiveArrayCritical(obj_states, 0);
+
+
+//@line:1307
+
+		b2World* world = (b2World*)addr;
+		int i = 0;
+		for( b2Body* body = world->GetBodyList(); body != 0; body = body->GetNext(), i++ )
+		{
+			bodyAddrs[i] = (long long)body;
+			writeBodyState( body, states + i * 7 );
+		}
+	
+	env->ReleasePrimitiveArrayCritical(obj_bodyAddrs, bodyAddrs, 0);
+	env->ReleasePrimitiveArrayCritical(obj_states, states, 0);
+
+}
+
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetAllBodyStatesBuffer(JNIEnv* env, jobject object, jlong addr, jlongArray obj_bodyAddrs, jobject obj_states) {
+	float* states = (float*)(obj_states?env->GetDirectBufferAddress(obj_states):0);
+	long long* bodyAddrs = (long long*)env->GetPrimitiveArrayCritical(obj_bodyAddrs, 0);
+
+
+//@line:1317
+
+		b2World* world = (b2World*)addr;
+		int i = 0;
+		for( b2Body* body = world->GetBodyList(); body != 0; body = body->GetNext(), i++ )
+		{
+			bodyAddrs[i] = (long long)body;
+			writeBodyState( body, states + i * 7 );
+		}
+	
+	env->ReleasePrimitiveArrayCritical(obj_bodyAddrs, bodyAddrs, 0);
+
+}
+
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetFixtureAABBs(JNIEnv* env, jobject object, jlongArray obj_fixtureAddrs, jint count, jfloatArray obj_aabbs) {
+	long long* fixtureAddrs = (long long*)env->GetPrimitiveArrayCritical(obj_fixtureAddrs, 0);
+	float* aabbs = (float*)env->GetPrimitiveArrayCritical(obj_aabbs, 0);
+
+
+//@line:1361
+
+		for( int i = 0; i < count; i++ )
+			writeFixtureAABB( (b2Fixture*)fixtureAddrs[i], aabbs + i * 4 );
+	
+	env->ReleasePrimitiveArrayCritical(obj_fixtureAddrs, fixtureAddrs, 0);
+	env->ReleasePrimitiveArrayCritical(obj_aabbs, aabbs, 0);
+
+}
+
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetFixtureAABBsBuffer(JNIEnv* env, jobject object, jlongArray obj_fixtureAddrs, jint count, jobject obj_aabbs) {
+	float* aabbs = (float*)(obj_aabbs?env->GetDirectBufferAddress(obj_aabbs):0);
+	long long* fixtureAddrs = (long long*)env->GetPrimitiveArrayCritical(obj_fixtureAddrs, 0);
+
+
+//@line:1366
+
+		for( int i = 0; i < count; i++ )
+			writeFixtureAABB( (b2Fixture*)fixtureAddrs[i], aabbs + i * 4 );
+	
+	env->ReleasePrimitiveArrayCritical(obj_fixtureAddrs, fixtureAddrs, 0);
+
+}
+
+static inline jint wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniRayCastClosest
+(JNIEnv* env, jobject object, jlong addr, jobject obj_rays, jint count, jshort maskBits, jobject obj_hits, jlongArray obj_fixtureAddrs, float* rays, float* hits, long long* fixtureAddrs) {
+
+//@line:1473
+
+		b2World* world = (b2World*)addr;
+		BatchRayCastCallback callback;
+		callback.maskBits = (uint16)maskBits;
+		callback.all = false;
+		int hitCount = 0;
+		for( int i = 0; i < count; i++ )
+		{
+			float* ray = rays + i * 4;
+			float* hit = hits + i * 5;
+			callback.fixture = 0;
+			world->RayCast( &callback, b2Vec2(ray[0], ray[1]), b2Vec2(ray[2], ray[3]) );
+			fixtureAddrs[i] = (long long)callback.fixture;
+			if( callback.fixture )
+			{
+				for( int ii = 0; ii < 5; ii++ )
+					hit[ii] = callback.hit[ii];
+				hitCount++;
+			}
+			else
+			{
+				hit[0] = -1;
+				hit[1] = hit[2] = hit[3] = hit[4] = 0;
+			}
+		}
+		return hitCount;
+	
+}
+
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCastClosest(JNIEnv* env, jobject object, jlong addr, jobject obj_rays, jint count, jshort maskBits, jobject obj_hits, jlongArray obj_fixtureAddrs) {
+	float* rays = (float*)(obj_rays?env->GetDirectBufferAddress(obj_rays):0);
+	float* hits = (float*)(obj_hits?env->GetDirectBufferAddress(obj_hits):0);
+	long long* fixtureAddrs = (long long*)env->GetPrimitiveArrayCritical(obj_fixtureAddrs, 0);
+
+	jint JNI_returnValue = wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniRayCastClosest(env, object, addr, obj_rays, count, maskBits, obj_hits, obj_fixtureAddrs, rays, hits, fixtureAddrs);
+
+	env->ReleasePrimitiveArrayCritical(obj_fixtureAddrs, fixtureAddrs, 0);
+
+	return JNI_returnValue;
+}
+
+static inline jint wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniRayCastAll
+(JNIEnv* env, jobject object, jlong addr, jobject obj_rays, jint count, jshort maskBits, jobject obj_hits, jint capacity, jlongArray obj_fixtureAddrs, jintArray obj_rayIndices, float* rays, float* hits, long long* fixtureAddrs, int* rayIndices) {
+
+//@line:1502
+
+		b2World* world = (b2World*)addr;
+		BatchRayCastCallback callback;
+		callback.maskBits = (uint16)maskBits;
+		callback.all = true;
+		callback.hits = hits;
+		callback.fixtureAddrs = fixtureAddrs;
+		callback.rayIndices = rayIndices;
+		callback.capacity = capacity;
+		callback.count = 0;
+		for( int i = 0; i < count; i++ )
+		{
+			float* ray = rays + i * 4;
+			callback.rayIndex = i;
+			world->RayCast( &callback, b2Vec2(ray[0], ray[1]), b2Vec2(ray[2], ray[3]) );
+		}
+		return callback.count;
+	
+}
+
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCastAll(JNIEnv* env, jobject object, jlong addr, jobject obj_rays, jint count, jshort maskBits, jobject obj_hits, jint capacity, jlongArray obj_fixtureAddrs, jintArray obj_rayIndices) {
+	float* rays = (float*)(obj_rays?env->GetDirectBufferAddress(obj_rays):0);
+	float* hits = (float*)(obj_hits?env->GetDirectBufferAddress(obj_hits):0);
+	long long* fixtureAddrs = (long long*)env->GetPrimitiveArrayCritical(obj_fixtureAddrs, 0);
+	int* rayIndices = (int*)env->GetPrimitiveArrayCritical(obj_rayIndices, 0);
+
+	jint JNI_returnValue = wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniRayCastAll(env, object, addr, obj_rays, count, maskBits, obj_hits, capacity, obj_fixtureAddrs, obj_rayIndices, rays, hits, fixtureAddrs, rayIndices);
+
+	env->ReleasePrimitiveArrayCritical(obj_fixtureAddrs, fixtureAddrs, 0);
+	env->ReleasePrimitiveArrayCritical(obj_rayIndices, rayIndices, 0);
+
+	return JNI_returnValue;
+}
+
+static inline jint wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABBs
+(JNIEnv* env, jobject object, jlong addr, jobject obj_aabbs, jint count, jshort maskBits, jint capacity, jlongArray obj_fixtureAddrs, jintArray obj_aabbIndices, float* aabbs, long long* fixtureAddrs, int* aabbIndices) {
+
+//@line:1522
+
+		b2World* world = (b2World*)addr;
+		BatchQueryCallback callback;
+		callback.maskBits = (uint16)maskBits;
+		callback.fixtureAddrs = fixtureAddrs;
+		callback.aabbIndices = aabbIndices;
+		callback.capacity = capacity;
+		callback.count = 0;
+		for( int i = 0; i < count; i++ )
+		{
+			float* bounds = aabbs + i * 4;
+			b2AABB aabb;
+			aabb.lowerBound = b2Vec2( bounds[0], bounds[1] );
+			aabb.upperBound = b2Vec2( bounds[2], bounds[3] );
+			callback.aabbIndex = i;
+			world->QueryAABB( &callback, aabb );
+		}
+		return callback.count;
+	
+}
+
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABBs(JNIEnv* env, jobject object, jlong addr, jobject obj_aabbs, jint count, jshort maskBits, jint capacity, jlongArray obj_fixtureAddrs, jintArray obj_aabbIndices) {
+	float* aabbs = (float*)(obj_aabbs?env->GetDirectBufferAddress(obj_aabbs):0);
+	long long* fixtureAddrs = (long long*)env->GetPrimitiveArrayCritical(obj_fixtureAddrs, 0);
+	int* aabbIndices = (int*)env->GetPrimitiveArrayCritical(obj_aabbIndices, 0);
+
+	jint JNI_returnValue = wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABBs(env, object, addr, obj_aabbs, count, maskBits, capacity, obj_fixtureAddrs, obj_aabbIndices, aabbs, fixtureAddrs, aabbIndices);
+
+	env->ReleasePrimitiveArrayCritical(obj_fixtureAddrs, fixtureAddrs, 0);
+	env->ReleasePrimitiveArrayCritical(obj_aabbIndices, aabbIndices, 0);
+
+	return JNI_returnValue;
+}
+
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetContactList(JNIEnv* env, jobject object, jlong addr, jlongArray obj_contacts) {
 	long long* contacts = (long long*)env->GetPrimitiveArrayCritical(obj_contacts, 0);
 
 
-//@line:938
+//@line:1542
 
 		b2World* world = (b2World*)addr;
 	
@@ -688,7 +1170,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetContactLi
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDispose(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:954
+//@line:1558
 
 		b2World* world = (b2World*)(addr);
 		delete world;
@@ -699,7 +1181,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDispose(JNIE
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_setVelocityThreshold(JNIEnv* env, jclass clazz, jfloat threshold) {
 
 
-//@line:1014
+//@line:1618
 
 		b2_velocityThreshold = threshold;
 	
@@ -709,7 +1191,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_setVelocityThre
 JNIEXPORT jfloat JNICALL Java_com_badlogic_gdx_physics_box2d_World_getVelocityThreshold(JNIEnv* env, jclass clazz) {
 
 
-//@line:1019
+//@line:1623
 
 		return b2_velocityThreshold;
 	
@@ -719,7 +1201,7 @@ JNIEXPORT jfloat JNICALL Java_com_badlogic_gdx_physics_box2d_World_getVelocityTh
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCast(JNIEnv* env, jobject object, jlong addr, jfloat aX, jfloat aY, jfloat bX, jfloat bY) {
 
 
-//@line:1044
+//@line:1648
 
 		b2World *world = (b2World*)addr;
 		CustomRayCastCallback callback( env, object );	
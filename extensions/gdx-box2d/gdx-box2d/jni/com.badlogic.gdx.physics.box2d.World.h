@@ -7,6 +7,14 @@
 #ifdef __cplusplus
 extern "C" {
 #endif
+#undef com_badlogic_gdx_physics_box2d_World_BODY_STATE_SIZE
+#define com_badlogic_gdx_physics_box2d_World_BODY_STATE_SIZE 7L
+#undef com_badlogic_gdx_physics_box2d_World_AABB_SIZE
+#define com_badlogic_gdx_physics_box2d_World_AABB_SIZE 4L
+#undef com_badlogic_gdx_physics_box2d_World_RAY_SIZE
+#define com_badlogic_gdx_physics_box2d_World_RAY_SIZE 4L
+#undef com_badlogic_gdx_physics_box2d_World_RAY_HIT_SIZE
+#define com_badlogic_gdx_physics_box2d_World_RAY_HIT_SIZE 5L
 /*
  * Class:     com_badlogic_gdx_physics_box2d_World
  * Method:    newWorld
@@ -159,6 +167,54 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyJoint
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniStep
   (JNIEnv *, jobject, jlong, jfloat, jint, jint);
 
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniStepBuffered
+ * Signature: (JFIILjava/nio/ByteBuffer;IIZ)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniStepBuffered
+  (JNIEnv *, jobject, jlong, jfloat, jint, jint, jobject, jint, jint, jboolean);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniStepBegin
+ * Signature: (JFIILjava/nio/ByteBuffer;IIZ)J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniStepBegin
+  (JNIEnv *, jobject, jlong, jfloat, jint, jint, jobject, jint, jint, jboolean);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniSolveIslands
+ * Signature: (JIIJ)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSolveIslands
+  (JNIEnv *, jclass, jlong, jint, jint, jlong);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniNewStackAllocator
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniNewStackAllocator
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniFreeStackAllocator
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniFreeStackAllocator
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniStepEnd
+ * Signature: (JLjava/nio/ByteBuffer;IIZ)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniStepEnd
+  (JNIEnv *, jobject, jlong, jobject, jint, jint, jboolean);
+
 /*
  * Class:     com_badlogic_gdx_physics_box2d_World
  * Method:    jniClearForces
@@ -263,6 +319,78 @@ JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetAutoC
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABB
   (JNIEnv *, jobject, jlong, jfloat, jfloat, jfloat, jfloat);
 
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetBodyStates
+ * Signature: ([JI[F)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyStates
+  (JNIEnv *, jobject, jlongArray, jint, jfloatArray);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetBodyStatesBuffer
+ * Signature: ([JILjava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyStatesBuffer
+  (JNIEnv *, jobject, jlongArray, jint, jobject);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetAllBodyStates
+ * Signature: (J[J[F)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetAllBodyStates
+  (JNIEnv *, jobject, jlong, jlongArray, jfloatArray);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetAllBodyStatesBuffer
+ * Signature: (J[JLjava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetAllBodyStatesBuffer
+  (JNIEnv *, jobject, jlong, jlongArray, jobject);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetFixtureAABBs
+ * Signature: ([JI[F)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetFixtureAABBs
+  (JNIEnv *, jobject, jlongArray, jint, jfloatArray);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetFixtureAABBsBuffer
+ * Signature: ([JILjava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetFixtureAABBsBuffer
+  (JNIEnv *, jobject, jlongArray, jint, jobject);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniRayCastClosest
+ * Signature: (JLjava/nio/FloatBuffer;ISLjava/nio/FloatBuffer;[J)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCastClosest
+  (JNIEnv *, jobject, jlong, jobject, jint, jshort, jobject, jlongArray);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniRayCastAll
+ * Signature: (JLjava/nio/FloatBuffer;ISLjava/nio/FloatBuffer;I[J[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCastAll
+  (JNIEnv *, jobject, jlong, jobject, jint, jshort, jobject, jint, jlongArray, jintArray);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniQueryAABBs
+ * Signature: (JLjava/nio/FloatBuffer;ISI[J[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABBs
+  (JNIEnv *, jobject, jlong, jobject, jint, jshort, jint, jlongArray, jintArray);
+
 /*
  * Class:     com_badlogic_gdx_physics_box2d_World
  * Method:    jniGetContactList
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.physics.box2d;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.utils.BufferUtils;
+
+/** Records contact events natively during {@link World#step(float, int, int)}, so they can be processed after the step without
+ * a JNI callback per event. Set with {@link World#setContactEventBuffer(ContactEventBuffer)}, which replaces the
+ * {@link ContactListener} during steps. Events are appended by each step until {@link #clear()} is called, so sub-steps can be
+ * processed together. Events that don't fit are dropped and counted by {@link #getDroppedCount()}.
+ * <p>
+ * Each event is {@link #EVENT_SIZE} bytes in the {@link #getBuffer() buffer}, in native byte order: the event type (int), the
+ * number of contact points (int), the addresses of fixture A and B (long), the normal impulses of the two points (float) and the
+ * tangent impulses of the two points (float). The point count and impulses are only set for {@link #POST_SOLVE} events.
+ * <p>
+ * Pre-solve events are not recorded, as they can only be useful while the contact is being updated. Contacts ended by
+ * destroying a body, fixture or joint are still reported to the {@link ContactListener}. The fixtures of the events must be
+ * accessed before they are destroyed. */
+public class ContactEventBuffer {
+	/** Two fixtures began to touch, see {@link ContactListener#beginContact(Contact)}. */
+	public static final int BEGIN_CONTACT = 0;
+	/** Two fixtures ceased to touch, see {@link ContactListener#endContact(Contact)}. */
+	public static final int END_CONTACT = 1;
+	/** The solver finished for a touching contact and the impulses are available, see
+	 * {@link ContactListener#postSolve(Contact, ContactImpulse)}. */
+	public static final int POST_SOLVE = 2;
+
+	/** The number of bytes per event. */
+	public static final int EVENT_SIZE = 40;
+
+	final ByteBuffer buffer;
+	final int capacity;
+	World world;
+	int size, dropped;
+	boolean recordPostSolve = true;
+
+	/** @param capacity The maximum number of events that can be recorded before they are dropped. */
+	public ContactEventBuffer (int capacity) {
+		if (capacity < 1) throw new IllegalArgumentException("capacity must be > 0: " + capacity);
+		this.capacity = capacity;
+		buffer = BufferUtils.newByteBuffer(capacity * EVENT_SIZE);
+	}
+
+	/** Removes all events. */
+	public void clear () {
+		size = 0;
+		dropped = 0;
+	}
+
+	/** Returns the number of recorded events. */
+	public int size () {
+		return size;
+	}
+
+	public int getCapacity () {
+		return capacity;
+	}
+
+	/** Returns the number of events that did not fit in the buffer since it was last cleared. */
+	public int getDroppedCount () {
+		return dropped;
+	}
+
+	/** If false, {@link #POST_SOLVE} events are not recorded. Default is true. */
+	public void setRecordPostSolve (boolean recordPostSolve) {
+		this.recordPostSolve = recordPostSolve;
+	}
+
+	public boolean getRecordPostSolve () {
+		return recordPostSolve;
+	}
+
+	/** Returns {@link #BEGIN_CONTACT}, {@link #END_CONTACT} or {@link #POST_SOLVE}. */
+	public int getType (int index) {
+		return buffer.getInt(offset(index));
+	}
+
+	public Fixture getFixtureA (int index) {
+		return world.fixtures.get(buffer.getLong(offset(index) + 8));
+	}
+
+	public Fixture getFixtureB (int index) {
+		return world.fixtures.get(buffer.getLong(offset(index) + 16));
+	}
+
+	/** Returns the number of contact points with impulses of a {@link #POST_SOLVE} event, or 0 for other events. */
+	public int getPointCount (int index) {
+		return buffer.getInt(offset(index) + 4);
+	}
+
+	/** Returns the normal impulse of the contact point of a {@link #POST_SOLVE} event.
+	 * @param point 0 or 1. */
+	public float getNormalImpulse (int index, int point) {
+		return buffer.getFloat(offset(index) + 24 + point * 4);
+	}
+
+	/** Returns the tangent impulse of the contact point of a {@link #POST_SOLVE} event.
+	 * @param point 0 or 1. */
+	public float getTangentImpulse (int index, int point) {
+		return buffer.getFloat(offset(index) + 32 + point * 4);
+	}
+
+	/** Returns the buffer holding the events, for processing them without the accessor methods. The position and limit of the
+	 * buffer are not used. */
+	public ByteBuffer getBuffer () {
+		return buffer;
+	}
+
+	private int offset (int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		return index * EVENT_SIZE;
+	}
+}
@@ -16,6 +16,9 @@
 
 package com.badlogic.gdx.physics.box2d;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
 import java.util.Iterator;
 
 import com.badlogic.gdx.math.Vector2;
@@ -44,6 +47,7 @@ import com.badlogic.gdx.physics.box2d.joints.WheelJoint;
 import com.badlogic.gdx.physics.box2d.joints.WheelJointDef;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.LongMap;
 import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.SharedLibraryLoader;
@@ -149,6 +153,60 @@ public:
 		}
 };
 
+class BufferedContactListener: public b2ContactListener
+{
+private:
+	char* events;
+	int capacity;
+	bool recordPostSolve;
+
+	void add( int type, b2Contact* contact, const b2ContactImpulse* impulse )
+	{
+		if( count < capacity )
+		{
+			char* event = events + count * 40;
+			int pointCount = impulse ? impulse->count : 0;
+			*(int*)event = type;
+			*(int*)(event + 4) = pointCount;
+			*(jlong*)(event + 8) = (jlong)contact->GetFixtureA();
+			*(jlong*)(event + 16) = (jlong)contact->GetFixtureB();
+			float* impulses = (float*)(event + 24);
+			for( int i = 0; i < 2; i++ )
+			{
+				impulses[i] = i < pointCount ? impulse->normalImpulses[i] : 0;
+				impulses[i + 2] = i < pointCount ? impulse->tangentImpulses[i] : 0;
+			}
+		}
+		count++;
+	}
+
+public:
+	int count;
+
+	BufferedContactListener( char* events, int capacity, int count, bool recordPostSolve )
+	{
+		this->events = events;
+		this->capacity = capacity;
+		this->count = count;
+		this->recordPostSolve = recordPostSolve;
+	}
+
+	virtual void BeginContact(b2Contact* contact)
+	{
+		add( 0, contact, 0 );
+	}
+
+	virtual void EndContact(b2Contact* contact)
+	{
+		add( 1, contact, 0 );
+	}
+
+	virtual void PostSolve(b2Contact* contact, const b2ContactImpulse* impulse)
+	{
+		if( recordPostSolve ) add( 2, contact, impulse );
+	}
+};
+
 class CustomQueryCallback: public b2QueryCallback
 {
 private:
@@ -181,6 +239,103 @@ inline b2BodyType getBodyType( int type )
 }
 
 b2ContactFilter defaultFilter;
+
+inline void writeBodyState( b2Body* body, float* state )
+{
+	const b2Vec2& position = body->GetPosition();
+	const b2Vec2& velocity = body->GetLinearVelocity();
+	state[0] = position.x;
+	state[1] = position.y;
+	state[2] = body->GetAngle();
+	state[3] = velocity.x;
+	state[4] = velocity.y;
+	state[5] = body->GetAngularVelocity();
+	state[6] = body->IsAwake() ? 1 : 0;
+}
+
+inline void writeFixtureAABB( b2Fixture* fixture, float* aabb )
+{
+	b2Shape* shape = fixture->GetShape();
+	const b2Transform& transform = fixture->GetBody()->GetTransform();
+	b2AABB result;
+	shape->ComputeAABB( &result, transform, 0 );
+	for( int32 i = 1, n = shape->GetChildCount(); i < n; i++ )
+	{
+		b2AABB child;
+		shape->ComputeAABB( &child, transform, i );
+		result.Combine( child );
+	}
+	aabb[0] = result.lowerBound.x;
+	aabb[1] = result.lowerBound.y;
+	aabb[2] = result.upperBound.x;
+	aabb[3] = result.upperBound.y;
+}
+
+class BatchRayCastCallback: public b2RayCastCallback
+{
+public:
+	uint16 maskBits;
+	bool all;
+	// Closest hit.
+	b2Fixture* fixture;
+	float hit[5];
+	// All hits.
+	float* hits;
+	long long* fixtureAddrs;
+	int* rayIndices;
+	int capacity;
+	int count;
+	int rayIndex;
+
+	virtual float32 ReportFixture( b2Fixture* fixture, const b2Vec2& point, const b2Vec2& normal, float32 fraction )
+	{
+		if( (fixture->GetFilterData().categoryBits & maskBits) == 0 ) return -1;
+		float* hit = this->hit;
+		if( all )
+		{
+			if( count >= capacity )
+			{
+				count++;
+				return 1;
+			}
+			hit = hits + count * 5;
+			fixtureAddrs[count] = (long long)fixture;
+			rayIndices[count] = rayIndex;
+			count++;
+		}
+		else
+			this->fixture = fixture;
+		hit[0] = fraction;
+		hit[1] = point.x;
+		hit[2] = point.y;
+		hit[3] = normal.x;
+		hit[4] = normal.y;
+		return all ? 1 : fraction;
+	}
+};
+
+class BatchQueryCallback: public b2QueryCallback
+{
+public:
+	uint16 maskBits;
+	long long* fixtureAddrs;
+	int* aabbIndices;
+	int capacity;
+	int count;
+	int aabbIndex;
+
+	virtual bool ReportFixture( b2Fixture* fixture )
+	{
+		if( (fixture->GetFilterData().categoryBits & maskBits) == 0 ) return true;
+		if( count < capacity )
+		{
+			fixtureAddrs[count] = (long long)fixture;
+			aabbIndices[count] = aabbIndex;
+		}
+		count++;
+		return true;
+	}
+};
 	 */
 
 	static {
@@ -221,11 +376,16 @@ b2ContactFilter defaultFilter;
 	/** Contact listener **/
 	protected ContactListener contactListener = null;
 
+	/** Contact event buffer, replaces the contact listener during steps if not null **/
+	protected ContactEventBuffer contactEventBuffer = null;
+
 	/** Construct a world object.
 	 * @param gravity the world gravity vector.
 	 * @param doSleep improve performance by not simulating inactive bodies. */
 	public World (Vector2 gravity, boolean doSleep) {
-		addr = newWorld(gravity.x, gravity.y, doSleep);
+		synchronized (World.class) { // Worlds may be created by different threads, newWorld initializes the shared method IDs and contact registers.
+			addr = newWorld(gravity.x, gravity.y, doSleep);
+		}
 
 		contacts.ensureCapacity(contactAddrs.length);
 		freeContacts.ensureCapacity(contactAddrs.length);
@@ -274,6 +434,19 @@ b2ContactFilter defaultFilter;
 		this.contactListener = listener;
 	}
 
+	/** Sets a buffer that records contact events natively during {@link #step(float, int, int)}, replacing the
+	 * {@link ContactListener} during steps. This avoids a JNI callback per event, which is much faster when there are many
+	 * contacts.
+	 * @param buffer May be null to use the contact listener. */
+	public void setContactEventBuffer (ContactEventBuffer buffer) {
+		if (buffer != null) buffer.world = this;
+		this.contactEventBuffer = buffer;
+	}
+
+	public ContactEventBuffer getContactEventBuffer () {
+		return contactEventBuffer;
+	}
+
 	/** Create a rigid body given a definition. No reference to the definition is retained.
 	 * Bodies created by this method are pooled internally by the World object.
 	 * They will be freed upon calling {@link World#destroyBody(Body)}
@@ -686,7 +859,14 @@ b2ContactFilter defaultFilter;
 	 * @param velocityIterations for the velocity constraint solver.
 	 * @param positionIterations for the position constraint solver. */
 	public void step (float timeStep, int velocityIterations, int positionIterations) {
-		jniStep(addr, timeStep, velocityIterations, positionIterations);
+		ContactEventBuffer events = contactEventBuffer;
+		if (events != null) {
+			int count = jniStepBuffered(addr, timeStep, velocityIterations, positionIterations, events.buffer, events.capacity,
+				events.size + events.dropped, events.recordPostSolve);
+			events.size = Math.min(count, events.capacity);
+			events.dropped = count - events.size;
+		} else
+			jniStep(addr, timeStep, velocityIterations, positionIterations);
 	}
 
 	private native void jniStep (long addr, float timeStep, int velocityIterations, int positionIterations); /*
@@ -700,6 +880,109 @@ b2ContactFilter defaultFilter;
 		world->SetContactListener(0);
 	*/
 
+	private native int jniStepBuffered (long addr, float timeStep, int velocityIterations, int positionIterations,
+		ByteBuffer events, int capacity, int count, boolean recordPostSolve); /*
+		b2World* world = (b2World*)addr;
+		CustomContactFilter contactFilter(env, object);
+		BufferedContactListener contactListener(events, capacity, count, recordPostSolve);
+		world->SetContactFilter(&contactFilter);
+		world->SetContactListener(&contactListener);
+		world->Step( timeStep, velocityIterations, positionIterations );
+		world->SetContactFilter(&defaultFilter);
+		world->SetContactListener(0);
+		return contactListener.count;
+	*/
+
+	/** Begins a step whose islands are solved by {@link #solveIslands(int, int)}, see {@link WorldStepper}. Contact events are
+	 * reported to the listener or event buffer as by {@link #step(float, int, int)}, except post-solve which is reported by
+	 * {@link #stepEnd()}.
+	 * @return the number of islands to solve. */
+	int stepBegin (float timeStep, int velocityIterations, int positionIterations) {
+		ContactEventBuffer events = contactEventBuffer;
+		long result;
+		if (events != null) {
+			result = jniStepBegin(addr, timeStep, velocityIterations, positionIterations, events.buffer, events.capacity,
+				events.size + events.dropped, events.recordPostSolve);
+			setEventCount(events, (int)result);
+		} else
+			result = jniStepBegin(addr, timeStep, velocityIterations, positionIterations, null, 0, 0, false);
+		return (int)(result >>> 32);
+	}
+
+	/** Solves the islands in [first, last) of the step begun by {@link #stepBegin(float, int, int)}. Disjoint ranges may be solved
+	 * by different threads at the same time, each with its own allocator.
+	 * @param allocator A stack allocator from {@link #newStackAllocator()} that no other thread is using. */
+	void solveIslands (int first, int last, long allocator) {
+		jniSolveIslands(addr, first, last, allocator);
+	}
+
+	/** Completes the step begun by {@link #stepBegin(float, int, int)}. */
+	void stepEnd () {
+		ContactEventBuffer events = contactEventBuffer;
+		if (events != null)
+			setEventCount(events, jniStepEnd(addr, events.buffer, events.capacity, events.size + events.dropped, events.recordPostSolve));
+		else
+			jniStepEnd(addr, null, 0, 0, false);
+	}
+
+	private void setEventCount (ContactEventBuffer events, int count) {
+		events.size = Math.min(count, events.capacity);
+		events.dropped = count - events.size;
+	}
+
+	/** Returns the island count in the high 32 bits and the event count in the low 32 bits. */
+	private native long jniStepBegin (long addr, float timeStep, int velocityIterations, int positionIterations,
+		ByteBuffer events, int capacity, int count, boolean recordPostSolve); /*
+		b2World* world = (b2World*)addr;
+		CustomContactFilter contactFilter(env, object);
+		CustomContactListener contactListener(env, object);
+		BufferedContactListener bufferedListener((char*)events, capacity, count, recordPostSolve);
+		world->SetContactFilter(&contactFilter);
+		if (events) world->SetContactListener(&bufferedListener);
+		else world->SetContactListener(&contactListener);
+		jlong islandCount = world->StepBegin( timeStep, velocityIterations, positionIterations );
+		world->SetContactFilter(&defaultFilter);
+		world->SetContactListener(0);
+		return (islandCount << 32) | (jlong)(unsigned int)bufferedListener.count;
+	*/
+
+	private static native void jniSolveIslands (long addr, int first, int last, long allocator); /*
+		b2World* world = (b2World*)addr;
+		world->SolveIslands( first, last, (b2StackAllocator*)allocator );
+	*/
+
+	/** Returns a new stack allocator for {@link #solveIslands(int, int, long)}. It can be reused for any number of steps and worlds
+	 * and must be freed by {@link #freeStackAllocator(long)}. */
+	static long newStackAllocator () {
+		return jniNewStackAllocator();
+	}
+
+	static void freeStackAllocator (long allocator) {
+		jniFreeStackAllocator(allocator);
+	}
+
+	private static native long jniNewStackAllocator (); /*
+		return (jlong)new b2StackAllocator();
+	*/
+
+	private static native void jniFreeStackAllocator (long allocator); /*
+		delete (b2StackAllocator*)allocator;
+	*/
+
+	private native int jniStepEnd (long addr, ByteBuffer events, int capacity, int count, boolean recordPostSolve); /*
+		b2World* world = (b2World*)addr;
+		CustomContactFilter contactFilter(env, object);
+		CustomContactListener contactListener(env, object);
+		BufferedContactListener bufferedListener((char*)events, capacity, count, recordPostSolve);
+		world->SetContactFilter(&contactFilter);
+		if (events) world->SetContactListener(&bufferedListener);
+		else world->SetContactListener(&contactListener);
+		world->StepEnd();
+		world->SetContactFilter(&defaultFilter);
+		world->SetContactListener(0);
+		return bufferedListener.count;
+	*/
+
 	/** Manually clear the force buffer on all bodies. By default, forces are cleared automatically after each call to Step. The
 	 * default behavior is modified by calling SetAutoClearForces. The purpose of this function is to support sub-stepping.
 	 * Sub-stepping is often used to maintain a fixed sized time step under a variable frame-rate. When you perform sub-stepping
@@ -935,6 +1218,327 @@ b2ContactFilter defaultFilter;
 		}
 	}
 
+	/** The number of floats written for each body by {@link #getBodyStates(Array, float[])}: position x and y, angle, linear
+	 * velocity x and y, angular velocity, and 1 if the body is awake or 0 if it is asleep. */
+	public static final int BODY_STATE_SIZE = 7;
+
+	/** The number of floats written for each fixture by {@link #getFixtureAABBs(Array, float[])}: lower x and y, upper x and y. */
+	public static final int AABB_SIZE = 4;
+
+	private long[] queryAddrs = new long[100];
+
+	/** Reads the state of the bodies with a single native call, which is much faster than calling {@link Body#getPosition()},
+	 * {@link Body#getAngle()} etc for many bodies.
+	 * @param states Receives {@link #BODY_STATE_SIZE} floats per body, in the same order as the bodies. */
+	public void getBodyStates (Array<Body> bodies, float[] states) {
+		if (states.length < bodies.size * BODY_STATE_SIZE)
+			throw new IllegalArgumentException("states must have room for " + bodies.size + " bodies: " + states.length);
+		jniGetBodyStates(fillBodyAddrs(bodies), bodies.size, states);
+	}
+
+	/** Reads the state of the bodies with a single native call.
+	 * @param states A direct buffer which receives {@link #BODY_STATE_SIZE} floats per body, in the same order as the bodies,
+	 *           starting at index 0. The position and limit of the buffer are not changed.
+	 * @see #getBodyStates(Array, float[]) */
+	public void getBodyStates (Array<Body> bodies, FloatBuffer states) {
+		checkDirect(states, "states");
+		if (states.capacity() < bodies.size * BODY_STATE_SIZE)
+			throw new IllegalArgumentException("states must have room for " + bodies.size + " bodies: " + states.capacity());
+		jniGetBodyStatesBuffer(fillBodyAddrs(bodies), bodies.size, states);
+	}
+
+	private long[] fillBodyAddrs (Array<Body> bodies) {
+		int count = bodies.size;
+		if (queryAddrs.length < count) queryAddrs = new long[Math.max(count, queryAddrs.length * 2)];
+		long[] addrs = queryAddrs;
+		for (int i = 0; i < count; i++)
+			addrs[i] = bodies.get(i).addr;
+		return addrs;
+	}
+
+	private native void jniGetBodyStates (long[] bodyAddrs, int count, float[] states); /*
+		for( int i = 0; i < count; i++ )
+			writeBodyState( (b2Body*)bodyAddrs[i], states + i * 7 );
+	*/
+
+	private native void jniGetBodyStatesBuffer (long[] bodyAddrs, int count, FloatBuffer states); /*
+		for( int i = 0; i < count; i++ )
+			writeBodyState( (b2Body*)bodyAddrs[i], states + i * 7 );
+	*/
+
+	/** Reads the state of all bodies in the world with a single native call.
+	 * @param bodies Cleared and filled with all bodies, in the order their states are written.
+	 * @param states Receives {@link #BODY_STATE_SIZE} floats per body. Must have room for {@link #getBodyCount()} bodies.
+	 * @see #getBodyStates(Array, float[]) */
+	public void getAllBodyStates (Array<Body> bodies, float[] states) {
+		int count = prepareAllBodies(bodies, states.length);
+		jniGetAllBodyStates(addr, queryAddrs, states);
+		addAllBodies(bodies, count);
+	}
+
+	/** Reads the state of all bodies in the world with a single native call.
+	 * @param bodies Cleared and filled with all bodies, in the order their states are written.
+	 * @param states A direct buffer which receives {@link #BODY_STATE_SIZE} floats per body starting at index 0. Must have room
+	 *           for {@link #getBodyCount()} bodies. The position and limit of the buffer are not changed.
+	 * @see #getBodyStates(Array, float[]) */
+	public void getAllBodyStates (Array<Body> bodies, FloatBuffer states) {
+		checkDirect(states, "states");
+		int count = prepareAllBodies(bodies, states.capacity());
+		jniGetAllBodyStatesBuffer(addr, queryAddrs, states);
+		addAllBodies(bodies, count);
+	}
+
+	private int prepareAllBodies (Array<Body> bodies, int capacity) {
+		int count = this.bodies.size;
+		if (capacity < count * BODY_STATE_SIZE)
+			throw new IllegalArgumentException("states must have room for " + count + " bodies: " + capacity);
+		if (queryAddrs.length < count) queryAddrs = new long[Math.max(count, queryAddrs.length * 2)];
+		bodies.clear();
+		bodies.ensureCapacity(count);
+		return count;
+	}
+
+	private void addAllBodies (Array<Body> bodies, int count) {
+		long[] addrs = queryAddrs;
+		for (int i = 0; i < count; i++)
+			bodies.add(this.bodies.get(addrs[i]));
+	}
+
+	private native void jniGetAllBodyStates (long addr, long[] bodyAddrs, float[] states); /*
+		b2World* world = (b2World*)addr;
+		int i = 0;
+		for( b2Body* body = world->GetBodyList(); body != 0; body = body->GetNext(), i++ )
+		{
+			bodyAddrs[i] = (long long)body;
+			writeBodyState( body, states + i * 7 );
+		}
+	*/
+
+	private native void jniGetAllBodyStatesBuffer (long addr, long[] bodyAddrs, FloatBuffer states); /*
+		b2World* world = (b2World*)addr;
+		int i = 0;
+		for( b2Body* body = world->GetBodyList(); body != 0; body = body->GetNext(), i++ )
+		{
+			bodyAddrs[i] = (long long)body;
+			writeBodyState( body, states + i * 7 );
+		}
+	*/
+
+	/** Computes the tight axis aligned bounding boxes of the fixtures in world coordinates with a single native call. For chain
+	 * shapes the box encloses all edges.
+	 * @param aabbs Receives {@link #AABB_SIZE} floats per fixture, in the same order as the fixtures. */
+	public void getFixtureAABBs (Array<Fixture> fixtures, float[] aabbs) {
+		if (aabbs.length < fixtures.size * AABB_SIZE)
+			throw new IllegalArgumentException("aabbs must have room for " + fixtures.size + " fixtures: " + aabbs.length);
+		jniGetFixtureAABBs(fillFixtureAddrs(fixtures), fixtures.size, aabbs);
+	}
+
+	/** Computes the axis aligned bounding boxes of the fixtures with a single native call.
+	 * @param aabbs A direct buffer which receives {@link #AABB_SIZE} floats per fixture, in the same order as the fixtures,
+	 *           starting at index 0. The position and limit of the buffer are not changed.
+	 * @see #getFixtureAABBs(Array, float[]) */
+	public void getFixtureAABBs (Array<Fixture> fixtures, FloatBuffer aabbs) {
+		checkDirect(aabbs, "aabbs");
+		if (aabbs.capacity() < fixtures.size * AABB_SIZE)
+			throw new IllegalArgumentException("aabbs must have room for " + fixtures.size + " fixtures: " + aabbs.capacity());
+		jniGetFixtureAABBsBuffer(fillFixtureAddrs(fixtures), fixtures.size, aabbs);
+	}
+
+	/** Native code reads and writes buffers through their address, which heap buffers don't have. */
+	private static void checkDirect (Buffer buffer, String name) {
+		if (!buffer.isDirect()) throw new IllegalArgumentException(name + " must be a direct buffer.");
+	}
+
+	private long[] fillFixtureAddrs (Array<Fixture> fixtures) {
+		int count = fixtures.size;
+		if (queryAddrs.length < count) queryAddrs = new long[Math.max(count, queryAddrs.length * 2)];
+		long[] addrs = queryAddrs;
+		for (int i = 0; i < count; i++)
+			addrs[i] = fixtures.get(i).addr;
+		return addrs;
+	}
+
+	private native void jniGetFixtureAABBs (long[] fixtureAddrs, int count, float[] aabbs); /*
+		for( int i = 0; i < count; i++ )
+			writeFixtureAABB( (b2Fixture*)fixtureAddrs[i], aabbs + i * 4 );
+	*/
+
+	private native void jniGetFixtureAABBsBuffer (long[] fixtureAddrs, int count, FloatBuffer aabbs); /*
+		for( int i = 0; i < count; i++ )
+			writeFixtureAABB( (b2Fixture*)fixtureAddrs[i], aabbs + i * 4 );
+	*/
+
+	/** The number of floats read for each ray by {@link #rayCast(FloatBuffer, int, short, FloatBuffer, Array)}: start x and y, end x
+	 * and y. */
+	public static final int RAY_SIZE = 4;
+
+	/** The number of floats written for each hit by {@link #rayCast(FloatBuffer, int, short, FloatBuffer, Array)}: the fraction
+	 * along the ray, the hit point x and y, and the surface normal x and y. */
+	public static final int RAY_HIT_SIZE = 5;
+
+	private int[] queryIndices = new int[100];
+
+	/** Ray-casts many rays with a single native call, finding the closest fixture hit by each ray. This is much faster than
+	 * {@link #rayCast(RayCastCallback, float, float, float, float)} for many rays, as no Java method is called per fixture. The
+	 * ray-cast ignores shapes that contain the starting point.
+	 * @param rays A direct buffer with {@link #RAY_SIZE} floats per ray starting at index 0.
+	 * @param maskBits Only fixtures with a category bit in the mask are hit, -1 for all fixtures.
+	 * @param hits A direct buffer which receives {@link #RAY_HIT_SIZE} floats per ray starting at index 0, in the same order as
+	 *           the rays. The fraction is -1 if the ray hit nothing. The position and limit of the buffers are not changed.
+	 * @param fixtures Cleared and filled with the fixture hit by each ray, or null if the ray hit nothing. May be null.
+	 * @return The number of rays that hit a fixture. */
+	public int rayCast (FloatBuffer rays, int count, short maskBits, FloatBuffer hits, Array<Fixture> fixtures) {
+		checkDirect(rays, "rays");
+		checkDirect(hits, "hits");
+		if (rays.capacity() < count * RAY_SIZE)
+			throw new IllegalArgumentException("rays must have " + count + " rays: " + rays.capacity());
+		if (hits.capacity() < count * RAY_HIT_SIZE)
+			throw new IllegalArgumentException("hits must have room for " + count + " rays: " + hits.capacity());
+		if (queryAddrs.length < count) queryAddrs = new long[Math.max(count, queryAddrs.length * 2)];
+		int hitCount = jniRayCastClosest(addr, rays, count, maskBits, hits, queryAddrs);
+		if (fixtures != null) {
+			fixtures.clear();
+			fixtures.ensureCapacity(count);
+			long[] addrs = queryAddrs;
+			for (int i = 0; i < count; i++)
+				fixtures.add(addrs[i] == 0 ? null : this.fixtures.get(addrs[i]));
+		}
+		return hitCount;
+	}
+
+	/** Ray-casts many rays with a single native call, finding all fixtures hit by each ray. The hits of a ray are not sorted by
+	 * distance. The ray-cast ignores shapes that contain the starting point.
+	 * @param rays A direct buffer with {@link #RAY_SIZE} floats per ray starting at index 0.
+	 * @param maskBits Only fixtures with a category bit in the mask are hit, -1 for all fixtures.
+	 * @param hits A direct buffer which receives {@link #RAY_HIT_SIZE} floats per hit starting at index 0. Hits that don't fit are
+	 *           not stored. The position and limit of the buffers are not changed.
+	 * @param rayIndices Cleared and filled with the index of the ray of each stored hit.
+	 * @param fixtures Cleared and filled with the fixture of each stored hit. May be null.
+	 * @return The total number of hits, which is larger than the number stored if the hits buffer is too small. */
+	public int rayCastAll (FloatBuffer rays, int count, short maskBits, FloatBuffer hits, IntArray rayIndices,
+		Array<Fixture> fixtures) {
+		checkDirect(rays, "rays");
+		checkDirect(hits, "hits");
+		if (rays.capacity() < count * RAY_SIZE)
+			throw new IllegalArgumentException("rays must have " + count + " rays: " + rays.capacity());
+		int capacity = hits.capacity() / RAY_HIT_SIZE;
+		ensureQueryCapacity(capacity);
+		int hitCount = jniRayCastAll(addr, rays, count, maskBits, hits, capacity, queryAddrs, queryIndices);
+		copyQueryResults(Math.min(hitCount, capacity), rayIndices, fixtures);
+		return hitCount;
+	}
+
+	/** Queries many AABBs with a single native call, finding all fixtures that potentially overlap each AABB. This is much faster
+	 * than {@link #QueryAABB(QueryCallback, float, float, float, float)} for many AABBs, as no Java method is called per fixture. A
+	 * fixture with multiple children, such as a chain shape, is found once per overlapping child.
+	 * @param aabbs A direct buffer with {@link #AABB_SIZE} floats per AABB starting at index 0: lower x and y, upper x and y. The
+	 *           position and limit of the buffer are not changed.
+	 * @param maskBits Only fixtures with a category bit in the mask are found, -1 for all fixtures.
+	 * @param aabbIndices Cleared and filled with the index of the AABB for each found fixture.
+	 * @param fixtures Cleared and filled with the found fixtures.
+	 * @return The number of found fixtures. */
+	public int queryAABBs (FloatBuffer aabbs, int count, short maskBits, IntArray aabbIndices, Array<Fixture> fixtures) {
+		checkDirect(aabbs, "aabbs");
+		if (aabbs.capacity() < count * AABB_SIZE)
+			throw new IllegalArgumentException("aabbs must have " + count + " AABBs: " + aabbs.capacity());
+		ensureQueryCapacity(queryAddrs.length);
+		int found = jniQueryAABBs(addr, aabbs, count, maskBits, queryAddrs.length, queryAddrs, queryIndices);
+		if (found > queryAddrs.length) {
+			// Query again with room for all results.
+			ensureQueryCapacity(found);
+			found = jniQueryAABBs(addr, aabbs, count, maskBits, queryAddrs.length, queryAddrs, queryIndices);
+		}
+		copyQueryResults(found, aabbIndices, fixtures);
+		return found;
+	}
+
+	private void ensureQueryCapacity (int capacity) {
+		if (queryAddrs.length < capacity) queryAddrs = new long[Math.max(capacity, queryAddrs.length * 2)];
+		if (queryIndices.length < queryAddrs.length) queryIndices = new int[queryAddrs.length];
+	}
+
+	private void copyQueryResults (int count, IntArray indices, Array<Fixture> fixtures) {
+		indices.clear();
+		indices.addAll(queryIndices, 0, count);
+		if (fixtures != null) {
+			fixtures.clear();
+			fixtures.ensureCapacity(count);
+			long[] addrs = queryAddrs;
+			for (int i = 0; i < count; i++)
+				fixtures.add(this.fixtures.get(addrs[i]));
+		}
+	}
+
+	private native int jniRayCastClosest (long addr, FloatBuffer rays, int count, short maskBits, FloatBuffer hits,
+		long[] fixtureAddrs); /*
+		b2World* world = (b2World*)addr;
+		BatchRayCastCallback callback;
+		callback.maskBits = (uint16)maskBits;
+		callback.all = false;
+		int hitCount = 0;
+		for( int i = 0; i < count; i++ )
+		{
+			float* ray = rays + i * 4;
+			float* hit = hits + i * 5;
+			callback.fixture = 0;
+			world->RayCast( &callback, b2Vec2(ray[0], ray[1]), b2Vec2(ray[2], ray[3]) );
+			fixtureAddrs[i] = (long long)callback.fixture;
+			if( callback.fixture )
+			{
+				for( int ii = 0; ii < 5; ii++ )
+					hit[ii] = callback.hit[ii];
+				hitCount++;
+			}
+			else
+			{
+				hit[0] = -1;
+				hit[1] = hit[2] = hit[3] = hit[4] = 0;
+			}
+		}
+		return hitCount;
+	*/
+
+	private native int jniRayCastAll (long addr, FloatBuffer rays, int count, short maskBits, FloatBuffer hits, int capacity,
+		long[] fixtureAddrs, int[] rayIndices); /*
+		b2World* world = (b2World*)addr;
+		BatchRayCastCallback callback;
+		callback.maskBits = (uint16)maskBits;
+		callback.all = true;
+		callback.hits = hits;
+		callback.fixtureAddrs = fixtureAddrs;
+		callback.rayIndices = rayIndices;
+		callback.capacity = capacity;
+		callback.count = 0;
+		for( int i = 0; i < count; i++ )
+		{
+			float* ray = rays + i * 4;
+			callback.rayIndex = i;
+			world->RayCast( &callback, b2Vec2(ray[0], ray[1]), b2Vec2(ray[2], ray[3]) );
+		}
+		return callback.count;
+	*/
+
+	private native int jniQueryAABBs (long addr, FloatBuffer aabbs, int count, short maskBits, int capacity, long[] fixtureAddrs,
+		int[] aabbIndices); /*
+		b2World* world = (b2World*)addr;
+		BatchQueryCallback callback;
+		callback.maskBits = (uint16)maskBits;
+		callback.fixtureAddrs = fixtureAddrs;
+		callback.aabbIndices = aabbIndices;
+		callback.capacity = capacity;
+		callback.count = 0;
+		for( int i = 0; i < count; i++ )
+		{
+			float* bounds = aabbs + i * 4;
+			b2AABB aabb;
+			aabb.lowerBound = b2Vec2( bounds[0], bounds[1] );
+			aabb.upperBound = b2Vec2( bounds[2], bounds[3] );
+			callback.aabbIndex = i;
+			world->QueryAABB( &callback, aabb );
+		}
+		return callback.count;
+	*/
+
 	private native void jniGetContactList (long addr, long[] contacts); /*
 		b2World* world = (b2World*)addr;
 	
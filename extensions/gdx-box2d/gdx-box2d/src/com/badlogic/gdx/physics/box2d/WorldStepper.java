@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.physics.box2d;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** Steps worlds using multiple threads. A world step is split into three phases: collision detection and island building,
+ * solving the islands, and reporting and broad-phase updates. Islands are groups of bodies connected by contacts or joints that
+ * don't touch each other (other than through static bodies), so they are solved in parallel. The other phases run on the
+ * thread that calls {@link #step(World, float, int, int)}.
+ * <p>
+ * Threading rules:
+ * <ul>
+ * <li>A world must only be used by one thread at a time. No other world methods may be called while it is being stepped.</li>
+ * <li>Different worlds can be stepped at the same time, see {@link #step(Array, float, int, int)}. The native state shared by all
+ * worlds is set up when the first world is created, and the native GJK and time of impact statistics are compiled out, so the
+ * worlds don't share any state while they are stepped.</li>
+ * <li>The {@link ContactFilter}, {@link ContactListener} and {@link ContactEventBuffer} are used by the thread that steps the
+ * world. {@link ContactListener#postSolve(Contact, ContactImpulse)} is called after all islands are solved, in island order,
+ * rather than after each island. {@link ContactListener#preSolve(Contact, Manifold)} is called during collision detection as
+ * usual.</li>
+ * </ul>
+ * The results are the same as {@link World#step(float, int, int)}, other than the order of post-solve events. A world with a
+ * single large island, such as a big pile of bodies, is not stepped faster.
+ * <p>
+ * WorldStepper must be disposed via the {@link #dispose()} method when no longer needed. */
+public class WorldStepper implements Disposable {
+	private final AsyncExecutor executor;
+	private final int threads;
+	private final Array<StepTask> tasks = new Array();
+	private final Array<AsyncResult<Void>> results = new Array();
+	/** The native stack allocators not in use. There are never more than one per thread. */
+	private final LongArray allocators = new LongArray();
+
+	/** Creates a stepper with a thread per available processor. */
+	public WorldStepper () {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/** @param threads The number of threads used to step, including the calling thread. */
+	public WorldStepper (int threads) {
+		if (threads < 1) throw new IllegalArgumentException("threads must be > 0: " + threads);
+		this.threads = threads;
+		executor = new AsyncExecutor(Math.max(1, threads - 1));
+	}
+
+	/** Steps the world, solving its islands in parallel. See {@link World#step(float, int, int)}. */
+	public void step (World world, float timeStep, int velocityIterations, int positionIterations) {
+		int islandCount = world.stepBegin(timeStep, velocityIterations, positionIterations);
+		try {
+			int chunks = Math.min(islandCount, threads * 4);
+			if (chunks < 2 || threads == 1)
+				solveIslands(world, 0, islandCount);
+			else {
+				// The caller solves the first chunk while the executor solves the others.
+				for (int i = 1; i < chunks; i++)
+					submit(obtainTask(i - 1).islands(world, islandCount * i / chunks, islandCount * (i + 1) / chunks));
+				try {
+					solveIslands(world, 0, islandCount / chunks);
+				} finally {
+					waitForResults();
+				}
+			}
+		} finally {
+			world.stepEnd();
+		}
+	}
+
+	/** Steps the worlds at the same time, each by a single thread. This is faster than solving the islands of each world in
+	 * parallel when there are at least as many worlds as threads. The worlds must be different. See
+	 * {@link World#step(float, int, int)}. */
+	public void step (Array<World> worlds, float timeStep, int velocityIterations, int positionIterations) {
+		int n = worlds.size;
+		if (n == 0) return;
+		for (int i = 1; i < n; i++)
+			submit(obtainTask(i - 1).world(worlds.get(i), timeStep, velocityIterations, positionIterations));
+		try {
+			worlds.get(0).step(timeStep, velocityIterations, positionIterations);
+		} finally {
+			waitForResults();
+		}
+	}
+
+	/** Returns the number of threads used to step, including the calling thread. */
+	public int getThreads () {
+		return threads;
+	}
+
+	/** Solves the islands with an allocator from the pool, so the allocators are reused across steps rather than allocated for
+	 * every chunk. */
+	void solveIslands (World world, int first, int last) {
+		long allocator;
+		synchronized (allocators) {
+			allocator = allocators.size > 0 ? allocators.pop() : World.newStackAllocator();
+		}
+		try {
+			world.solveIslands(first, last, allocator);
+		} finally {
+			synchronized (allocators) {
+				allocators.add(allocator);
+			}
+		}
+	}
+
+	private StepTask obtainTask (int index) {
+		if (index == tasks.size) tasks.add(new StepTask());
+		return tasks.get(index);
+	}
+
+	private void submit (StepTask task) {
+		results.add(executor.submit(task));
+	}
+
+	/** Waits for all submitted tasks, then rethrows the first exception, if any. */
+	private void waitForResults () {
+		RuntimeException exception = null;
+		for (int i = 0, n = results.size; i < n; i++) {
+			try {
+				results.get(i).get();
+			} catch (RuntimeException ex) {
+				if (exception == null) exception = ex;
+			}
+		}
+		results.clear();
+		if (exception != null) throw exception;
+	}
+
+	@Override
+	public void dispose () {
+		executor.dispose();
+		for (int i = 0, n = allocators.size; i < n; i++)
+			World.freeStackAllocator(allocators.get(i));
+		allocators.clear();
+	}
+
+	private class StepTask implements AsyncTask<Void> {
+		World world;
+		boolean solveIslands;
+		int first, last;
+		float timeStep;
+		int velocityIterations, positionIterations;
+
+		StepTask islands (World world, int first, int last) {
+			this.world = world;
+			this.first = first;
+			this.last = last;
+			solveIslands = true;
+			return this;
+		}
+
+		StepTask world (World world, float timeStep, int velocityIterations, int positionIterations) {
+			this.world = world;
+			this.timeStep = timeStep;
+			this.velocityIterations = velocityIterations;
+			this.positionIterations = positionIterations;
+			solveIslands = false;
+			return this;
+		}
+
+		@Override
+		public Void call () throws Exception {
+			try {
+				if (solveIslands)
+					WorldStepper.this.solveIslands(world, first, last);
+				else
+					world.step(timeStep, velocityIterations, positionIterations);
+			} finally {
+				world = null;
+			}
+			return null;
+		}
+	}
+}
@@ -158,6 +158,7 @@ LOCAL_SRC_FILES := memcpy_wrap.c\
 	src/custom/gdx/collision/ClosestNotMeConvexResultCallback.cpp\
 	src/custom/gdx/collision/ClosestNotMeRayResultCallback.cpp\
 	src/custom/gdx/collision/ContactCache.cpp\
+	src/custom/gdx/collision/ContactEventBuffer.cpp\
 	src/custom/gdx/collision/ContactListener.cpp\
 	src/custom/gdx/collision/GdxCollisionObjectBridge.cpp\
 	src/custom/gdx/common/jniHelpers.cpp\
@@ -0,0 +1,151 @@
+#include "ContactEventBuffer.h"
+
+#define CONTACT_EVENT_SIZE 32
+#define CONTACT_EVENT_STARTED 1
+#define CONTACT_EVENT_ENDED 2
+
+ContactEventBuffer *currentContactEventBuffer = 0;
+
+inline void ContactEventBufferStarted_CB(btPersistentManifold* const &manifold) {
+	currentContactEventBuffer->contactStarted(manifold);
+}
+inline void ContactEventBufferEnded_CB(btPersistentManifold* const &manifold) {
+	currentContactEventBuffer->contactEnded(manifold);
+}
+
+struct ContactEventPending {
+	btPersistentManifold *manifold;
+	int index;
+
+	ContactEventPending() : manifold(0), index(0) {}
+
+	ContactEventPending(btPersistentManifold* const &manifold, const int &index) : manifold(manifold), index(index) {}
+};
+
+ContactEventBuffer::ContactEventBuffer()
+	: filter(true), buffer(0), capacity(0), count(0), dropped(0) {}
+
+ContactEventBuffer::~ContactEventBuffer() {
+	disable();
+}
+
+void ContactEventBuffer::setBuffer(unsigned char *buffer, int capacity) {
+	this->buffer = buffer;
+	this->capacity = capacity;
+	clear();
+}
+
+void ContactEventBuffer::setFilter(bool filter) {
+	this->filter = filter;
+}
+
+bool ContactEventBuffer::getFilter() {
+	return filter;
+}
+
+void ContactEventBuffer::enable() {
+	currentContactEventBuffer = this;
+	gContactStartedCallback = ContactEventBufferStarted_CB;
+	gContactEndedCallback = ContactEventBufferEnded_CB;
+}
+
+void ContactEventBuffer::disable() {
+	// Without the ended events the manifolds of pending started events might be destroyed before update() is called, so these
+	// events keep the impulse and position they were written with.
+	pending.clear();
+	if (currentContactEventBuffer == this) {
+		currentContactEventBuffer = 0;
+		if (gContactStartedCallback == ContactEventBufferStarted_CB)
+			gContactStartedCallback = 0;
+		if (gContactEndedCallback == ContactEventBufferEnded_CB)
+			gContactEndedCallback = 0;
+	}
+}
+
+bool ContactEventBuffer::isEnabled() {
+	return (currentContactEventBuffer == this) && (gContactStartedCallback == ContactEventBufferStarted_CB) && (gContactEndedCallback == ContactEventBufferEnded_CB);
+}
+
+int ContactEventBuffer::update() {
+	for (int i = 0; i < pending.size(); i++)
+		complete(pending[i].index, pending[i].manifold);
+	pending.clear();
+	return count;
+}
+
+int ContactEventBuffer::getCount() {
+	return count;
+}
+
+int ContactEventBuffer::getDropped() {
+	return dropped;
+}
+
+void ContactEventBuffer::clear() {
+	pending.clear();
+	count = 0;
+	dropped = 0;
+}
+
+void ContactEventBuffer::contactStarted(btPersistentManifold* manifold) {
+	const bool match0 = gdxCheckFilter(manifold->getBody0(), manifold->getBody1());
+	const bool match1 = gdxCheckFilter(manifold->getBody1(), manifold->getBody0());
+	if (filter && !match0 && !match1)
+		return;
+	const int index = write(CONTACT_EVENT_STARTED, manifold, match0, match1);
+	if (index >= 0)
+		pending.push_back(ContactEventPending(manifold, index));
+}
+
+void ContactEventBuffer::contactEnded(btPersistentManifold* manifold) {
+	// The manifold might be destroyed after this, so the pending started event has to be completed now.
+	for (int i = pending.size() - 1; i >= 0; --i) {
+		if (pending[i].manifold == manifold) {
+			complete(pending[i].index, manifold);
+			pending.swap(i, pending.size() - 1);
+			pending.pop_back();
+			break;
+		}
+	}
+	const bool match0 = gdxCheckFilter(manifold->getBody0(), manifold->getBody1());
+	const bool match1 = gdxCheckFilter(manifold->getBody1(), manifold->getBody0());
+	if (filter && !match0 && !match1)
+		return;
+	write(CONTACT_EVENT_ENDED, manifold, match0, match1);
+}
+
+int ContactEventBuffer::write(const int &type, btPersistentManifold* manifold, const bool &match0, const bool &match1) {
+	if (count >= capacity) {
+		dropped++;
+		return -1;
+	}
+	const int index = count++;
+	int *ints = (int*)(buffer + index * CONTACT_EVENT_SIZE);
+	ints[0] = type;
+	ints[1] = (match0 ? 1 : 0) | (match1 ? 2 : 0);
+	ints[2] = ((GdxCollisionObjectBridge*)(manifold->getBody0()->getUserPointer()))->userValue;
+	ints[3] = ((GdxCollisionObjectBridge*)(manifold->getBody1()->getUserPointer()))->userValue;
+	float *floats = (float*)(ints + 4);
+	floats[0] = floats[1] = floats[2] = floats[3] = 0.f;
+	complete(index, manifold);
+	return index;
+}
+
+void ContactEventBuffer::complete(const int &index, btPersistentManifold* manifold) {
+	const int n = manifold->getNumContacts();
+	if (n == 0)
+		return;
+	btScalar impulse = 0;
+	btVector3 position(0, 0, 0);
+	for (int i = 0; i < n; i++) {
+		const btManifoldPoint &point = manifold->getContactPoint(i);
+		impulse += point.getAppliedImpulse();
+		position += point.getPositionWorldOnB();
+	}
+	position /= (btScalar)n;
+	float *floats = (float*)(buffer + index * CONTACT_EVENT_SIZE + 16);
+	floats[0] = impulse;
+	floats[1] = position.getX();
+	floats[2] = position.getY();
+	floats[3] = position.getZ();
+}
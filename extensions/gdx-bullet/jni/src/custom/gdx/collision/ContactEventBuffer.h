@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+#ifdef _MSC_VER
+#pragma once
+#endif
+
+#ifndef ContactEventBuffer_H
+#define ContactEventBuffer_H
+
+#include "GdxCollisionObjectBridge.h"
+#include "../../../bullet/BulletCollision/NarrowPhaseCollision/btPersistentManifold.h"
+#include "../../../bullet/LinearMath/btAlignedObjectArray.h"
+
+#ifndef SWIG
+struct ContactEventPending;
+#endif //SWIG
+
+/** Records contact started and ended events into a buffer provided by Java, instead of calling into Java for every event. Each
+ * event is 32 bytes in native byte order: the type (1 started, 2 ended), the filter matches (bit 0 for the first object, bit 1
+ * for the second object), the user values of both objects as ints, the sum of the applied impulses and the average position of
+ * the contact points as floats. The impulse and position of started events are completed by update(), after the
+ * simulation step. Events that don't fit in the buffer are dropped. */
+class ContactEventBuffer {
+protected:
+#ifndef SWIG
+	bool filter;
+	unsigned char *buffer;
+	int capacity;
+	int count;
+	int dropped;
+	btAlignedObjectArray<ContactEventPending> pending;
+#endif //SWIG
+public:
+	ContactEventBuffer();
+	virtual ~ContactEventBuffer();
+
+	void setBuffer(unsigned char *buffer, int capacity);
+
+	void setFilter(bool filter);
+	bool getFilter();
+
+	void enable();
+	void disable();
+	bool isEnabled();
+
+	int update();
+
+	int getCount();
+	int getDropped();
+
+	void clear();
+
+#ifndef SWIG
+	void contactStarted(btPersistentManifold* manifold);
+
+	void contactEnded(btPersistentManifold* manifold);
+
+	int write(const int &type, btPersistentManifold* manifold, const bool &match0, const bool &match1);
+
+	void complete(const int &index, btPersistentManifold* manifold);
+#endif //SWIG
+};
+
+#endif //ContactEventBuffer_H
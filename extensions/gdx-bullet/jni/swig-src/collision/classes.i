@@ -12,6 +12,7 @@ SPECIFY_CLASS(CollisionJNI, com.badlogic.gdx.physics.bullet.collision)
 SPECIFY_CLASS(CollisionObjectWrapper, com.badlogic.gdx.physics.bullet.collision)
 SPECIFY_CLASS(ContactCache, com.badlogic.gdx.physics.bullet.collision)
 SPECIFY_CLASS(ContactCallbackEvent, com.badlogic.gdx.physics.bullet.collision)
+SPECIFY_CLASS(ContactEventBuffer, com.badlogic.gdx.physics.bullet.collision)
 SPECIFY_CLASS(ContactListener, com.badlogic.gdx.physics.bullet.collision)
 SPECIFY_CLASS(ContactResultCallback, com.badlogic.gdx.physics.bullet.collision)
 SPECIFY_CLASS(ConvexResultCallback, com.badlogic.gdx.physics.bullet.collision)
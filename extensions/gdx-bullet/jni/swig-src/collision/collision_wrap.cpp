@@ -2187,6 +2187,67 @@ SWIGINTERN void btCollisionWorld_ClosestConvexResultCallback_getHitPointWorld(bt
 SWIGINTERN void btCollisionWorld_ClosestConvexResultCallback_setHitPointWorld(btCollisionWorld::ClosestConvexResultCallback *self,btVector3 const &value){
 		self->m_hitPointWorld = value;
 	}
+SWIGINTERN int btCollisionWorld_internalRayTestBatch(btCollisionWorld *self,btScalar *rays,int *filters,btScalar *results,int *userValues,int count){
+		int hits = 0;
+		for (int i = 0; i < count; i++) {
+			const btScalar *ray = rays + i * 6;
+			const btVector3 from(ray[0], ray[1], ray[2]);
+			const btVector3 to(ray[3], ray[4], ray[5]);
+			btCollisionWorld::ClosestRayResultCallback callback(from, to);
+			callback.m_collisionFilterGroup = (short int)filters[i * 2];
+			callback.m_collisionFilterMask = (short int)filters[i * 2 + 1];
+			self->rayTest(from, to, callback);
+			btScalar *result = results + i * 7;
+			if (callback.hasHit()) {
+				hits++;
+				result[0] = callback.m_closestHitFraction;
+				result[1] = callback.m_hitNormalWorld.getX();
+				result[2] = callback.m_hitNormalWorld.getY();
+				result[3] = callback.m_hitNormalWorld.getZ();
+				result[4] = callback.m_hitPointWorld.getX();
+				result[5] = callback.m_hitPointWorld.getY();
+				result[6] = callback.m_hitPointWorld.getZ();
+				userValues[i] = ((GdxCollisionObjectBridge*)(callback.m_collisionObject->getUserPointer()))->userValue;
+			} else {
+				result[0] = 1;
+				result[1] = result[2] = result[3] = result[4] = result[5] = result[6] = 0;
+				userValues[i] = -1;
+			}
+		}
+		return hits;
+	}
+SWIGINTERN int btCollisionWorld_internalConvexSweepTestBatch(btCollisionWorld *self,btConvexShape const *castShape,btScalar *sweeps,int *filters,btScalar *results,int *userValues,int count,btScalar allowedCcdPenetration){
+		int hits = 0;
+		btTransform fromTransform, toTransform;
+		fromTransform.setIdentity();
+		toTransform.setIdentity();
+		for (int i = 0; i < count; i++) {
+			const btScalar *sweep = sweeps + i * 6;
+			fromTransform.setOrigin(btVector3(sweep[0], sweep[1], sweep[2]));
+			toTransform.setOrigin(btVector3(sweep[3], sweep[4], sweep[5]));
+			btCollisionWorld::ClosestConvexResultCallback callback(fromTransform.getOrigin(), toTransform.getOrigin());
+			callback.m_collisionFilterGroup = (short int)filters[i * 2];
+			callback.m_collisionFilterMask = (short int)filters[i * 2 + 1];
+			self->convexSweepTest(castShape, fromTransform, toTransform, callback, allowedCcdPenetration);
+			btScalar *result = results + i * 7;
+			if (callback.hasHit()) {
+				hits++;
+				result[0] = callback.m_closestHitFraction;
+				result[1] = callback.m_hitNormalWorld.getX();
+				result[2] = callback.m_hitNormalWorld.getY();
+				result[3] = callback.m_hitNormalWorld.getZ();
+				result[4] = callback.m_hitPointWorld.getX();
+				result[5] = callback.m_hitPointWorld.getY();
+				result[6] = callback.m_hitPointWorld.getZ();
+				userValues[i] = ((GdxCollisionObjectBridge*)(callback.m_hitCollisionObject->getUserPointer()))->userValue;
+			} else {
+				result[0] = 1;
+				result[1] = result[2] = result[3] = result[4] = result[5] = result[6] = 0;
+				userValues[i] = -1;
+			}
+		}
+		return hits;
+	}
 
 #include <gdx/collision/ClosestNotMeConvexResultCallback.h>
 
@@ -2368,6 +2429,9 @@ SWIGINTERN bool ContactListener_setEvents(ContactListener *self){
 
 #include <gdx/collision/ContactCache.h>
 
+
+#include <gdx/collision/ContactEventBuffer.h>
+
  /*SWIG_JavaArrayArgout##Bool(jenv, jarr$argnum, (bool *)$1, $input);*/ 
  /*SWIG_JavaArrayArgout##Schar(jenv, jarr$argnum, (signed char *)$1, $input);*/ 
  /*SWIG_JavaArrayArgout##Uchar(jenv, jarr$argnum, (unsigned char *)$1, $input);*/ 
@@ -36209,6 +36273,109 @@ SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_collision_Collision
 }
 
 
+SWIGEXPORT jint JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_btCollisionWorld_1internalRayTestBatch(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jobject jarg2, jobject jarg3, jobject jarg4, jobject jarg5, jint jarg6) {
+  jint jresult = 0 ;
+  btCollisionWorld *arg1 = (btCollisionWorld *) 0 ;
+  btScalar *arg2 = (btScalar *) 0 ;
+  int *arg3 = (int *) 0 ;
+  btScalar *arg4 = (btScalar *) 0 ;
+  int *arg5 = (int *) 0 ;
+  int arg6 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(btCollisionWorld **)&jarg1; 
+  {
+    arg2 = (btScalar*)jenv->GetDirectBufferAddress(jarg2);
+    if (arg2 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  {
+    arg3 = (int*)jenv->GetDirectBufferAddress(jarg3);
+    if (arg3 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  {
+    arg4 = (btScalar*)jenv->GetDirectBufferAddress(jarg4);
+    if (arg4 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  {
+    arg5 = (int*)jenv->GetDirectBufferAddress(jarg5);
+    if (arg5 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  arg6 = (int)jarg6; 
+  result = (int)btCollisionWorld_internalRayTestBatch(arg1,arg2,arg3,arg4,arg5,arg6);
+  jresult = (jint)result; 
+  
+  
+  
+  
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_btCollisionWorld_1internalConvexSweepTestBatch(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jobject jarg3, jobject jarg4, jobject jarg5, jobject jarg6, jint jarg7, jfloat jarg8) {
+  jint jresult = 0 ;
+  btCollisionWorld *arg1 = (btCollisionWorld *) 0 ;
+  btConvexShape *arg2 = (btConvexShape *) 0 ;
+  btScalar *arg3 = (btScalar *) 0 ;
+  int *arg4 = (int *) 0 ;
+  btScalar *arg5 = (btScalar *) 0 ;
+  int *arg6 = (int *) 0 ;
+  int arg7 ;
+  btScalar arg8 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(btCollisionWorld **)&jarg1; 
+  arg2 = *(btConvexShape **)&jarg2; 
+  {
+    arg3 = (btScalar*)jenv->GetDirectBufferAddress(jarg3);
+    if (arg3 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  {
+    arg4 = (int*)jenv->GetDirectBufferAddress(jarg4);
+    if (arg4 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  {
+    arg5 = (btScalar*)jenv->GetDirectBufferAddress(jarg5);
+    if (arg5 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  {
+    arg6 = (int*)jenv->GetDirectBufferAddress(jarg6);
+    if (arg6 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  arg7 = (int)jarg7; 
+  arg8 = (btScalar)jarg8; 
+  result = (int)btCollisionWorld_internalConvexSweepTestBatch(arg1,(btConvexShape const *)arg2,arg3,arg4,arg5,arg6,arg7,arg8);
+  jresult = (jint)result; 
+  
+  
+  
+  
+  return jresult;
+}
+
+
 SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_LocalShapeInfo_1shapePart_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   btCollisionWorld::LocalShapeInfo *arg1 = (btCollisionWorld::LocalShapeInfo *) 0 ;
   int arg2 ;
@@ -46704,6 +46871,170 @@ SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_collision_Collision
 }
 
 
+SWIGEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_new_1ContactEventBuffer(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  ContactEventBuffer *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (ContactEventBuffer *)new ContactEventBuffer();
+  *(ContactEventBuffer **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_delete_1ContactEventBuffer(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  ContactEventBuffer *arg1 = (ContactEventBuffer *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(ContactEventBuffer **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_ContactEventBuffer_1setBuffer(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jobject jarg2, jint jarg3) {
+  ContactEventBuffer *arg1 = (ContactEventBuffer *) 0 ;
+  unsigned char *arg2 = (unsigned char *) 0 ;
+  int arg3 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(ContactEventBuffer **)&jarg1; 
+  {
+    arg2 = (unsigned char*)jenv->GetDirectBufferAddress(jarg2);
+    if (arg2 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  arg3 = (int)jarg3; 
+  (arg1)->setBuffer(arg2,arg3);
+  
+}
+
+
+SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_ContactEventBuffer_1setFilter(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jboolean jarg2) {
+  ContactEventBuffer *arg1 = (ContactEventBuffer *) 0 ;
+  bool arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(ContactEventBuffer **)&jarg1; 
+  arg2 = jarg2 ? true : false; 
+  (arg1)->setFilter(arg2);
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_ContactEventBuffer_1getFilter(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
+  ContactEventBuffer *arg1 = (ContactEventBuffer *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(ContactEventBuffer **)&jarg1; 
+  result = (bool)(arg1)->getFilter();
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_ContactEventBuffer_1enable(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  ContactEventBuffer *arg1 = (ContactEventBuffer *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(ContactEventBuffer **)&jarg1; 
+  (arg1)->enable();
+}
+
+
+SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_ContactEventBuffer_1disable(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  ContactEventBuffer *arg1 = (ContactEventBuffer *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(ContactEventBuffer **)&jarg1; 
+  (arg1)->disable();
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_ContactEventBuffer_1isEnabled(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
+  ContactEventBuffer *arg1 = (ContactEventBuffer *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(ContactEventBuffer **)&jarg1; 
+  result = (bool)(arg1)->isEnabled();
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_ContactEventBuffer_1update(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  ContactEventBuffer *arg1 = (ContactEventBuffer *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(ContactEventBuffer **)&jarg1; 
+  result = (int)(arg1)->update();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_ContactEventBuffer_1getCount(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  ContactEventBuffer *arg1 = (ContactEventBuffer *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(ContactEventBuffer **)&jarg1; 
+  result = (int)(arg1)->getCount();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_ContactEventBuffer_1getDropped(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  ContactEventBuffer *arg1 = (ContactEventBuffer *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(ContactEventBuffer **)&jarg1; 
+  result = (int)(arg1)->getDropped();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_ContactEventBuffer_1clear(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  ContactEventBuffer *arg1 = (ContactEventBuffer *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(ContactEventBuffer **)&jarg1; 
+  (arg1)->clear();
+}
+
+
 SWIGEXPORT jint JNICALL Java_com_badlogic_gdx_physics_bullet_collision_CollisionJNI_btBroadphasePairArray_1size(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   btAlignedObjectArray< btBroadphasePair > *arg1 = (btAlignedObjectArray< btBroadphasePair > *) 0 ;
@@ -1890,6 +1890,8 @@ public class CollisionJNI {
   public final static native boolean btCollisionWorld_getForceUpdateAllAabbs(long jarg1, btCollisionWorld jarg1_);
   public final static native void btCollisionWorld_setForceUpdateAllAabbs(long jarg1, btCollisionWorld jarg1_, boolean jarg2);
   public final static native void btCollisionWorld_serialize(long jarg1, btCollisionWorld jarg1_, long jarg2);
+  public final static native int btCollisionWorld_internalRayTestBatch(long jarg1, btCollisionWorld jarg1_, java.nio.FloatBuffer jarg2, java.nio.IntBuffer jarg3, java.nio.FloatBuffer jarg4, java.nio.IntBuffer jarg5, int jarg6);
+  public final static native int btCollisionWorld_internalConvexSweepTestBatch(long jarg1, btCollisionWorld jarg1_, long jarg2, btConvexShape jarg2_, java.nio.FloatBuffer jarg3, java.nio.IntBuffer jarg4, java.nio.FloatBuffer jarg5, java.nio.IntBuffer jarg6, int jarg7, float jarg8);
   public final static native void LocalShapeInfo_shapePart_set(long jarg1, LocalShapeInfo jarg1_, int jarg2);
   public final static native int LocalShapeInfo_shapePart_get(long jarg1, LocalShapeInfo jarg1_);
   public final static native void LocalShapeInfo_triangleIndex_set(long jarg1, LocalShapeInfo jarg1_, int jarg2);
@@ -2531,6 +2533,18 @@ public class CollisionJNI {
   public final static native void ContactCache_update(long jarg1, ContactCache jarg1_, float jarg2);
   public final static native void ContactCache_director_connect(ContactCache obj, long cptr, boolean mem_own, boolean weak_global);
   public final static native void ContactCache_change_ownership(ContactCache obj, long cptr, boolean take_or_release);
+  public final static native long new_ContactEventBuffer();
+  public final static native void delete_ContactEventBuffer(long jarg1);
+  public final static native void ContactEventBuffer_setBuffer(long jarg1, ContactEventBuffer jarg1_, java.nio.ByteBuffer jarg2, int jarg3);
+  public final static native void ContactEventBuffer_setFilter(long jarg1, ContactEventBuffer jarg1_, boolean jarg2);
+  public final static native boolean ContactEventBuffer_getFilter(long jarg1, ContactEventBuffer jarg1_);
+  public final static native void ContactEventBuffer_enable(long jarg1, ContactEventBuffer jarg1_);
+  public final static native void ContactEventBuffer_disable(long jarg1, ContactEventBuffer jarg1_);
+  public final static native boolean ContactEventBuffer_isEnabled(long jarg1, ContactEventBuffer jarg1_);
+  public final static native int ContactEventBuffer_update(long jarg1, ContactEventBuffer jarg1_);
+  public final static native int ContactEventBuffer_getCount(long jarg1, ContactEventBuffer jarg1_);
+  public final static native int ContactEventBuffer_getDropped(long jarg1, ContactEventBuffer jarg1_);
+  public final static native void ContactEventBuffer_clear(long jarg1, ContactEventBuffer jarg1_);
   public final static native int btBroadphasePairArray_size(long jarg1, btBroadphasePairArray jarg1_);
   public final static native long btBroadphasePairArray_at(long jarg1, btBroadphasePairArray jarg1_, int jarg2);
   public final static native int btBroadphasePairArray_getCollisionObjects(long jarg1, btBroadphasePairArray jarg1_, int[] jarg2, int jarg3, int jarg4);
@@ -0,0 +1,178 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.10
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package com.badlogic.gdx.physics.bullet.collision;
+
+import com.badlogic.gdx.physics.bullet.BulletBase;
+import com.badlogic.gdx.physics.bullet.linearmath.*;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Matrix3;
+import com.badlogic.gdx.math.Matrix4;
+
+public class ContactEventBuffer extends BulletBase {
+	private long swigCPtr;
+	
+	protected ContactEventBuffer(final String className, long cPtr, boolean cMemoryOwn) {
+		super(className, cPtr, cMemoryOwn);
+		swigCPtr = cPtr;
+	}
+	
+	/** Construct a new ContactEventBuffer, normally you should not need this constructor it's intended for low-level usage. */ 
+	public ContactEventBuffer(long cPtr, boolean cMemoryOwn) {
+		this("ContactEventBuffer", cPtr, cMemoryOwn);
+		construct();
+	}
+	
+	@Override
+	protected void reset(long cPtr, boolean cMemoryOwn) {
+		if (!destroyed)
+			destroy();
+		super.reset(swigCPtr = cPtr, cMemoryOwn);
+	}
+	
+	public static long getCPtr(ContactEventBuffer obj) {
+		return (obj == null) ? 0 : obj.swigCPtr;
+	}
+
+	@Override
+	protected void finalize() throws Throwable {
+		if (!destroyed)
+			destroy();
+		super.finalize();
+	}
+
+  @Override protected synchronized void delete() {
+		if (swigCPtr != 0) {
+			if (swigCMemOwn) {
+				swigCMemOwn = false;
+				CollisionJNI.delete_ContactEventBuffer(swigCPtr);
+			}
+			swigCPtr = 0;
+		}
+		super.delete();
+	}
+
+	/** The size in bytes of an event in the buffer. */
+	public final static int EVENT_SIZE = 32;
+	/** Event type of a pair of objects that started touching. */
+	public final static int STARTED = 1;
+	/** Event type of a pair of objects that stopped touching. */
+	public final static int ENDED = 2;
+
+	protected java.nio.ByteBuffer buffer;
+
+	/** Creates and enables a buffer for the specified number of events. Call {@link #update()} after each simulation step to
+	 * complete the events and {@link #clear()} after the events have been read.
+	 * @param capacity The maximum number of events recorded until {@link #clear()} is called, more events are dropped. */
+	public ContactEventBuffer(int capacity) {
+		this();
+		setCapacity(capacity);
+		enable();
+	}
+
+	/** Allocates a new buffer for the specified number of events, the recorded events are discarded. */
+	public void setCapacity(int capacity) {
+		buffer = com.badlogic.gdx.utils.BufferUtils.newByteBuffer(capacity * EVENT_SIZE);
+		setBuffer(buffer, capacity);
+	}
+
+	public int getCapacity() {
+		return buffer.capacity() / EVENT_SIZE;
+	}
+
+	/** @return The direct buffer the events are written to, in native byte order. */
+	public java.nio.ByteBuffer getBuffer() {
+		return buffer;
+	}
+
+	/** @return {@link #STARTED} or {@link #ENDED}. */
+	public int getType(int event) {
+		return buffer.getInt(event * EVENT_SIZE);
+	}
+
+	/** @return Whether the contact callback filter of the first object matches the flag of the second object. */
+	public boolean getMatch0(int event) {
+		return (buffer.getInt(event * EVENT_SIZE + 4) & 1) != 0;
+	}
+
+	/** @return Whether the contact callback filter of the second object matches the flag of the first object. */
+	public boolean getMatch1(int event) {
+		return (buffer.getInt(event * EVENT_SIZE + 4) & 2) != 0;
+	}
+
+	/** @return The {@link btCollisionObject#getUserValue() user value} of the first object. */
+	public int getUserValue0(int event) {
+		return buffer.getInt(event * EVENT_SIZE + 8);
+	}
+
+	/** @return The {@link btCollisionObject#getUserValue() user value} of the second object. */
+	public int getUserValue1(int event) {
+		return buffer.getInt(event * EVENT_SIZE + 12);
+	}
+
+	/** @return The sum of the impulses applied at the contact points. An ended event carries the last impulse if the manifold still
+	 * had contact points when it ended, for example when one of the objects was removed, and zero otherwise. */
+	public float getImpulse(int event) {
+		return buffer.getFloat(event * EVENT_SIZE + 16);
+	}
+
+	/** Sets out to the average world position of the contact points, zero if the contact points are not available. */
+	public Vector3 getPosition(int event, Vector3 out) {
+		final int offset = event * EVENT_SIZE + 20;
+		return out.set(buffer.getFloat(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8));
+	}
+
+  private ContactEventBuffer() {
+    this(CollisionJNI.new_ContactEventBuffer(), true);
+  }
+
+  private void setBuffer(java.nio.ByteBuffer buffer, int capacity) {
+    assert buffer.isDirect() : "Buffer must be allocated direct.";
+    {
+      CollisionJNI.ContactEventBuffer_setBuffer(swigCPtr, this, buffer, capacity);
+    }
+  }
+
+  public void setFilter(boolean filter) {
+    CollisionJNI.ContactEventBuffer_setFilter(swigCPtr, this, filter);
+  }
+
+  public boolean getFilter() {
+    return CollisionJNI.ContactEventBuffer_getFilter(swigCPtr, this);
+  }
+
+  public void enable() {
+    CollisionJNI.ContactEventBuffer_enable(swigCPtr, this);
+  }
+
+  public void disable() {
+    CollisionJNI.ContactEventBuffer_disable(swigCPtr, this);
+  }
+
+  public boolean isEnabled() {
+    return CollisionJNI.ContactEventBuffer_isEnabled(swigCPtr, this);
+  }
+
+  public int update() {
+    return CollisionJNI.ContactEventBuffer_update(swigCPtr, this);
+  }
+
+  public int getCount() {
+    return CollisionJNI.ContactEventBuffer_getCount(swigCPtr, this);
+  }
+
+  public int getDropped() {
+    return CollisionJNI.ContactEventBuffer_getDropped(swigCPtr, this);
+  }
+
+  public void clear() {
+    CollisionJNI.ContactEventBuffer_clear(swigCPtr, this);
+  }
+
+}
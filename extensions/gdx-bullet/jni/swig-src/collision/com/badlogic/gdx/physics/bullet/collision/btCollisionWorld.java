@@ -58,6 +58,40 @@ public class btCollisionWorld extends BulletBase {
 		super.delete();
 	}
 
+	/** Casts count rays, 6 floats per ray (from and to) in rays and 2 ints per ray (collision filter group and mask) in filters.
+	 * Writes 7 floats per ray (hit fraction, hit normal and hit point) to results and the user value of the closest object to
+	 * userValues. Rays that don't hit have a fraction of 1 and a user value of -1. The buffers must be direct.
+	 * @return The number of hits.
+	 * @throws IllegalArgumentException if a buffer is too small for count rays. */
+	public int rayTestBatch(java.nio.FloatBuffer rays, java.nio.IntBuffer filters, java.nio.FloatBuffer results,
+		java.nio.IntBuffer userValues, int count) {
+		checkBatch(rays, filters, results, userValues, count);
+		return internalRayTestBatch(rays, filters, results, userValues, count);
+	}
+
+	/** Sweeps the shape without rotation, like {@link #rayTestBatch(java.nio.FloatBuffer, java.nio.IntBuffer, java.nio.FloatBuffer,
+	 * java.nio.IntBuffer, int)} with 6 floats per sweep (from and to) in sweeps.
+	 * @return The number of hits.
+	 * @throws IllegalArgumentException if a buffer is too small for count sweeps. */
+	public int convexSweepTestBatch(btConvexShape castShape, java.nio.FloatBuffer sweeps, java.nio.IntBuffer filters,
+		java.nio.FloatBuffer results, java.nio.IntBuffer userValues, int count, float allowedCcdPenetration) {
+		checkBatch(sweeps, filters, results, userValues, count);
+		return internalConvexSweepTestBatch(castShape, sweeps, filters, results, userValues, count, allowedCcdPenetration);
+	}
+
+	private static void checkBatch(java.nio.FloatBuffer queries, java.nio.IntBuffer filters, java.nio.FloatBuffer results,
+		java.nio.IntBuffer userValues, int count) {
+		if (count < 0) throw new IllegalArgumentException("count must be >= 0: " + count);
+		if (queries.capacity() / 6 < count)
+			throw new IllegalArgumentException("Buffer too small for " + count + " rays or sweeps: " + queries.capacity());
+		if (filters.capacity() / 2 < count)
+			throw new IllegalArgumentException("filters too small for " + count + " queries: " + filters.capacity());
+		if (results.capacity() / 7 < count)
+			throw new IllegalArgumentException("results too small for " + count + " queries: " + results.capacity());
+		if (userValues.capacity() < count)
+			throw new IllegalArgumentException("userValues too small for " + count + " queries: " + userValues.capacity());
+	}
+
   public btCollisionWorld(btDispatcher dispatcher, btBroadphaseInterface broadphasePairCache, btCollisionConfiguration collisionConfiguration) {
     this(CollisionJNI.new_btCollisionWorld(btDispatcher.getCPtr(dispatcher), dispatcher, btBroadphaseInterface.getCPtr(broadphasePairCache), broadphasePairCache, btCollisionConfiguration.getCPtr(collisionConfiguration), collisionConfiguration), true);
   }
@@ -190,4 +224,24 @@ public class btCollisionWorld extends BulletBase {
     CollisionJNI.btCollisionWorld_serialize(swigCPtr, this, SWIGTYPE_p_btSerializer.getCPtr(serializer));
   }
 
+  private int internalRayTestBatch(java.nio.FloatBuffer rays, java.nio.IntBuffer filters, java.nio.FloatBuffer results, java.nio.IntBuffer userValues, int count) {
+    assert rays.isDirect() : "Buffer must be allocated direct.";
+    assert filters.isDirect() : "Buffer must be allocated direct.";
+    assert results.isDirect() : "Buffer must be allocated direct.";
+    assert userValues.isDirect() : "Buffer must be allocated direct.";
+    {
+      return CollisionJNI.btCollisionWorld_internalRayTestBatch(swigCPtr, this, rays, filters, results, userValues, count);
+    }
+  }
+
+  private int internalConvexSweepTestBatch(btConvexShape castShape, java.nio.FloatBuffer sweeps, java.nio.IntBuffer filters, java.nio.FloatBuffer results, java.nio.IntBuffer userValues, int count, float allowedCcdPenetration) {
+    assert sweeps.isDirect() : "Buffer must be allocated direct.";
+    assert filters.isDirect() : "Buffer must be allocated direct.";
+    assert results.isDirect() : "Buffer must be allocated direct.";
+    assert userValues.isDirect() : "Buffer must be allocated direct.";
+    {
+      return CollisionJNI.btCollisionWorld_internalConvexSweepTestBatch(swigCPtr, this, btConvexShape.getCPtr(castShape), castShape, sweeps, filters, results, userValues, count, allowedCcdPenetration);
+    }
+  }
+
 }
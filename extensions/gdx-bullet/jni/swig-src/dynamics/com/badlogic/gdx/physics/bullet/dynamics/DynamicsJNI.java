@@ -508,6 +508,7 @@ public class DynamicsJNI {
   public final static native boolean btDiscreteDynamicsWorld_getApplySpeculativeContactRestitution(long jarg1, btDiscreteDynamicsWorld jarg1_);
   public final static native void btDiscreteDynamicsWorld_setLatencyMotionStateInterpolation(long jarg1, btDiscreteDynamicsWorld jarg1_, boolean jarg2);
   public final static native boolean btDiscreteDynamicsWorld_getLatencyMotionStateInterpolation(long jarg1, btDiscreteDynamicsWorld jarg1_);
+  public final static native int btDiscreteDynamicsWorld_internalGetActiveTransforms(long jarg1, btDiscreteDynamicsWorld jarg1_, java.nio.FloatBuffer jarg2, java.nio.IntBuffer jarg3, int jarg4);
   public final static native void delete_btCharacterControllerInterface(long jarg1);
   public final static native void btCharacterControllerInterface_setWalkDirection(long jarg1, btCharacterControllerInterface jarg1_, Vector3 jarg2);
   public final static native void btCharacterControllerInterface_setVelocityForTimeInterval(long jarg1, btCharacterControllerInterface jarg1_, Vector3 jarg2, float jarg3);
@@ -59,6 +59,20 @@ public class btDiscreteDynamicsWorld extends btDynamicsWorld {
 		super.delete();
 	}
 
+	/** Writes the world transform of every active dynamic rigid body as an OpenGL matrix (16 floats, column major) to transforms
+	 * and its {@link btCollisionObject#getUserIndex() user index} to userIndices, for at most capacity bodies. The buffers must be
+	 * direct.
+	 * @return The number of active bodies, which can be more than capacity. Call again with larger buffers if it is.
+	 * @throws IllegalArgumentException if transforms can't hold 16 * capacity floats or userIndices can't hold capacity ints. */
+	public int getActiveTransforms(java.nio.FloatBuffer transforms, java.nio.IntBuffer userIndices, int capacity) {
+		if (capacity < 0) throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+		if (transforms.capacity() / 16 < capacity)
+			throw new IllegalArgumentException("transforms too small for " + capacity + " bodies: " + transforms.capacity());
+		if (userIndices.capacity() < capacity)
+			throw new IllegalArgumentException("userIndices too small for " + capacity + " bodies: " + userIndices.capacity());
+		return internalGetActiveTransforms(transforms, userIndices, capacity);
+	}
+
   public btDiscreteDynamicsWorld(btDispatcher dispatcher, btBroadphaseInterface pairCache, btConstraintSolver constraintSolver, btCollisionConfiguration collisionConfiguration) {
     this(DynamicsJNI.new_btDiscreteDynamicsWorld(btDispatcher.getCPtr(dispatcher), dispatcher, btBroadphaseInterface.getCPtr(pairCache), pairCache, btConstraintSolver.getCPtr(constraintSolver), constraintSolver, btCollisionConfiguration.getCPtr(collisionConfiguration), collisionConfiguration), true);
   }
@@ -162,4 +176,12 @@ public class btDiscreteDynamicsWorld extends btDynamicsWorld {
     return DynamicsJNI.btDiscreteDynamicsWorld_getLatencyMotionStateInterpolation(swigCPtr, this);
   }
 
+  private int internalGetActiveTransforms(java.nio.FloatBuffer transforms, java.nio.IntBuffer userIndices, int capacity) {
+    assert transforms.isDirect() : "Buffer must be allocated direct.";
+    assert userIndices.isDirect() : "Buffer must be allocated direct.";
+    {
+      return DynamicsJNI.btDiscreteDynamicsWorld_internalGetActiveTransforms(swigCPtr, this, transforms, userIndices, capacity);
+    }
+  }
+
 }
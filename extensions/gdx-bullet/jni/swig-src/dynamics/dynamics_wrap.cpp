@@ -1911,6 +1911,22 @@ SWIGINTERN btRigidBody *new_btRigidBody__SWIG_1(bool dummy,btScalar mass,btMotio
 
 #include <BulletDynamics/Dynamics/btDiscreteDynamicsWorld.h>
 
+SWIGINTERN int btDiscreteDynamicsWorld_internalGetActiveTransforms(btDiscreteDynamicsWorld *self,btScalar *transforms,int *userIndices,int capacity){
+		const btCollisionObjectArray &objects = self->getCollisionObjectArray();
+		const int n = objects.size();
+		int count = 0;
+		for (int i = 0; i < n; i++) {
+			const btCollisionObject *object = objects[i];
+			if (!(object->getInternalType() & btCollisionObject::CO_RIGID_BODY) || object->isStaticOrKinematicObject() || !object->isActive())
+				continue;
+			if (count < capacity) {
+				object->getWorldTransform().getOpenGLMatrix(transforms + count * 16);
+				userIndices[count] = object->getUserIndex();
+			}
+			count++;
+		}
+		return count;
+	}
 
 #include <BulletDynamics/Character/btCharacterControllerInterface.h>
 
@@ -9344,6 +9360,39 @@ SWIGEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_bullet_dynamics_Dynami
 }
 
 
+SWIGEXPORT jint JNICALL Java_com_badlogic_gdx_physics_bullet_dynamics_DynamicsJNI_btDiscreteDynamicsWorld_1internalGetActiveTransforms(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jobject jarg2, jobject jarg3, jint jarg4) {
+  jint jresult = 0 ;
+  btDiscreteDynamicsWorld *arg1 = (btDiscreteDynamicsWorld *) 0 ;
+  btScalar *arg2 = (btScalar *) 0 ;
+  int *arg3 = (int *) 0 ;
+  int arg4 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(btDiscreteDynamicsWorld **)&jarg1; 
+  {
+    arg2 = (btScalar*)jenv->GetDirectBufferAddress(jarg2);
+    if (arg2 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  {
+    arg3 = (int*)jenv->GetDirectBufferAddress(jarg3);
+    if (arg3 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  arg4 = (int)jarg4; 
+  result = (int)btDiscreteDynamicsWorld_internalGetActiveTransforms(arg1,arg2,arg3,arg4);
+  jresult = (jint)result; 
+  
+  
+  return jresult;
+}
+
+
 SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_dynamics_DynamicsJNI_delete_1btCharacterControllerInterface(JNIEnv *jenv, jclass jcls, jlong jarg1) {
   btCharacterControllerInterface *arg1 = (btCharacterControllerInterface *) 0 ;
   
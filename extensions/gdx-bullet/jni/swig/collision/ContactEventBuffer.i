@@ -0,0 +1,82 @@
+%module ContactEventBuffer
+
+%{
+#include <gdx/collision/ContactEventBuffer.h>
+%}
+
+%javamethodmodifiers ContactEventBuffer::ContactEventBuffer "private";
+%javamethodmodifiers ContactEventBuffer::setBuffer "private";
+
+%typemap(javacode) ContactEventBuffer %{
+	/** The size in bytes of an event in the buffer. */
+	public final static int EVENT_SIZE = 32;
+	/** Event type of a pair of objects that started touching. */
+	public final static int STARTED = 1;
+	/** Event type of a pair of objects that stopped touching. */
+	public final static int ENDED = 2;
+
+	protected java.nio.ByteBuffer buffer;
+
+	/** Creates and enables a buffer for the specified number of events. Call {@link #update()} after each simulation step to
+	 * complete the events and {@link #clear()} after the events have been read.
+	 * @param capacity The maximum number of events recorded until {@link #clear()} is called, more events are dropped. */
+	public ContactEventBuffer(int capacity) {
+		this();
+		setCapacity(capacity);
+		enable();
+	}
+
+	/** Allocates a new buffer for the specified number of events, the recorded events are discarded. */
+	public void setCapacity(int capacity) {
+		buffer = com.badlogic.gdx.utils.BufferUtils.newByteBuffer(capacity * EVENT_SIZE);
+		setBuffer(buffer, capacity);
+	}
+
+	public int getCapacity() {
+		return buffer.capacity() / EVENT_SIZE;
+	}
+
+	/** @return The direct buffer the events are written to, in native byte order. */
+	public java.nio.ByteBuffer getBuffer() {
+		return buffer;
+	}
+
+	/** @return {@link #STARTED} or {@link #ENDED}. */
+	public int getType(int event) {
+		return buffer.getInt(event * EVENT_SIZE);
+	}
+
+	/** @return Whether the contact callback filter of the first object matches the flag of the second object. */
+	public boolean getMatch0(int event) {
+		return (buffer.getInt(event * EVENT_SIZE + 4) & 1) != 0;
+	}
+
+	/** @return Whether the contact callback filter of the second object matches the flag of the first object. */
+	public boolean getMatch1(int event) {
+		return (buffer.getInt(event * EVENT_SIZE + 4) & 2) != 0;
+	}
+
+	/** @return The {@link btCollisionObject#getUserValue() user value} of the first object. */
+	public int getUserValue0(int event) {
+		return buffer.getInt(event * EVENT_SIZE + 8);
+	}
+
+	/** @return The {@link btCollisionObject#getUserValue() user value} of the second object. */
+	public int getUserValue1(int event) {
+		return buffer.getInt(event * EVENT_SIZE + 12);
+	}
+
+	/** @return The sum of the impulses applied at the contact points. An ended event carries the last impulse if the manifold still
+	 * had contact points when it ended, for example when one of the objects was removed, and zero otherwise. */
+	public float getImpulse(int event) {
+		return buffer.getFloat(event * EVENT_SIZE + 16);
+	}
+
+	/** Sets out to the average world position of the contact points, zero if the contact points are not available. */
+	public Vector3 getPosition(int event, Vector3 out) {
+		final int offset = event * EVENT_SIZE + 20;
+		return out.set(buffer.getFloat(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8));
+	}
+%}
+
+%include "gdx/collision/ContactEventBuffer.h"
@@ -127,6 +127,112 @@
 	}
 };
 
+%javamethodmodifiers btCollisionWorld::internalRayTestBatch "private";
+%javamethodmodifiers btCollisionWorld::internalConvexSweepTestBatch "private";
+
+%typemap(javacode) btCollisionWorld %{
+	/** Casts count rays, 6 floats per ray (from and to) in rays and 2 ints per ray (collision filter group and mask) in filters.
+	 * Writes 7 floats per ray (hit fraction, hit normal and hit point) to results and the user value of the closest object to
+	 * userValues. Rays that don't hit have a fraction of 1 and a user value of -1. The buffers must be direct.
+	 * @return The number of hits.
+	 * @throws IllegalArgumentException if a buffer is too small for count rays. */
+	public int rayTestBatch(java.nio.FloatBuffer rays, java.nio.IntBuffer filters, java.nio.FloatBuffer results,
+		java.nio.IntBuffer userValues, int count) {
+		checkBatch(rays, filters, results, userValues, count);
+		return internalRayTestBatch(rays, filters, results, userValues, count);
+	}
+
+	/** Sweeps the shape without rotation, like {@link #rayTestBatch(java.nio.FloatBuffer, java.nio.IntBuffer, java.nio.FloatBuffer,
+	 * java.nio.IntBuffer, int)} with 6 floats per sweep (from and to) in sweeps.
+	 * @return The number of hits.
+	 * @throws IllegalArgumentException if a buffer is too small for count sweeps. */
+	public int convexSweepTestBatch(btConvexShape castShape, java.nio.FloatBuffer sweeps, java.nio.IntBuffer filters,
+		java.nio.FloatBuffer results, java.nio.IntBuffer userValues, int count, float allowedCcdPenetration) {
+		checkBatch(sweeps, filters, results, userValues, count);
+		return internalConvexSweepTestBatch(castShape, sweeps, filters, results, userValues, count, allowedCcdPenetration);
+	}
+
+	private static void checkBatch(java.nio.FloatBuffer queries, java.nio.IntBuffer filters, java.nio.FloatBuffer results,
+		java.nio.IntBuffer userValues, int count) {
+		if (count < 0) throw new IllegalArgumentException("count must be >= 0: " + count);
+		if (queries.capacity() / 6 < count)
+			throw new IllegalArgumentException("Buffer too small for " + count + " rays or sweeps: " + queries.capacity());
+		if (filters.capacity() / 2 < count)
+			throw new IllegalArgumentException("filters too small for " + count + " queries: " + filters.capacity());
+		if (results.capacity() / 7 < count)
+			throw new IllegalArgumentException("results too small for " + count + " queries: " + results.capacity());
+		if (userValues.capacity() < count)
+			throw new IllegalArgumentException("userValues too small for " + count + " queries: " + userValues.capacity());
+	}
+%}
+
+%extend btCollisionWorld {
+	/* Called by rayTestBatch, which checks the buffer capacities. */
+	int internalRayTestBatch(btScalar *rays, int *filters, btScalar *results, int *userValues, int count) {
+		int hits = 0;
+		for (int i = 0; i < count; i++) {
+			const btScalar *ray = rays + i * 6;
+			const btVector3 from(ray[0], ray[1], ray[2]);
+			const btVector3 to(ray[3], ray[4], ray[5]);
+			btCollisionWorld::ClosestRayResultCallback callback(from, to);
+			callback.m_collisionFilterGroup = (short int)filters[i * 2];
+			callback.m_collisionFilterMask = (short int)filters[i * 2 + 1];
+			$self->rayTest(from, to, callback);
+			btScalar *result = results + i * 7;
+			if (callback.hasHit()) {
+				hits++;
+				result[0] = callback.m_closestHitFraction;
+				result[1] = callback.m_hitNormalWorld.getX();
+				result[2] = callback.m_hitNormalWorld.getY();
+				result[3] = callback.m_hitNormalWorld.getZ();
+				result[4] = callback.m_hitPointWorld.getX();
+				result[5] = callback.m_hitPointWorld.getY();
+				result[6] = callback.m_hitPointWorld.getZ();
+				userValues[i] = ((GdxCollisionObjectBridge*)(callback.m_collisionObject->getUserPointer()))->userValue;
+			} else {
+				result[0] = 1;
+				result[1] = result[2] = result[3] = result[4] = result[5] = result[6] = 0;
+				userValues[i] = -1;
+			}
+		}
+		return hits;
+	}
+
+	/* Called by convexSweepTestBatch, which checks the buffer capacities. */
+	int internalConvexSweepTestBatch(const btConvexShape *castShape, btScalar *sweeps, int *filters, btScalar *results, int *userValues, int count, btScalar allowedCcdPenetration) {
+		int hits = 0;
+		btTransform fromTransform, toTransform;
+		fromTransform.setIdentity();
+		toTransform.setIdentity();
+		for (int i = 0; i < count; i++) {
+			const btScalar *sweep = sweeps + i * 6;
+			fromTransform.setOrigin(btVector3(sweep[0], sweep[1], sweep[2]));
+			toTransform.setOrigin(btVector3(sweep[3], sweep[4], sweep[5]));
+			btCollisionWorld::ClosestConvexResultCallback callback(fromTransform.getOrigin(), toTransform.getOrigin());
+			callback.m_collisionFilterGroup = (short int)filters[i * 2];
+			callback.m_collisionFilterMask = (short int)filters[i * 2 + 1];
+			$self->convexSweepTest(castShape, fromTransform, toTransform, callback, allowedCcdPenetration);
+			btScalar *result = results + i * 7;
+			if (callback.hasHit()) {
+				hits++;
+				result[0] = callback.m_closestHitFraction;
+				result[1] = callback.m_hitNormalWorld.getX();
+				result[2] = callback.m_hitNormalWorld.getY();
+				result[3] = callback.m_hitNormalWorld.getZ();
+				result[4] = callback.m_hitPointWorld.getX();
+				result[5] = callback.m_hitPointWorld.getY();
+				result[6] = callback.m_hitPointWorld.getZ();
+				userValues[i] = ((GdxCollisionObjectBridge*)(callback.m_hitCollisionObject->getUserPointer()))->userValue;
+			} else {
+				result[0] = 1;
+				result[1] = result[2] = result[3] = result[4] = result[5] = result[6] = 0;
+				userValues[i] = -1;
+			}
+		}
+		return hits;
+	}
+};
+
 %{
 #include <BulletCollision/CollisionDispatch/btCollisionWorld.h>
 %}
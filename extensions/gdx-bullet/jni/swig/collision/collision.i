@@ -524,6 +524,8 @@ void btMultiSapBroadphase::quicksort(btBroadphasePairArray& a, int lo, int hi)
 
 %include "./ContactCache.i"
 
+%include "./ContactEventBuffer.i"
+
 %include "./btBroadphasePairArray.i"
 
 %include "./gimpact.i"
\ No newline at end of file
@@ -0,0 +1,45 @@
+%module btDiscreteDynamicsWorld
+
+%{
+#include <BulletDynamics/Dynamics/btDiscreteDynamicsWorld.h>
+%}
+
+%javamethodmodifiers btDiscreteDynamicsWorld::internalGetActiveTransforms "private";
+
+%typemap(javacode) btDiscreteDynamicsWorld %{
+	/** Writes the world transform of every active dynamic rigid body as an OpenGL matrix (16 floats, column major) to transforms
+	 * and its {@link btCollisionObject#getUserIndex() user index} to userIndices, for at most capacity bodies. The buffers must be
+	 * direct.
+	 * @return The number of active bodies, which can be more than capacity. Call again with larger buffers if it is.
+	 * @throws IllegalArgumentException if transforms can't hold 16 * capacity floats or userIndices can't hold capacity ints. */
+	public int getActiveTransforms(java.nio.FloatBuffer transforms, java.nio.IntBuffer userIndices, int capacity) {
+		if (capacity < 0) throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+		if (transforms.capacity() / 16 < capacity)
+			throw new IllegalArgumentException("transforms too small for " + capacity + " bodies: " + transforms.capacity());
+		if (userIndices.capacity() < capacity)
+			throw new IllegalArgumentException("userIndices too small for " + capacity + " bodies: " + userIndices.capacity());
+		return internalGetActiveTransforms(transforms, userIndices, capacity);
+	}
+%}
+
+%include "BulletDynamics/Dynamics/btDiscreteDynamicsWorld.h"
+
+%extend btDiscreteDynamicsWorld {
+	/* Called by getActiveTransforms, which checks the buffer capacities. */
+	int internalGetActiveTransforms(btScalar *transforms, int *userIndices, int capacity) {
+		const btCollisionObjectArray &objects = $self->getCollisionObjectArray();
+		const int n = objects.size();
+		int count = 0;
+		for (int i = 0; i < n; i++) {
+			const btCollisionObject *object = objects[i];
+			if (!(object->getInternalType() & btCollisionObject::CO_RIGID_BODY) || object->isStaticOrKinematicObject() || !object->isActive())
+				continue;
+			if (count < capacity) {
+				object->getWorldTransform().getOpenGLMatrix(transforms + count * 16);
+				userIndices[count] = object->getUserIndex();
+			}
+			count++;
+		}
+		return count;
+	}
+};
@@ -85,10 +85,7 @@ import com.badlogic.gdx.math.Matrix4;
 %}
 %include "gdx/dynamics/CustomActionInterface.h"
 
-%{
-#include <BulletDynamics/Dynamics/btDiscreteDynamicsWorld.h>
-%}
-%include "BulletDynamics/Dynamics/btDiscreteDynamicsWorld.h"
+%include "./btDiscreteDynamicsWorld.i"
 
 %{
 #include <BulletDynamics/Character/btCharacterControllerInterface.h>
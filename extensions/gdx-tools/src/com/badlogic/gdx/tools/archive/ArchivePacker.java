@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tools.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.zip.Deflater;
+
+import com.badlogic.gdx.files.Archive;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.StreamUtils;
+
+/** Packs the files of a directory into an {@link Archive}, which can be loaded with an
+ * {@link com.badlogic.gdx.assets.loaders.resolvers.ArchiveFileHandleResolver}. Entries are deflated if that makes them at least
+ * 10% smaller, otherwise they are stored so they can be read without copying. Stored entries are aligned to 8 bytes. */
+public class ArchivePacker {
+	static private final int ALIGNMENT = 8;
+
+	/** Packs all files below the input directory, using their paths relative to the directory as entry paths.
+	 * @param deflate If false, all entries are stored. */
+	static public void pack (File inputDir, File outputFile, boolean deflate) throws IOException {
+		if (!inputDir.isDirectory()) throw new IllegalArgumentException("Input is not a directory: " + inputDir);
+		Array<String> paths = new Array();
+		collect(inputDir, "", outputFile.getCanonicalFile(), paths);
+		paths.sort();
+
+		byte[][] pathBytes = new byte[paths.size][];
+		int indexSize = 12;
+		for (int i = 0; i < paths.size; i++) {
+			pathBytes[i] = paths.get(i).getBytes("UTF-8");
+			if (pathBytes[i].length > 0xffff) throw new IOException("Path is too long: " + paths.get(i));
+			indexSize += 2 + pathBytes[i].length + 13;
+		}
+
+		int[] offsets = new int[paths.size], sizes = new int[paths.size], lengths = new int[paths.size];
+		byte[] compressions = new byte[paths.size];
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		byte[] buffer = new byte[16 * 1024];
+		RandomAccessFile output = new RandomAccessFile(outputFile, "rw");
+		try {
+			output.setLength(0);
+			long position = indexSize;
+			for (int i = 0; i < paths.size; i++) {
+				byte[] data = readFile(new File(inputDir, paths.get(i)));
+				lengths[i] = data.length;
+				compressions[i] = Archive.STORED;
+				if (deflate && data.length > 0) {
+					deflater.reset();
+					deflater.setInput(data);
+					deflater.finish();
+					compressed.reset();
+					while (!deflater.finished())
+						compressed.write(buffer, 0, deflater.deflate(buffer));
+					if (compressed.size() < data.length * 0.9f) {
+						data = compressed.toByteArray();
+						compressions[i] = Archive.DEFLATED;
+					}
+				}
+				if (compressions[i] == Archive.STORED) position = (position + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+				if (position + data.length > Integer.MAX_VALUE) throw new IOException("Archive is larger than 2GB.");
+				offsets[i] = (int)position;
+				sizes[i] = data.length;
+				output.seek(position);
+				output.write(data);
+				position += data.length;
+			}
+
+			output.seek(0);
+			output.writeInt(Archive.MAGIC);
+			output.writeInt(Archive.VERSION);
+			output.writeInt(paths.size);
+			for (int i = 0; i < paths.size; i++) {
+				output.writeShort(pathBytes[i].length);
+				output.write(pathBytes[i]);
+				output.writeInt(offsets[i]);
+				output.writeInt(sizes[i]);
+				output.writeInt(lengths[i]);
+				output.writeByte(compressions[i]);
+			}
+		} finally {
+			deflater.end();
+			StreamUtils.closeQuietly(output);
+		}
+	}
+
+	static private void collect (File dir, String prefix, File outputFile, Array<String> paths) throws IOException {
+		File[] files = dir.listFiles();
+		if (files == null) return;
+		for (File file : files) {
+			String path = prefix + file.getName();
+			if (file.isDirectory())
+				collect(file, path + '/', outputFile, paths);
+			else if (!file.getCanonicalFile().equals(outputFile))
+				paths.add(path);
+		}
+	}
+
+	static private byte[] readFile (File file) throws IOException {
+		FileInputStream input = new FileInputStream(file);
+		try {
+			return StreamUtils.copyStreamToByteArray(input, (int)file.length());
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+	}
+
+	public static void main (String[] args) throws Exception {
+		if (args.length < 2 || args.length > 3 || (args.length == 3 && !args[2].equals("-deflate"))) {
+			System.out.println("Usage: inputDir outputFile [-deflate]");
+			System.exit(0);
+		}
+		pack(new File(args[0]), new File(args[1]), args.length == 3);
+	}
+}
@@ -0,0 +1,172 @@
+package com.badlogic.gdx.tools.archive;
+
+import static org.junit.Assert.*;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.files.Archive;
+import com.badlogic.gdx.files.ArchiveFileHandle;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+public class ArchivePackerTest {
+	private File tempDir, inputDir;
+
+	@Before
+	public void createFiles () throws IOException {
+		tempDir = File.createTempFile("archive", "");
+		tempDir.delete();
+		inputDir = new File(tempDir, "input");
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 500; i++)
+			text.append("line ").append(i).append('\n');
+		byte[] random = new byte[5000];
+		new Random(1).nextBytes(random);
+
+		write("readme.txt", text.toString().getBytes("UTF-8"));
+		write("data/random.bin", random);
+		write("data/levels/empty.txt", new byte[0]);
+		write("data/levels/level1.txt", text.substring(0, 1000).getBytes("UTF-8"));
+		write("data/levels/level2.txt", text.substring(1000).getBytes("UTF-8"));
+		write("images/a.png", Arrays.copyOf(random, 100));
+	}
+
+	@After
+	public void deleteFiles () {
+		new FileHandle(tempDir).deleteDirectory();
+	}
+
+	@Test
+	public void stored () throws IOException {
+		Archive archive = pack(false);
+		for (int i = 0; i < archive.size(); i++)
+			assertTrue(archive.getPath(i), archive.isStored(i));
+		assertMatches(inputDir, archive.child(""));
+	}
+
+	@Test
+	public void deflated () throws IOException {
+		Archive archive = pack(true);
+		assertFalse(archive.isStored(archive.indexOf("readme.txt")));
+		assertTrue("Incompressible entries are stored", archive.isStored(archive.indexOf("data/random.bin")));
+		assertTrue(archive.isStored(archive.indexOf("data/levels/empty.txt")));
+		assertMatches(inputDir, archive.child(""));
+	}
+
+	@Test
+	public void missingEntries () throws IOException {
+		Archive archive = pack(true);
+		assertEquals(6, archive.size());
+		assertFalse(archive.child("missing.txt").exists());
+		assertFalse(archive.child("data/levels/level").exists());
+		assertFalse(archive.child("data/level").isDirectory());
+		assertEquals(0, archive.child("data/random.bin").list().length);
+		assertTrue(archive.child("\\data\\levels\\").isDirectory());
+		assertEquals("data", archive.child("data/levels/level1.txt").parent().parent().path());
+		assertEquals("data/random.bin", archive.child("data/levels").sibling("random.bin").path());
+	}
+
+	@Test
+	public void invalidIndex () throws IOException {
+		assertInvalid(28, 4, 4); // The data is past the end of the 28 byte archive.
+		assertInvalid(16, Integer.MAX_VALUE, 4); // The end of the entry overflows.
+		assertInvalid(0, 0, -1);
+	}
+
+	/** Checks that an archive with a single entry with the offset, size and length is rejected. */
+	private void assertInvalid (int offset, int size, int length) throws IOException {
+		File file = new File(tempDir, "invalid.pack");
+		DataOutputStream output = new DataOutputStream(new FileOutputStream(file));
+		try {
+			output.writeInt(Archive.MAGIC);
+			output.writeInt(Archive.VERSION);
+			output.writeInt(1);
+			output.writeShort(1);
+			output.writeByte('a');
+			output.writeInt(offset);
+			output.writeInt(size);
+			output.writeInt(length);
+			output.writeByte(Archive.STORED);
+		} finally {
+			output.close();
+		}
+		try {
+			new Archive(new FileHandle(file));
+			fail("Invalid entry accepted: " + offset + ", " + size + ", " + length);
+		} catch (GdxRuntimeException expected) {
+		}
+	}
+
+	private Archive pack (boolean deflate) throws IOException {
+		File outputFile = new File(tempDir, deflate ? "deflated.pack" : "stored.pack");
+		ArchivePacker.pack(inputDir, outputFile, deflate);
+		return new Archive(new FileHandle(outputFile));
+	}
+
+	/** Checks that the archive handle has the same children, lengths and contents as the source directory or file. */
+	private void assertMatches (File source, FileHandle handle) throws IOException {
+		assertTrue(handle.path(), handle instanceof ArchiveFileHandle);
+		assertTrue(handle.path(), handle.exists());
+		assertEquals(handle.path(), source.isDirectory(), handle.isDirectory());
+		if (source.isDirectory()) {
+			String[] names = source.list();
+			Arrays.sort(names);
+			FileHandle[] children = handle.list();
+			String[] childNames = new String[children.length];
+			for (int i = 0; i < children.length; i++)
+				childNames[i] = children[i].name();
+			assertArrayEquals(handle.path(), names, childNames);
+			for (String name : names)
+				assertMatches(new File(source, name), handle.child(name));
+			return;
+		}
+		byte[] expected = readFile(source);
+		assertEquals(handle.path(), expected.length, handle.length());
+		assertArrayEquals(handle.path(), expected, handle.readBytes());
+
+		InputStream input = handle.read();
+		try {
+			assertArrayEquals(handle.path(), expected, StreamUtils.copyStreamToByteArray(input));
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+
+		ByteBuffer buffer = handle.readByteBuffer();
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		assertArrayEquals(handle.path(), expected, bytes);
+	}
+
+	private void write (String path, byte[] bytes) throws IOException {
+		File file = new File(inputDir, path);
+		file.getParentFile().mkdirs();
+		FileOutputStream output = new FileOutputStream(file);
+		try {
+			output.write(bytes);
+		} finally {
+			output.close();
+		}
+	}
+
+	static private byte[] readFile (File file) throws IOException {
+		InputStream input = new FileInputStream(file);
+		try {
+			return StreamUtils.copyStreamToByteArray(input);
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+	}
+}
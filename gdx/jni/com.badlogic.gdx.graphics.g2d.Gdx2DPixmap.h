@@ -35,6 +35,14 @@ extern "C" {
 JNIEXPORT jobject JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_load
   (JNIEnv *, jclass, jlongArray, jbyteArray, jint, jint);
 
+/*
+ * Class:     com_badlogic_gdx_graphics_g2d_Gdx2DPixmap
+ * Method:    loadByteBuffer
+ * Signature: ([JLjava/nio/ByteBuffer;II)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_loadByteBuffer
+  (JNIEnv *, jclass, jlongArray, jobject, jint, jint);
+
 /*
  * Class:     com_badlogic_gdx_graphics_g2d_Gdx2DPixmap
  * Method:    newPixmap
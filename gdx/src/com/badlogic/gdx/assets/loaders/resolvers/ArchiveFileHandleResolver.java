@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.assets.loaders.resolvers;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.Archive;
+import com.badlogic.gdx.files.FileHandle;
+
+/** {@link FileHandleResolver} that resolves file names to entries of an {@link Archive}. File names that are not in the archive are
+ * passed to the fallback resolver, if any, so an archive can be combined with loose files during development. */
+public class ArchiveFileHandleResolver implements FileHandleResolver {
+	private final Archive archive;
+	private FileHandleResolver fallbackResolver;
+
+	public ArchiveFileHandleResolver (FileHandle archiveFile) {
+		this(new Archive(archiveFile), null);
+	}
+
+	/** @param fallbackResolver May be null. */
+	public ArchiveFileHandleResolver (Archive archive, FileHandleResolver fallbackResolver) {
+		this.archive = archive;
+		this.fallbackResolver = fallbackResolver;
+	}
+
+	public Archive getArchive () {
+		return archive;
+	}
+
+	/** @param fallbackResolver May be null. */
+	public void setFallbackResolver (FileHandleResolver fallbackResolver) {
+		this.fallbackResolver = fallbackResolver;
+	}
+
+	public FileHandleResolver getFallbackResolver () {
+		return fallbackResolver;
+	}
+
+	@Override
+	public FileHandle resolve (String fileName) {
+		if (fallbackResolver != null && !archive.contains(fileName) && !archive.isDirectory(fileName))
+			return fallbackResolver.resolve(fileName);
+		return archive.child(fileName);
+	}
+}
@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.files;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import com.badlogic.gdx.assets.loaders.resolvers.ArchiveFileHandleResolver;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A read only archive that packs many files into a single file, so they can be read without opening a file per entry. The
+ * archive is {@link FileHandle#map() memory mapped} if possible and entries are found with a binary search of the
+ * index. Entries are either stored or compressed with deflate. Use {@link #child(String)} or an
+ * {@link ArchiveFileHandleResolver} to get file handles to the entries. Archives are written by the ArchivePacker in gdx-tools.
+ * <p>
+ * The archive is big endian. It starts with the {@link #MAGIC} and {@link #VERSION} ints and the number of entries as an int.
+ * The index follows with an entry per file, sorted by path: the path as UTF-8 prefixed by its length as an unsigned short, the
+ * offset of the data from the start of the archive, the stored size and the uncompressed length as ints, and the compression
+ * as a byte. Paths are relative and use '/' as separator. The data of the entries follows the index.
+ * <p>
+ * An archive can be read by multiple threads. */
+public class Archive {
+	static public final int MAGIC = 0x47445841; // GDXA
+	static public final int VERSION = 1;
+	static public final byte STORED = 0;
+	static public final byte DEFLATED = 1;
+
+	final FileHandle file;
+	private final ByteBuffer data;
+	private final String[] paths;
+	private final int[] offsets, sizes, lengths;
+	private final byte[] compressions;
+
+	/** Opens the archive. The index is read immediately, entries are read when they are accessed. */
+	public Archive (FileHandle file) {
+		this.file = file;
+		ByteBuffer data;
+		try {
+			data = file.map();
+		} catch (GdxRuntimeException ex) { // Read the file, eg for classpath files.
+			data = file.readByteBuffer();
+		}
+		data.order(ByteOrder.BIG_ENDIAN);
+		try {
+			if (data.getInt() != MAGIC) throw new GdxRuntimeException("File is not an archive: " + file);
+			int version = data.getInt();
+			if (version != VERSION) throw new GdxRuntimeException("Unsupported archive version " + version + ": " + file);
+			int count = data.getInt();
+			if (count < 0) throw new GdxRuntimeException("Invalid archive: " + file);
+			paths = new String[count];
+			offsets = new int[count];
+			sizes = new int[count];
+			lengths = new int[count];
+			compressions = new byte[count];
+			byte[] pathBytes = new byte[256];
+			for (int i = 0; i < count; i++) {
+				int pathLength = data.getShort() & 0xffff;
+				if (pathBytes.length < pathLength) pathBytes = new byte[pathLength];
+				data.get(pathBytes, 0, pathLength);
+				paths[i] = new String(pathBytes, 0, pathLength, "UTF-8");
+				offsets[i] = data.getInt();
+				sizes[i] = data.getInt();
+				lengths[i] = data.getInt();
+				compressions[i] = data.get();
+				if (offsets[i] < 0 || sizes[i] < 0 || sizes[i] > data.limit() - offsets[i] || lengths[i] < 0)
+					throw new GdxRuntimeException("Invalid archive entry " + paths[i] + ": " + file);
+			}
+		} catch (BufferUnderflowException ex) {
+			throw new GdxRuntimeException("Invalid archive: " + file, ex);
+		} catch (UnsupportedEncodingException ex) {
+			throw new GdxRuntimeException(ex);
+		}
+		this.data = data;
+	}
+
+	/** Returns the file this archive was opened from. */
+	public FileHandle getFile () {
+		return file;
+	}
+
+	/** Returns the number of entries. */
+	public int size () {
+		return paths.length;
+	}
+
+	/** Returns the path of the entry at the index. Entries are sorted by path. */
+	public String getPath (int index) {
+		return paths[index];
+	}
+
+	/** Returns the index of the entry with the path, or -1. */
+	public int indexOf (String path) {
+		int index = Arrays.binarySearch(paths, normalize(path));
+		return index < 0 ? -1 : index;
+	}
+
+	/** Returns true if the archive contains an entry with the path. */
+	public boolean contains (String path) {
+		return indexOf(path) != -1;
+	}
+
+	/** Returns true if entries exist below the path. The empty path is the root of the archive. */
+	public boolean isDirectory (String path) {
+		path = normalize(path);
+		if (path.length() == 0) return true;
+		path += '/';
+		int index = -Arrays.binarySearch(paths, path) - 1;
+		return index >= 0 && index < paths.length && paths[index].startsWith(path);
+	}
+
+	/** Returns a handle to the entry or directory with the path. The entry does not need to exist. */
+	public FileHandle child (String path) {
+		return new ArchiveFileHandle(this, normalize(path));
+	}
+
+	/** Returns the names of the files and directories directly below the path, or an empty array. */
+	public String[] list (String path) {
+		path = normalize(path);
+		if (path.length() > 0) path += '/';
+		int index = Arrays.binarySearch(paths, path);
+		if (index < 0) index = -index - 1;
+		Array<String> names = new Array(String.class);
+		String last = null;
+		for (int n = paths.length; index < n; index++) {
+			String entry = paths[index];
+			if (!entry.startsWith(path)) break;
+			int end = entry.indexOf('/', path.length());
+			String name = entry.substring(path.length(), end == -1 ? entry.length() : end);
+			// Entries below the same directory are adjacent, so comparing with the last name removes the duplicates.
+			if (name.equals(last)) continue;
+			names.add(name);
+			last = name;
+		}
+		return names.toArray();
+	}
+
+	/** Returns the uncompressed length of the entry. */
+	public int length (int index) {
+		return lengths[index];
+	}
+
+	/** Returns a stream for reading the entry. */
+	public InputStream read (int index) {
+		InputStream input = new ByteBufferInputStream(slice(index));
+		if (compressions[index] == DEFLATED) return new InflaterInputStream(input);
+		return input;
+	}
+
+	/** Reads the entry into a byte array. */
+	public byte[] readBytes (int index) {
+		ByteBuffer slice = slice(index);
+		if (compressions[index] == STORED) {
+			byte[] bytes = new byte[sizes[index]];
+			slice.get(bytes);
+			return bytes;
+		}
+		byte[] compressed = new byte[sizes[index]];
+		slice.get(compressed);
+		return inflate(index, compressed);
+	}
+
+	/** Returns the entry in a direct buffer with native byte order. Stored entries are a view of the archive, so no data is
+	 * copied. The buffer of a stored entry must not be modified. */
+	public ByteBuffer readByteBuffer (int index) {
+		if (compressions[index] == STORED) return slice(index).order(ByteOrder.nativeOrder());
+		byte[] bytes = readBytes(index);
+		ByteBuffer buffer = BufferUtils.newByteBuffer(bytes.length);
+		buffer.put(bytes);
+		buffer.flip();
+		return buffer;
+	}
+
+	/** Returns true if the entry is stored without compression, so {@link #readByteBuffer(int)} doesn't copy it. */
+	public boolean isStored (int index) {
+		return compressions[index] == STORED;
+	}
+
+	private ByteBuffer slice (int index) {
+		ByteBuffer slice = data.duplicate();
+		slice.limit(offsets[index] + sizes[index]);
+		slice.position(offsets[index]);
+		return slice.slice();
+	}
+
+	private byte[] inflate (int index, byte[] compressed) {
+		if (compressions[index] != DEFLATED)
+			throw new GdxRuntimeException("Unknown compression " + compressions[index] + " for archive entry: " + paths[index]);
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			byte[] bytes = new byte[lengths[index]];
+			int length = 0;
+			while (length < bytes.length) {
+				int count = inflater.inflate(bytes, length, bytes.length - length);
+				if (count == 0 && (inflater.finished() || inflater.needsInput())) break;
+				length += count;
+			}
+			if (length != bytes.length) throw new GdxRuntimeException("Archive entry is truncated: " + paths[index]);
+			return bytes;
+		} catch (DataFormatException ex) {
+			throw new GdxRuntimeException("Error inflating archive entry: " + paths[index], ex);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	static String normalize (String path) {
+		path = path.replace('\\', '/');
+		while (path.startsWith("/"))
+			path = path.substring(1);
+		while (path.endsWith("/"))
+			path = path.substring(0, path.length() - 1);
+		return path;
+	}
+
+	static private class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream (ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		public int read () throws IOException {
+			if (!buffer.hasRemaining()) return -1;
+			return buffer.get() & 0xff;
+		}
+
+		public int read (byte[] bytes, int offset, int length) throws IOException {
+			if (length == 0) return 0;
+			int count = Math.min(length, buffer.remaining());
+			if (count == 0) return -1;
+			buffer.get(bytes, offset, count);
+			return count;
+		}
+
+		public long skip (long n) throws IOException {
+			int count = (int)Math.max(0, Math.min(n, buffer.remaining()));
+			buffer.position(buffer.position() + count);
+			return count;
+		}
+
+		public int available () throws IOException {
+			return buffer.remaining();
+		}
+	}
+}
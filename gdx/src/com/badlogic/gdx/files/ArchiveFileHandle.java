@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.files;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FilenameFilter;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A read only {@link FileType#Internal} file handle to an entry of an {@link Archive}. Children, siblings and parents are entries
+ * of the same archive. */
+public class ArchiveFileHandle extends FileHandle {
+	final Archive archive;
+	final String entryPath;
+
+	ArchiveFileHandle (Archive archive, String entryPath) {
+		super(new File(entryPath), FileType.Internal);
+		this.archive = archive;
+		this.entryPath = entryPath;
+	}
+
+	/** Returns the archive containing this entry. */
+	public Archive getArchive () {
+		return archive;
+	}
+
+	public String path () {
+		return entryPath;
+	}
+
+	public InputStream read () {
+		return archive.read(index());
+	}
+
+	public byte[] readBytes () {
+		return archive.readBytes(index());
+	}
+
+	/** Returns the entry in a direct buffer. Stored entries are a view of the archive and must not be modified, compressed entries
+	 * are inflated into a new buffer. */
+	public ByteBuffer readByteBuffer () {
+		return archive.readByteBuffer(index());
+	}
+
+	/** Returns a read only view of a stored entry.
+	 * @throws GdxRuntimeException if the entry doesn't exist or is compressed, or the mode is not read only. */
+	public ByteBuffer map (FileChannel.MapMode mode) {
+		if (mode != FileChannel.MapMode.READ_ONLY) throw new GdxRuntimeException("Cannot write to an archive entry: " + this);
+		int index = index();
+		if (!archive.isStored(index)) throw new GdxRuntimeException("Cannot map a compressed archive entry: " + this);
+		return archive.readByteBuffer(index);
+	}
+
+	public boolean exists () {
+		return archive.indexOf(entryPath) != -1 || archive.isDirectory(entryPath);
+	}
+
+	public boolean isDirectory () {
+		return archive.isDirectory(entryPath);
+	}
+
+	public long length () {
+		int index = archive.indexOf(entryPath);
+		return index == -1 ? 0 : archive.length(index);
+	}
+
+	public long lastModified () {
+		return archive.file.lastModified();
+	}
+
+	public FileHandle[] list () {
+		String[] names = archive.list(entryPath);
+		FileHandle[] handles = new FileHandle[names.length];
+		for (int i = 0, n = names.length; i < n; i++)
+			handles[i] = child(names[i]);
+		return handles;
+	}
+
+	public FileHandle[] list (FileFilter filter) {
+		FileHandle[] handles = list();
+		int count = 0;
+		for (int i = 0, n = handles.length; i < n; i++)
+			if (filter.accept(handles[i].file())) handles[count++] = handles[i];
+		return trim(handles, count);
+	}
+
+	public FileHandle[] list (FilenameFilter filter) {
+		File file = file();
+		FileHandle[] handles = list();
+		int count = 0;
+		for (int i = 0, n = handles.length; i < n; i++)
+			if (filter.accept(file, handles[i].name())) handles[count++] = handles[i];
+		return trim(handles, count);
+	}
+
+	public FileHandle[] list (String suffix) {
+		FileHandle[] handles = list();
+		int count = 0;
+		for (int i = 0, n = handles.length; i < n; i++)
+			if (handles[i].name().endsWith(suffix)) handles[count++] = handles[i];
+		return trim(handles, count);
+	}
+
+	public FileHandle child (String name) {
+		if (entryPath.length() == 0) return archive.child(name);
+		return archive.child(entryPath + '/' + name);
+	}
+
+	public FileHandle sibling (String name) {
+		if (entryPath.length() == 0) throw new GdxRuntimeException("Cannot get the sibling of the root.");
+		return parent().child(name);
+	}
+
+	public FileHandle parent () {
+		int index = entryPath.lastIndexOf('/');
+		return new ArchiveFileHandle(archive, index == -1 ? "" : entryPath.substring(0, index));
+	}
+
+	private int index () {
+		int index = archive.indexOf(entryPath);
+		if (index == -1) throw new GdxRuntimeException("File not found: " + entryPath + " (" + archive.file + ")");
+		return index;
+	}
+
+	static private FileHandle[] trim (FileHandle[] handles, int count) {
+		if (count == handles.length) return handles;
+		FileHandle[] newHandles = new FileHandle[count];
+		System.arraycopy(handles, 0, newHandles, 0, count);
+		return newHandles;
+	}
+}
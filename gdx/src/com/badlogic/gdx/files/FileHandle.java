@@ -29,13 +29,19 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 
 import com.badlogic.gdx.Files;
 import com.badlogic.gdx.Files.FileType;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.StreamUtils;
 
@@ -229,6 +235,65 @@ public class FileHandle {
 		}
 	}
 
+	/** Reads the entire file into a new direct byte buffer with native byte order. The file is read in small chunks that are
+	 * copied into the buffer, which grows as needed if the file length is not known up front. The position of the buffer is 0 and
+	 * its limit is the file length. Unlike {@link #map()}, the file is not kept open, so it can be written or deleted while the
+	 * buffer is in use. Use {@link #map()} to access a large file without copying it.
+	 * @throws GdxRuntimeException if the file handle represents a directory, doesn't exist, or could not be read. */
+	public ByteBuffer readByteBuffer () {
+		InputStream input = read();
+		try {
+			ByteBuffer buffer = BufferUtils.newByteBuffer(estimateLength());
+			byte[] bytes = new byte[StreamUtils.DEFAULT_BUFFER_SIZE];
+			while (true) {
+				int count = input.read(bytes);
+				if (count == -1) break;
+				if (buffer.remaining() < count) {
+					ByteBuffer newBuffer = BufferUtils.newByteBuffer(Math.max(buffer.capacity() * 2, buffer.position() + count));
+					buffer.flip();
+					newBuffer.put(buffer);
+					buffer = newBuffer;
+				}
+				buffer.put(bytes, 0, count);
+			}
+			buffer.flip();
+			return buffer;
+		} catch (IOException ex) {
+			throw new GdxRuntimeException("Error reading file: " + this, ex);
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+	}
+
+	/** Memory maps this file in read only mode. The operating system pages the file in as it is accessed, so large files can be read
+	 * without copying them into the Java or native heap. The buffer has native byte order. The file stays mapped until the buffer
+	 * is garbage collected, and on some platforms can't be deleted while it is mapped. On Android, {@link FileType#Internal} files
+	 * can only be mapped if they are not compressed in the APK.
+	 * @throws GdxRuntimeException if this file handle represents a directory, doesn't exist, could not be mapped, or is a
+	 *            {@link FileType#Classpath} file. */
+	public ByteBuffer map () {
+		return map(MapMode.READ_ONLY);
+	}
+
+	/** Memory maps this file in the specified mode, see {@link #map()}.
+	 * @throws GdxRuntimeException if this file handle represents a directory, doesn't exist, could not be mapped, or is a
+	 *            {@link FileType#Classpath} file. */
+	public ByteBuffer map (FileChannel.MapMode mode) {
+		if (type == FileType.Classpath) throw new GdxRuntimeException("Cannot map a classpath file: " + this);
+		RandomAccessFile raf = null;
+		try {
+			File file = file();
+			raf = new RandomAccessFile(file, mode == MapMode.READ_ONLY ? "r" : "rw");
+			ByteBuffer map = raf.getChannel().map(mode, 0, file.length());
+			map.order(ByteOrder.nativeOrder());
+			return map;
+		} catch (Exception ex) {
+			throw new GdxRuntimeException("Error memory mapping file: " + this + " (" + type + ")", ex);
+		} finally {
+			StreamUtils.closeQuietly(raf);
+		}
+	}
+
 	private int estimateLength () {
 		int length = (int)length();
 		return length != 0 ? length : 512;
@@ -56,12 +56,11 @@ public class OrthographicCamera extends Camera {
 		projection.setToOrtho(zoom * -viewportWidth / 2, zoom * (viewportWidth / 2), zoom * -(viewportHeight / 2), zoom
 			* viewportHeight / 2, near, far);
 		view.setToLookAt(position, tmp.set(position).add(direction), up);
-		combined.set(projection);
-		Matrix4.mul(combined.val, view.val);
+		combined.set(projection).mul(view);
 
 		if (updateFrustum) {
 			invProjectionView.set(combined);
-			Matrix4.inv(invProjectionView.val);
+			Matrix4.inv(invProjectionView.val, 0);
 			frustum.update(invProjectionView);
 		}
 	}
@@ -55,12 +55,11 @@ public class PerspectiveCamera extends Camera {
 		float aspect = viewportWidth / viewportHeight;
 		projection.setToProjection(Math.abs(near), Math.abs(far), fieldOfView, aspect);
 		view.setToLookAt(position, tmp.set(position).add(direction), up);
-		combined.set(projection);
-		Matrix4.mul(combined.val, view.val);
+		combined.set(projection).mul(view);
 
 		if (updateFrustum) {
 			invProjectionView.set(combined);
-			Matrix4.inv(invProjectionView.val);
+			Matrix4.inv(invProjectionView.val, 0);
 			frustum.update(invProjectionView);
 		}
 	}
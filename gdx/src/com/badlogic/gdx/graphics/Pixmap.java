@@ -142,8 +142,8 @@ public class Pixmap implements Disposable {
 	 * @param file the {@link FileHandle} */
 	public Pixmap (FileHandle file) {
 		try {
-			byte[] bytes = file.readBytes();
-			pixmap = new Gdx2DPixmap(bytes, 0, bytes.length, 0);
+			ByteBuffer data = file.readByteBuffer();
+			pixmap = new Gdx2DPixmap(data, 0, data.limit(), 0);
 		} catch (Exception e) {
 			throw new GdxRuntimeException("Couldn't load file: " + file, e);
 		}
@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** Bulk operations on the pixels of a {@link Pixmap}, which are much faster than calling {@link Pixmap#getPixel(int, int)} and
+ * {@link Pixmap#drawPixel(int, int, int)} for every pixel. The operations work directly on the {@link Pixmap#getPixels() pixel
+ * buffer} and support the formats with 8 bits per channel: {@link Format#Alpha}, {@link Format#Intensity},
+ * {@link Format#LuminanceAlpha}, {@link Format#RGB888} and {@link Format#RGBA8888}.
+ * <p>
+ * Each method optionally takes an {@link AsyncExecutor}. If it is not null, the rows of large images are split into bands that
+ * are processed in parallel on the executor's threads and the calling thread, and the method returns when all bands are done.
+ * The executor should allow at least as many concurrent tasks as there are cores. */
+public class PixmapUtils {
+	/** Images with fewer rows than this are always processed on the calling thread. */
+	static public int minParallelRows = 64;
+
+	private PixmapUtils () {
+		// disallow, static methods only
+	}
+
+	/** @see #premultiplyAlpha(Pixmap, AsyncExecutor) */
+	static public void premultiplyAlpha (Pixmap pixmap) {
+		premultiplyAlpha(pixmap, null);
+	}
+
+	/** Multiplies the color channels of each pixel by its alpha. Pixmaps without alpha or color channels are not changed.
+	 * @param executor May be null. */
+	static public void premultiplyAlpha (Pixmap pixmap, AsyncExecutor executor) {
+		final int channels = getChannels(pixmap.getFormat());
+		if (channels != 2 && channels != 4) return;
+		final ByteBuffer pixels = pixmap.getPixels();
+		final int rowSize = pixmap.getWidth() * channels;
+		run(executor, pixmap.getHeight(), new RowOperation() {
+			public void process (int startRow, int endRow) {
+				int alpha = channels - 1;
+				for (int i = startRow * rowSize, n = endRow * rowSize; i < n; i += channels) {
+					int a = pixels.get(i + alpha) & 0xff;
+					if (a == 255) continue;
+					for (int c = 0; c < alpha; c++)
+						pixels.put(i + c, (byte)(((pixels.get(i + c) & 0xff) * a + 127) / 255));
+				}
+			}
+		});
+	}
+
+	/** @see #transform(Pixmap, float[], AsyncExecutor) */
+	static public void transform (Pixmap pixmap, float[] colorMatrix) {
+		transform(pixmap, colorMatrix, null);
+	}
+
+	/** Transforms the color of each pixel by a 4x5 color matrix, stored in row major order. Each output channel is computed from
+	 * the input channels in the 0-1 range: <code>r' = m[0] * r + m[1] * g + m[2] * b + m[3] * a + m[4]</code>, and likewise for
+	 * g', b' and a' with the following rows. The results are clamped. The pixmap must be {@link Format#RGB888}, where alpha is 1
+	 * and the last row is ignored, or {@link Format#RGBA8888}.
+	 * @param executor May be null. */
+	static public void transform (Pixmap pixmap, float[] colorMatrix, AsyncExecutor executor) {
+		if (colorMatrix.length < 20) throw new IllegalArgumentException("colorMatrix must have 20 values: " + colorMatrix.length);
+		final int channels = getChannels(pixmap.getFormat());
+		if (channels < 3) throw new GdxRuntimeException("Pixmap format must be RGB888 or RGBA8888: " + pixmap.getFormat());
+		// Scale the matrix so the multiplications work on bytes, with the offsets in the 0-255 range.
+		final float[] m = new float[20];
+		for (int i = 0; i < 20; i++)
+			m[i] = i % 5 == 4 ? colorMatrix[i] * 255 : colorMatrix[i];
+		final ByteBuffer pixels = pixmap.getPixels();
+		final int rowSize = pixmap.getWidth() * channels;
+		run(executor, pixmap.getHeight(), new RowOperation() {
+			public void process (int startRow, int endRow) {
+				for (int i = startRow * rowSize, n = endRow * rowSize; i < n; i += channels) {
+					float r = pixels.get(i) & 0xff;
+					float g = pixels.get(i + 1) & 0xff;
+					float b = pixels.get(i + 2) & 0xff;
+					float a = channels == 4 ? pixels.get(i + 3) & 0xff : 255;
+					pixels.put(i, clamp(m[0] * r + m[1] * g + m[2] * b + m[3] * a + m[4]));
+					pixels.put(i + 1, clamp(m[5] * r + m[6] * g + m[7] * b + m[8] * a + m[9]));
+					pixels.put(i + 2, clamp(m[10] * r + m[11] * g + m[12] * b + m[13] * a + m[14]));
+					if (channels == 4) pixels.put(i + 3, clamp(m[15] * r + m[16] * g + m[17] * b + m[18] * a + m[19]));
+				}
+			}
+		});
+	}
+
+	/** @see #swizzle(Pixmap, int, int, int, int, AsyncExecutor) */
+	static public void swizzle (Pixmap pixmap, int r, int g, int b, int a) {
+		swizzle(pixmap, r, g, b, a, null);
+	}
+
+	/** Reorders the channels of each pixel, eg to convert between RGBA and BGRA use <code>swizzle(pixmap, 2, 1, 0, 3)</code>.
+	 * Only as many of the source channel indices are used as the format has channels, eg r and g for
+	 * {@link Format#LuminanceAlpha}.
+	 * @param r The index of the channel to store in the first channel.
+	 * @param executor May be null. */
+	static public void swizzle (Pixmap pixmap, int r, int g, int b, int a, AsyncExecutor executor) {
+		final int channels = getChannels(pixmap.getFormat());
+		final int[] order = {r, g, b, a};
+		for (int c = 0; c < channels; c++)
+			if (order[c] < 0 || order[c] >= channels)
+				throw new IllegalArgumentException("Channel index out of range for " + pixmap.getFormat() + ": " + order[c]);
+		final ByteBuffer pixels = pixmap.getPixels();
+		final int rowSize = pixmap.getWidth() * channels;
+		run(executor, pixmap.getHeight(), new RowOperation() {
+			public void process (int startRow, int endRow) {
+				byte[] pixel = new byte[4];
+				for (int i = startRow * rowSize, n = endRow * rowSize; i < n; i += channels) {
+					for (int c = 0; c < channels; c++)
+						pixel[c] = pixels.get(i + c);
+					for (int c = 0; c < channels; c++)
+						pixels.put(i + c, pixel[order[c]]);
+				}
+			}
+		});
+	}
+
+	/** @see #downsampleBox(Pixmap, Pixmap, AsyncExecutor) */
+	static public void downsampleBox (Pixmap source, Pixmap target) {
+		downsampleBox(source, target, null);
+	}
+
+	/** Scales the source to the size of the target by averaging all the source pixels covered by each target pixel. This gives
+	 * smooth results for any reduction, eg for thumbnails. The target must have the same format as the source and must not be
+	 * larger.
+	 * @param executor May be null. */
+	static public void downsampleBox (Pixmap source, Pixmap target, AsyncExecutor executor) {
+		checkDownsample(source, target);
+		final int channels = getChannels(source.getFormat());
+		final ByteBuffer src = source.getPixels(), dst = target.getPixels();
+		final int srcWidth = source.getWidth(), srcHeight = source.getHeight();
+		final int dstWidth = target.getWidth(), dstHeight = target.getHeight();
+		run(executor, dstHeight, new RowOperation() {
+			public void process (int startRow, int endRow) {
+				long[] sums = new long[channels];
+				for (int y = startRow; y < endRow; y++) {
+					int sy0 = (int)((long)y * srcHeight / dstHeight);
+					int sy1 = Math.max(sy0 + 1, (int)((long)(y + 1) * srcHeight / dstHeight));
+					int d = y * dstWidth * channels;
+					for (int x = 0; x < dstWidth; x++) {
+						int sx0 = (int)((long)x * srcWidth / dstWidth);
+						int sx1 = Math.max(sx0 + 1, (int)((long)(x + 1) * srcWidth / dstWidth));
+						for (int c = 0; c < channels; c++)
+							sums[c] = 0;
+						for (int sy = sy0; sy < sy1; sy++) {
+							for (int s = (sy * srcWidth + sx0) * channels, n = (sy * srcWidth + sx1) * channels; s < n;) {
+								for (int c = 0; c < channels; c++)
+									sums[c] += src.get(s++) & 0xff;
+							}
+						}
+						long count = (long)(sx1 - sx0) * (sy1 - sy0), half = count / 2;
+						for (int c = 0; c < channels; c++)
+							dst.put(d++, (byte)((sums[c] + half) / count));
+					}
+				}
+			}
+		});
+	}
+
+	/** @see #downsampleBilinear(Pixmap, Pixmap, AsyncExecutor) */
+	static public void downsampleBilinear (Pixmap source, Pixmap target) {
+		downsampleBilinear(source, target, null);
+	}
+
+	/** Scales the source to the size of the target by interpolating the 4 source pixels nearest to the center of each target
+	 * pixel. This is faster than {@link #downsampleBox(Pixmap, Pixmap, AsyncExecutor) box} downsampling, but source pixels are
+	 * skipped when reducing to less than half the size. The target must have the same format as the source and must not be
+	 * larger.
+	 * @param executor May be null. */
+	static public void downsampleBilinear (Pixmap source, Pixmap target, AsyncExecutor executor) {
+		checkDownsample(source, target);
+		final int channels = getChannels(source.getFormat());
+		final ByteBuffer src = source.getPixels(), dst = target.getPixels();
+		final int srcWidth = source.getWidth(), srcHeight = source.getHeight();
+		final int dstWidth = target.getWidth(), dstHeight = target.getHeight();
+		final float scaleX = srcWidth / (float)dstWidth, scaleY = srcHeight / (float)dstHeight;
+		run(executor, dstHeight, new RowOperation() {
+			public void process (int startRow, int endRow) {
+				int srcRowSize = srcWidth * channels;
+				for (int y = startRow; y < endRow; y++) {
+					float fy = Math.max(0, (y + 0.5f) * scaleY - 0.5f);
+					int y0 = Math.min((int)fy, srcHeight - 1), y1 = Math.min(y0 + 1, srcHeight - 1);
+					float wy = fy - y0;
+					int d = y * dstWidth * channels;
+					for (int x = 0; x < dstWidth; x++) {
+						float fx = Math.max(0, (x + 0.5f) * scaleX - 0.5f);
+						int x0 = Math.min((int)fx, srcWidth - 1), x1 = Math.min(x0 + 1, srcWidth - 1);
+						float wx = fx - x0;
+						int s00 = y0 * srcRowSize + x0 * channels, s10 = y0 * srcRowSize + x1 * channels;
+						int s01 = y1 * srcRowSize + x0 * channels, s11 = y1 * srcRowSize + x1 * channels;
+						for (int c = 0; c < channels; c++) {
+							float top = (src.get(s00 + c) & 0xff) * (1 - wx) + (src.get(s10 + c) & 0xff) * wx;
+							float bottom = (src.get(s01 + c) & 0xff) * (1 - wx) + (src.get(s11 + c) & 0xff) * wx;
+							dst.put(d++, (byte)(top * (1 - wy) + bottom * wy + 0.5f));
+						}
+					}
+				}
+			}
+		});
+	}
+
+	/** @see #generateMipmaps(Pixmap, AsyncExecutor) */
+	static public Array<Pixmap> generateMipmaps (Pixmap pixmap) {
+		return generateMipmaps(pixmap, null);
+	}
+
+	/** Generates the mipmap chain for the pixmap, down to a size of 1x1. Each level is half the size of the previous level,
+	 * rounded down, and is computed from it by {@link #downsampleBox(Pixmap, Pixmap, AsyncExecutor) box} downsampling.
+	 * @param executor May be null.
+	 * @return The mipmap levels starting with level 1, the pixmap itself is level 0. The pixmaps must be disposed by the caller. */
+	static public Array<Pixmap> generateMipmaps (Pixmap pixmap, AsyncExecutor executor) {
+		getChannels(pixmap.getFormat());
+		Array<Pixmap> levels = new Array();
+		Pixmap previous = pixmap;
+		while (previous.getWidth() > 1 || previous.getHeight() > 1) {
+			Pixmap level = new Pixmap(Math.max(1, previous.getWidth() / 2), Math.max(1, previous.getHeight() / 2),
+				pixmap.getFormat());
+			downsampleBox(previous, level, executor);
+			levels.add(level);
+			previous = level;
+		}
+		return levels;
+	}
+
+	/** Returns the number of bytes per pixel for formats with 8 bits per channel.
+	 * @throws GdxRuntimeException if the format is not supported. */
+	static int getChannels (Format format) {
+		switch (format) {
+		case Alpha:
+		case Intensity:
+			return 1;
+		case LuminanceAlpha:
+			return 2;
+		case RGB888:
+			return 3;
+		case RGBA8888:
+			return 4;
+		default:
+			throw new GdxRuntimeException("Unsupported Pixmap format, must have 8 bits per channel: " + format);
+		}
+	}
+
+	static private void checkDownsample (Pixmap source, Pixmap target) {
+		if (source.getFormat() != target.getFormat())
+			throw new GdxRuntimeException("Source and target must have the same format: " + source.getFormat() + " != "
+				+ target.getFormat());
+		if (target.getWidth() > source.getWidth() || target.getHeight() > source.getHeight())
+			throw new GdxRuntimeException("Target must not be larger than the source: " + target.getWidth() + "x"
+				+ target.getHeight() + " > " + source.getWidth() + "x" + source.getHeight());
+	}
+
+	static private byte clamp (float value) {
+		if (value <= 0) return 0;
+		if (value >= 255) return (byte)255;
+		return (byte)(value + 0.5f);
+	}
+
+	/** Runs the operation for all rows, split into bands that are processed in parallel if an executor is given. */
+	static private void run (AsyncExecutor executor, int rows, final RowOperation operation) {
+		if (executor == null || rows < minParallelRows) {
+			operation.process(0, rows);
+			return;
+		}
+		int bands = Math.min(rows / 32, Runtime.getRuntime().availableProcessors() * 2);
+		if (bands < 2) {
+			operation.process(0, rows);
+			return;
+		}
+		Array<AsyncResult<Void>> results = new Array(bands - 1);
+		for (int i = 1; i < bands; i++) {
+			final int startRow = (int)((long)rows * i / bands), endRow = (int)((long)rows * (i + 1) / bands);
+			results.add(executor.submit(new AsyncTask<Void>() {
+				public Void call () throws Exception {
+					operation.process(startRow, endRow);
+					return null;
+				}
+			}));
+		}
+		RuntimeException error = null;
+		try {
+			operation.process(0, rows / bands);
+		} catch (RuntimeException ex) {
+			error = ex;
+		}
+		// Wait for all bands before throwing, otherwise they could still write to the pixels after the pixmap was disposed.
+		for (int i = 0, n = results.size; i < n; i++) {
+			try {
+				results.get(i).get();
+			} catch (GdxRuntimeException ex) {
+				if (error == null) error = ex;
+			}
+		}
+		if (error != null) throw error;
+	}
+
+	static private interface RowOperation {
+		/** Processes the rows from startRow, inclusive, to endRow, exclusive. */
+		public void process (int startRow, int endRow);
+	}
+}
@@ -17,6 +17,7 @@
 package com.badlogic.gdx.graphics.g2d;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
@@ -45,7 +46,7 @@ public class BitmapFontCache {
 	private final Color color = new Color(1, 1, 1, 1);
 	private float currentTint;
 
-	/** Vertex data per page. */
+	/** Vertex data per page. Pages which share a texture with an earlier page have no vertex data, see {@link #pageTextures}. */
 	private float[][] pageVertices;
 	/** Number of vertex data entries per page. */
 	private int[] idx;
@@ -54,6 +55,9 @@ public class BitmapFontCache {
 	private IntArray[] pageGlyphIndices;
 	/** Used internally to ensure a correct capacity for multi-page font vertex data. */
 	private int[] tempGlyphCount;
+	/** For each page, the index of the first page using the same texture. The glyphs for a page are stored in the vertex data of
+	 * that page, so pages packed into the same texture (eg with {@link BitmapFontPacker}) are drawn with a single batch call. */
+	private int[] pageTextures;
 
 	public BitmapFontCache (BitmapFont font) {
 		this(font, font.usesIntegerPositions());
@@ -76,6 +80,7 @@ public class BitmapFontCache {
 				pageGlyphIndices[i] = new IntArray();
 		}
 		tempGlyphCount = new int[pageCount];
+		updatePageTextures();
 	}
 
 	/** Sets the position of the text, relative to the position when the cached text was created.
@@ -125,7 +130,7 @@ public class BitmapFontCache {
 				float colorFloat = tempColor.set(run.color).mul(tint).toFloatBits();
 				for (int iii = 0, nnn = glyphs.size; iii < nnn; iii++) {
 					Glyph glyph = glyphs.get(iii);
-					int page = glyph.page;
+					int page = pageTextures[glyph.page];
 					int offset = tempGlyphCount[page] * 20 + 2;
 					tempGlyphCount[page]++;
 					float[] vertices = pageVertices[page];
@@ -316,7 +321,7 @@ public class BitmapFontCache {
 			for (int i = 0, n = layout.runs.size; i < n; i++) {
 				Array<Glyph> glyphs = layout.runs.get(i).glyphs;
 				for (int ii = 0, nn = glyphs.size; ii < nn; ii++)
-					tempGlyphCount[glyphs.get(ii).page]++;
+					tempGlyphCount[pageTextures[glyphs.get(ii).page]]++;
 			}
 			// Require that many for each page.
 			for (int i = 0, n = tempGlyphCount.length; i < n; i++)
@@ -364,6 +369,7 @@ public class BitmapFontCache {
 			pageGlyphIndices = newPageGlyphIndices;
 
 			tempGlyphCount = new int[pageCount];
+			updatePageTextures();
 		}
 
 		layouts.add(layout);
@@ -384,6 +390,24 @@ public class BitmapFontCache {
 		currentTint = whiteTint; // Cached glyphs have changed, reset the current tint.
 	}
 
+	private void updatePageTextures () {
+		Array<TextureRegion> regions = font.regions;
+		int pageCount = regions.size;
+		int[] pageTextures = new int[pageCount];
+		outer:
+		for (int i = 0; i < pageCount; i++) {
+			Texture texture = regions.get(i).getTexture();
+			for (int ii = 0; ii < i; ii++) {
+				if (pageTextures[ii] == ii && regions.get(ii).getTexture() == texture) {
+					pageTextures[i] = ii;
+					continue outer;
+				}
+			}
+			pageTextures[i] = i;
+		}
+		this.pageTextures = pageTextures;
+	}
+
 	private void addGlyph (Glyph glyph, float x, float y, float color) {
 		final float scaleX = font.data.scaleX, scaleY = font.data.scaleY;
 		x += glyph.xoffset * scaleX;
@@ -399,7 +423,7 @@ public class BitmapFontCache {
 		}
 		final float x2 = x + width, y2 = y + height;
 
-		final int page = glyph.page;
+		final int page = pageTextures[glyph.page];
 		int idx = this.idx[page];
 		this.idx[page] += 20;
 
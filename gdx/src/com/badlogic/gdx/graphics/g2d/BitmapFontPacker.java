@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Packs the page images of multiple {@link BitmapFont BitmapFonts} into a shared {@link TextureAtlas} using a
+ * {@link PixmapPacker}. Fonts using the same atlas page texture can be drawn without flushing the batch, and
+ * {@link BitmapFontCache} draws all pages of a font that share a texture with a single batch call. Fonts with many pages (eg
+ * CJK) or screens mixing several fonts can then be drawn with one or two draw calls, especially when the UI images are packed
+ * into the same packer.
+ * <p>
+ * Typical usage:
+ *
+ * <pre>
+ * PixmapPacker packer = new PixmapPacker(2048, 2048, Format.RGBA8888, 2, false);
+ * BitmapFontData titleData = new BitmapFontData(Gdx.files.internal(&quot;title.fnt&quot;), false);
+ * BitmapFontData textData = new BitmapFontData(Gdx.files.internal(&quot;text.fnt&quot;), false);
+ * BitmapFontPacker.pack(packer, titleData, &quot;title&quot;);
+ * BitmapFontPacker.pack(packer, textData, &quot;text&quot;);
+ * TextureAtlas atlas = packer.generateTextureAtlas(TextureFilter.Linear, TextureFilter.Linear, false);
+ * packer.dispose();
+ * BitmapFont title = BitmapFontPacker.newFont(atlas, titleData, &quot;title&quot;);
+ * BitmapFont text = BitmapFontPacker.newFont(atlas, textData, &quot;text&quot;);
+ * </pre>
+ *
+ * The page regions are named <code>name_0</code>, <code>name_1</code>, etc, which is also how {@link com.badlogic.gdx.scenes.scene2d.ui.Skin}
+ * finds the pages of a font in its atlas. The atlas owns the textures, so disposing the fonts does not dispose them. */
+public class BitmapFontPacker {
+	/** Loads the page images of the font data and packs them into the packer, named <code>name_0</code>, <code>name_1</code>,
+	 * etc. Each page image must fit within the packer's page size. This does not require a GL context.
+	 * @throws GdxRuntimeException if a page image has already been packed with the same name or is too large for the packer. */
+	static public void pack (PixmapPacker packer, BitmapFontData data, String name) {
+		String[] imagePaths = data.imagePaths;
+		for (int i = 0, n = imagePaths.length; i < n; i++) {
+			FileHandle file;
+			if (data.fontFile == null)
+				file = Gdx.files.internal(imagePaths[i]);
+			else
+				file = Gdx.files.getFileHandle(imagePaths[i], data.fontFile.type());
+			Pixmap pixmap = new Pixmap(file);
+			try {
+				packer.pack(name + "_" + i, pixmap);
+			} finally {
+				pixmap.dispose();
+			}
+		}
+	}
+
+	/** Returns the page regions packed with {@link #pack(PixmapPacker, BitmapFontData, String)}, in page order.
+	 * @throws GdxRuntimeException if a page region is not found in the atlas. */
+	static public Array<TextureRegion> getRegions (TextureAtlas atlas, BitmapFontData data, String name) {
+		int pageCount = data.imagePaths.length;
+		Array<TextureRegion> regions = new Array(pageCount);
+		for (int i = 0; i < pageCount; i++) {
+			TextureRegion region = atlas.findRegion(name + "_" + i);
+			if (region == null) throw new GdxRuntimeException("Font page region not found in atlas: " + name + "_" + i);
+			regions.add(region);
+		}
+		return regions;
+	}
+
+	/** Creates a font whose pages are regions in the atlas, packed with {@link #pack(PixmapPacker, BitmapFontData, String)}. */
+	static public BitmapFont newFont (TextureAtlas atlas, BitmapFontData data, String name) {
+		return new BitmapFont(data, getRegions(atlas, data, name), true);
+	}
+}
@@ -37,6 +37,12 @@ public class GlyphLayout implements Poolable {
 
 	private final Array<Color> colorStack = new Array(4);
 
+	// The font data, scale and character count of the last layout if its glyphs can be reused by
+	// setText(BitmapFont, CharSequence, Color, int), otherwise suffixLength is -1.
+	private BitmapFontData suffixFontData;
+	private float suffixScaleX;
+	private int suffixLength = -1;
+
 	/** Creates an empty GlyphLayout. */
 	public GlyphLayout () {
 	}
@@ -79,6 +85,7 @@ public class GlyphLayout implements Poolable {
 	 *           Truncate should not be used with text that contains multiple lines. Wrap is ignored if truncate is not null. */
 	public void setText (BitmapFont font, CharSequence str, int start, int end, Color color, float targetWidth, int halign,
 		boolean wrap, String truncate) {
+		int textStart = start;
 		if (truncate != null)
 			wrap = true; // Causes truncate code to run, doesn't actually cause wrapping.
 		else if (targetWidth <= font.data.spaceWidth) //
@@ -94,6 +101,7 @@ public class GlyphLayout implements Poolable {
 
 		float x = 0, y = 0, width = 0;
 		int lines = 0, blankLines = 0;
+		boolean markup = false;
 
 		Array<Color> colorStack = this.colorStack;
 		Color nextColor = color;
@@ -119,6 +127,7 @@ public class GlyphLayout implements Poolable {
 				case '[':
 					// Possible color tag.
 					if (markupEnabled) {
+						markup = true;
 						int length = parseColorMarkup(str, start, end, colorPool);
 						if (length >= 0) {
 							runEnd = start - 1;
@@ -242,6 +251,99 @@ public class GlyphLayout implements Poolable {
 
 		this.width = width;
 		this.height = fontData.capHeight + lines * fontData.lineHeight + blankLines * fontData.lineHeight * fontData.blankLineScale;
+
+		// The glyphs can be reused when there is a single unwrapped, left aligned run with one glyph per character and no newlines.
+		// Any '[' with markup enabled prevents reuse, because an incomplete tag like "[RE" is drawn as is but appending to it can
+		// complete the tag.
+		if (textStart == 0 && !wrap && (halign & Align.left) != 0 && runs.size == 1 && runs.first().glyphs.size == end
+			&& !markup) {
+			suffixFontData = fontData;
+			suffixScaleX = fontData.scaleX;
+			suffixLength = end;
+		} else
+			suffixLength = -1;
+	}
+
+	/** Lays out the whole string with the specified color and no alignment or wrapping, reusing the glyphs from the previous
+	 * layout for the characters that have not changed. When only the end of the text changes (eg a score or timer), this is much
+	 * faster than a full layout because only the changed characters are looked up and measured. If the previous layout can't be
+	 * reused (it had newlines, markup, wrapping, alignment, a different font or scale, etc) then a full layout is done.
+	 * @param unchangedLength The number of characters at the start of the string that are identical to the string previously
+	 *           given to this layout. Values larger than the length of the string are clamped. */
+	public void setText (BitmapFont font, CharSequence str, Color color, int unchangedLength) {
+		BitmapFontData fontData = font.data;
+		int length = str.length();
+		unchangedLength = Math.min(unchangedLength, length);
+		if (unchangedLength <= 0 || unchangedLength > suffixLength || suffixFontData != fontData
+			|| suffixScaleX != fontData.scaleX) {
+			setText(font, str, 0, length, color, 0, Align.left, false, null);
+			return;
+		}
+
+		GlyphRun run = runs.first();
+		Array<Glyph> glyphs = run.glyphs;
+		FloatArray xAdvances = run.xAdvances;
+
+		// Keep the unchanged glyphs. The xadvance after the last unchanged glyph is recomputed because it includes kerning with the
+		// next character.
+		glyphs.truncate(unchangedLength);
+		xAdvances.truncate(unchangedLength);
+
+		boolean markupEnabled = fontData.markupEnabled;
+		float scaleX = fontData.scaleX;
+		Glyph lastGlyph = glyphs.peek();
+		for (int i = unchangedLength; i < length; i++) {
+			char ch = str.charAt(i);
+			Glyph glyph = fontData.getGlyph(ch);
+			if (glyph == null) glyph = fontData.missingGlyph;
+			if (glyph == null || ch == '\n' || (ch == '[' && markupEnabled)) {
+				// Unknown characters, newlines and markup need a full layout.
+				setText(font, str, 0, length, color, 0, Align.left, false, null);
+				return;
+			}
+			glyphs.add(glyph);
+			xAdvances.add((lastGlyph.xadvance + lastGlyph.getKerning(ch)) * scaleX);
+			lastGlyph = glyph;
+		}
+		xAdvances.add(lastGlyph.xadvance * scaleX);
+
+		float width = 0;
+		float[] items = xAdvances.items;
+		for (int i = 0, n = xAdvances.size; i < n; i++)
+			width += items[i];
+		run.width = width;
+		run.color.set(color);
+		suffixLength = length;
+
+		this.width = width;
+		this.height = fontData.capHeight;
+	}
+
+	/** Sets this layout to a copy of the runs in the specified layout. */
+	public void set (GlyphLayout layout) {
+		Pool<GlyphRun> glyphRunPool = Pools.get(GlyphRun.class);
+		Array<GlyphRun> runs = this.runs;
+		glyphRunPool.freeAll(runs);
+		runs.clear();
+
+		Array<GlyphRun> otherRuns = layout.runs;
+		for (int i = 0, n = otherRuns.size; i < n; i++) {
+			GlyphRun other = otherRuns.get(i);
+			GlyphRun run = glyphRunPool.obtain();
+			run.glyphs.addAll(other.glyphs);
+			run.xAdvances.addAll(other.xAdvances);
+			run.x = other.x;
+			run.y = other.y;
+			run.width = other.width;
+			run.color.set(other.color);
+			runs.add(run);
+		}
+
+		width = layout.width;
+		height = layout.height;
+		suffixFontData = layout.suffixFontData;
+		suffixScaleX = layout.suffixScaleX;
+		suffixLength = layout.suffixLength;
 	}
 
 	private void truncate (BitmapFontData fontData, GlyphRun run, float targetWidth, String truncate, int widthIndex,
@@ -402,6 +504,8 @@ public class GlyphLayout implements Poolable {
 
 		width = 0;
 		height = 0;
+		suffixFontData = null;
+		suffixLength = -1;
 	}
 
 	public String toString () {
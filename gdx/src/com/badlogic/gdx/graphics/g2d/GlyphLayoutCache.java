@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.NumberUtils;
+
+/** Caches {@link GlyphLayout} instances so text that is displayed repeatedly does not need to be laid out again. Layouts are
+ * keyed by the font, text, color, target width, alignment, wrapping, truncation and the font's scale. When the cache is full
+ * the least recently used layout is evicted and reused, so once the cache is warm no allocation occurs.
+ * <p>
+ * Layouts returned by {@link #get(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String) get} are owned by the
+ * cache: they must not be modified and are only valid until evicted. Use
+ * {@link #setText(GlyphLayout, BitmapFont, CharSequence, int, int, Color, float, int, boolean, String) setText} to copy a cached
+ * layout into a layout that is kept, eg for {@link BitmapFontCache#setText(GlyphLayout, float, float)}.
+ * <p>
+ * Text containing '[' is not cached when {@link BitmapFontData#markupEnabled markup} is enabled, because color tags can refer
+ * to named colors which may be changed in {@link com.badlogic.gdx.graphics.Colors}. */
+public class GlyphLayoutCache {
+	private final int maxSize;
+	private final Entry[] buckets;
+	private final int mask;
+	private final GlyphLayout markupLayout = new GlyphLayout();
+	private Entry head, tail; // Most and least recently used.
+	private int size;
+
+	/** Creates a cache holding up to 64 layouts. */
+	public GlyphLayoutCache () {
+		this(64);
+	}
+
+	/** @param maxSize The maximum number of layouts to keep before the least recently used is evicted. */
+	public GlyphLayoutCache (int maxSize) {
+		if (maxSize < 1) throw new IllegalArgumentException("maxSize must be > 0: " + maxSize);
+		this.maxSize = maxSize;
+		buckets = new Entry[MathUtils.nextPowerOfTwo(maxSize * 2)];
+		mask = buckets.length - 1;
+	}
+
+	/** Returns a cached layout for the whole string, the font's current color, and no alignment or wrapping. */
+	public GlyphLayout get (BitmapFont font, CharSequence str) {
+		return get(font, str, 0, str.length(), font.getColor(), 0, Align.left, false, null);
+	}
+
+	/** Returns a cached layout for the whole string and no truncation. */
+	public GlyphLayout get (BitmapFont font, CharSequence str, Color color, float targetWidth, int halign, boolean wrap) {
+		return get(font, str, 0, str.length(), color, targetWidth, halign, wrap, null);
+	}
+
+	/** Returns a cached layout, laying out the text only if it is not already in the cache. The returned layout must not be
+	 * modified and is valid until it is evicted by other texts. Text with markup is laid out every time and the returned layout
+	 * is only valid until the next call.
+	 * @see GlyphLayout#setText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String) */
+	public GlyphLayout get (BitmapFont font, CharSequence str, int start, int end, Color color, float targetWidth, int halign,
+		boolean wrap, String truncate) {
+		BitmapFontData data = font.data;
+		int colorBits = Color.rgba8888(color);
+
+		int hash = font.hashCode();
+		boolean markup = false;
+		for (int i = start; i < end; i++) {
+			char ch = str.charAt(i);
+			if (ch == '[') markup = true;
+			hash = 31 * hash + ch;
+		}
+		if (markup && data.markupEnabled) {
+			markupLayout.setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+			return markupLayout;
+		}
+		hash = 31 * hash + colorBits;
+		hash = 31 * hash + NumberUtils.floatToIntBits(targetWidth);
+		hash = 31 * hash + NumberUtils.floatToIntBits(data.scaleX);
+		hash = 31 * hash + NumberUtils.floatToIntBits(data.scaleY);
+		hash = 31 * hash + halign;
+		if (wrap) hash++;
+		if (truncate != null) hash = 31 * hash + truncate.hashCode();
+		hash ^= hash >>> 16;
+
+		int index = hash & mask;
+		for (Entry entry = buckets[index]; entry != null; entry = entry.nextInBucket) {
+			if (entry.hash != hash || entry.font != font || entry.colorBits != colorBits || entry.targetWidth != targetWidth
+				|| entry.scaleX != data.scaleX || entry.scaleY != data.scaleY || entry.halign != halign || entry.wrap != wrap)
+				continue;
+			if (truncate == null ? entry.truncate != null : !truncate.equals(entry.truncate)) continue;
+			if (!entry.textEquals(str, start, end)) continue;
+			if (entry != head) {
+				unlink(entry);
+				linkFirst(entry);
+			}
+			return entry.layout;
+		}
+
+		Entry entry;
+		if (size < maxSize) {
+			entry = new Entry();
+			size++;
+		} else {
+			// Reuse the least recently used entry.
+			entry = tail;
+			unlink(entry);
+			removeFromBucket(entry);
+		}
+		entry.hash = hash;
+		entry.font = font;
+		entry.colorBits = colorBits;
+		entry.targetWidth = targetWidth;
+		entry.scaleX = data.scaleX;
+		entry.scaleY = data.scaleY;
+		entry.halign = halign;
+		entry.wrap = wrap;
+		entry.truncate = truncate;
+		entry.setText(str, start, end);
+		entry.layout.setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+
+		entry.nextInBucket = buckets[index];
+		buckets[index] = entry;
+		linkFirst(entry);
+		return entry.layout;
+	}
+
+	/** Sets the specified layout to a copy of the cached layout for the whole string and no truncation. */
+	public void setText (GlyphLayout layout, BitmapFont font, CharSequence str, Color color, float targetWidth, int halign,
+		boolean wrap) {
+		layout.set(get(font, str, 0, str.length(), color, targetWidth, halign, wrap, null));
+	}
+
+	/** Sets the specified layout to a copy of the cached layout.
+	 * @see #get(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String) */
+	public void setText (GlyphLayout layout, BitmapFont font, CharSequence str, int start, int end, Color color,
+		float targetWidth, int halign, boolean wrap, String truncate) {
+		layout.set(get(font, str, start, end, color, targetWidth, halign, wrap, truncate));
+	}
+
+	/** Removes all layouts from the cache. This should be called when a font that has been used with the cache is disposed. */
+	public void clear () {
+		for (Entry entry = head; entry != null; entry = entry.next) {
+			entry.layout.reset();
+			entry.font = null;
+		}
+		markupLayout.reset();
+		Entry[] buckets = this.buckets;
+		for (int i = 0, n = buckets.length; i < n; i++)
+			buckets[i] = null;
+		head = null;
+		tail = null;
+		size = 0;
+	}
+
+	/** Returns the number of layouts in the cache. */
+	public int getSize () {
+		return size;
+	}
+
+	public int getMaxSize () {
+		return maxSize;
+	}
+
+	private void linkFirst (Entry entry) {
+		entry.prev = null;
+		entry.next = head;
+		if (head != null) head.prev = entry;
+		head = entry;
+		if (tail == null) tail = entry;
+	}
+
+	private void unlink (Entry entry) {
+		if (entry.prev != null)
+			entry.prev.next = entry.next;
+		else
+			head = entry.next;
+		if (entry.next != null)
+			entry.next.prev = entry.prev;
+		else
+			tail = entry.prev;
+		entry.prev = null;
+		entry.next = null;
+	}
+
+	private void removeFromBucket (Entry entry) {
+		int index = entry.hash & mask;
+		Entry current = buckets[index];
+		if (current == entry) {
+			buckets[index] = entry.nextInBucket;
+		} else {
+			while (current.nextInBucket != entry)
+				current = current.nextInBucket;
+			current.nextInBucket = entry.nextInBucket;
+		}
+		entry.nextInBucket = null;
+	}
+
+	static private class Entry {
+		final GlyphLayout layout = new GlyphLayout();
+		Entry prev, next, nextInBucket;
+		int hash;
+		BitmapFont font;
+		char[] chars = new char[16];
+		int length;
+		int colorBits;
+		float targetWidth, scaleX, scaleY;
+		int halign;
+		boolean wrap;
+		String truncate;
+
+		void setText (CharSequence str, int start, int end) {
+			int length = end - start;
+			if (chars.length < length) chars = new char[Math.max(length, chars.length * 2)];
+			char[] chars = this.chars;
+			for (int i = 0; i < length; i++)
+				chars[i] = str.charAt(start + i);
+			this.length = length;
+		}
+
+		boolean textEquals (CharSequence str, int start, int end) {
+			int length = this.length;
+			if (end - start != length) return false;
+			char[] chars = this.chars;
+			for (int i = 0; i < length; i++)
+				if (chars[i] != str.charAt(start + i)) return false;
+			return true;
+		}
+	}
+}
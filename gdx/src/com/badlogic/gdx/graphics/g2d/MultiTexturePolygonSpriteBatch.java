@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+/** MultiTexturePolygonSpriteBatch behaves like PolygonSpriteBatch, except it binds multiple textures to separate texture units and
+ * only flushes when all units are in use. See {@link MultiTextureSpriteBatch} for details and the shader requirements.
+ * @see PolygonSpriteBatch#renderCalls */
+public class MultiTexturePolygonSpriteBatch extends PolygonSpriteBatch {
+	private final TextureSlots slots;
+	private final float[] textureVertices;
+	private final ShaderProgram ownedShader;
+
+	/** Constructs a MultiTexturePolygonSpriteBatch with 2000 vertices, 4000 triangles, as many textures as there are texture units,
+	 * and the default shader. */
+	public MultiTexturePolygonSpriteBatch () {
+		this(2000, 4000, TextureSlots.MAX_TEXTURES, null);
+	}
+
+	/** Constructs a MultiTexturePolygonSpriteBatch with size vertices, size * 2 triangles, as many textures as there are texture
+	 * units, and the default shader. */
+	public MultiTexturePolygonSpriteBatch (int size) {
+		this(size, size * 2, TextureSlots.MAX_TEXTURES, null);
+	}
+
+	/** @param maxVertices The max number of vertices in a single batch. Max of 32767.
+	 * @param maxTriangles The max number of triangles in a single batch.
+	 * @param maxTextures The max number of textures bound at once. This is reduced if the GPU has fewer texture units.
+	 * @param defaultShader The default shader to use. This is not owned by the batch and must be disposed separately. May be null
+	 *           to use the default shader.
+	 * @see PolygonSpriteBatch#PolygonSpriteBatch(int, int, ShaderProgram) */
+	public MultiTexturePolygonSpriteBatch (int maxVertices, int maxTriangles, int maxTextures, ShaderProgram defaultShader) {
+		super(maxVertices, maxTriangles,
+			defaultShader != null ? defaultShader
+				: MultiTextureSpriteBatch.createDefaultShader(TextureSlots.getMaxTextures(maxTextures)),
+			TextureSlots.createAttributes());
+		ownedShader = defaultShader == null ? getShader() : null;
+		slots = new TextureSlots(TextureSlots.getMaxTextures(maxTextures));
+		textureVertices = new float[maxVertices * (Sprite.VERTEX_SIZE + 1)];
+	}
+
+	@Override
+	public void begin () {
+		super.begin();
+		slots.setUnits(getShader());
+	}
+
+	@Override
+	public void end () {
+		super.end();
+		slots.reset(null);
+	}
+
+	@Override
+	public void setShader (ShaderProgram shader) {
+		super.setShader(shader);
+		if (drawing) slots.setUnits(getShader());
+	}
+
+	@Override
+	protected void switchTexture (Texture texture) {
+		// The draw methods flush afterward if the vertices don't fit.
+		TextureSlots slots = this.slots;
+		if (slots.isFull() && slots.indexOf(texture) == -1) {
+			flush();
+			slots.reset(null);
+		}
+		slots.use(texture, vertexIndex);
+		lastTexture = texture;
+		invTexWidth = 1.0f / texture.getWidth();
+		invTexHeight = 1.0f / texture.getHeight();
+	}
+
+	@Override
+	public void flush () {
+		if (vertexIndex == 0) return;
+
+		renderCalls++;
+		totalRenderCalls++;
+		int trianglesInBatch = triangleIndex;
+		if (trianglesInBatch > maxTrianglesInBatch) maxTrianglesInBatch = trianglesInBatch;
+
+		slots.bind();
+		Mesh mesh = this.mesh;
+		mesh.setVertices(textureVertices, 0, slots.expand(vertices, vertexIndex, Sprite.VERTEX_SIZE, textureVertices));
+		mesh.setIndices(triangles, 0, triangleIndex);
+		if (!isBlendingEnabled()) {
+			Gdx.gl.glDisable(GL20.GL_BLEND);
+		} else {
+			Gdx.gl.glEnable(GL20.GL_BLEND);
+			if (getBlendSrcFunc() != -1) Gdx.gl.glBlendFunc(getBlendSrcFunc(), getBlendDstFunc());
+		}
+
+		mesh.render(getShader(), GL20.GL_TRIANGLES, 0, trianglesInBatch);
+
+		vertexIndex = 0;
+		triangleIndex = 0;
+		slots.reset(lastTexture);
+	}
+
+	/** Returns the number of textures that can be drawn without flushing. */
+	public int getMaxTextures () {
+		return slots.textures.length;
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		if (ownedShader != null) ownedShader.dispose();
+	}
+}
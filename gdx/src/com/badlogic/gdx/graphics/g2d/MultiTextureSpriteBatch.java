@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+/** MultiTextureSpriteBatch behaves like SpriteBatch, except it binds up to {@link #getMaxTextures()} textures to separate texture
+ * units and stores the texture unit index with each vertex. Changing the texture only flushes the batch when all units are in use,
+ * so drawing from several atlases interleaved needs far fewer draw calls.
+ * <p>
+ * The number of units is limited by {@link GL20#GL_MAX_TEXTURE_IMAGE_UNITS}. The default shader selects the sampler with a branch
+ * per unit, so it works with GL20 as well as GL30. A custom shader must declare <code>uniform sampler2D u_texture[n]</code> and
+ * use the float {@link #TEXTURE_INDEX_ATTRIBUTE} vertex attribute to select the sampler, see
+ * {@link #createDefaultShader(int)}.
+ * @see SpriteBatch#renderCalls */
+public class MultiTextureSpriteBatch extends SpriteBatch {
+	/** The name of the vertex attribute holding the texture unit index of each vertex. */
+	static public final String TEXTURE_INDEX_ATTRIBUTE = TextureSlots.TEXTURE_INDEX_ATTRIBUTE;
+
+	private final TextureSlots slots;
+	private final float[] textureVertices;
+	private final ShaderProgram ownedShader;
+
+	/** Constructs a MultiTextureSpriteBatch with a size of 1000, as many textures as there are texture units, and the default
+	 * shader. */
+	public MultiTextureSpriteBatch () {
+		this(1000, TextureSlots.MAX_TEXTURES, null);
+	}
+
+	/** Constructs a MultiTextureSpriteBatch with as many textures as there are texture units, and the default shader. */
+	public MultiTextureSpriteBatch (int size) {
+		this(size, TextureSlots.MAX_TEXTURES, null);
+	}
+
+	/** @param size The max number of sprites in a single batch. Max of 8191.
+	 * @param maxTextures The max number of textures bound at once. This is reduced if the GPU has fewer texture units.
+	 * @param defaultShader The default shader to use. This is not owned by the batch and must be disposed separately. May be null
+	 *           to use the default shader.
+	 * @see SpriteBatch#SpriteBatch(int, ShaderProgram) */
+	public MultiTextureSpriteBatch (int size, int maxTextures, ShaderProgram defaultShader) {
+		super(size, defaultShader != null ? defaultShader : createDefaultShader(TextureSlots.getMaxTextures(maxTextures)),
+			TextureSlots.createAttributes());
+		ownedShader = defaultShader == null ? getShader() : null;
+		slots = new TextureSlots(TextureSlots.getMaxTextures(maxTextures));
+		textureVertices = new float[size * 4 * (Sprite.VERTEX_SIZE + 1)];
+	}
+
+	/** Returns a new instance of the default shader used by MultiTextureSpriteBatch and MultiTexturePolygonSpriteBatch.
+	 * @param maxTextures The number of samplers, which should be {@link #getMaxTextures()}. */
+	static public ShaderProgram createDefaultShader (int maxTextures) {
+		return TextureSlots.createDefaultShader(maxTextures);
+	}
+
+	@Override
+	public void begin () {
+		super.begin();
+		slots.setUnits(getShader());
+	}
+
+	@Override
+	public void end () {
+		super.end();
+		slots.reset(null);
+	}
+
+	@Override
+	public void setShader (ShaderProgram shader) {
+		super.setShader(shader);
+		if (drawing) slots.setUnits(getShader());
+	}
+
+	@Override
+	protected void switchTexture (Texture texture) {
+		TextureSlots slots = this.slots;
+		if (idx == vertices.length || (slots.isFull() && slots.indexOf(texture) == -1)) {
+			flush();
+			slots.reset(null);
+		}
+		slots.use(texture, idx);
+		lastTexture = texture;
+		invTexWidth = 1.0f / texture.getWidth();
+		invTexHeight = 1.0f / texture.getHeight();
+	}
+
+	@Override
+	public void flush () {
+		if (idx == 0) return;
+
+		renderCalls++;
+		totalRenderCalls++;
+		int spritesInBatch = idx / 20;
+		if (spritesInBatch > maxSpritesInBatch) maxSpritesInBatch = spritesInBatch;
+		int count = spritesInBatch * 6;
+
+		slots.bind();
+		Mesh mesh = this.mesh;
+		mesh.setVertices(textureVertices, 0, slots.expand(vertices, idx, Sprite.VERTEX_SIZE, textureVertices));
+		mesh.getIndicesBuffer().position(0);
+		mesh.getIndicesBuffer().limit(count);
+
+		if (!isBlendingEnabled()) {
+			Gdx.gl.glDisable(GL20.GL_BLEND);
+		} else {
+			Gdx.gl.glEnable(GL20.GL_BLEND);
+			if (getBlendSrcFunc() != -1) Gdx.gl.glBlendFunc(getBlendSrcFunc(), getBlendDstFunc());
+		}
+
+		mesh.render(getShader(), GL20.GL_TRIANGLES, 0, count);
+
+		idx = 0;
+		slots.reset(lastTexture);
+	}
+
+	/** Returns the number of textures that can be drawn without flushing. */
+	public int getMaxTextures () {
+		return slots.textures.length;
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		if (ownedShader != null) ownedShader.dispose();
+	}
+}
@@ -57,14 +57,14 @@ import com.badlogic.gdx.utils.NumberUtils;
  * @author Stefan Bachmann
  * @author Nathan Sweet */
 public class PolygonSpriteBatch implements Batch {
-	private Mesh mesh;
+	Mesh mesh;
 
-	private final float[] vertices;
-	private final short[] triangles;
-	private int vertexIndex, triangleIndex;
-	private Texture lastTexture;
-	private float invTexWidth = 0, invTexHeight = 0;
-	private boolean drawing;
+	final float[] vertices;
+	final short[] triangles;
+	int vertexIndex, triangleIndex;
+	Texture lastTexture;
+	float invTexWidth = 0, invTexHeight = 0;
+	boolean drawing;
 
 	private final Matrix4 transformMatrix = new Matrix4();
 	private final Matrix4 projectionMatrix = new Matrix4();
@@ -121,18 +121,39 @@ public class PolygonSpriteBatch implements Batch {
 	 * @param defaultShader The default shader to use. This is not owned by the PolygonSpriteBatch and must be disposed separately.
 	 *           May be null to use the default shader. */
 	public PolygonSpriteBatch (int maxVertices, int maxTriangles, ShaderProgram defaultShader) {
+		this(maxVertices, maxTriangles, defaultShader, (VertexDataType)null);
+	}
+
+	/** Constructs a new PolygonSpriteBatch which uses the specified type of vertex data for its mesh. See
+	 * {@link #PolygonSpriteBatch(int, int, ShaderProgram)}.
+	 * @param vertexDataType The vertex data type of the mesh, eg {@link VertexDataType#VertexBufferObjectStreaming} for batches
+	 *           that are flushed many times per frame. May be null to choose the type based on the GL version. */
+	public PolygonSpriteBatch (int maxVertices, int maxTriangles, ShaderProgram defaultShader, VertexDataType vertexDataType) {
+		this(maxVertices, maxTriangles, defaultShader, vertexDataType,
+			new VertexAttribute[] {new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+				new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+				new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0")});
+	}
+
+	/** @param attributes The vertex attributes of the mesh, which may have more attributes than the vertices stored by the batch
+	 *           if a subclass expands the vertices when flushing. */
+	PolygonSpriteBatch (int maxVertices, int maxTriangles, ShaderProgram defaultShader, VertexAttribute[] attributes) {
+		this(maxVertices, maxTriangles, defaultShader, null, attributes);
+	}
+
+	PolygonSpriteBatch (int maxVertices, int maxTriangles, ShaderProgram defaultShader, VertexDataType vertexDataType,
+		VertexAttribute[] attributes) {
 		// 32767 is max vertex index.
 		if (maxVertices > 32767)
 			throw new IllegalArgumentException("Can't have more than 32767 vertices per batch: " + maxVertices);
 
-		Mesh.VertexDataType vertexDataType = Mesh.VertexDataType.VertexArray;
-		if (Gdx.gl30 != null) {
-			vertexDataType = VertexDataType.VertexBufferObjectWithVAO;
+		if (vertexDataType == null) {
+			vertexDataType = VertexDataType.VertexArray;
+			if (Gdx.gl30 != null) {
+				vertexDataType = VertexDataType.VertexBufferObjectWithVAO;
+			}
 		}
-		mesh = new Mesh(vertexDataType, false, maxVertices, maxTriangles * 3,
-			new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
-			new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
-			new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+		mesh = new Mesh(vertexDataType, false, maxVertices, maxTriangles * 3, attributes);
 
 		vertices = new float[maxVertices * VERTEX_SIZE];
 		triangles = new short[maxTriangles * 3];
@@ -221,9 +242,8 @@ public class PolygonSpriteBatch implements Batch {
 		final int regionVerticesLength = regionVertices.length;
 
 		final Texture texture = region.region.texture;
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + regionTrianglesLength > triangles.length
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + regionTrianglesLength > triangles.length
 			|| vertexIndex + regionVerticesLength * VERTEX_SIZE / 2 > vertices.length) flush();
 
 		int triangleIndex = this.triangleIndex;
@@ -260,9 +280,8 @@ public class PolygonSpriteBatch implements Batch {
 		final TextureRegion textureRegion = region.region;
 
 		final Texture texture = textureRegion.texture;
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + regionTrianglesLength > triangles.length
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + regionTrianglesLength > triangles.length
 			|| vertexIndex + regionVerticesLength * VERTEX_SIZE / 2 > vertices.length) flush();
 
 		int triangleIndex = this.triangleIndex;
@@ -305,9 +324,8 @@ public class PolygonSpriteBatch implements Batch {
 		final TextureRegion textureRegion = region.region;
 
 		Texture texture = textureRegion.texture;
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + regionTrianglesLength > triangles.length
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + regionTrianglesLength > triangles.length
 			|| vertexIndex + regionVerticesLength * VERTEX_SIZE / 2 > vertices.length) flush();
 
 		int triangleIndex = this.triangleIndex;
@@ -351,9 +369,8 @@ public class PolygonSpriteBatch implements Batch {
 		final short[] triangles = this.triangles;
 		final float[] vertices = this.vertices;
 
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + trianglesCount > triangles.length || vertexIndex + verticesCount > vertices.length) //
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + trianglesCount > triangles.length || vertexIndex + verticesCount > vertices.length) //
 			flush();
 
 		int triangleIndex = this.triangleIndex;
@@ -376,9 +393,8 @@ public class PolygonSpriteBatch implements Batch {
 		final short[] triangles = this.triangles;
 		final float[] vertices = this.vertices;
 
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
 			flush();
 
 		int triangleIndex = this.triangleIndex;
@@ -518,9 +534,8 @@ public class PolygonSpriteBatch implements Batch {
 		final short[] triangles = this.triangles;
 		final float[] vertices = this.vertices;
 
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
 			flush();
 
 		int triangleIndex = this.triangleIndex;
@@ -587,9 +602,8 @@ public class PolygonSpriteBatch implements Batch {
 		final short[] triangles = this.triangles;
 		final float[] vertices = this.vertices;
 
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
 			flush();
 
 		int triangleIndex = this.triangleIndex;
@@ -644,9 +658,8 @@ public class PolygonSpriteBatch implements Batch {
 		final short[] triangles = this.triangles;
 		final float[] vertices = this.vertices;
 
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
 			flush();
 
 		int triangleIndex = this.triangleIndex;
@@ -702,9 +715,8 @@ public class PolygonSpriteBatch implements Batch {
 		final short[] triangles = this.triangles;
 		final float[] vertices = this.vertices;
 
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
 			flush();
 
 		int triangleIndex = this.triangleIndex;
@@ -760,9 +772,8 @@ public class PolygonSpriteBatch implements Batch {
 		final float[] vertices = this.vertices;
 
 		final int triangleCount = count / SPRITE_SIZE * 6;
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + triangleCount > triangles.length || vertexIndex + count > vertices.length) //
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + triangleCount > triangles.length || vertexIndex + count > vertices.length) //
 			flush();
 
 		final int vertexIndex = this.vertexIndex;
@@ -795,9 +806,8 @@ public class PolygonSpriteBatch implements Batch {
 		final float[] vertices = this.vertices;
 
 		Texture texture = region.texture;
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
 			flush();
 
 		int triangleIndex = this.triangleIndex;
@@ -854,9 +864,8 @@ public class PolygonSpriteBatch implements Batch {
 		final float[] vertices = this.vertices;
 
 		Texture texture = region.texture;
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
 			flush();
 
 		int triangleIndex = this.triangleIndex;
@@ -985,9 +994,8 @@ public class PolygonSpriteBatch implements Batch {
 		final float[] vertices = this.vertices;
 
 		Texture texture = region.texture;
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
 			flush();
 
 		int triangleIndex = this.triangleIndex;
@@ -1131,9 +1139,8 @@ public class PolygonSpriteBatch implements Batch {
 		final float[] vertices = this.vertices;
 
 		Texture texture = region.texture;
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
+		if (texture != lastTexture) switchTexture(texture);
+		if (triangleIndex + 6 > triangles.length || vertexIndex + SPRITE_SIZE > vertices.length) //
 			flush();
 
 		int triangleIndex = this.triangleIndex;
@@ -1286,7 +1293,7 @@ public class PolygonSpriteBatch implements Batch {
 		}
 	}
 
-	private void switchTexture (Texture texture) {
+	protected void switchTexture (Texture texture) {
 		flush();
 		lastTexture = texture;
 		invTexWidth = 1.0f / texture.getWidth();
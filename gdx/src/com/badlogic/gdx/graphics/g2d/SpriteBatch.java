@@ -39,7 +39,7 @@ public class SpriteBatch implements Batch {
 	 *             used when gles 3 is not available, defaults to {@link VertexDataType#VertexArray}. */
 	@Deprecated public static VertexDataType defaultVertexDataType = VertexDataType.VertexArray;
 
-	private Mesh mesh;
+	Mesh mesh;
 
 	final float[] vertices;
 	int idx = 0;
@@ -93,15 +93,34 @@ public class SpriteBatch implements Batch {
 	 * @param size The max number of sprites in a single batch. Max of 8191.
 	 * @param defaultShader The default shader to use. This is not owned by the SpriteBatch and must be disposed separately. */
 	public SpriteBatch (int size, ShaderProgram defaultShader) {
+		this(size, defaultShader, (VertexDataType)null);
+	}
+
+	/** Constructs a new SpriteBatch which uses the specified type of vertex data for its mesh. See
+	 * {@link #SpriteBatch(int, ShaderProgram)}.
+	 * @param vertexDataType The vertex data type of the mesh, eg {@link VertexDataType#VertexBufferObjectStreaming} for batches
+	 *           that are flushed many times per frame. May be null to choose the type based on the GL version. */
+	public SpriteBatch (int size, ShaderProgram defaultShader, VertexDataType vertexDataType) {
+		this(size, defaultShader, vertexDataType,
+			new VertexAttribute[] {new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+				new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+				new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0")});
+	}
+
+	/** @param attributes The vertex attributes of the mesh, which may have more attributes than the vertices stored by the batch
+	 *           if a subclass expands the vertices when flushing. */
+	SpriteBatch (int size, ShaderProgram defaultShader, VertexAttribute[] attributes) {
+		this(size, defaultShader, null, attributes);
+	}
+
+	SpriteBatch (int size, ShaderProgram defaultShader, VertexDataType vertexDataType, VertexAttribute[] attributes) {
 		// 32767 is max vertex index, so 32767 / 4 vertices per sprite = 8191 sprites max.
 		if (size > 8191) throw new IllegalArgumentException("Can't have more than 8191 sprites per batch: " + size);
 
-		VertexDataType vertexDataType = (Gdx.gl30 != null) ? VertexDataType.VertexBufferObjectWithVAO : defaultVertexDataType;
+		if (vertexDataType == null)
+			vertexDataType = (Gdx.gl30 != null) ? VertexDataType.VertexBufferObjectWithVAO : defaultVertexDataType;
 
-		mesh = new Mesh(vertexDataType, false, size * 4, size * 6,
-			new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
-			new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
-			new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+		mesh = new Mesh(vertexDataType, false, size * 4, size * 6, attributes);
 
 		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
@@ -560,15 +579,11 @@ public class SpriteBatch implements Batch {
 		if (!drawing) throw new IllegalStateException("SpriteBatch.begin must be called before draw.");
 
 		int verticesLength = vertices.length;
-		int remainingVertices = verticesLength;
-		if (texture != lastTexture)
-			switchTexture(texture);
-		else {
-			remainingVertices -= idx;
-			if (remainingVertices == 0) {
-				flush();
-				remainingVertices = verticesLength;
-			}
+		if (texture != lastTexture) switchTexture(texture);
+		int remainingVertices = verticesLength - idx;
+		if (remainingVertices == 0) {
+			flush();
+			remainingVertices = verticesLength;
 		}
 		int copyCount = Math.min(remainingVertices, count);
 
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.IntArray;
+
+/** Assigns the textures used by a batch to texture units and records which texture each range of vertices uses, so a batch only
+ * needs to flush when more textures are used than there are units. Used by {@link MultiTextureSpriteBatch} and
+ * {@link MultiTexturePolygonSpriteBatch}. */
+class TextureSlots {
+	/** The name of the vertex attribute holding the texture unit index of each vertex. */
+	static final String TEXTURE_INDEX_ATTRIBUTE = "a_texIndex";
+
+	/** Maximum texture units used even if the GPU has more, which keeps the fragment shader branch chain short. */
+	static final int MAX_TEXTURES = 16;
+
+	final Texture[] textures;
+	int size;
+	/** Pairs of vertex array index and texture slot, each pair starts a range of vertices using that slot. */
+	private final IntArray ranges = new IntArray();
+	private final int[] units;
+
+	TextureSlots (int maxTextures) {
+		textures = new Texture[maxTextures];
+		units = new int[maxTextures];
+		for (int i = 0; i < maxTextures; i++)
+			units[i] = i;
+	}
+
+	/** Returns the slot of the texture, or -1 if it isn't in a slot. */
+	int indexOf (Texture texture) {
+		Texture[] textures = this.textures;
+		for (int i = 0, n = size; i < n; i++)
+			if (textures[i] == texture) return i;
+		return -1;
+	}
+
+	boolean isFull () {
+		return size == textures.length;
+	}
+
+	/** Uses the texture for the vertices starting at the specified index, adding it to a free slot if necessary. The slots must not
+	 * be {@link #isFull() full} unless the texture is already in a slot. */
+	void use (Texture texture, int vertexIndex) {
+		int slot = indexOf(texture);
+		if (slot == -1) {
+			slot = size;
+			textures[size++] = texture;
+		}
+		IntArray ranges = this.ranges;
+		if (ranges.size > 0 && ranges.items[ranges.size - 2] == vertexIndex)
+			ranges.items[ranges.size - 1] = slot; // No vertices used the previous texture.
+		else {
+			ranges.add(vertexIndex);
+			ranges.add(slot);
+		}
+	}
+
+	/** Removes all textures and ranges, then uses the specified texture for subsequent vertices.
+	 * @param texture May be null. */
+	void reset (Texture texture) {
+		Texture[] textures = this.textures;
+		for (int i = 0, n = size; i < n; i++)
+			textures[i] = null;
+		size = 0;
+		ranges.clear();
+		if (texture != null) use(texture, 0);
+	}
+
+	/** Binds the textures to their units. Texture unit 0 is active afterward. */
+	void bind () {
+		Texture[] textures = this.textures;
+		for (int i = size - 1; i >= 0; i--)
+			textures[i].bind(i);
+	}
+
+	/** Sets the sampler array uniform of the shader to the texture units. The shader must be bound. */
+	void setUnits (ShaderProgram shader) {
+		Gdx.gl.glUniform1iv(shader.fetchUniformLocation("u_texture", true), units.length, units, 0);
+	}
+
+	/** Copies the vertices to the output, adding the texture slot after the stored components of each vertex.
+	 * @param vertexSize The number of floats per vertex in the input.
+	 * @return The number of floats written to the output. */
+	int expand (float[] vertices, int length, int vertexSize, float[] output) {
+		int[] ranges = this.ranges.items;
+		int rangeCount = this.ranges.size;
+		int o = 0;
+		for (int r = 0; r < rangeCount; r += 2) {
+			int end = r + 2 < rangeCount ? ranges[r + 2] : length;
+			float slot = ranges[r + 1];
+			for (int i = ranges[r]; i < end; i += vertexSize) {
+				for (int ii = 0; ii < vertexSize; ii++)
+					output[o++] = vertices[i + ii];
+				output[o++] = slot;
+			}
+		}
+		return o;
+	}
+
+	/** Returns the number of texture units to use: the smaller of the specified maximum, {@link #MAX_TEXTURES} and
+	 * {@link GL20#GL_MAX_TEXTURE_IMAGE_UNITS}. */
+	static int getMaxTextures (int maxTextures) {
+		IntBuffer buffer = BufferUtils.newIntBuffer(16);
+		Gdx.gl.glGetIntegerv(GL20.GL_MAX_TEXTURE_IMAGE_UNITS, buffer);
+		return Math.max(1, Math.min(Math.min(maxTextures, MAX_TEXTURES), buffer.get(0)));
+	}
+
+	static VertexAttribute[] createAttributes () {
+		return new VertexAttribute[] {new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+			new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+			new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"),
+			new VertexAttribute(Usage.Generic, 1, TEXTURE_INDEX_ATTRIBUTE)};
+	}
+
+	/** Returns a new shader like {@link SpriteBatch#createDefaultShader()}, except u_texture is an array of samplers selected by
+	 * the texture index attribute. GLSL ES 1.0 can't index a sampler array dynamically, so a branch per texture unit is used
+	 * which works for both GL20 and GL30. */
+	static ShaderProgram createDefaultShader (int maxTextures) {
+		String vertexShader = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
+			+ "attribute float " + TEXTURE_INDEX_ATTRIBUTE + ";\n" //
+			+ "uniform mat4 u_projTrans;\n" //
+			+ "varying vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "varying float v_texIndex;\n" //
+			+ "\n" //
+			+ "void main()\n" //
+			+ "{\n" //
+			+ "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "   v_color.a = v_color.a * (255.0/254.0);\n" //
+			+ "   v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
+			+ "   v_texIndex = " + TEXTURE_INDEX_ATTRIBUTE + ";\n" //
+			+ "   gl_Position =  u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" //
+			+ "}\n";
+		StringBuilder fragmentShader = new StringBuilder(512 + maxTextures * 64);
+		fragmentShader.append("#ifdef GL_ES\n" //
+			+ "#define LOWP lowp\n" //
+			+ "precision mediump float;\n" //
+			+ "#else\n" //
+			+ "#define LOWP \n" //
+			+ "#endif\n" //
+			+ "varying LOWP vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "varying float v_texIndex;\n" //
+			+ "uniform sampler2D u_texture[" + maxTextures + "];\n" //
+			+ "void main()\n"//
+			+ "{\n" //
+			+ "  vec4 texel;\n");
+		for (int i = 0; i < maxTextures - 1; i++) {
+			if (i > 0) fragmentShader.append("  else ");
+			else
+				fragmentShader.append("  ");
+			fragmentShader.append("if (v_texIndex < " + i + ".5) texel = texture2D(u_texture[" + i + "], v_texCoords);\n");
+		}
+		if (maxTextures > 1) fragmentShader.append("  else ");
+		else
+			fragmentShader.append("  ");
+		fragmentShader.append("texel = texture2D(u_texture[" + (maxTextures - 1) + "], v_texCoords);\n" //
+			+ "  gl_FragColor = v_color * texel;\n" //
+			+ "}");
+
+		ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader.toString());
+		if (shader.isCompiled() == false) throw new IllegalArgumentException("Error compiling shader: " + shader.getLog());
+		return shader;
+	}
+}
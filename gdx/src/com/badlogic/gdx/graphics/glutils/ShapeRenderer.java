@@ -206,8 +206,7 @@ public class ShapeRenderer implements Disposable {
 		if (shapeType != null) throw new IllegalStateException("Call end() before beginning a new shape batch.");
 		shapeType = type;
 		if (matrixDirty) {
-			combinedMatrix.set(projectionMatrix);
-			Matrix4.mul(combinedMatrix.val, transformMatrix.val);
+			combinedMatrix.set(projectionMatrix).mul(transformMatrix);
 			matrixDirty = false;
 		}
 		renderer.begin(combinedMatrix, shapeType.getGlType());
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Application.ApplicationType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/** A {@link VertexData} implementation for vertices that are replaced every time they are drawn, such as by
+ * {@link com.badlogic.gdx.graphics.g2d.SpriteBatch#flush()}. The OpenGL buffer is a ring several times larger than the vertices.
+ * Each upload is written with glBufferSubData after the previous one, so the driver never has to wait for the GPU to finish
+ * drawing vertices that were uploaded earlier in the frame. When the ring is full the buffer storage is orphaned by calling
+ * glBufferData without data, which gives the driver fresh storage while pending draws keep using the old storage, and writing
+ * continues at the start.
+ * <p>
+ * The attribute pointers are offset to the most recent upload each time the vertices are bound. A vertex array object is used when
+ * GL30 is available, as required by core profiles. WebGL can't allocate buffer storage without data, so there each upload
+ * replaces the whole buffer, which orphans the previous storage.
+ * <p>
+ * If the OpenGL ES context was lost you can call {@link #invalidate()} to recreate a new OpenGL vertex buffer object.
+ * <p>
+ * VertexBufferObjectStreaming objects must be disposed via the {@link #dispose()} method when no longer needed. */
+public class VertexBufferObjectStreaming implements VertexData {
+	/** The default number of uploads of the maximum number of vertices that fit in the ring before it is orphaned. */
+	static public final int DEFAULT_BUFFER_COUNT = 8;
+
+	final static IntBuffer tmpHandle = BufferUtils.newIntBuffer(1);
+
+	final VertexAttributes attributes;
+	final FloatBuffer buffer;
+	final ByteBuffer byteBuffer;
+	final int ringSize;
+	final boolean subAllocate;
+	int bufferHandle;
+	int vaoHandle = -1;
+	/** Byte offset in the ring where the next upload is written and where the last upload was written. */
+	int writeOffset, drawOffset;
+	boolean isDirty = false;
+	boolean isBound = false;
+	ShaderProgram boundShader;
+	int[] boundLocations;
+
+	/** Constructs a new streaming VertexBufferObject with a ring of {@link #DEFAULT_BUFFER_COUNT} times the maximum vertices.
+	 * @param numVertices the maximum number of vertices
+	 * @param attributes the {@link VertexAttribute}s. */
+	public VertexBufferObjectStreaming (int numVertices, VertexAttribute... attributes) {
+		this(numVertices, DEFAULT_BUFFER_COUNT, new VertexAttributes(attributes));
+	}
+
+	/** Constructs a new streaming VertexBufferObject.
+	 * @param numVertices the maximum number of vertices
+	 * @param bufferCount the number of uploads of the maximum number of vertices that fit in the ring before it is orphaned
+	 * @param attributes the {@link VertexAttributes}. */
+	public VertexBufferObjectStreaming (int numVertices, int bufferCount, VertexAttributes attributes) {
+		if (bufferCount < 1) throw new IllegalArgumentException("bufferCount must be > 0: " + bufferCount);
+		this.attributes = attributes;
+
+		byteBuffer = BufferUtils.newByteBuffer(attributes.vertexSize * numVertices);
+		buffer = byteBuffer.asFloatBuffer();
+		buffer.flip();
+		byteBuffer.flip();
+		ringSize = byteBuffer.capacity() * bufferCount;
+		subAllocate = Gdx.app.getType() != ApplicationType.WebGL;
+		createBuffer();
+		if (Gdx.gl30 != null) createVAO();
+	}
+
+	@Override
+	public VertexAttributes getAttributes () {
+		return attributes;
+	}
+
+	@Override
+	public int getNumVertices () {
+		return buffer.limit() * 4 / attributes.vertexSize;
+	}
+
+	@Override
+	public int getNumMaxVertices () {
+		return byteBuffer.capacity() / attributes.vertexSize;
+	}
+
+	@Override
+	public FloatBuffer getBuffer () {
+		isDirty = true;
+		return buffer;
+	}
+
+	private void bufferChanged () {
+		if (isBound) {
+			upload();
+			setAttributes(boundShader, boundLocations);
+		}
+	}
+
+	@Override
+	public void setVertices (float[] vertices, int offset, int count) {
+		isDirty = true;
+		BufferUtils.copy(vertices, byteBuffer, count, offset);
+		buffer.position(0);
+		buffer.limit(count);
+		bufferChanged();
+	}
+
+	@Override
+	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
+		isDirty = true;
+		final int pos = byteBuffer.position();
+		byteBuffer.position(targetOffset * 4);
+		BufferUtils.copy(vertices, sourceOffset, count, byteBuffer);
+		byteBuffer.position(pos);
+		buffer.position(0);
+		bufferChanged();
+	}
+
+	/** Writes the vertices after the previous upload, orphaning the buffer storage if the ring is full. The buffer must be bound. */
+	private void upload () {
+		GL20 gl = Gdx.gl20;
+		int size = buffer.limit() * 4;
+		buffer.position(0);
+		if (!subAllocate) {
+			gl.glBufferData(GL20.GL_ARRAY_BUFFER, size, buffer, GL20.GL_STREAM_DRAW);
+			drawOffset = 0;
+		} else {
+			if (writeOffset + size > ringSize) {
+				gl.glBufferData(GL20.GL_ARRAY_BUFFER, ringSize, null, GL20.GL_STREAM_DRAW);
+				writeOffset = 0;
+			}
+			if (size > 0) gl.glBufferSubData(GL20.GL_ARRAY_BUFFER, writeOffset, size, buffer);
+			drawOffset = writeOffset;
+			writeOffset += size;
+		}
+		isDirty = false;
+	}
+
+	private void setAttributes (ShaderProgram shader, int[] locations) {
+		final int numAttributes = attributes.size();
+		for (int i = 0; i < numAttributes; i++) {
+			final VertexAttribute attribute = attributes.get(i);
+			final int location = locations == null ? shader.getAttributeLocation(attribute.alias) : locations[i];
+			if (location < 0) continue;
+			shader.enableVertexAttribute(location);
+			shader.setVertexAttribute(location, attribute.numComponents, attribute.type, attribute.normalized,
+				attributes.vertexSize, drawOffset + attribute.offset);
+		}
+	}
+
+	/** Binds this VertexBufferObjectStreaming for rendering via glDrawArrays or glDrawElements
+	 *
+	 * @param shader the shader */
+	@Override
+	public void bind (ShaderProgram shader) {
+		bind(shader, null);
+	}
+
+	@Override
+	public void bind (ShaderProgram shader, int[] locations) {
+		if (vaoHandle != -1) Gdx.gl30.glBindVertexArray(vaoHandle);
+		Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		if (isDirty) upload();
+		setAttributes(shader, locations);
+		boundShader = shader;
+		boundLocations = locations;
+		isBound = true;
+	}
+
+	/** Unbinds this VertexBufferObjectStreaming.
+	 *
+	 * @param shader the shader */
+	@Override
+	public void unbind (final ShaderProgram shader) {
+		unbind(shader, null);
+	}
+
+	@Override
+	public void unbind (final ShaderProgram shader, final int[] locations) {
+		if (vaoHandle != -1)
+			Gdx.gl30.glBindVertexArray(0);
+		else {
+			final int numAttributes = attributes.size();
+			for (int i = 0; i < numAttributes; i++) {
+				final int location = locations == null ? shader.getAttributeLocation(attributes.get(i).alias) : locations[i];
+				if (location >= 0) shader.disableVertexAttribute(location);
+			}
+		}
+		Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		boundShader = null;
+		boundLocations = null;
+		isBound = false;
+	}
+
+	/** Invalidates the VertexBufferObjectStreaming so a new OpenGL buffer handle is created. Use this in case of a context loss. */
+	@Override
+	public void invalidate () {
+		createBuffer();
+		if (vaoHandle != -1) createVAO();
+		isDirty = true;
+	}
+
+	/** Disposes of all resources this VertexBufferObjectStreaming uses. */
+	@Override
+	public void dispose () {
+		GL20 gl = Gdx.gl20;
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		gl.glDeleteBuffer(bufferHandle);
+		bufferHandle = 0;
+		deleteVAO();
+	}
+
+	private void createBuffer () {
+		GL20 gl = Gdx.gl20;
+		bufferHandle = gl.glGenBuffer();
+		writeOffset = 0;
+		drawOffset = 0;
+		if (subAllocate) {
+			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+			gl.glBufferData(GL20.GL_ARRAY_BUFFER, ringSize, null, GL20.GL_STREAM_DRAW);
+			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		}
+	}
+
+	private void createVAO () {
+		tmpHandle.clear();
+		Gdx.gl30.glGenVertexArrays(1, tmpHandle);
+		vaoHandle = tmpHandle.get();
+	}
+
+	private void deleteVAO () {
+		if (vaoHandle != -1) {
+			tmpHandle.clear();
+			tmpHandle.put(vaoHandle);
+			tmpHandle.flip();
+			Gdx.gl30.glDeleteVertexArrays(1, tmpHandle);
+			vaoHandle = -1;
+		}
+	}
+}
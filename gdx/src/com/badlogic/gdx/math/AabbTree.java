@@ -0,0 +1,600 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+
+/** A dynamic bounding volume hierarchy of axis aligned boxes, to be used as a broadphase. Each proxy is stored in a leaf with a
+ * fat box, which is the box given by the user grown by a margin, so that small movements don't require to update the tree. The
+ * tree is kept balanced with rotations when proxies are inserted or removed, see {@link #rebalance(int)} to improve it further
+ * over time. The nodes are stored in primitive arrays indexed by the proxy id, no object is allocated per node.
+ * <p>
+ * The dimension specific methods are in {@link AabbTree2} and {@link AabbTree3}. Instances are not thread safe. The tree must not
+ * be changed from inside a query callback. */
+public abstract class AabbTree {
+	/** The id of a missing node. */
+	static public final int NULL = -1;
+
+	/** Called for each proxy which box overlaps the queried area. */
+	static public interface QueryCallback {
+		/** @return false to stop the query */
+		public boolean reportProxy (int proxy);
+	}
+
+	/** Called for each proxy which box is hit by the ray. */
+	static public interface RayCastCallback {
+		/** @param maxFraction the current length of the ray
+		 * @return the new length of the ray, to clip the ray, 0 to stop the ray cast, or maxFraction to continue unchanged */
+		public float reportRayCast (int proxy, float maxFraction);
+	}
+
+	final int dimensions, stride;
+	/** Per node the fat box, the minimum in each dimension followed by the maximum in each dimension. */
+	float[] bounds;
+	/** Per node the parent, or the next free node when the node is free. */
+	int[] parents;
+	int[] children1, children2;
+	/** Per node the height, 0 for a leaf and -1 for a free node. */
+	int[] heights;
+	Object[] userData;
+	boolean[] moved;
+	int root = NULL, capacity, freeList = NULL, proxyCount;
+	float margin;
+
+	final IntArray movedProxies = new IntArray();
+	final IntArray stack = new IntArray(64);
+	final float[] tmpBounds;
+	int rebalanceIndex;
+
+	AabbTree (int dimensions, float margin) {
+		this.dimensions = dimensions;
+		this.stride = dimensions * 2;
+		this.margin = margin;
+		tmpBounds = new float[stride];
+		bounds = new float[0];
+		parents = children1 = children2 = heights = new int[0];
+		userData = new Object[0];
+		moved = new boolean[0];
+		ensureCapacity(16);
+	}
+
+	/** Makes sure the tree can store the specified number of nodes without growing. The tree uses about twice as many nodes as
+	 * proxies. */
+	public void ensureCapacity (int nodeCount) {
+		if (nodeCount <= capacity) return;
+		int oldCapacity = capacity;
+		float[] newBounds = new float[nodeCount * stride];
+		System.arraycopy(bounds, 0, newBounds, 0, bounds.length);
+		bounds = newBounds;
+		parents = copy(parents, nodeCount);
+		children1 = copy(children1, nodeCount);
+		children2 = copy(children2, nodeCount);
+		heights = copy(heights, nodeCount);
+		Object[] newUserData = new Object[nodeCount];
+		System.arraycopy(userData, 0, newUserData, 0, oldCapacity);
+		userData = newUserData;
+		boolean[] newMoved = new boolean[nodeCount];
+		System.arraycopy(moved, 0, newMoved, 0, oldCapacity);
+		moved = newMoved;
+		// Link the new nodes in the free list, keeping the lowest ids first.
+		for (int i = nodeCount - 1; i >= oldCapacity; i--) {
+			parents[i] = freeList;
+			heights[i] = -1;
+			freeList = i;
+		}
+		capacity = nodeCount;
+	}
+
+	static private int[] copy (int[] array, int size) {
+		int[] newArray = new int[size];
+		System.arraycopy(array, 0, newArray, 0, array.length);
+		return newArray;
+	}
+
+	private int allocateNode () {
+		if (freeList == NULL) ensureCapacity(Math.max(16, capacity * 2));
+		int node = freeList;
+		freeList = parents[node];
+		parents[node] = NULL;
+		children1[node] = NULL;
+		children2[node] = NULL;
+		heights[node] = 0;
+		userData[node] = null;
+		moved[node] = false;
+		return node;
+	}
+
+	private void freeNode (int node) {
+		parents[node] = freeList;
+		heights[node] = -1;
+		userData[node] = null;
+		moved[node] = false;
+		freeList = node;
+	}
+
+	/** Creates a proxy for the box in {@link #tmpBounds}. */
+	int createProxy (Object data) {
+		int proxy = allocateNode();
+		int offset = proxy * stride;
+		for (int i = 0; i < dimensions; i++) {
+			bounds[offset + i] = tmpBounds[i] - margin;
+			bounds[offset + dimensions + i] = tmpBounds[dimensions + i] + margin;
+		}
+		userData[proxy] = data;
+		insertLeaf(proxy);
+		moved[proxy] = true;
+		movedProxies.add(proxy);
+		proxyCount++;
+		return proxy;
+	}
+
+	/** Removes the proxy from the tree, its id may be reused by a proxy created later. */
+	public void destroyProxy (int proxy) {
+		if (!isProxy(proxy)) throw new GdxRuntimeException("Invalid proxy: " + proxy);
+		if (moved[proxy]) movedProxies.removeValue(proxy);
+		removeLeaf(proxy);
+		freeNode(proxy);
+		proxyCount--;
+	}
+
+	/** Moves the proxy to the box in {@link #tmpBounds}.
+	 * @return whether the fat box was updated */
+	boolean moveProxy (int proxy, boolean force) {
+		if (!isProxy(proxy)) throw new GdxRuntimeException("Invalid proxy: " + proxy);
+		int offset = proxy * stride;
+		if (!force) {
+			boolean contained = true;
+			for (int i = 0; i < dimensions; i++) {
+				if (tmpBounds[i] < bounds[offset + i] || tmpBounds[dimensions + i] > bounds[offset + dimensions + i]) {
+					contained = false;
+					break;
+				}
+			}
+			if (contained) return false;
+		}
+		removeLeaf(proxy);
+		for (int i = 0; i < dimensions; i++) {
+			bounds[offset + i] = tmpBounds[i] - margin;
+			bounds[offset + dimensions + i] = tmpBounds[dimensions + i] + margin;
+		}
+		insertLeaf(proxy);
+		if (!moved[proxy]) {
+			moved[proxy] = true;
+			movedProxies.add(proxy);
+		}
+		return true;
+	}
+
+	/** @return whether the id belongs to a proxy currently in the tree */
+	public boolean isProxy (int proxy) {
+		return proxy >= 0 && proxy < capacity && heights[proxy] == 0;
+	}
+
+	public Object getUserData (int proxy) {
+		return userData[proxy];
+	}
+
+	public void setUserData (int proxy, Object data) {
+		userData[proxy] = data;
+	}
+
+	/** @return the number of proxies in the tree */
+	public int getProxyCount () {
+		return proxyCount;
+	}
+
+	/** @return the height of the tree, 0 when empty or with a single proxy */
+	public int getHeight () {
+		return root == NULL ? 0 : heights[root];
+	}
+
+	/** @return the margin the boxes of new or updated proxies are grown by */
+	public float getMargin () {
+		return margin;
+	}
+
+	/** Sets the margin the boxes of new or updated proxies are grown by. A larger margin results in less updates of the tree when
+	 * the proxies move, but in more false positives in the queries. */
+	public void setMargin (float margin) {
+		this.margin = margin;
+	}
+
+	/** Removes all proxies, the capacity is kept. */
+	public void clear () {
+		freeList = NULL;
+		for (int i = capacity - 1; i >= 0; i--) {
+			parents[i] = freeList;
+			heights[i] = -1;
+			userData[i] = null;
+			moved[i] = false;
+			freeList = i;
+		}
+		root = NULL;
+		proxyCount = 0;
+		rebalanceIndex = 0;
+		movedProxies.clear();
+	}
+
+	/** Adds the ids of each pair of proxies which fat boxes overlap to the array, two values per pair.
+	 * @return the number of pairs added */
+	public int getPairs (IntArray pairs) {
+		int count = 0;
+		for (int proxy = 0; proxy < capacity; proxy++) {
+			if (heights[proxy] != 0) continue;
+			count += addPairs(proxy, pairs, false);
+		}
+		return count;
+	}
+
+	/** Adds the ids of each pair of proxies which fat boxes overlap and of which at least one proxy was created or had its fat box
+	 * updated since the last call, two values per pair. This is the incremental version of {@link #getPairs(IntArray)}: pairs
+	 * that didn't change are not reported again. The moved state of all proxies is cleared.
+	 * @return the number of pairs added */
+	public int getMovedPairs (IntArray pairs) {
+		int count = 0;
+		int[] items = movedProxies.items;
+		for (int i = 0, n = movedProxies.size; i < n; i++)
+			count += addPairs(items[i], pairs, true);
+		for (int i = 0, n = movedProxies.size; i < n; i++)
+			moved[items[i]] = false;
+		movedProxies.clear();
+		return count;
+	}
+
+	/** Adds the pairs of the proxy with the proxies which fat box overlaps its own fat box. Each pair is added once: the pair is
+	 * added by the proxy with the lower id, if that proxy is part of the searched set. */
+	private int addPairs (int proxy, IntArray pairs, boolean movedOnly) {
+		final float[] bounds = this.bounds;
+		final int stride = this.stride, dimensions = this.dimensions, offset = proxy * stride;
+		final IntArray stack = this.stack;
+		int count = 0;
+		stack.clear();
+		stack.add(root);
+		while (stack.size > 0) {
+			int node = stack.pop();
+			if (!overlaps(bounds, node * stride, bounds, offset, dimensions)) continue;
+			if (heights[node] == 0) {
+				if (node == proxy) continue;
+				if (movedOnly) {
+					if (moved[node] && node < proxy) continue;
+				} else if (node < proxy) continue;
+				pairs.add(proxy);
+				pairs.add(node);
+				count++;
+			} else {
+				stack.add(children1[node]);
+				stack.add(children2[node]);
+			}
+		}
+		return count;
+	}
+
+	/** Reinserts the specified number of proxies, one after the other across calls, so that the tree improves when the proxies
+	 * move a lot in the same direction. The proxies are not marked as moved. */
+	public void rebalance (int iterations) {
+		if (proxyCount < 2) return;
+		int index = rebalanceIndex;
+		for (int i = 0; i < iterations; i++) {
+			do {
+				if (++index >= capacity) index = 0;
+			} while (heights[index] != 0);
+			removeLeaf(index);
+			insertLeaf(index);
+		}
+		rebalanceIndex = index;
+	}
+
+	/** Calls the callback for each proxy which fat box overlaps the box in {@link #tmpBounds}. */
+	void queryBounds (QueryCallback callback, IntArray result) {
+		if (root == NULL) return;
+		final float[] bounds = this.bounds, tmpBounds = this.tmpBounds;
+		final int stride = this.stride, dimensions = this.dimensions;
+		final IntArray stack = this.stack;
+		stack.clear();
+		stack.add(root);
+		while (stack.size > 0) {
+			int node = stack.pop();
+			if (!overlaps(bounds, node * stride, tmpBounds, 0, dimensions)) continue;
+			if (heights[node] == 0) {
+				if (callback == null)
+					result.add(node);
+				else if (!callback.reportProxy(node)) return;
+			} else {
+				stack.add(children1[node]);
+				stack.add(children2[node]);
+			}
+		}
+	}
+
+	/** Casts a ray from the origin in the first half of {@link #tmpBounds} along the direction in the second half, scaled by
+	 * maxFraction. The callback, or the result when the callback is null, receives each proxy which fat box is hit. */
+	void rayCastBounds (float maxFraction, RayCastCallback callback, IntArray result) {
+		if (root == NULL) return;
+		final float[] bounds = this.bounds, tmpBounds = this.tmpBounds;
+		final int stride = this.stride, dimensions = this.dimensions;
+		final IntArray stack = this.stack;
+		stack.clear();
+		stack.add(root);
+		while (stack.size > 0) {
+			int node = stack.pop();
+			if (!intersectsRay(bounds, node * stride, tmpBounds, dimensions, maxFraction)) continue;
+			if (heights[node] == 0) {
+				if (callback == null)
+					result.add(node);
+				else {
+					float value = callback.reportRayCast(node, maxFraction);
+					if (value == 0) return;
+					if (value > 0 && value < maxFraction) maxFraction = value;
+				}
+			} else {
+				stack.add(children1[node]);
+				stack.add(children2[node]);
+			}
+		}
+	}
+
+	static boolean overlaps (float[] a, int aOffset, float[] b, int bOffset, int dimensions) {
+		for (int i = 0; i < dimensions; i++) {
+			if (a[aOffset + i] > b[bOffset + dimensions + i] || b[bOffset + i] > a[aOffset + dimensions + i]) return false;
+		}
+		return true;
+	}
+
+	/** Slab test of the ray with the origin at ray[0..dimensions] and the direction at ray[dimensions..stride], for the
+	 * parameter in [0, maxFraction]. */
+	static boolean intersectsRay (float[] bounds, int offset, float[] ray, int dimensions, float maxFraction) {
+		float tMin = 0, tMax = maxFraction;
+		for (int i = 0; i < dimensions; i++) {
+			float origin = ray[i], direction = ray[dimensions + i];
+			float min = bounds[offset + i], max = bounds[offset + dimensions + i];
+			if (direction == 0) {
+				if (origin < min || origin > max) return false;
+				continue;
+			}
+			float inverse = 1f / direction;
+			float t1 = (min - origin) * inverse, t2 = (max - origin) * inverse;
+			if (t1 > t2) {
+				float t = t1;
+				t1 = t2;
+				t2 = t;
+			}
+			if (t1 > tMin) tMin = t1;
+			if (t2 < tMax) tMax = t2;
+			if (tMin > tMax) return false;
+		}
+		return true;
+	}
+
+	/** @return the cost of a box: the perimeter in 2D and the surface area in 3D, both halved */
+	final float cost (float[] a, int aOffset) {
+		if (dimensions == 2) return (a[aOffset + 2] - a[aOffset]) + (a[aOffset + 3] - a[aOffset + 1]);
+		float x = a[aOffset + 3] - a[aOffset], y = a[aOffset + 4] - a[aOffset + 1], z = a[aOffset + 5] - a[aOffset + 2];
+		return x * y + y * z + z * x;
+	}
+
+	/** @return the cost of the box containing both boxes */
+	final float unionCost (float[] a, int aOffset, float[] b, int bOffset) {
+		final int dimensions = this.dimensions;
+		if (dimensions == 2) {
+			return (Math.max(a[aOffset + 2], b[bOffset + 2]) - Math.min(a[aOffset], b[bOffset]))
+				+ (Math.max(a[aOffset + 3], b[bOffset + 3]) - Math.min(a[aOffset + 1], b[bOffset + 1]));
+		}
+		float x = Math.max(a[aOffset + 3], b[bOffset + 3]) - Math.min(a[aOffset], b[bOffset]);
+		float y = Math.max(a[aOffset + 4], b[bOffset + 4]) - Math.min(a[aOffset + 1], b[bOffset + 1]);
+		float z = Math.max(a[aOffset + 5], b[bOffset + 5]) - Math.min(a[aOffset + 2], b[bOffset + 2]);
+		return x * y + y * z + z * x;
+	}
+
+	/** Sets the box of the node to the box containing the boxes of both nodes. */
+	private void combine (int node, int a, int b) {
+		final float[] bounds = this.bounds;
+		final int stride = this.stride, dimensions = this.dimensions;
+		int offset = node * stride, aOffset = a * stride, bOffset = b * stride;
+		for (int i = 0; i < dimensions; i++) {
+			bounds[offset + i] = Math.min(bounds[aOffset + i], bounds[bOffset + i]);
+			int j = dimensions + i;
+			bounds[offset + j] = Math.max(bounds[aOffset + j], bounds[bOffset + j]);
+		}
+	}
+
+	private void insertLeaf (int leaf) {
+		if (root == NULL) {
+			root = leaf;
+			parents[leaf] = NULL;
+			return;
+		}
+
+		// Find the best sibling for the leaf.
+		final float[] bounds = this.bounds;
+		final int stride = this.stride, leafOffset = leaf * stride;
+		int index = root;
+		while (heights[index] > 0) {
+			int child1 = children1[index], child2 = children2[index];
+			float area = cost(bounds, index * stride);
+			float combinedArea = unionCost(bounds, index * stride, bounds, leafOffset);
+			// Cost of creating a new parent for this node and the new leaf.
+			float cost = 2 * combinedArea;
+			// Minimum cost of pushing the leaf further down the tree.
+			float inheritanceCost = 2 * (combinedArea - area);
+			float cost1 = unionCost(bounds, child1 * stride, bounds, leafOffset) + inheritanceCost;
+			if (heights[child1] > 0) cost1 -= cost(bounds, child1 * stride);
+			float cost2 = unionCost(bounds, child2 * stride, bounds, leafOffset) + inheritanceCost;
+			if (heights[child2] > 0) cost2 -= cost(bounds, child2 * stride);
+			if (cost < cost1 && cost < cost2) break;
+			index = cost1 < cost2 ? child1 : child2;
+		}
+		int sibling = index;
+
+		// Create a new parent.
+		int oldParent = parents[sibling];
+		int newParent = allocateNode();
+		parents[newParent] = oldParent;
+		combine(newParent, leaf, sibling);
+		heights[newParent] = heights[sibling] + 1;
+		children1[newParent] = sibling;
+		children2[newParent] = leaf;
+		parents[sibling] = newParent;
+		parents[leaf] = newParent;
+		if (oldParent != NULL) {
+			if (children1[oldParent] == sibling)
+				children1[oldParent] = newParent;
+			else
+				children2[oldParent] = newParent;
+		} else
+			root = newParent;
+
+		// Walk back up the tree fixing heights and boxes.
+		fixUpwards(parents[leaf]);
+	}
+
+	private void removeLeaf (int leaf) {
+		if (leaf == root) {
+			root = NULL;
+			return;
+		}
+		int parent = parents[leaf];
+		int grandParent = parents[parent];
+		int sibling = children1[parent] == leaf ? children2[parent] : children1[parent];
+		if (grandParent != NULL) {
+			// Destroy the parent and connect the sibling to the grand parent.
+			if (children1[grandParent] == parent)
+				children1[grandParent] = sibling;
+			else
+				children2[grandParent] = sibling;
+			parents[sibling] = grandParent;
+			freeNode(parent);
+			fixUpwards(grandParent);
+		} else {
+			root = sibling;
+			parents[sibling] = NULL;
+			freeNode(parent);
+		}
+	}
+
+	private void fixUpwards (int index) {
+		while (index != NULL) {
+			index = balance(index);
+			int child1 = children1[index], child2 = children2[index];
+			heights[index] = 1 + Math.max(heights[child1], heights[child2]);
+			combine(index, child1, child2);
+			index = parents[index];
+		}
+	}
+
+	/** Performs a left or right rotation if the node is imbalanced.
+	 * @return the new root of the subtree */
+	private int balance (int a) {
+		final int[] heights = this.heights, parents = this.parents, children1 = this.children1, children2 = this.children2;
+		if (heights[a] < 2) return a;
+		int b = children1[a], c = children2[a];
+		int balance = heights[c] - heights[b];
+
+		// Rotate C up.
+		if (balance > 1) {
+			int f = children1[c], g = children2[c];
+			children1[c] = a;
+			parents[c] = parents[a];
+			parents[a] = c;
+			replaceChild(parents[c], a, c);
+			if (heights[f] > heights[g]) {
+				children2[c] = f;
+				children2[a] = g;
+				parents[g] = a;
+				combine(a, b, g);
+				combine(c, a, f);
+				heights[a] = 1 + Math.max(heights[b], heights[g]);
+				heights[c] = 1 + Math.max(heights[a], heights[f]);
+			} else {
+				children2[c] = g;
+				children2[a] = f;
+				parents[f] = a;
+				combine(a, b, f);
+				combine(c, a, g);
+				heights[a] = 1 + Math.max(heights[b], heights[f]);
+				heights[c] = 1 + Math.max(heights[a], heights[g]);
+			}
+			return c;
+		}
+
+		// Rotate B up.
+		if (balance < -1) {
+			int d = children1[b], e = children2[b];
+			children1[b] = a;
+			parents[b] = parents[a];
+			parents[a] = b;
+			replaceChild(parents[b], a, b);
+			if (heights[d] > heights[e]) {
+				children2[b] = d;
+				children1[a] = e;
+				parents[e] = a;
+				combine(a, c, e);
+				combine(b, a, d);
+				heights[a] = 1 + Math.max(heights[c], heights[e]);
+				heights[b] = 1 + Math.max(heights[a], heights[d]);
+			} else {
+				children2[b] = e;
+				children1[a] = d;
+				parents[d] = a;
+				combine(a, c, d);
+				combine(b, a, e);
+				heights[a] = 1 + Math.max(heights[c], heights[d]);
+				heights[b] = 1 + Math.max(heights[a], heights[e]);
+			}
+			return b;
+		}
+		return a;
+	}
+
+	private void replaceChild (int parent, int oldChild, int newChild) {
+		if (parent == NULL)
+			root = newChild;
+		else if (children1[parent] == oldChild)
+			children1[parent] = newChild;
+		else
+			children2[parent] = newChild;
+	}
+
+	/** Checks the structure of the tree, throws an exception if it is invalid. */
+	void validate () {
+		if (root != NULL && parents[root] != NULL) throw new GdxRuntimeException("Root has a parent");
+		int leaves = validate(root);
+		if (leaves != proxyCount) throw new GdxRuntimeException("Leaf count " + leaves + " != proxy count " + proxyCount);
+		int free = 0;
+		for (int node = freeList; node != NULL; node = parents[node])
+			free++;
+		if (free + 2 * proxyCount - (proxyCount > 0 ? 1 : 0) != capacity)
+			throw new GdxRuntimeException("Free count " + free + " doesn't match the capacity " + capacity);
+	}
+
+	private int validate (int node) {
+		if (node == NULL) return 0;
+		if (heights[node] == 0) return 1;
+		int child1 = children1[node], child2 = children2[node];
+		if (parents[child1] != node || parents[child2] != node) throw new GdxRuntimeException("Invalid parent: " + node);
+		if (heights[node] != 1 + Math.max(heights[child1], heights[child2]))
+			throw new GdxRuntimeException("Invalid height: " + node);
+		int offset = node * stride;
+		for (int i = 0; i < dimensions; i++) {
+			int j = dimensions + i;
+			if (bounds[offset + i] != Math.min(bounds[child1 * stride + i], bounds[child2 * stride + i])
+				|| bounds[offset + j] != Math.max(bounds[child1 * stride + j], bounds[child2 * stride + j]))
+				throw new GdxRuntimeException("Invalid bounds: " + node);
+		}
+		return validate(child1) + validate(child2);
+	}
+}
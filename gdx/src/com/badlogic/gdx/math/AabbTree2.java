@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/** A dynamic tree of 2D axis aligned boxes, see {@link AabbTree}. The boxes are given as minimum and maximum coordinates or as
+ * {@link Rectangle}. */
+public class AabbTree2 extends AabbTree {
+	/** Creates a tree with a margin of 0. */
+	public AabbTree2 () {
+		this(0);
+	}
+
+	/** @param margin the margin the box of each proxy is grown by, see {@link #setMargin(float)} */
+	public AabbTree2 (float margin) {
+		super(2, margin);
+	}
+
+	/** Creates a proxy for the box.
+	 * @return the id of the proxy */
+	public int createProxy (float minX, float minY, float maxX, float maxY, Object userData) {
+		set(minX, minY, maxX, maxY);
+		return createProxy(userData);
+	}
+
+	/** Creates a proxy for the rectangle.
+	 * @return the id of the proxy */
+	public int createProxy (Rectangle rectangle, Object userData) {
+		set(rectangle);
+		return createProxy(userData);
+	}
+
+	/** Moves the proxy to the box. The tree is only updated when the box isn't contained in the fat box of the proxy anymore.
+	 * @return whether the fat box was updated */
+	public boolean moveProxy (int proxy, float minX, float minY, float maxX, float maxY) {
+		set(minX, minY, maxX, maxY);
+		return moveProxy(proxy, false);
+	}
+
+	/** Moves the proxy to the rectangle. The tree is only updated when the rectangle isn't contained in the fat box of the proxy
+	 * anymore.
+	 * @return whether the fat box was updated */
+	public boolean moveProxy (int proxy, Rectangle rectangle) {
+		set(rectangle);
+		return moveProxy(proxy, false);
+	}
+
+	/** Moves the proxy to the box and always updates the tree, for example when the box shrunk a lot. */
+	public void updateProxy (int proxy, float minX, float minY, float maxX, float maxY) {
+		set(minX, minY, maxX, maxY);
+		moveProxy(proxy, true);
+	}
+
+	/** Sets the rectangle to the fat box of the proxy.
+	 * @return the rectangle for chaining */
+	public Rectangle getFatBounds (int proxy, Rectangle out) {
+		int offset = proxy * 4;
+		return out.set(bounds[offset], bounds[offset + 1], bounds[offset + 2] - bounds[offset], bounds[offset + 3]
+			- bounds[offset + 1]);
+	}
+
+	/** Adds the ids of the proxies which fat box overlaps the box to the array. */
+	public void query (float minX, float minY, float maxX, float maxY, IntArray result) {
+		set(minX, minY, maxX, maxY);
+		queryBounds(null, result);
+	}
+
+	/** Calls the callback for each proxy which fat box overlaps the box. */
+	public void query (float minX, float minY, float maxX, float maxY, QueryCallback callback) {
+		set(minX, minY, maxX, maxY);
+		queryBounds(callback, null);
+	}
+
+	/** Adds the ids of the proxies which fat box overlaps the rectangle to the array. */
+	public void query (Rectangle rectangle, IntArray result) {
+		set(rectangle);
+		queryBounds(null, result);
+	}
+
+	/** Calls the callback for each proxy which fat box overlaps the rectangle. */
+	public void query (Rectangle rectangle, QueryCallback callback) {
+		set(rectangle);
+		queryBounds(callback, null);
+	}
+
+	/** Adds the ids of the proxies which fat box contains the point to the array. */
+	public void queryPoint (float x, float y, IntArray result) {
+		set(x, y, x, y);
+		queryBounds(null, result);
+	}
+
+	/** Adds the ids of the proxies which fat box is hit by the segment from the first point to the second point to the array. */
+	public void rayCast (float x1, float y1, float x2, float y2, IntArray result) {
+		setRay(x1, y1, x2, y2);
+		rayCastBounds(1, null, result);
+	}
+
+	/** Calls the callback for each proxy which fat box is hit by the segment from the first point to the second point. The
+	 * length of the ray given to and returned by the callback is the fraction of the segment, between 0 and 1. */
+	public void rayCast (float x1, float y1, float x2, float y2, RayCastCallback callback) {
+		setRay(x1, y1, x2, y2);
+		rayCastBounds(1, callback, null);
+	}
+
+	private void set (float minX, float minY, float maxX, float maxY) {
+		final float[] tmpBounds = this.tmpBounds;
+		tmpBounds[0] = minX;
+		tmpBounds[1] = minY;
+		tmpBounds[2] = maxX;
+		tmpBounds[3] = maxY;
+	}
+
+	private void set (Rectangle rectangle) {
+		set(rectangle.x, rectangle.y, rectangle.x + rectangle.width, rectangle.y + rectangle.height);
+	}
+
+	private void setRay (float x1, float y1, float x2, float y2) {
+		final float[] tmpBounds = this.tmpBounds;
+		tmpBounds[0] = x1;
+		tmpBounds[1] = y1;
+		tmpBounds[2] = x2 - x1;
+		tmpBounds[3] = y2 - y1;
+	}
+}
@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.math.collision.Ray;
+import com.badlogic.gdx.utils.IntArray;
+
+/** A dynamic tree of 3D axis aligned boxes, see {@link AabbTree}. The boxes are given as minimum and maximum coordinates or as
+ * {@link BoundingBox}. */
+public class AabbTree3 extends AabbTree {
+	private final float[] planeData = new float[42];
+
+	/** Creates a tree with a margin of 0. */
+	public AabbTree3 () {
+		this(0);
+	}
+
+	/** @param margin the margin the box of each proxy is grown by, see {@link #setMargin(float)} */
+	public AabbTree3 (float margin) {
+		super(3, margin);
+	}
+
+	/** Creates a proxy for the box.
+	 * @return the id of the proxy */
+	public int createProxy (float minX, float minY, float minZ, float maxX, float maxY, float maxZ, Object userData) {
+		set(minX, minY, minZ, maxX, maxY, maxZ);
+		return createProxy(userData);
+	}
+
+	/** Creates a proxy for the bounding box.
+	 * @return the id of the proxy */
+	public int createProxy (BoundingBox box, Object userData) {
+		set(box);
+		return createProxy(userData);
+	}
+
+	/** Moves the proxy to the box. The tree is only updated when the box isn't contained in the fat box of the proxy anymore.
+	 * @return whether the fat box was updated */
+	public boolean moveProxy (int proxy, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		set(minX, minY, minZ, maxX, maxY, maxZ);
+		return moveProxy(proxy, false);
+	}
+
+	/** Moves the proxy to the bounding box. The tree is only updated when the box isn't contained in the fat box of the proxy
+	 * anymore.
+	 * @return whether the fat box was updated */
+	public boolean moveProxy (int proxy, BoundingBox box) {
+		set(box);
+		return moveProxy(proxy, false);
+	}
+
+	/** Moves the proxy to the box and always updates the tree, for example when the box shrunk a lot. */
+	public void updateProxy (int proxy, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		set(minX, minY, minZ, maxX, maxY, maxZ);
+		moveProxy(proxy, true);
+	}
+
+	/** Sets the bounding box to the fat box of the proxy.
+	 * @return the bounding box for chaining */
+	public BoundingBox getFatBounds (int proxy, BoundingBox out) {
+		int offset = proxy * 6;
+		out.min.set(bounds[offset], bounds[offset + 1], bounds[offset + 2]);
+		out.max.set(bounds[offset + 3], bounds[offset + 4], bounds[offset + 5]);
+		return out.set(out.min, out.max);
+	}
+
+	/** Adds the ids of the proxies which fat box overlaps the box to the array. */
+	public void query (float minX, float minY, float minZ, float maxX, float maxY, float maxZ, IntArray result) {
+		set(minX, minY, minZ, maxX, maxY, maxZ);
+		queryBounds(null, result);
+	}
+
+	/** Calls the callback for each proxy which fat box overlaps the box. */
+	public void query (float minX, float minY, float minZ, float maxX, float maxY, float maxZ, QueryCallback callback) {
+		set(minX, minY, minZ, maxX, maxY, maxZ);
+		queryBounds(callback, null);
+	}
+
+	/** Adds the ids of the proxies which fat box overlaps the bounding box to the array. */
+	public void query (BoundingBox box, IntArray result) {
+		set(box);
+		queryBounds(null, result);
+	}
+
+	/** Calls the callback for each proxy which fat box overlaps the bounding box. */
+	public void query (BoundingBox box, QueryCallback callback) {
+		set(box);
+		queryBounds(callback, null);
+	}
+
+	/** Adds the ids of the proxies which fat box is in the frustum to the array, the test is conservative like
+	 * {@link Frustum#boundsInFrustum(float, float, float, float, float, float)}. The proxies of a subtree which box is completely
+	 * inside the frustum are added without testing their boxes. */
+	public void query (Frustum frustum, IntArray result) {
+		query(frustum, null, result);
+	}
+
+	/** Calls the callback for each proxy which fat box is in the frustum, see {@link #query(Frustum, IntArray)}. */
+	public void query (Frustum frustum, QueryCallback callback) {
+		query(frustum, callback, null);
+	}
+
+	/** Adds the ids of the proxies which fat box is hit by the ray to the array.
+	 * @param maxDistance the length of the ray, in units of the length of the ray direction */
+	public void rayCast (Ray ray, float maxDistance, IntArray result) {
+		setRay(ray);
+		rayCastBounds(maxDistance, null, result);
+	}
+
+	/** Calls the callback for each proxy which fat box is hit by the ray. The length of the ray given to and returned by the
+	 * callback is in units of the length of the ray direction.
+	 * @param maxDistance the initial length of the ray */
+	public void rayCast (Ray ray, float maxDistance, RayCastCallback callback) {
+		setRay(ray);
+		rayCastBounds(maxDistance, callback, null);
+	}
+
+	private void query (Frustum frustum, QueryCallback callback, IntArray result) {
+		if (root == NULL) return;
+		final float[] planeData = this.planeData, bounds = this.bounds;
+		for (int i = 0, p = 0; i < 6; i++, p += 7) {
+			Plane plane = frustum.planes[i];
+			planeData[p] = plane.normal.x;
+			planeData[p + 1] = plane.normal.y;
+			planeData[p + 2] = plane.normal.z;
+			planeData[p + 3] = plane.d;
+			planeData[p + 4] = Math.abs(plane.normal.x);
+			planeData[p + 5] = Math.abs(plane.normal.y);
+			planeData[p + 6] = Math.abs(plane.normal.z);
+		}
+		final int[] heights = this.heights, children1 = this.children1, children2 = this.children2;
+		final IntArray stack = this.stack;
+		stack.clear();
+		stack.add(root);
+		while (stack.size > 0) {
+			int node = stack.pop();
+			int offset = node * 6;
+			float minX = bounds[offset], minY = bounds[offset + 1], minZ = bounds[offset + 2];
+			float hx = (bounds[offset + 3] - minX) * 0.5f, hy = (bounds[offset + 4] - minY) * 0.5f;
+			float hz = (bounds[offset + 5] - minZ) * 0.5f;
+			float x = minX + hx, y = minY + hy, z = minZ + hz;
+			boolean inside = true, outside = false;
+			for (int p = 0; p < 42; p += 7) {
+				float distance = planeData[p] * x + planeData[p + 1] * y + planeData[p + 2] * z + planeData[p + 3];
+				float radius = planeData[p + 4] * hx + planeData[p + 5] * hy + planeData[p + 6] * hz;
+				if (distance < -radius) {
+					outside = true;
+					break;
+				}
+				if (distance < radius) inside = false;
+			}
+			if (outside) continue;
+			if (heights[node] == 0) {
+				if (callback == null)
+					result.add(node);
+				else if (!callback.reportProxy(node)) return;
+			} else if (inside) {
+				if (!addLeaves(node, callback, result)) return;
+			} else {
+				stack.add(children1[node]);
+				stack.add(children2[node]);
+			}
+		}
+	}
+
+	/** Reports all leaves of the subtree, using the part of the stack above its current size.
+	 * @return false if the callback stopped the query */
+	private boolean addLeaves (int node, QueryCallback callback, IntArray result) {
+		final int[] heights = this.heights, children1 = this.children1, children2 = this.children2;
+		final IntArray stack = this.stack;
+		final int base = stack.size;
+		stack.add(node);
+		while (stack.size > base) {
+			node = stack.pop();
+			if (heights[node] == 0) {
+				if (callback == null)
+					result.add(node);
+				else if (!callback.reportProxy(node)) return false;
+			} else {
+				stack.add(children1[node]);
+				stack.add(children2[node]);
+			}
+		}
+		return true;
+	}
+
+	private void set (float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		final float[] tmpBounds = this.tmpBounds;
+		tmpBounds[0] = minX;
+		tmpBounds[1] = minY;
+		tmpBounds[2] = minZ;
+		tmpBounds[3] = maxX;
+		tmpBounds[4] = maxY;
+		tmpBounds[5] = maxZ;
+	}
+
+	private void set (BoundingBox box) {
+		set(box.min.x, box.min.y, box.min.z, box.max.x, box.max.y, box.max.z);
+	}
+
+	private void setRay (Ray ray) {
+		set(ray.origin.x, ray.origin.y, ray.origin.z, ray.direction.x, ray.direction.y, ray.direction.z);
+	}
+}
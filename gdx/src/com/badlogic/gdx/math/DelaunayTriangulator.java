@@ -18,10 +18,16 @@ package com.badlogic.gdx.math;
 
 import com.badlogic.gdx.utils.BooleanArray;
 import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.ShortArray;
 
 /** Delaunay triangulation. Adapted from Paul Bourke's triangulate: http://paulbourke.net/papers/triangulate/
+ * <p>
+ * The computeTrianglesSweep methods use a sweep-hull algorithm instead, adapted from Mapbox's delaunator:
+ * https://github.com/mapbox/delaunator. Points are added in order of distance from a seed triangle, connected to the visible
+ * edges of the convex hull and made Delaunay by flipping edges. A hash of the hull by angle finds the visible edges, so
+ * triangulation is close to O(n log n) instead of the O(n^2) edge scans of the incremental algorithm.
  * @author Nathan Sweet */
 public class DelaunayTriangulator {
 	static private final float EPSILON = 0.000001f;
@@ -38,6 +44,15 @@ public class DelaunayTriangulator {
 	private final float[] superTriangle = new float[6];
 	private final Vector2 centroid = new Vector2();
 
+	// Sweep-hull state.
+	private int[] ids = new int[0], hullPrev = new int[0], hullNext = new int[0], hullTri = new int[0], hullHash = new int[0];
+	private int[] sweepTriangles = new int[0], halfedges = new int[0];
+	private float[] dists = new float[0];
+	private final IntArray edgeStack = new IntArray();
+	private float[] points;
+	private int offset, hashSize, hullStart, trianglesLength;
+	private float centerX, centerY;
+
 	/** @see #computeTriangles(float[], int, int, boolean) */
 	public ShortArray computeTriangles (FloatArray points, boolean sorted) {
 		return computeTriangles(points.items, 0, points.size, sorted);
@@ -220,6 +235,365 @@ public class DelaunayTriangulator {
 		return triangles;
 	}
 
+	/** @see #computeTrianglesSweep(float[], int, int, ShortArray) */
+	public ShortArray computeTrianglesSweep (FloatArray points) {
+		return computeTrianglesSweep(points.items, 0, points.size, triangles);
+	}
+
+	/** @see #computeTrianglesSweep(float[], int, int, ShortArray) */
+	public ShortArray computeTrianglesSweep (float[] points, int offset, int count) {
+		return computeTrianglesSweep(points, offset, count, triangles);
+	}
+
+	/** Triangulates the given point cloud to a list of triangle indices that make up the Delaunay triangulation, using the
+	 * sweep-hull algorithm. The points don't need to be sorted and the input array is not modified. Duplicate points are
+	 * skipped. No memory is allocated once the internal buffers have grown to fit the largest point cloud.
+	 * @param points x,y pairs describing points.
+	 * @param triangles receives triples of indices into the points that describe the triangles in clockwise order. It is cleared
+	 *           first. If all points are collinear it is left empty.
+	 * @return the triangles array. */
+	public ShortArray computeTrianglesSweep (float[] points, int offset, int count, ShortArray triangles) {
+		triangles.clear();
+		int n = count / 2;
+		if (n < 3) return triangles;
+		if (n > 32767) throw new GdxRuntimeException("Too many points: " + n);
+		this.points = points;
+		this.offset = offset;
+		ensureSweepCapacity(n);
+		int[] ids = this.ids, hullPrev = this.hullPrev, hullNext = this.hullNext, hullTri = this.hullTri;
+		float[] dists = this.dists;
+
+		float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+		float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			float x = x(i), y = y(i);
+			if (x < minX) minX = x;
+			if (y < minY) minY = y;
+			if (x > maxX) maxX = x;
+			if (y > maxY) maxY = y;
+			ids[i] = i;
+		}
+		float cx = (minX + maxX) / 2, cy = (minY + maxY) / 2;
+
+		// Seed point closest to the center.
+		int i0 = 0, i1 = -1, i2 = -1;
+		float minDist = Float.POSITIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			float d = dist(cx, cy, x(i), y(i));
+			if (d < minDist) {
+				i0 = i;
+				minDist = d;
+			}
+		}
+		float i0x = x(i0), i0y = y(i0);
+
+		// Point closest to the seed.
+		minDist = Float.POSITIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			if (i == i0) continue;
+			float d = dist(i0x, i0y, x(i), y(i));
+			if (d < minDist && d > 0) {
+				i1 = i;
+				minDist = d;
+			}
+		}
+		if (i1 == -1) return finishSweep(triangles); // All points are the same.
+		float i1x = x(i1), i1y = y(i1);
+
+		// Third point that forms the smallest circumcircle with the first two.
+		double minRadius = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			if (i == i0 || i == i1) continue;
+			double r = circumradius(i0x, i0y, i1x, i1y, x(i), y(i));
+			if (r < minRadius) {
+				i2 = i;
+				minRadius = r;
+			}
+		}
+		if (minRadius == Double.POSITIVE_INFINITY) return finishSweep(triangles); // All points are collinear.
+		float i2x = x(i2), i2y = y(i2);
+
+		if (orient(i0x, i0y, i1x, i1y, i2x, i2y)) {
+			int i = i1;
+			i1 = i2;
+			i2 = i;
+			float x = i1x, y = i1y;
+			i1x = i2x;
+			i1y = i2y;
+			i2x = x;
+			i2y = y;
+		}
+
+		// Sort the points by distance from the seed triangle's circumcenter.
+		double dx = i1x - i0x, dy = i1y - i0y, ex = i2x - i0x, ey = i2y - i0y;
+		double bl = dx * dx + dy * dy, cl = ex * ex + ey * ey, d = 0.5 / (dx * ey - dy * ex);
+		centerX = (float)(i0x + (ey * bl - dy * cl) * d);
+		centerY = (float)(i0y + (dx * cl - ex * bl) * d);
+		for (int i = 0; i < n; i++)
+			dists[i] = dist(x(i), y(i), centerX, centerY);
+		quicksort(ids, dists, 0, n - 1);
+
+		// The seed triangle is the starting hull.
+		hullStart = i0;
+		hullNext[i0] = hullPrev[i2] = i1;
+		hullNext[i1] = hullPrev[i0] = i2;
+		hullNext[i2] = hullPrev[i1] = i0;
+		hullTri[i0] = 0;
+		hullTri[i1] = 1;
+		hullTri[i2] = 2;
+		int[] hullHash = this.hullHash;
+		int hashSize = this.hashSize;
+		for (int i = 0; i < hashSize; i++)
+			hullHash[i] = -1;
+		hullHash[hashKey(i0x, i0y)] = i0;
+		hullHash[hashKey(i1x, i1y)] = i1;
+		hullHash[hashKey(i2x, i2y)] = i2;
+
+		trianglesLength = 0;
+		addTriangle(i0, i1, i2, -1, -1, -1);
+
+		float xp = 0, yp = 0;
+		for (int k = 0; k < n; k++) {
+			int i = ids[k];
+			float x = x(i), y = y(i);
+			if (k > 0 && x == xp && y == yp) continue; // Skip duplicate points.
+			xp = x;
+			yp = y;
+			if (i == i0 || i == i1 || i == i2) continue;
+
+			// Find a visible edge on the convex hull using the edge hash.
+			int start = 0;
+			for (int j = 0, key = hashKey(x, y); j < hashSize; j++) {
+				start = hullHash[(key + j) % hashSize];
+				if (start != -1 && start != hullNext[start]) break;
+			}
+			start = hullPrev[start];
+			int e = start, q = hullNext[e];
+			while (!orient(x, y, x(e), y(e), x(q), y(q))) {
+				e = q;
+				q = hullNext[e];
+				if (e == start) {
+					e = -1;
+					break;
+				}
+			}
+			if (e == -1) continue; // Likely a near duplicate point.
+
+			// Add the first triangle from the point, then flip triangles until they satisfy the Delaunay condition.
+			int t = addTriangle(e, i, hullNext[e], -1, -1, hullTri[e]);
+			hullTri[i] = legalize(t + 2);
+			hullTri[e] = t;
+
+			// Walk forward through the hull, adding more triangles and flipping.
+			int next = hullNext[e];
+			for (q = hullNext[next]; orient(x, y, x(next), y(next), x(q), y(q)); q = hullNext[next]) {
+				t = addTriangle(next, i, q, hullTri[i], -1, hullTri[next]);
+				hullTri[i] = legalize(t + 2);
+				hullNext[next] = next; // Removed.
+				next = q;
+			}
+
+			// Walk backward from the other side.
+			if (e == start) {
+				for (q = hullPrev[e]; orient(x, y, x(q), y(q), x(e), y(e)); q = hullPrev[e]) {
+					t = addTriangle(q, i, e, -1, hullTri[e], hullTri[q]);
+					legalize(t + 2);
+					hullTri[q] = t;
+					hullNext[e] = e; // Removed.
+					e = q;
+				}
+			}
+
+			hullStart = hullPrev[i] = e;
+			hullNext[e] = hullPrev[next] = i;
+			hullNext[i] = next;
+			hullHash[hashKey(x, y)] = i;
+			hullHash[hashKey(x(e), y(e))] = e;
+		}
+
+		int[] sweepTriangles = this.sweepTriangles;
+		triangles.ensureCapacity(trianglesLength);
+		short[] trianglesArray = triangles.items;
+		for (int i = 0, n3 = trianglesLength; i < n3; i++)
+			trianglesArray[i] = (short)sweepTriangles[i];
+		triangles.size = trianglesLength;
+		return finishSweep(triangles);
+	}
+
+	private ShortArray finishSweep (ShortArray triangles) {
+		points = null;
+		return triangles;
+	}
+
+	private void ensureSweepCapacity (int n) {
+		hashSize = (int)Math.ceil(Math.sqrt(n));
+		if (hullHash.length < hashSize) hullHash = new int[hashSize];
+		if (ids.length < n) {
+			ids = new int[n];
+			hullPrev = new int[n];
+			hullNext = new int[n];
+			hullTri = new int[n];
+			dists = new float[n];
+		}
+		int maxTriangles = Math.max(2 * n - 5, 0) * 3;
+		if (sweepTriangles.length < maxTriangles) {
+			sweepTriangles = new int[maxTriangles];
+			halfedges = new int[maxTriangles];
+		}
+	}
+
+	private float x (int i) {
+		return points[offset + i * 2];
+	}
+
+	private float y (int i) {
+		return points[offset + i * 2 + 1];
+	}
+
+	private int hashKey (float x, float y) {
+		float dx = x - centerX, dy = y - centerY;
+		// Monotonic with the angle, but cheaper than atan2.
+		float p = dx / (Math.abs(dx) + Math.abs(dy));
+		float angle = (dy > 0 ? 3 - p : 1 + p) / 4;
+		return (int)Math.floor(angle * hashSize) % hashSize;
+	}
+
+	/** Flips the edge a and the edges of the resulting triangles until they satisfy the Delaunay condition.
+	 * @return the edge of the last triangle that is on the hull. */
+	private int legalize (int a) {
+		int[] triangles = sweepTriangles, halfedges = this.halfedges;
+		IntArray stack = edgeStack;
+		stack.clear();
+		int ar;
+		while (true) {
+			int b = halfedges[a];
+			int a0 = a - a % 3;
+			ar = a0 + (a + 2) % 3;
+			if (b == -1) { // Convex hull edge.
+				if (stack.size == 0) break;
+				a = stack.pop();
+				continue;
+			}
+			int b0 = b - b % 3;
+			int al = a0 + (a + 1) % 3;
+			int bl = b0 + (b + 2) % 3;
+			int p0 = triangles[ar], pr = triangles[a], pl = triangles[al], p1 = triangles[bl];
+			if (inCircle(x(p0), y(p0), x(pr), y(pr), x(pl), y(pl), x(p1), y(p1))) {
+				triangles[a] = p1;
+				triangles[b] = p0;
+				int hbl = halfedges[bl];
+				if (hbl == -1) { // The edge was swapped on the other side of the hull, fix the hull reference.
+					int e = hullStart;
+					do {
+						if (hullTri[e] == bl) {
+							hullTri[e] = a;
+							break;
+						}
+						e = hullPrev[e];
+					} while (e != hullStart);
+				}
+				link(a, hbl);
+				link(b, halfedges[ar]);
+				link(ar, bl);
+				stack.add(b0 + (b + 1) % 3);
+			} else {
+				if (stack.size == 0) break;
+				a = stack.pop();
+			}
+		}
+		return ar;
+	}
+
+	private void link (int a, int b) {
+		halfedges[a] = b;
+		if (b != -1) halfedges[b] = a;
+	}
+
+	private int addTriangle (int i0, int i1, int i2, int a, int b, int c) {
+		int t = trianglesLength;
+		int[] triangles = sweepTriangles;
+		triangles[t] = i0;
+		triangles[t + 1] = i1;
+		triangles[t + 2] = i2;
+		link(t, a);
+		link(t + 1, b);
+		link(t + 2, c);
+		trianglesLength += 3;
+		return t;
+	}
+
+	/** Returns true if p, q, r are in counterclockwise order when y points down. */
+	static private boolean orient (float px, float py, float qx, float qy, float rx, float ry) {
+		return ((double)qy - py) * ((double)rx - qx) - ((double)qx - px) * ((double)ry - qy) < 0;
+	}
+
+	static private boolean inCircle (float ax, float ay, float bx, float by, float cx, float cy, float px, float py) {
+		double dx = ax - px, dy = ay - py, ex = bx - px, ey = by - py, fx = cx - px, fy = cy - py;
+		double ap = dx * dx + dy * dy, bp = ex * ex + ey * ey, cp = fx * fx + fy * fy;
+		return dx * (ey * cp - bp * fy) - dy * (ex * cp - bp * fx) + ap * (ex * fy - ey * fx) < 0;
+	}
+
+	static private double circumradius (float ax, float ay, float bx, float by, float cx, float cy) {
+		double dx = bx - ax, dy = by - ay, ex = cx - ax, ey = cy - ay;
+		double bl = dx * dx + dy * dy, cl = ex * ex + ey * ey, d = 0.5 / (dx * ey - dy * ex);
+		double x = (ey * bl - dy * cl) * d, y = (dx * cl - ex * bl) * d;
+		double r = x * x + y * y;
+		return Double.isNaN(r) ? Double.POSITIVE_INFINITY : r;
+	}
+
+	static private float dist (float ax, float ay, float bx, float by) {
+		float dx = ax - bx, dy = ay - by;
+		return dx * dx + dy * dy;
+	}
+
+	/** Sorts the ids by their distance. */
+	static private void quicksort (int[] ids, float[] dists, int left, int right) {
+		if (right - left <= 20) {
+			for (int i = left + 1; i <= right; i++) {
+				int temp = ids[i];
+				float tempDist = dists[temp];
+				int j = i - 1;
+				while (j >= left && dists[ids[j]] > tempDist)
+					ids[j + 1] = ids[j--];
+				ids[j + 1] = temp;
+			}
+			return;
+		}
+		int median = (left + right) >> 1;
+		int i = left + 1, j = right;
+		swap(ids, median, i);
+		if (dists[ids[left]] > dists[ids[right]]) swap(ids, left, right);
+		if (dists[ids[i]] > dists[ids[right]]) swap(ids, i, right);
+		if (dists[ids[left]] > dists[ids[i]]) swap(ids, left, i);
+		int temp = ids[i];
+		float tempDist = dists[temp];
+		while (true) {
+			do
+				i++;
+			while (dists[ids[i]] < tempDist);
+			do
+				j--;
+			while (dists[ids[j]] > tempDist);
+			if (j < i) break;
+			swap(ids, i, j);
+		}
+		ids[left + 1] = ids[j];
+		ids[j] = temp;
+		if (right - i + 1 >= j - left) {
+			quicksort(ids, dists, i, right);
+			quicksort(ids, dists, left, j - 1);
+		} else {
+			quicksort(ids, dists, left, j - 1);
+			quicksort(ids, dists, i, right);
+		}
+	}
+
+	static private void swap (int[] array, int i, int j) {
+		int temp = array[i];
+		array[i] = array[j];
+		array[j] = temp;
+	}
+
 	/** Returns INSIDE if point xp,yp is inside the circumcircle made up of the points x1,y1, x2,y2, x3,y3. Returns COMPLETE if xp
 	 * is to the right of the entire circumcircle. Otherwise returns INCOMPLETE. Note: a point on the circumcircle edge is
 	 * considered inside. */
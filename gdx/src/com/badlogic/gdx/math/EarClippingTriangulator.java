@@ -17,6 +17,7 @@
 package com.badlogic.gdx.math;
 
 import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.ShortArray;
 
@@ -30,6 +31,10 @@ import com.badlogic.gdx.utils.ShortArray;
  * </ul>
  * If the input polygon is not simple (self-intersects), there will be output but it is of unspecified quality (garbage in,
  * garbage out).
+ * <p>
+ * The methods that take hole indices use a linked list of vertices instead and, for larger polygons, sort the vertices along a
+ * z-order curve so an ear only has to be tested against the vertices near its bounds. This is much faster for polygons with
+ * hundreds or thousands of vertices. The approach is adapted from Mapbox's earcut: https://github.com/mapbox/earcut
  * @author badlogicgames@gmail.com
  * @author Nicolas Gramlich (optimizations, collinear edge support)
  * @author Eric Spitz
@@ -47,6 +52,16 @@ public class EarClippingTriangulator {
 	private final IntArray vertexTypes = new IntArray();
 	private final ShortArray triangles = new ShortArray();
 
+	// Linked list nodes for the hole and z-order methods, -1 is null.
+	private int nodeCount;
+	private int[] nodeIndex = new int[0], prev = new int[0], next = new int[0], prevZ = new int[0], nextZ = new int[0],
+		z = new int[0];
+	private float[] nodeX = new float[0], nodeY = new float[0];
+	private boolean[] steiner = new boolean[0];
+	private final IntArray holeQueue = new IntArray();
+	private ShortArray output;
+	private float minX, minY, invSize;
+
 	/** @see #computeTriangles(float[], int, int) */
 	public ShortArray computeTriangles (FloatArray vertices) {
 		return computeTriangles(vertices.items, 0, vertices.size);
@@ -93,6 +108,65 @@ public class EarClippingTriangulator {
 		return triangles;
 	}
 
+	/** @see #computeTriangles(float[], int, int, IntArray, ShortArray) */
+	public ShortArray computeTriangles (FloatArray vertices, IntArray holeIndices) {
+		return computeTriangles(vertices.items, 0, vertices.size, holeIndices, triangles);
+	}
+
+	/** @see #computeTriangles(float[], int, int, IntArray, ShortArray) */
+	public ShortArray computeTriangles (float[] vertices, int offset, int count, IntArray holeIndices) {
+		return computeTriangles(vertices, offset, count, holeIndices, triangles);
+	}
+
+	/** Triangulates the given (convex or concave) simple polygon with optional holes to a list of triangle vertices. Vertices
+	 * are kept in a linked list and, for more than 80 vertices, hashed along a z-order curve, so large polygons triangulate in
+	 * close to O(n log n). No memory is allocated once the internal buffers have grown to fit the largest polygon.
+	 * @param vertices pairs describing vertices of the outer polygon followed by the vertices of each hole. The outer polygon and
+	 *           holes may use either winding order.
+	 * @param holeIndices the index of the first vertex of each hole, relative to offset. May be null or empty.
+	 * @param triangles receives triples of triangle indices in clockwise order. It is cleared first.
+	 * @return the triangles array. */
+	public ShortArray computeTriangles (float[] vertices, int offset, int count, IntArray holeIndices, ShortArray triangles) {
+		triangles.clear();
+		int vertexCount = count / 2;
+		if (vertexCount > 32767) throw new GdxRuntimeException("Too many vertices: " + vertexCount);
+		this.vertices = vertices;
+		this.output = triangles;
+		nodeCount = 0;
+		ensureNodes(vertexCount + 8);
+		triangles.ensureCapacity(Math.max(0, vertexCount - 2) * 3);
+
+		boolean hasHoles = holeIndices != null && holeIndices.size > 0;
+		int outerEnd = hasHoles ? offset + holeIndices.get(0) * 2 : offset + count;
+		int outerNode = linkedList(offset, outerEnd, true);
+		if (outerNode == -1 || next[outerNode] == prev[outerNode]) {
+			this.vertices = null;
+			return triangles;
+		}
+		if (hasHoles) outerNode = eliminateHoles(offset, count, holeIndices, outerNode);
+
+		invSize = 0;
+		if (vertexCount > 80) {
+			float minX = vertices[offset], minY = vertices[offset + 1], maxX = minX, maxY = minY;
+			for (int i = offset + 2, n = outerEnd; i < n; i += 2) {
+				float x = vertices[i], y = vertices[i + 1];
+				if (x < minX) minX = x;
+				if (y < minY) minY = y;
+				if (x > maxX) maxX = x;
+				if (y > maxY) maxY = y;
+			}
+			this.minX = minX;
+			this.minY = minY;
+			float size = Math.max(maxX - minX, maxY - minY);
+			invSize = size != 0 ? 32767 / size : 0;
+		}
+
+		earcutLinked(outerNode, 0);
+		this.vertices = null;
+		this.output = null;
+		return triangles;
+	}
+
 	private void triangulate () {
 		int[] vertexTypes = this.vertexTypes.items;
 
@@ -195,6 +269,492 @@ public class EarClippingTriangulator {
 		vertexCount--;
 	}
 
+	private void ensureNodes (int capacity) {
+		if (nodeIndex.length >= capacity) return;
+		capacity = Math.max(capacity, (int)(nodeIndex.length * 1.75f));
+		nodeIndex = copy(nodeIndex, capacity);
+		prev = copy(prev, capacity);
+		next = copy(next, capacity);
+		prevZ = copy(prevZ, capacity);
+		nextZ = copy(nextZ, capacity);
+		z = copy(z, capacity);
+		float[] newX = new float[capacity], newY = new float[capacity];
+		System.arraycopy(nodeX, 0, newX, 0, nodeCount);
+		System.arraycopy(nodeY, 0, newY, 0, nodeCount);
+		nodeX = newX;
+		nodeY = newY;
+		boolean[] newSteiner = new boolean[capacity];
+		System.arraycopy(steiner, 0, newSteiner, 0, nodeCount);
+		steiner = newSteiner;
+	}
+
+	private int[] copy (int[] array, int capacity) {
+		int[] newArray = new int[capacity];
+		System.arraycopy(array, 0, newArray, 0, nodeCount);
+		return newArray;
+	}
+
+	private int newNode (int index, float x, float y) {
+		if (nodeCount == nodeIndex.length) ensureNodes(nodeCount + 1);
+		int node = nodeCount++;
+		nodeIndex[node] = index;
+		nodeX[node] = x;
+		nodeY[node] = y;
+		prev[node] = -1;
+		next[node] = -1;
+		prevZ[node] = -1;
+		nextZ[node] = -1;
+		z[node] = -1;
+		steiner[node] = false;
+		return node;
+	}
+
+	/** Links the vertices in start to end (float indices) into a circular list. The outer polygon is linked counterclockwise,
+	 * holes clockwise. Triangles are output in reverse to make them clockwise.
+	 * @return the last node or -1. */
+	private int linkedList (int start, int end, boolean outer) {
+		float[] vertices = this.vertices;
+		int last = -1;
+		if (outer != areVerticesClockwise(vertices, start, end - start)) {
+			for (int i = start; i < end; i += 2)
+				last = insertNode(i / 2, vertices[i], vertices[i + 1], last);
+		} else {
+			for (int i = end - 2; i >= start; i -= 2)
+				last = insertNode(i / 2, vertices[i], vertices[i + 1], last);
+		}
+		if (last != -1 && equals(last, next[last])) {
+			int n = next[last];
+			removeNode(last);
+			last = n;
+		}
+		return last;
+	}
+
+	private int insertNode (int index, float x, float y, int last) {
+		int node = newNode(index, x, y);
+		if (last == -1) {
+			prev[node] = node;
+			next[node] = node;
+		} else {
+			int lastNext = next[last];
+			next[node] = lastNext;
+			prev[node] = last;
+			prev[lastNext] = node;
+			next[last] = node;
+		}
+		return node;
+	}
+
+	private void removeNode (int node) {
+		int[] prev = this.prev, next = this.next, prevZ = this.prevZ, nextZ = this.nextZ;
+		next[prev[node]] = next[node];
+		prev[next[node]] = prev[node];
+		if (prevZ[node] != -1) nextZ[prevZ[node]] = nextZ[node];
+		if (nextZ[node] != -1) prevZ[nextZ[node]] = prevZ[node];
+	}
+
+	/** Removes duplicate and collinear vertices between start and end.
+	 * @return the end node. */
+	private int filterPoints (int start, int end) {
+		if (start == -1) return start;
+		if (end == -1) end = start;
+		int[] prev = this.prev, next = this.next;
+		int p = start;
+		boolean again;
+		do {
+			again = false;
+			if (!steiner[p] && (equals(p, next[p]) || area(prev[p], p, next[p]) == 0)) {
+				removeNode(p);
+				p = end = prev[p];
+				if (p == next[p]) break;
+				again = true;
+			} else
+				p = next[p];
+		} while (again || p != end);
+		return end;
+	}
+
+	/** Cuts ears until one triangle is left. When no ear can be found, cleans up the polygon and retries: pass 1 removes
+	 * collinear points, pass 2 cures small self-intersections, the last pass splits the polygon in two. */
+	private void earcutLinked (int ear, int pass) {
+		if (ear == -1) return;
+		if (pass == 0 && invSize != 0) indexCurve(ear);
+
+		int[] prev = this.prev, next = this.next;
+		ShortArray triangles = output;
+		int stop = ear;
+		while (prev[ear] != next[ear]) {
+			int previous = prev[ear], following = next[ear];
+			if (invSize != 0 ? isEarHashed(ear) : isEar(ear)) {
+				triangles.add(nodeIndex[following]);
+				triangles.add(nodeIndex[ear]);
+				triangles.add(nodeIndex[previous]);
+				removeNode(ear);
+				ear = stop = next[following];
+				continue;
+			}
+			ear = following;
+			if (ear == stop) {
+				if (pass == 0)
+					earcutLinked(filterPoints(ear, -1), 1);
+				else if (pass == 1)
+					earcutLinked(cureLocalIntersections(filterPoints(ear, -1)), 2);
+				else
+					splitEarcut(ear);
+				break;
+			}
+		}
+	}
+
+	private boolean isEar (int ear) {
+		int a = prev[ear], c = next[ear];
+		if (area(a, ear, c) >= 0) return false; // Reflex.
+		float[] nodeX = this.nodeX, nodeY = this.nodeY;
+		float ax = nodeX[a], ay = nodeY[a], bx = nodeX[ear], by = nodeY[ear], cx = nodeX[c], cy = nodeY[c];
+		int[] prev = this.prev, next = this.next;
+		for (int p = next[c]; p != a; p = next[p]) {
+			if (pointInTriangle(ax, ay, bx, by, cx, cy, nodeX[p], nodeY[p]) && area(prev[p], p, next[p]) >= 0) return false;
+		}
+		return true;
+	}
+
+	private boolean isEarHashed (int ear) {
+		int a = prev[ear], c = next[ear];
+		if (area(a, ear, c) >= 0) return false; // Reflex.
+		float[] nodeX = this.nodeX, nodeY = this.nodeY;
+		float ax = nodeX[a], ay = nodeY[a], bx = nodeX[ear], by = nodeY[ear], cx = nodeX[c], cy = nodeY[c];
+
+		// Only vertices with a z-order between those of the triangle bounds' corners can be inside.
+		int minZ = zOrder(Math.min(ax, Math.min(bx, cx)), Math.min(ay, Math.min(by, cy)));
+		int maxZ = zOrder(Math.max(ax, Math.max(bx, cx)), Math.max(ay, Math.max(by, cy)));
+		int[] prev = this.prev, next = this.next, prevZ = this.prevZ, nextZ = this.nextZ, z = this.z;
+
+		// Look for points inside the triangle in both directions.
+		int p = prevZ[ear], n = nextZ[ear];
+		while (p != -1 && z[p] >= minZ && n != -1 && z[n] <= maxZ) {
+			if (p != a && p != c && pointInTriangle(ax, ay, bx, by, cx, cy, nodeX[p], nodeY[p])
+				&& area(prev[p], p, next[p]) >= 0) return false;
+			p = prevZ[p];
+			if (n != a && n != c && pointInTriangle(ax, ay, bx, by, cx, cy, nodeX[n], nodeY[n])
+				&& area(prev[n], n, next[n]) >= 0) return false;
+			n = nextZ[n];
+		}
+		for (; p != -1 && z[p] >= minZ; p = prevZ[p]) {
+			if (p != a && p != c && pointInTriangle(ax, ay, bx, by, cx, cy, nodeX[p], nodeY[p])
+				&& area(prev[p], p, next[p]) >= 0) return false;
+		}
+		for (; n != -1 && z[n] <= maxZ; n = nextZ[n]) {
+			if (n != a && n != c && pointInTriangle(ax, ay, bx, by, cx, cy, nodeX[n], nodeY[n])
+				&& area(prev[n], n, next[n]) >= 0) return false;
+		}
+		return true;
+	}
+
+	/** Cuts off triangles where two adjacent edges of the polygon cross each other. */
+	private int cureLocalIntersections (int start) {
+		int[] prev = this.prev, next = this.next;
+		ShortArray triangles = output;
+		int p = start;
+		do {
+			int a = prev[p], b = next[next[p]];
+			if (!equals(a, b) && intersects(a, p, next[p], b) && locallyInside(a, b) && locallyInside(b, a)) {
+				triangles.add(nodeIndex[b]);
+				triangles.add(nodeIndex[p]);
+				triangles.add(nodeIndex[a]);
+				removeNode(p);
+				removeNode(next[p]);
+				p = start = b;
+			}
+			p = next[p];
+		} while (p != start);
+		return filterPoints(p, -1);
+	}
+
+	/** Splits the polygon along a valid diagonal and triangulates both halves. */
+	private void splitEarcut (int start) {
+		int a = start;
+		do {
+			for (int b = next[next[a]]; b != prev[a]; b = next[b]) {
+				if (nodeIndex[a] != nodeIndex[b] && isValidDiagonal(a, b)) {
+					int c = splitPolygon(a, b);
+					a = filterPoints(a, next[a]);
+					c = filterPoints(c, next[c]);
+					earcutLinked(a, 0);
+					earcutLinked(c, 0);
+					return;
+				}
+			}
+			a = next[a];
+		} while (a != start);
+	}
+
+	/** Connects each hole to the outer polygon with a bridge, processing the holes from left to right. */
+	private int eliminateHoles (int offset, int count, IntArray holeIndices, int outerNode) {
+		IntArray queue = holeQueue;
+		queue.clear();
+		int[] holes = holeIndices.items;
+		for (int i = 0, n = holeIndices.size; i < n; i++) {
+			int start = offset + holes[i] * 2;
+			int end = i < n - 1 ? offset + holes[i + 1] * 2 : offset + count;
+			int list = linkedList(start, end, false);
+			if (list == -1) continue;
+			if (list == next[list]) steiner[list] = true;
+			queue.add(getLeftmost(list));
+		}
+
+		// Insertion sort by x, there are usually few holes.
+		int[] items = queue.items;
+		float[] nodeX = this.nodeX;
+		for (int i = 1, n = queue.size; i < n; i++) {
+			int node = items[i];
+			float x = nodeX[node];
+			int ii = i - 1;
+			for (; ii >= 0 && nodeX[items[ii]] > x; ii--)
+				items[ii + 1] = items[ii];
+			items[ii + 1] = node;
+		}
+
+		for (int i = 0, n = queue.size; i < n; i++) {
+			int hole = queue.items[i];
+			int bridge = findHoleBridge(hole, outerNode);
+			if (bridge == -1) continue;
+			int bridgeReverse = splitPolygon(bridge, hole);
+			filterPoints(bridgeReverse, next[bridgeReverse]);
+			outerNode = filterPoints(bridge, next[bridge]);
+		}
+		return outerNode;
+	}
+
+	/** David Eberly's algorithm for finding a bridge between a hole and the outer polygon. */
+	private int findHoleBridge (int hole, int outerNode) {
+		float[] nodeX = this.nodeX, nodeY = this.nodeY;
+		int[] next = this.next;
+		float hx = nodeX[hole], hy = nodeY[hole], qx = Float.NEGATIVE_INFINITY;
+		int m = -1;
+
+		// Find a segment intersected by a ray from the hole's leftmost point to the left. The segment's endpoint with the
+		// lesser x is a potential connection point.
+		int p = outerNode;
+		do {
+			int n = next[p];
+			float px = nodeX[p], py = nodeY[p], nx = nodeX[n], ny = nodeY[n];
+			if (hy <= py && hy >= ny && ny != py) {
+				float x = px + (hy - py) * (nx - px) / (ny - py);
+				if (x <= hx && x > qx) {
+					qx = x;
+					m = px < nx ? p : n;
+					if (x == hx) return m; // The hole touches the outer segment.
+				}
+			}
+			p = n;
+		} while (p != outerNode);
+		if (m == -1) return -1;
+
+		// Look for points inside the triangle of hole point, segment intersection and endpoint. If there are none, the endpoint
+		// is a valid connection. Otherwise use the point with the minimum angle with the ray.
+		int stop = m;
+		float mx = nodeX[m], my = nodeY[m], tanMin = Float.POSITIVE_INFINITY;
+		p = m;
+		do {
+			float px = nodeX[p], py = nodeY[p];
+			if (hx >= px && px >= mx && hx != px
+				&& pointInTriangle(hy < my ? hx : qx, hy, mx, my, hy < my ? qx : hx, hy, px, py)) {
+				float tan = Math.abs(hy - py) / (hx - px);
+				if (locallyInside(p, hole) && (tan < tanMin || (tan == tanMin
+					&& (px > nodeX[m] || (px == nodeX[m] && sectorContainsSector(m, p)))))) {
+					m = p;
+					tanMin = tan;
+				}
+			}
+			p = next[p];
+		} while (p != stop);
+		return m;
+	}
+
+	private boolean sectorContainsSector (int m, int p) {
+		return area(prev[m], m, prev[p]) < 0 && area(next[p], m, next[m]) < 0;
+	}
+
+	/** Computes the z-order of each node and sorts them into a second linked list. */
+	private void indexCurve (int start) {
+		int[] prevZ = this.prevZ, nextZ = this.nextZ, z = this.z, prev = this.prev, next = this.next;
+		int p = start;
+		do {
+			if (z[p] == -1) z[p] = zOrder(nodeX[p], nodeY[p]);
+			prevZ[p] = prev[p];
+			nextZ[p] = next[p];
+			p = next[p];
+		} while (p != start);
+		nextZ[prevZ[p]] = -1;
+		prevZ[p] = -1;
+		sortLinked(p);
+	}
+
+	/** Simon Tatham's linked list merge sort: http://www.chiark.greenend.org.uk/~sgtatham/algorithms/listsort.html */
+	private void sortLinked (int list) {
+		int[] prevZ = this.prevZ, nextZ = this.nextZ, z = this.z;
+		int inSize = 1, numMerges;
+		do {
+			int p = list, tail = -1;
+			list = -1;
+			numMerges = 0;
+			while (p != -1) {
+				numMerges++;
+				int q = p, pSize = 0;
+				for (int i = 0; i < inSize; i++) {
+					pSize++;
+					q = nextZ[q];
+					if (q == -1) break;
+				}
+				int qSize = inSize;
+				while (pSize > 0 || (qSize > 0 && q != -1)) {
+					int e;
+					if (pSize != 0 && (qSize == 0 || q == -1 || z[p] <= z[q])) {
+						e = p;
+						p = nextZ[p];
+						pSize--;
+					} else {
+						e = q;
+						q = nextZ[q];
+						qSize--;
+					}
+					if (tail != -1)
+						nextZ[tail] = e;
+					else
+						list = e;
+					prevZ[e] = tail;
+					tail = e;
+				}
+				p = q;
+			}
+			nextZ[tail] = -1;
+			inSize *= 2;
+		} while (numMerges > 1);
+	}
+
+	/** Interleaves the bits of the 15 bit x and y coordinates relative to the polygon bounds. */
+	private int zOrder (float px, float py) {
+		int x = (int)((px - minX) * invSize), y = (int)((py - minY) * invSize);
+		x = (x | (x << 8)) & 0x00FF00FF;
+		x = (x | (x << 4)) & 0x0F0F0F0F;
+		x = (x | (x << 2)) & 0x33333333;
+		x = (x | (x << 1)) & 0x55555555;
+		y = (y | (y << 8)) & 0x00FF00FF;
+		y = (y | (y << 4)) & 0x0F0F0F0F;
+		y = (y | (y << 2)) & 0x33333333;
+		y = (y | (y << 1)) & 0x55555555;
+		return x | (y << 1);
+	}
+
+	private int getLeftmost (int start) {
+		float[] nodeX = this.nodeX, nodeY = this.nodeY;
+		int p = start, leftmost = start;
+		do {
+			if (nodeX[p] < nodeX[leftmost] || (nodeX[p] == nodeX[leftmost] && nodeY[p] < nodeY[leftmost])) leftmost = p;
+			p = next[p];
+		} while (p != start);
+		return leftmost;
+	}
+
+	static private boolean pointInTriangle (float ax, float ay, float bx, float by, float cx, float cy, float px, float py) {
+		return (cx - px) * (ay - py) >= (ax - px) * (cy - py) && (ax - px) * (by - py) >= (bx - px) * (ay - py)
+			&& (bx - px) * (cy - py) >= (cx - px) * (by - py);
+	}
+
+	/** Returns true if a diagonal between a and b doesn't intersect the polygon and lies inside it. */
+	private boolean isValidDiagonal (int a, int b) {
+		int[] prev = this.prev, next = this.next;
+		if (nodeIndex[next[a]] == nodeIndex[b] || nodeIndex[prev[a]] == nodeIndex[b] || intersectsPolygon(a, b)) return false;
+		if (locallyInside(a, b) && locallyInside(b, a) && middleInside(a, b)
+			&& (area(prev[a], a, prev[b]) != 0 || area(a, prev[b], b) != 0)) return true;
+		return equals(a, b) && area(prev[a], a, next[a]) > 0 && area(prev[b], b, next[b]) > 0;
+	}
+
+	/** Twice the signed area of the triangle, negative for a convex corner of a counterclockwise polygon. */
+	private float area (int p, int q, int r) {
+		float[] nodeX = this.nodeX, nodeY = this.nodeY;
+		return (nodeY[q] - nodeY[p]) * (nodeX[r] - nodeX[q]) - (nodeX[q] - nodeX[p]) * (nodeY[r] - nodeY[q]);
+	}
+
+	private boolean equals (int p1, int p2) {
+		return nodeX[p1] == nodeX[p2] && nodeY[p1] == nodeY[p2];
+	}
+
+	private boolean intersects (int p1, int q1, int p2, int q2) {
+		int o1 = sign(area(p1, q1, p2)), o2 = sign(area(p1, q1, q2));
+		int o3 = sign(area(p2, q2, p1)), o4 = sign(area(p2, q2, q1));
+		if (o1 != o2 && o3 != o4) return true;
+		if (o1 == 0 && onSegment(p1, p2, q1)) return true;
+		if (o2 == 0 && onSegment(p1, q2, q1)) return true;
+		if (o3 == 0 && onSegment(p2, p1, q2)) return true;
+		return o4 == 0 && onSegment(p2, q1, q2);
+	}
+
+	/** For collinear points p, q, r, returns true if q lies on segment pr. */
+	private boolean onSegment (int p, int q, int r) {
+		float[] nodeX = this.nodeX, nodeY = this.nodeY;
+		return nodeX[q] <= Math.max(nodeX[p], nodeX[r]) && nodeX[q] >= Math.min(nodeX[p], nodeX[r])
+			&& nodeY[q] <= Math.max(nodeY[p], nodeY[r]) && nodeY[q] >= Math.min(nodeY[p], nodeY[r]);
+	}
+
+	static private int sign (float value) {
+		return value > 0 ? 1 : value < 0 ? -1 : 0;
+	}
+
+	private boolean intersectsPolygon (int a, int b) {
+		int[] next = this.next, nodeIndex = this.nodeIndex;
+		int ai = nodeIndex[a], bi = nodeIndex[b];
+		int p = a;
+		do {
+			int n = next[p];
+			int pi = nodeIndex[p], ni = nodeIndex[n];
+			if (pi != ai && ni != ai && pi != bi && ni != bi && intersects(p, n, a, b)) return true;
+			p = n;
+		} while (p != a);
+		return false;
+	}
+
+	private boolean locallyInside (int a, int b) {
+		int previous = prev[a], following = next[a];
+		if (area(previous, a, following) < 0) return area(a, b, following) >= 0 && area(a, previous, b) >= 0;
+		return area(a, b, previous) < 0 || area(a, following, b) < 0;
+	}
+
+	/** Returns true if the middle point of the diagonal between a and b is inside the polygon. */
+	private boolean middleInside (int a, int b) {
+		float[] nodeX = this.nodeX, nodeY = this.nodeY;
+		int[] next = this.next;
+		float px = (nodeX[a] + nodeX[b]) / 2, py = (nodeY[a] + nodeY[b]) / 2;
+		boolean inside = false;
+		int p = a;
+		do {
+			int n = next[p];
+			float x1 = nodeX[p], y1 = nodeY[p], x2 = nodeX[n], y2 = nodeY[n];
+			if (((y1 > py) != (y2 > py)) && y2 != y1 && (px < (x2 - x1) * (py - y1) / (y2 - y1) + x1)) inside = !inside;
+			p = n;
+		} while (p != a);
+		return inside;
+	}
+
+	/** Links a and b with a bridge. If a and b are in the same polygon it is split in two, if b is in a hole the hole is joined
+	 * to the polygon. Both cases duplicate a and b.
+	 * @return the duplicate of b. */
+	private int splitPolygon (int a, int b) {
+		int a2 = newNode(nodeIndex[a], nodeX[a], nodeY[a]);
+		int b2 = newNode(nodeIndex[b], nodeX[b], nodeY[b]);
+		int[] prev = this.prev, next = this.next;
+		int an = next[a], bp = prev[b];
+		next[a] = b;
+		prev[b] = a;
+		next[a2] = an;
+		prev[an] = a2;
+		next[b2] = a2;
+		prev[a2] = b2;
+		next[bp] = b2;
+		prev[b2] = bp;
+		return b2;
+	}
+
 	private int previousIndex (int index) {
 		return (index == 0 ? vertexCount : index) - 1;
 	}
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+import com.badlogic.gdx.utils.NumberUtils;
+
+/** Approximations of sin, cos, exp, log, pow and the inverse square root using interpolated lookup tables, with the precision
+ * chosen when the tables are built. Unlike the {@link MathUtils} sine table the tables are interpolated, so small tables are
+ * already accurate: with 10 bits they take about 20KB and the results are within about 1e-5, relative for exp, pow and invSqrt.
+ * Each extra bit doubles the memory and quarters the error, until float precision is reached at about 12 bits. For large
+ * arguments the float rounding of the argument adds to the error, as it does for {@link MathUtils#sin(float)}.
+ * How much faster than {@link Math} this is depends on the platform, eg on a desktop JVM the inverse square root is not faster
+ * than 1 / Math.sqrt, which uses a CPU instruction.
+ * <p>
+ * The array methods apply a function to a range of values, eg to particle data stored as one array per component. The source
+ * and destination arrays may be the same. Instances are not modified after construction and can be shared between threads.
+ * <p>
+ * Values outside the normal float range are not all handled like {@link Math}: {@link #exp2(float)} returns 0 below -126 instead
+ * of a subnormal value. */
+public class FastMath {
+	static private final float LOG2E = 1.442695f, LN2 = 0.6931472f;
+
+	final int bits, count, mask, shift, lowMask;
+	final float radToIndex, degToIndex, lowToFraction;
+	final float[] sinTable, exp2Table, log2Table, invSqrtTable;
+
+	/** @param bits The number of bits for the table index, between 4 and 16. The sine table has 2^bits entries per full turn and
+	 *           the other tables 2^bits entries per power of two. */
+	public FastMath (int bits) {
+		if (bits < 4 || bits > 16) throw new IllegalArgumentException("bits must be between 4 and 16: " + bits);
+		this.bits = bits;
+		count = 1 << bits;
+		mask = count - 1;
+		shift = 23 - bits;
+		lowMask = (1 << shift) - 1;
+		lowToFraction = 1f / (1 << shift);
+		radToIndex = count / MathUtils.PI2;
+		degToIndex = count / 360f;
+
+		sinTable = new float[count + 1];
+		for (int i = 0; i <= count; i++)
+			sinTable[i] = (float)Math.sin(i * Math.PI * 2 / count);
+		for (int i = 0; i <= 4; i++) // Exact values at the quarter turns.
+			sinTable[i * count / 4] = (i & 1) == 0 ? 0 : (i == 1 ? 1 : -1);
+
+		// One extra exp2 entry, as the fraction of a tiny negative x rounds up to 1.
+		exp2Table = new float[count + 2];
+		for (int i = 0; i <= count + 1; i++)
+			exp2Table[i] = (float)Math.pow(2, i / (double)count);
+		log2Table = new float[count + 1];
+		for (int i = 0; i <= count; i++)
+			log2Table[i] = (float)(Math.log(1 + i / (double)count) / Math.log(2));
+
+		// The first half is for mantissas of even exponents [1,2), the second for odd exponents [2,4).
+		invSqrtTable = new float[count * 2 + 1];
+		for (int i = 0; i <= count; i++) {
+			invSqrtTable[i] = (float)(1 / Math.sqrt(1 + i / (double)count));
+			invSqrtTable[count + i] = (float)(1 / Math.sqrt(2 * (1 + i / (double)count)));
+		}
+	}
+
+	/** @return The number of bits for the table index. */
+	public int getBits () {
+		return bits;
+	}
+
+	private float sinIndex (float index) {
+		int i = (int)Math.floor(index);
+		float fraction = index - i;
+		i &= mask;
+		float value = sinTable[i];
+		return value + (sinTable[i + 1] - value) * fraction;
+	}
+
+	/** Returns the sine in radians from the interpolated table. */
+	public float sin (float radians) {
+		return sinIndex(radians * radToIndex);
+	}
+
+	/** Returns the cosine in radians from the interpolated table. */
+	public float cos (float radians) {
+		return sinIndex(radians * radToIndex + (count >> 2));
+	}
+
+	/** Returns the sine in degrees from the interpolated table. */
+	public float sinDeg (float degrees) {
+		return sinIndex(degrees * degToIndex);
+	}
+
+	/** Returns the cosine in degrees from the interpolated table. */
+	public float cosDeg (float degrees) {
+		return sinIndex(degrees * degToIndex + (count >> 2));
+	}
+
+	/** Returns 2 to the power of x. */
+	public float exp2 (float x) {
+		if (x >= 128) return Float.POSITIVE_INFINITY;
+		if (x < -126) return 0;
+		int exponent = (int)Math.floor(x);
+		float index = (x - exponent) * count;
+		int i = (int)index;
+		float value = exp2Table[i];
+		value += (exp2Table[i + 1] - value) * (index - i);
+		return value * NumberUtils.intBitsToFloat((exponent + 127) << 23);
+	}
+
+	/** Returns e to the power of x. */
+	public float exp (float x) {
+		return exp2(x * LOG2E);
+	}
+
+	/** Returns the logarithm of x with base 2. */
+	public float log2 (float x) {
+		int intBits = NumberUtils.floatToRawIntBits(x);
+		// Negative, zero, subnormal, infinite and NaN.
+		if (intBits <= 0x7fffff || intBits >= 0x7f800000) return (float)(Math.log(x) / Math.log(2));
+		int mantissa = intBits & 0x7fffff, i = mantissa >>> shift;
+		float value = log2Table[i];
+		value += (log2Table[i + 1] - value) * ((mantissa & lowMask) * lowToFraction);
+		return ((intBits >>> 23) - 127) + value;
+	}
+
+	/** Returns the natural logarithm of x. */
+	public float log (float x) {
+		return log2(x) * LN2;
+	}
+
+	/** Returns a to the power of b. The base must not be negative. */
+	public float pow (float a, float b) {
+		if (b == 0) return 1;
+		return exp2(b * log2(a));
+	}
+
+	/** Returns 1 / sqrt(x). */
+	public float invSqrt (float x) {
+		int intBits = NumberUtils.floatToRawIntBits(x);
+		// Negative, zero, subnormal, infinite and NaN.
+		if (intBits <= 0x7fffff || intBits >= 0x7f800000) return (float)(1 / Math.sqrt(x));
+		int exponent = (intBits >>> 23) - 127;
+		// x = m * 4^k with m in [1,4), so 1 / sqrt(x) = 1 / sqrt(m) * 2^-k.
+		int index = ((exponent & 1) << 23) | (intBits & 0x7fffff), i = index >>> shift;
+		float value = invSqrtTable[i];
+		value += (invSqrtTable[i + 1] - value) * ((index & lowMask) * lowToFraction);
+		return value * NumberUtils.intBitsToFloat((127 - (exponent >> 1)) << 23);
+	}
+
+	/** Returns the arc cosine in radians, without a table. The largest error is 7e-5 radians. */
+	static public float acos (float x) {
+		float a = Math.abs(x);
+		float value = (float)Math.sqrt(1 - a) * (1.5707288f + a * (-0.2121144f + a * (0.074261f + a * -0.0187293f)));
+		return x < 0 ? MathUtils.PI - value : value;
+	}
+
+	/** Returns the arc sine in radians, without a table. The largest error is 7e-5 radians. */
+	static public float asin (float x) {
+		return MathUtils.PI / 2 - acos(x);
+	}
+
+	/** Stores the sine of count radians from src in dst. */
+	public void sin (float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+		for (int i = 0; i < count; i++)
+			dst[dstOffset + i] = sinIndex(src[srcOffset + i] * radToIndex);
+	}
+
+	/** Stores the cosine of count radians from src in dst. */
+	public void cos (float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+		float quarter = this.count >> 2;
+		for (int i = 0; i < count; i++)
+			dst[dstOffset + i] = sinIndex(src[srcOffset + i] * radToIndex + quarter);
+	}
+
+	/** Stores e to the power of count values from src in dst. */
+	public void exp (float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+		for (int i = 0; i < count; i++)
+			dst[dstOffset + i] = exp2(src[srcOffset + i] * LOG2E);
+	}
+
+	/** Stores 1 / sqrt of count values from src in dst. */
+	public void invSqrt (float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+		for (int i = 0; i < count; i++)
+			dst[dstOffset + i] = invSqrt(src[srcOffset + i]);
+	}
+
+	/** Normalizes count 2D vectors stored as one array per component. Vectors of length zero are not changed. */
+	public void nor (float[] x, float[] y, int offset, int count) {
+		for (int i = offset, n = offset + count; i < n; i++) {
+			float vx = x[i], vy = y[i], len2 = vx * vx + vy * vy;
+			if (len2 == 0) continue;
+			float scale = invSqrt(len2);
+			x[i] = vx * scale;
+			y[i] = vy * scale;
+		}
+	}
+
+	/** Normalizes count 3D vectors stored as one array per component. Vectors of length zero are not changed. */
+	public void nor (float[] x, float[] y, float[] z, int offset, int count) {
+		for (int i = offset, n = offset + count; i < n; i++) {
+			float vx = x[i], vy = y[i], vz = z[i], len2 = vx * vx + vy * vy + vz * vz;
+			if (len2 == 0) continue;
+			float scale = invSqrt(len2);
+			x[i] = vx * scale;
+			y[i] = vy * scale;
+			z[i] = vz * scale;
+		}
+	}
+}
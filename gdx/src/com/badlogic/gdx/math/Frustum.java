@@ -21,6 +21,12 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.PerspectiveCamera;
 import com.badlogic.gdx.math.Plane.PlaneSide;
 import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** A truncated rectangular pyramid. Used to define the viewable region and its projection onto the screen.
  * @see Camera#frustum */
@@ -48,6 +54,9 @@ public class Frustum {
 	public final Vector3[] planePoints = {new Vector3(), new Vector3(), new Vector3(), new Vector3(), new Vector3(),
 		new Vector3(), new Vector3(), new Vector3()};
 	protected final float[] planePointsArray = new float[8 * 3];
+	/** The normal, distance and absolute normal of each plane, copied from {@link #planes} by the batch culling methods. */
+	private final float[] planeData = new float[6 * 7];
+	private final Array<AsyncResult<Integer>> results = new Array();
 
 	public Frustum () {
 		for (int i = 0; i < 6; i++) {
@@ -60,7 +69,7 @@ public class Frustum {
 	 * @param inverseProjectionView the combined projection and view matrices. */
 	public void update (Matrix4 inverseProjectionView) {
 		System.arraycopy(clipSpacePlanePointsArray, 0, planePointsArray, 0, clipSpacePlanePointsArray.length);
-		Matrix4.prj(inverseProjectionView.val, planePointsArray, 0, 8, 3);
+		Matrix4.prj(inverseProjectionView.val, 0, planePointsArray, 0, 8, 3);
 		for (int i = 0, j = 0; i < 8; i++) {
 			Vector3 v = planePoints[i];
 			v.x = planePointsArray[j++];
@@ -196,6 +205,199 @@ public class Frustum {
 		return true;
 	}
 
+	/** Tests the spheres from offset to offset + count - 1, given as arrays of the center coordinates and radii, and sets the bit
+	 * of each visible sphere and clears the bit of each sphere outside the frustum.
+	 * @return The number of visible spheres. */
+	public int spheresInFrustum (float[] x, float[] y, float[] z, float[] radius, int offset, int count, Bits visible) {
+		return spheresInFrustum(x, y, z, radius, offset, count, visible, null);
+	}
+
+	/** Like {@link #spheresInFrustum(float[], float[], float[], float[], int, int, Bits)}, using plane coherency: the index of
+	 * the plane that culled a sphere is stored in lastPlanes and that plane is tested first the next time. Objects that don't
+	 * move much are then usually culled by the first plane tested.
+	 * @param lastPlanes An array at least as large as the sphere arrays, initially zeros. May be null. */
+	public int spheresInFrustum (float[] x, float[] y, float[] z, float[] radius, int offset, int count, Bits visible,
+		byte[] lastPlanes) {
+		updatePlaneData();
+		return spheresInFrustum(planeData, x, y, z, radius, offset, offset + count, visible, null, lastPlanes);
+	}
+
+	/** Tests the spheres from offset to offset + count - 1, given as arrays of the center coordinates and radii, and stores the
+	 * index of each visible sphere in visible.
+	 * @param visible Must be at least count large.
+	 * @return The number of visible spheres. */
+	public int spheresInFrustum (float[] x, float[] y, float[] z, float[] radius, int offset, int count, int[] visible) {
+		updatePlaneData();
+		return spheresInFrustum(planeData, x, y, z, radius, offset, offset + count, null, visible, null);
+	}
+
+	/** Like {@link #spheresInFrustum(float[], float[], float[], float[], int, int, Bits, byte[])}, tests the spheres in chunks
+	 * on the threads of the executor and waits for the results.
+	 * @param lastPlanes May be null. */
+	public int spheresInFrustum (final float[] x, final float[] y, final float[] z, final float[] radius, int offset, int count,
+		final Bits visible, final byte[] lastPlanes, AsyncExecutor executor) {
+		updatePlaneData();
+		final float[] planeData = this.planeData;
+		int end = offset + count;
+		int chunkSize = chunkSize(count);
+		if (count <= chunkSize) return spheresInFrustum(planeData, x, y, z, radius, offset, end, visible, null, lastPlanes);
+		visible.set(end - 1); // Grows the bits before the chunks are written concurrently.
+		for (int start = offset; start < end;) {
+			final int chunkStart = start, chunkEnd = Math.min(end, (start + chunkSize) & ~63);
+			results.add(executor.submit(new AsyncTask<Integer>() {
+				public Integer call () {
+					return spheresInFrustum(planeData, x, y, z, radius, chunkStart, chunkEnd, visible, null, lastPlanes);
+				}
+			}));
+			start = chunkEnd;
+		}
+		return sumResults();
+	}
+
+	/** Tests the axis aligned boxes from offset to offset + count - 1, given as arrays of the center coordinates and half
+	 * extents, and sets the bit of each visible box and clears the bit of each box outside the frustum.
+	 * @return The number of visible boxes. */
+	public int boundsInFrustum (float[] x, float[] y, float[] z, float[] halfWidth, float[] halfHeight, float[] halfDepth,
+		int offset, int count, Bits visible) {
+		return boundsInFrustum(x, y, z, halfWidth, halfHeight, halfDepth, offset, count, visible, null);
+	}
+
+	/** Like {@link #boundsInFrustum(float[], float[], float[], float[], float[], float[], int, int, Bits)}, using plane
+	 * coherency: the index of the plane that culled a box is stored in lastPlanes and that plane is tested first the next time.
+	 * @param lastPlanes An array at least as large as the box arrays, initially zeros. May be null. */
+	public int boundsInFrustum (float[] x, float[] y, float[] z, float[] halfWidth, float[] halfHeight, float[] halfDepth,
+		int offset, int count, Bits visible, byte[] lastPlanes) {
+		updatePlaneData();
+		return boundsInFrustum(planeData, x, y, z, halfWidth, halfHeight, halfDepth, offset, offset + count, visible, null,
+			lastPlanes);
+	}
+
+	/** Tests the axis aligned boxes from offset to offset + count - 1, given as arrays of the center coordinates and half
+	 * extents, and stores the index of each visible box in visible.
+	 * @param visible Must be at least count large.
+	 * @return The number of visible boxes. */
+	public int boundsInFrustum (float[] x, float[] y, float[] z, float[] halfWidth, float[] halfHeight, float[] halfDepth,
+		int offset, int count, int[] visible) {
+		updatePlaneData();
+		return boundsInFrustum(planeData, x, y, z, halfWidth, halfHeight, halfDepth, offset, offset + count, null, visible, null);
+	}
+
+	/** Like {@link #boundsInFrustum(float[], float[], float[], float[], float[], float[], int, int, Bits, byte[])}, tests the
+	 * boxes in chunks on the threads of the executor and waits for the results.
+	 * @param lastPlanes May be null. */
+	public int boundsInFrustum (final float[] x, final float[] y, final float[] z, final float[] halfWidth,
+		final float[] halfHeight, final float[] halfDepth, int offset, int count, final Bits visible, final byte[] lastPlanes,
+		AsyncExecutor executor) {
+		updatePlaneData();
+		final float[] planeData = this.planeData;
+		int end = offset + count;
+		int chunkSize = chunkSize(count);
+		if (count <= chunkSize)
+			return boundsInFrustum(planeData, x, y, z, halfWidth, halfHeight, halfDepth, offset, end, visible, null, lastPlanes);
+		visible.set(end - 1); // Grows the bits before the chunks are written concurrently.
+		for (int start = offset; start < end;) {
+			final int chunkStart = start, chunkEnd = Math.min(end, (start + chunkSize) & ~63);
+			results.add(executor.submit(new AsyncTask<Integer>() {
+				public Integer call () {
+					return boundsInFrustum(planeData, x, y, z, halfWidth, halfHeight, halfDepth, chunkStart, chunkEnd, visible, null,
+						lastPlanes);
+				}
+			}));
+			start = chunkEnd;
+		}
+		return sumResults();
+	}
+
+	private void updatePlaneData () {
+		float[] planeData = this.planeData;
+		for (int i = 0, ii = 0; i < 6; i++, ii += 7) {
+			Vector3 normal = planes[i].normal;
+			planeData[ii] = normal.x;
+			planeData[ii + 1] = normal.y;
+			planeData[ii + 2] = normal.z;
+			planeData[ii + 3] = planes[i].d;
+			planeData[ii + 4] = Math.abs(normal.x);
+			planeData[ii + 5] = Math.abs(normal.y);
+			planeData[ii + 6] = Math.abs(normal.z);
+		}
+	}
+
+	/** Returns the number of objects per chunk, a multiple of 64 so chunks never write the same word of the bits. */
+	static private int chunkSize (int count) {
+		return Math.max(4096, (count / 8 + 63) & ~63);
+	}
+
+	/** Waits for all chunks, then throws the exception of the first chunk that failed. Chunks still running could otherwise
+	 * write to the bits after the method returned. */
+	private int sumResults () {
+		Array<AsyncResult<Integer>> results = this.results;
+		int visible = 0;
+		GdxRuntimeException error = null;
+		try {
+			for (int i = 0, n = results.size; i < n; i++) {
+				try {
+					visible += results.get(i).get();
+				} catch (GdxRuntimeException ex) {
+					if (error == null) error = ex;
+				}
+			}
+		} finally {
+			results.clear();
+		}
+		if (error != null) throw error;
+		return visible;
+	}
+
+	static int spheresInFrustum (float[] planeData, float[] x, float[] y, float[] z, float[] radius, int start, int end,
+		Bits bits, int[] indices, byte[] lastPlanes) {
+		int visible = 0;
+		outer:
+		for (int i = start; i < end; i++) {
+			float cx = x[i], cy = y[i], cz = z[i], r = radius[i];
+			int first = lastPlanes == null ? 0 : lastPlanes[i];
+			for (int p = 0, plane = first; p < 6; p++, plane = plane == 5 ? 0 : plane + 1) {
+				int ii = plane * 7;
+				if (planeData[ii] * cx + planeData[ii + 1] * cy + planeData[ii + 2] * cz + planeData[ii + 3] < -r) {
+					if (lastPlanes != null) lastPlanes[i] = (byte)plane;
+					if (bits != null) bits.clear(i);
+					continue outer;
+				}
+			}
+			if (bits != null)
+				bits.set(i);
+			else
+				indices[visible] = i;
+			visible++;
+		}
+		return visible;
+	}
+
+	static int boundsInFrustum (float[] planeData, float[] x, float[] y, float[] z, float[] halfWidth, float[] halfHeight,
+		float[] halfDepth, int start, int end, Bits bits, int[] indices, byte[] lastPlanes) {
+		int visible = 0;
+		outer:
+		for (int i = start; i < end; i++) {
+			float cx = x[i], cy = y[i], cz = z[i], hx = halfWidth[i], hy = halfHeight[i], hz = halfDepth[i];
+			int first = lastPlanes == null ? 0 : lastPlanes[i];
+			for (int p = 0, plane = first; p < 6; p++, plane = plane == 5 ? 0 : plane + 1) {
+				int ii = plane * 7;
+				// The box is behind the plane if its center is farther behind than the projection of its half extents.
+				float distance = planeData[ii] * cx + planeData[ii + 1] * cy + planeData[ii + 2] * cz + planeData[ii + 3];
+				if (distance < -(planeData[ii + 4] * hx + planeData[ii + 5] * hy + planeData[ii + 6] * hz)) {
+					if (lastPlanes != null) lastPlanes[i] = (byte)plane;
+					if (bits != null) bits.clear(i);
+					continue outer;
+				}
+			}
+			if (bits != null)
+				bits.set(i);
+			else
+				indices[visible] = i;
+			visible++;
+		}
+		return visible;
+	}
+
 // /**
 // * Calculates the pick ray for the given window coordinates. Assumes the window coordinate system has it's y downwards. The
 // * returned Ray is a member of this instance so don't reuse it outside this class.
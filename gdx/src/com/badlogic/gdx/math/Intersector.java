@@ -150,7 +150,8 @@ public final class Intersector {
 	private final static Vector2 e = new Vector2();
 
 	/** Intersects two resulting polygons with the same winding and sets the overlap polygon resulting from the intersection.
-	 * Follows the Sutherland-Hodgman algorithm.
+	 * Follows the Sutherland-Hodgman algorithm. The clip polygon must be convex, see {@link PolygonClipper} for arbitrary
+	 * polygons.
 	 *
 	 * @param p1 The polygon that is being clipped
 	 * @param p2 The clip polygon
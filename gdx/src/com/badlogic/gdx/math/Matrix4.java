@@ -73,6 +73,11 @@ public class Matrix4 implements Serializable {
 	private static final float tmp[] = new float[16];
 	public final float val[] = new float[16];
 
+	/** If true, {@link #mul(Matrix4)}, {@link #mulLeft(Matrix4)} and {@link #rotate(Quaternion)} use the native
+	 * {@link #mul(float[], float[])}, otherwise the pure Java {@link #mul(float[], int, float[], int)}. Defaults to false, since the
+	 * JNI transition costs more than a single 4x4 multiplication. Has no effect on GWT. */
+	public static boolean useNatives = false;
+
 	/** Constructs an identity matrix */
 	public Matrix4 () {
 		val[M00] = 1f;
@@ -219,31 +224,45 @@ public class Matrix4 implements Serializable {
 	 * @return This matrix for the purpose of chaining methods together. */
 	public Matrix4 set (float translationX, float translationY, float translationZ, float quaternionX, float quaternionY,
 		float quaternionZ, float quaternionW, float scaleX, float scaleY, float scaleZ) {
+		setToTranslationRotationScale(val, 0, translationX, translationY, translationZ, quaternionX, quaternionY, quaternionZ,
+			quaternionW, scaleX, scaleY, scaleZ);
+		return this;
+	}
+
+	/** Writes the translation, rotation and scale matrix to the given array, the same as
+	 * {@link #set(float, float, float, float, float, float, float, float, float, float)} but without needing a Matrix4 instance.
+	 * This allows filling many transforms into one array, eg for instanced rendering. The quaternion must be normalized.
+	 * @param values The array to write the column major matrix to.
+	 * @param offset The index of the matrix in values.
+	 * @return The values array for chaining. */
+	public static float[] setToTranslationRotationScale (float[] values, int offset, float translationX, float translationY,
+		float translationZ, float quaternionX, float quaternionY, float quaternionZ, float quaternionW, float scaleX, float scaleY,
+		float scaleZ) {
 		final float xs = quaternionX * 2f, ys = quaternionY * 2f, zs = quaternionZ * 2f;
 		final float wx = quaternionW * xs, wy = quaternionW * ys, wz = quaternionW * zs;
 		final float xx = quaternionX * xs, xy = quaternionX * ys, xz = quaternionX * zs;
 		final float yy = quaternionY * ys, yz = quaternionY * zs, zz = quaternionZ * zs;
 
-		val[M00] = scaleX * (1.0f - (yy + zz));
-		val[M01] = scaleY * (xy - wz);
-		val[M02] = scaleZ * (xz + wy);
-		val[M03] = translationX;
+		values[offset + M00] = scaleX * (1.0f - (yy + zz));
+		values[offset + M01] = scaleY * (xy - wz);
+		values[offset + M02] = scaleZ * (xz + wy);
+		values[offset + M03] = translationX;
 
-		val[M10] = scaleX * (xy + wz);
-		val[M11] = scaleY * (1.0f - (xx + zz));
-		val[M12] = scaleZ * (yz - wx);
-		val[M13] = translationY;
+		values[offset + M10] = scaleX * (xy + wz);
+		values[offset + M11] = scaleY * (1.0f - (xx + zz));
+		values[offset + M12] = scaleZ * (yz - wx);
+		values[offset + M13] = translationY;
 
-		val[M20] = scaleX * (xz - wy);
-		val[M21] = scaleY * (yz + wx);
-		val[M22] = scaleZ * (1.0f - (xx + yy));
-		val[M23] = translationZ;
+		values[offset + M20] = scaleX * (xz - wy);
+		values[offset + M21] = scaleY * (yz + wx);
+		values[offset + M22] = scaleZ * (1.0f - (xx + yy));
+		values[offset + M23] = translationZ;
 
-		val[M30] = 0.f;
-		val[M31] = 0.f;
-		val[M32] = 0.f;
-		val[M33] = 1.0f;
-		return this;
+		values[offset + M30] = 0.f;
+		values[offset + M31] = 0.f;
+		values[offset + M32] = 0.f;
+		values[offset + M33] = 1.0f;
+		return values;
 	}
 
 	/** Sets the four columns of the matrix which correspond to the x-, y- and z-axis of the vector space this matrix creates as
@@ -316,7 +335,10 @@ public class Matrix4 implements Serializable {
 	 * @param matrix The other matrix to multiply by.
 	 * @return This matrix for the purpose of chaining operations together. */
 	public Matrix4 mul (Matrix4 matrix) {
-		mul(val, matrix.val);
+		if (useNatives)
+			mul(val, matrix.val);
+		else
+			mul(val, 0, matrix.val, 0);
 		return this;
 	}
 
@@ -330,7 +352,10 @@ public class Matrix4 implements Serializable {
 	 * @return This matrix for the purpose of chaining operations together. */
 	public Matrix4 mulLeft (Matrix4 matrix) {
 		tmpMat.set(matrix);
-		mul(tmpMat.val, this.val);
+		if (useNatives)
+			mul(tmpMat.val, this.val);
+		else
+			mul(tmpMat.val, 0, this.val, 0);
 		return set(tmpMat);
 	}
 
@@ -385,79 +410,13 @@ public class Matrix4 implements Serializable {
 	 * @return This matrix for the purpose of chaining methods together.
 	 * @throws RuntimeException if the matrix is singular (not invertible) */
 	public Matrix4 inv () {
-		float l_det = val[M30] * val[M21] * val[M12] * val[M03] - val[M20] * val[M31] * val[M12] * val[M03] - val[M30] * val[M11]
-			* val[M22] * val[M03] + val[M10] * val[M31] * val[M22] * val[M03] + val[M20] * val[M11] * val[M32] * val[M03] - val[M10]
-			* val[M21] * val[M32] * val[M03] - val[M30] * val[M21] * val[M02] * val[M13] + val[M20] * val[M31] * val[M02] * val[M13]
-			+ val[M30] * val[M01] * val[M22] * val[M13] - val[M00] * val[M31] * val[M22] * val[M13] - val[M20] * val[M01] * val[M32]
-			* val[M13] + val[M00] * val[M21] * val[M32] * val[M13] + val[M30] * val[M11] * val[M02] * val[M23] - val[M10] * val[M31]
-			* val[M02] * val[M23] - val[M30] * val[M01] * val[M12] * val[M23] + val[M00] * val[M31] * val[M12] * val[M23] + val[M10]
-			* val[M01] * val[M32] * val[M23] - val[M00] * val[M11] * val[M32] * val[M23] - val[M20] * val[M11] * val[M02] * val[M33]
-			+ val[M10] * val[M21] * val[M02] * val[M33] + val[M20] * val[M01] * val[M12] * val[M33] - val[M00] * val[M21] * val[M12]
-			* val[M33] - val[M10] * val[M01] * val[M22] * val[M33] + val[M00] * val[M11] * val[M22] * val[M33];
-		if (l_det == 0f) throw new RuntimeException("non-invertible matrix");
-		float inv_det = 1.0f / l_det;
-		tmp[M00] = val[M12] * val[M23] * val[M31] - val[M13] * val[M22] * val[M31] + val[M13] * val[M21] * val[M32] - val[M11]
-			* val[M23] * val[M32] - val[M12] * val[M21] * val[M33] + val[M11] * val[M22] * val[M33];
-		tmp[M01] = val[M03] * val[M22] * val[M31] - val[M02] * val[M23] * val[M31] - val[M03] * val[M21] * val[M32] + val[M01]
-			* val[M23] * val[M32] + val[M02] * val[M21] * val[M33] - val[M01] * val[M22] * val[M33];
-		tmp[M02] = val[M02] * val[M13] * val[M31] - val[M03] * val[M12] * val[M31] + val[M03] * val[M11] * val[M32] - val[M01]
-			* val[M13] * val[M32] - val[M02] * val[M11] * val[M33] + val[M01] * val[M12] * val[M33];
-		tmp[M03] = val[M03] * val[M12] * val[M21] - val[M02] * val[M13] * val[M21] - val[M03] * val[M11] * val[M22] + val[M01]
-			* val[M13] * val[M22] + val[M02] * val[M11] * val[M23] - val[M01] * val[M12] * val[M23];
-		tmp[M10] = val[M13] * val[M22] * val[M30] - val[M12] * val[M23] * val[M30] - val[M13] * val[M20] * val[M32] + val[M10]
-			* val[M23] * val[M32] + val[M12] * val[M20] * val[M33] - val[M10] * val[M22] * val[M33];
-		tmp[M11] = val[M02] * val[M23] * val[M30] - val[M03] * val[M22] * val[M30] + val[M03] * val[M20] * val[M32] - val[M00]
-			* val[M23] * val[M32] - val[M02] * val[M20] * val[M33] + val[M00] * val[M22] * val[M33];
-		tmp[M12] = val[M03] * val[M12] * val[M30] - val[M02] * val[M13] * val[M30] - val[M03] * val[M10] * val[M32] + val[M00]
-			* val[M13] * val[M32] + val[M02] * val[M10] * val[M33] - val[M00] * val[M12] * val[M33];
-		tmp[M13] = val[M02] * val[M13] * val[M20] - val[M03] * val[M12] * val[M20] + val[M03] * val[M10] * val[M22] - val[M00]
-			* val[M13] * val[M22] - val[M02] * val[M10] * val[M23] + val[M00] * val[M12] * val[M23];
-		tmp[M20] = val[M11] * val[M23] * val[M30] - val[M13] * val[M21] * val[M30] + val[M13] * val[M20] * val[M31] - val[M10]
-			* val[M23] * val[M31] - val[M11] * val[M20] * val[M33] + val[M10] * val[M21] * val[M33];
-		tmp[M21] = val[M03] * val[M21] * val[M30] - val[M01] * val[M23] * val[M30] - val[M03] * val[M20] * val[M31] + val[M00]
-			* val[M23] * val[M31] + val[M01] * val[M20] * val[M33] - val[M00] * val[M21] * val[M33];
-		tmp[M22] = val[M01] * val[M13] * val[M30] - val[M03] * val[M11] * val[M30] + val[M03] * val[M10] * val[M31] - val[M00]
-			* val[M13] * val[M31] - val[M01] * val[M10] * val[M33] + val[M00] * val[M11] * val[M33];
-		tmp[M23] = val[M03] * val[M11] * val[M20] - val[M01] * val[M13] * val[M20] - val[M03] * val[M10] * val[M21] + val[M00]
-			* val[M13] * val[M21] + val[M01] * val[M10] * val[M23] - val[M00] * val[M11] * val[M23];
-		tmp[M30] = val[M12] * val[M21] * val[M30] - val[M11] * val[M22] * val[M30] - val[M12] * val[M20] * val[M31] + val[M10]
-			* val[M22] * val[M31] + val[M11] * val[M20] * val[M32] - val[M10] * val[M21] * val[M32];
-		tmp[M31] = val[M01] * val[M22] * val[M30] - val[M02] * val[M21] * val[M30] + val[M02] * val[M20] * val[M31] - val[M00]
-			* val[M22] * val[M31] - val[M01] * val[M20] * val[M32] + val[M00] * val[M21] * val[M32];
-		tmp[M32] = val[M02] * val[M11] * val[M30] - val[M01] * val[M12] * val[M30] - val[M02] * val[M10] * val[M31] + val[M00]
-			* val[M12] * val[M31] + val[M01] * val[M10] * val[M32] - val[M00] * val[M11] * val[M32];
-		tmp[M33] = val[M01] * val[M12] * val[M20] - val[M02] * val[M11] * val[M20] + val[M02] * val[M10] * val[M21] - val[M00]
-			* val[M12] * val[M21] - val[M01] * val[M10] * val[M22] + val[M00] * val[M11] * val[M22];
-		val[M00] = tmp[M00] * inv_det;
-		val[M01] = tmp[M01] * inv_det;
-		val[M02] = tmp[M02] * inv_det;
-		val[M03] = tmp[M03] * inv_det;
-		val[M10] = tmp[M10] * inv_det;
-		val[M11] = tmp[M11] * inv_det;
-		val[M12] = tmp[M12] * inv_det;
-		val[M13] = tmp[M13] * inv_det;
-		val[M20] = tmp[M20] * inv_det;
-		val[M21] = tmp[M21] * inv_det;
-		val[M22] = tmp[M22] * inv_det;
-		val[M23] = tmp[M23] * inv_det;
-		val[M30] = tmp[M30] * inv_det;
-		val[M31] = tmp[M31] * inv_det;
-		val[M32] = tmp[M32] * inv_det;
-		val[M33] = tmp[M33] * inv_det;
+		if (!inv(val, 0)) throw new RuntimeException("non-invertible matrix");
 		return this;
 	}
 
 	/** @return The determinant of this matrix */
 	public float det () {
-		return val[M30] * val[M21] * val[M12] * val[M03] - val[M20] * val[M31] * val[M12] * val[M03] - val[M30] * val[M11]
-			* val[M22] * val[M03] + val[M10] * val[M31] * val[M22] * val[M03] + val[M20] * val[M11] * val[M32] * val[M03] - val[M10]
-			* val[M21] * val[M32] * val[M03] - val[M30] * val[M21] * val[M02] * val[M13] + val[M20] * val[M31] * val[M02] * val[M13]
-			+ val[M30] * val[M01] * val[M22] * val[M13] - val[M00] * val[M31] * val[M22] * val[M13] - val[M20] * val[M01] * val[M32]
-			* val[M13] + val[M00] * val[M21] * val[M32] * val[M13] + val[M30] * val[M11] * val[M02] * val[M23] - val[M10] * val[M31]
-			* val[M02] * val[M23] - val[M30] * val[M01] * val[M12] * val[M23] + val[M00] * val[M31] * val[M12] * val[M23] + val[M10]
-			* val[M01] * val[M32] * val[M23] - val[M00] * val[M11] * val[M32] * val[M23] - val[M20] * val[M11] * val[M02] * val[M33]
-			+ val[M10] * val[M21] * val[M02] * val[M33] + val[M20] * val[M01] * val[M12] * val[M33] - val[M00] * val[M21] * val[M12]
-			* val[M33] - val[M10] * val[M01] * val[M22] * val[M33] + val[M00] * val[M11] * val[M22] * val[M33];
+		return det(val, 0);
 	}
 
 	/** @return The determinant of the 3x3 upper left matrix */
@@ -1022,6 +981,38 @@ public class Matrix4 implements Serializable {
 		return this;
 	}
 
+	/** Postmultiplies this matrix with the given affine matrix, mapped as in {@link #set(Affine2)}, without the need for a
+	 * temporary Matrix4. For example:
+	 * 
+	 * <pre>
+	 * A.mul(B) results in A := AB.
+	 * </pre>
+	 * 
+	 * @param affine The affine matrix to multiply by.
+	 * @return This matrix for the purpose of chaining operations together. */
+	public Matrix4 mul (Affine2 affine) {
+		float v0 = val[M00], v1 = val[M01];
+		val[M00] = v0 * affine.m00 + v1 * affine.m10;
+		val[M01] = v0 * affine.m01 + v1 * affine.m11;
+		val[M03] += v0 * affine.m02 + v1 * affine.m12;
+		v0 = val[M10];
+		v1 = val[M11];
+		val[M10] = v0 * affine.m00 + v1 * affine.m10;
+		val[M11] = v0 * affine.m01 + v1 * affine.m11;
+		val[M13] += v0 * affine.m02 + v1 * affine.m12;
+		v0 = val[M20];
+		v1 = val[M21];
+		val[M20] = v0 * affine.m00 + v1 * affine.m10;
+		val[M21] = v0 * affine.m01 + v1 * affine.m11;
+		val[M23] += v0 * affine.m02 + v1 * affine.m12;
+		v0 = val[M30];
+		v1 = val[M31];
+		val[M30] = v0 * affine.m00 + v1 * affine.m10;
+		val[M31] = v0 * affine.m01 + v1 * affine.m11;
+		val[M33] += v0 * affine.m02 + v1 * affine.m12;
+		return this;
+	}
+
 	/** Assumes that this matrix is a 2D affine transformation, copying only the relevant components. The values are mapped as
 	 * follows:
 	 *
@@ -1408,6 +1399,172 @@ public class Matrix4 implements Serializable {
 	*/
 
 	// @on
+	/** Multiplies the matrix mata with matrix matb, storing the result in mata. Unlike {@link #mul(float[], float[])} this is
+	 * plain Java, which the JIT compiles to straight-line code. For a single 4x4 multiplication this is faster than the JNI
+	 * transition of the native method. The arrays may be the same.
+	 * @param mata the first matrix.
+	 * @param offsetA the index of the first matrix in mata.
+	 * @param matb the second matrix.
+	 * @param offsetB the index of the second matrix in matb. */
+	public static void mul (float[] mata, int offsetA, float[] matb, int offsetB) {
+		final float a00 = mata[offsetA + M00], a01 = mata[offsetA + M01], a02 = mata[offsetA + M02], a03 = mata[offsetA + M03];
+		final float a10 = mata[offsetA + M10], a11 = mata[offsetA + M11], a12 = mata[offsetA + M12], a13 = mata[offsetA + M13];
+		final float a20 = mata[offsetA + M20], a21 = mata[offsetA + M21], a22 = mata[offsetA + M22], a23 = mata[offsetA + M23];
+		final float a30 = mata[offsetA + M30], a31 = mata[offsetA + M31], a32 = mata[offsetA + M32], a33 = mata[offsetA + M33];
+		final float b00 = matb[offsetB + M00], b01 = matb[offsetB + M01], b02 = matb[offsetB + M02], b03 = matb[offsetB + M03];
+		final float b10 = matb[offsetB + M10], b11 = matb[offsetB + M11], b12 = matb[offsetB + M12], b13 = matb[offsetB + M13];
+		final float b20 = matb[offsetB + M20], b21 = matb[offsetB + M21], b22 = matb[offsetB + M22], b23 = matb[offsetB + M23];
+		final float b30 = matb[offsetB + M30], b31 = matb[offsetB + M31], b32 = matb[offsetB + M32], b33 = matb[offsetB + M33];
+		mata[offsetA + M00] = a00 * b00 + a01 * b10 + a02 * b20 + a03 * b30;
+		mata[offsetA + M01] = a00 * b01 + a01 * b11 + a02 * b21 + a03 * b31;
+		mata[offsetA + M02] = a00 * b02 + a01 * b12 + a02 * b22 + a03 * b32;
+		mata[offsetA + M03] = a00 * b03 + a01 * b13 + a02 * b23 + a03 * b33;
+		mata[offsetA + M10] = a10 * b00 + a11 * b10 + a12 * b20 + a13 * b30;
+		mata[offsetA + M11] = a10 * b01 + a11 * b11 + a12 * b21 + a13 * b31;
+		mata[offsetA + M12] = a10 * b02 + a11 * b12 + a12 * b22 + a13 * b32;
+		mata[offsetA + M13] = a10 * b03 + a11 * b13 + a12 * b23 + a13 * b33;
+		mata[offsetA + M20] = a20 * b00 + a21 * b10 + a22 * b20 + a23 * b30;
+		mata[offsetA + M21] = a20 * b01 + a21 * b11 + a22 * b21 + a23 * b31;
+		mata[offsetA + M22] = a20 * b02 + a21 * b12 + a22 * b22 + a23 * b32;
+		mata[offsetA + M23] = a20 * b03 + a21 * b13 + a22 * b23 + a23 * b33;
+		mata[offsetA + M30] = a30 * b00 + a31 * b10 + a32 * b20 + a33 * b30;
+		mata[offsetA + M31] = a30 * b01 + a31 * b11 + a32 * b21 + a33 * b31;
+		mata[offsetA + M32] = a30 * b02 + a31 * b12 + a32 * b22 + a33 * b32;
+		mata[offsetA + M33] = a30 * b03 + a31 * b13 + a32 * b23 + a33 * b33;
+	}
+
+	/** Multiplies the vectors with the given matrix. The matrix is read once, then applied to numVecs 3-component vectors stored
+	 * stride floats apart, starting at offset. This is the pure Java equivalent of
+	 * {@link #mulVec(float[], float[], int, int, int)}.
+	 * @param mat the matrix
+	 * @param matOffset the index of the matrix in mat
+	 * @param vecs the vectors
+	 * @param offset the offset into the vectors array
+	 * @param numVecs the number of vectors
+	 * @param stride the stride between vectors in floats */
+	public static void mulVec (float[] mat, int matOffset, float[] vecs, int offset, int numVecs, int stride) {
+		final float m00 = mat[matOffset + M00], m01 = mat[matOffset + M01], m02 = mat[matOffset + M02], m03 = mat[matOffset + M03];
+		final float m10 = mat[matOffset + M10], m11 = mat[matOffset + M11], m12 = mat[matOffset + M12], m13 = mat[matOffset + M13];
+		final float m20 = mat[matOffset + M20], m21 = mat[matOffset + M21], m22 = mat[matOffset + M22], m23 = mat[matOffset + M23];
+		for (int i = 0; i < numVecs; i++, offset += stride) {
+			final float x = vecs[offset], y = vecs[offset + 1], z = vecs[offset + 2];
+			vecs[offset] = x * m00 + y * m01 + z * m02 + m03;
+			vecs[offset + 1] = x * m10 + y * m11 + z * m12 + m13;
+			vecs[offset + 2] = x * m20 + y * m21 + z * m22 + m23;
+		}
+	}
+
+	/** Multiplies the vectors with the given matrix, performing a division by w. The matrix is read once, then applied to numVecs
+	 * 3-component vectors stored stride floats apart, starting at offset. This is the pure Java equivalent of
+	 * {@link #prj(float[], float[], int, int, int)}.
+	 * @param mat the matrix
+	 * @param matOffset the index of the matrix in mat
+	 * @param vecs the vectors
+	 * @param offset the offset into the vectors array
+	 * @param numVecs the number of vectors
+	 * @param stride the stride between vectors in floats */
+	public static void prj (float[] mat, int matOffset, float[] vecs, int offset, int numVecs, int stride) {
+		final float m00 = mat[matOffset + M00], m01 = mat[matOffset + M01], m02 = mat[matOffset + M02], m03 = mat[matOffset + M03];
+		final float m10 = mat[matOffset + M10], m11 = mat[matOffset + M11], m12 = mat[matOffset + M12], m13 = mat[matOffset + M13];
+		final float m20 = mat[matOffset + M20], m21 = mat[matOffset + M21], m22 = mat[matOffset + M22], m23 = mat[matOffset + M23];
+		final float m30 = mat[matOffset + M30], m31 = mat[matOffset + M31], m32 = mat[matOffset + M32], m33 = mat[matOffset + M33];
+		for (int i = 0; i < numVecs; i++, offset += stride) {
+			final float x = vecs[offset], y = vecs[offset + 1], z = vecs[offset + 2];
+			final float invW = 1.0f / (x * m30 + y * m31 + z * m32 + m33);
+			vecs[offset] = (x * m00 + y * m01 + z * m02 + m03) * invW;
+			vecs[offset + 1] = (x * m10 + y * m11 + z * m12 + m13) * invW;
+			vecs[offset + 2] = (x * m20 + y * m21 + z * m22 + m23) * invW;
+		}
+	}
+
+	/** Multiplies the vectors with the top most 3x3 sub-matrix of the given matrix. The matrix is read once, then applied to
+	 * numVecs 3-component vectors stored stride floats apart, starting at offset. This is the pure Java equivalent of
+	 * {@link #rot(float[], float[], int, int, int)}.
+	 * @param mat the matrix
+	 * @param matOffset the index of the matrix in mat
+	 * @param vecs the vectors
+	 * @param offset the offset into the vectors array
+	 * @param numVecs the number of vectors
+	 * @param stride the stride between vectors in floats */
+	public static void rot (float[] mat, int matOffset, float[] vecs, int offset, int numVecs, int stride) {
+		final float m00 = mat[matOffset + M00], m01 = mat[matOffset + M01], m02 = mat[matOffset + M02];
+		final float m10 = mat[matOffset + M10], m11 = mat[matOffset + M11], m12 = mat[matOffset + M12];
+		final float m20 = mat[matOffset + M20], m21 = mat[matOffset + M21], m22 = mat[matOffset + M22];
+		for (int i = 0; i < numVecs; i++, offset += stride) {
+			final float x = vecs[offset], y = vecs[offset + 1], z = vecs[offset + 2];
+			vecs[offset] = x * m00 + y * m01 + z * m02;
+			vecs[offset + 1] = x * m10 + y * m11 + z * m12;
+			vecs[offset + 2] = x * m20 + y * m21 + z * m22;
+		}
+	}
+
+	/** Computes the inverse of the given matrix in place. This is the pure Java equivalent of {@link #inv(float[])}.
+	 * @param values the matrix values.
+	 * @param offset the index of the matrix in values.
+	 * @return false in case the inverse could not be calculated, true otherwise. */
+	public static boolean inv (float[] values, int offset) {
+		final float m00 = values[offset + M00], m01 = values[offset + M01], m02 = values[offset + M02], m03 = values[offset + M03];
+		final float m10 = values[offset + M10], m11 = values[offset + M11], m12 = values[offset + M12], m13 = values[offset + M13];
+		final float m20 = values[offset + M20], m21 = values[offset + M21], m22 = values[offset + M22], m23 = values[offset + M23];
+		final float m30 = values[offset + M30], m31 = values[offset + M31], m32 = values[offset + M32], m33 = values[offset + M33];
+		final float det = m30 * m21 * m12 * m03 - m20 * m31 * m12 * m03 - m30 * m11 * m22 * m03 + m10 * m31 * m22 * m03 + m20 * m11
+			* m32 * m03 - m10 * m21 * m32 * m03 - m30 * m21 * m02 * m13 + m20 * m31 * m02 * m13 + m30 * m01 * m22 * m13 - m00 * m31
+			* m22 * m13 - m20 * m01 * m32 * m13 + m00 * m21 * m32 * m13 + m30 * m11 * m02 * m23 - m10 * m31 * m02 * m23 - m30 * m01
+			* m12 * m23 + m00 * m31 * m12 * m23 + m10 * m01 * m32 * m23 - m00 * m11 * m32 * m23 - m20 * m11 * m02 * m33 + m10 * m21
+			* m02 * m33 + m20 * m01 * m12 * m33 - m00 * m21 * m12 * m33 - m10 * m01 * m22 * m33 + m00 * m11 * m22 * m33;
+		if (det == 0f) return false;
+		final float invDet = 1.0f / det;
+		values[offset + M00] = (m12 * m23 * m31 - m13 * m22 * m31 + m13 * m21 * m32 - m11 * m23 * m32 - m12 * m21 * m33 + m11 * m22
+			* m33) * invDet;
+		values[offset + M01] = (m03 * m22 * m31 - m02 * m23 * m31 - m03 * m21 * m32 + m01 * m23 * m32 + m02 * m21 * m33 - m01 * m22
+			* m33) * invDet;
+		values[offset + M02] = (m02 * m13 * m31 - m03 * m12 * m31 + m03 * m11 * m32 - m01 * m13 * m32 - m02 * m11 * m33 + m01 * m12
+			* m33) * invDet;
+		values[offset + M03] = (m03 * m12 * m21 - m02 * m13 * m21 - m03 * m11 * m22 + m01 * m13 * m22 + m02 * m11 * m23 - m01 * m12
+			* m23) * invDet;
+		values[offset + M10] = (m13 * m22 * m30 - m12 * m23 * m30 - m13 * m20 * m32 + m10 * m23 * m32 + m12 * m20 * m33 - m10 * m22
+			* m33) * invDet;
+		values[offset + M11] = (m02 * m23 * m30 - m03 * m22 * m30 + m03 * m20 * m32 - m00 * m23 * m32 - m02 * m20 * m33 + m00 * m22
+			* m33) * invDet;
+		values[offset + M12] = (m03 * m12 * m30 - m02 * m13 * m30 - m03 * m10 * m32 + m00 * m13 * m32 + m02 * m10 * m33 - m00 * m12
+			* m33) * invDet;
+		values[offset + M13] = (m02 * m13 * m20 - m03 * m12 * m20 + m03 * m10 * m22 - m00 * m13 * m22 - m02 * m10 * m23 + m00 * m12
+			* m23) * invDet;
+		values[offset + M20] = (m11 * m23 * m30 - m13 * m21 * m30 + m13 * m20 * m31 - m10 * m23 * m31 - m11 * m20 * m33 + m10 * m21
+			* m33) * invDet;
+		values[offset + M21] = (m03 * m21 * m30 - m01 * m23 * m30 - m03 * m20 * m31 + m00 * m23 * m31 + m01 * m20 * m33 - m00 * m21
+			* m33) * invDet;
+		values[offset + M22] = (m01 * m13 * m30 - m03 * m11 * m30 + m03 * m10 * m31 - m00 * m13 * m31 - m01 * m10 * m33 + m00 * m11
+			* m33) * invDet;
+		values[offset + M23] = (m03 * m11 * m20 - m01 * m13 * m20 - m03 * m10 * m21 + m00 * m13 * m21 + m01 * m10 * m23 - m00 * m11
+			* m23) * invDet;
+		values[offset + M30] = (m12 * m21 * m30 - m11 * m22 * m30 - m12 * m20 * m31 + m10 * m22 * m31 + m11 * m20 * m32 - m10 * m21
+			* m32) * invDet;
+		values[offset + M31] = (m01 * m22 * m30 - m02 * m21 * m30 + m02 * m20 * m31 - m00 * m22 * m31 - m01 * m20 * m32 + m00 * m21
+			* m32) * invDet;
+		values[offset + M32] = (m02 * m11 * m30 - m01 * m12 * m30 - m02 * m10 * m31 + m00 * m12 * m31 + m01 * m10 * m32 - m00 * m11
+			* m32) * invDet;
+		values[offset + M33] = (m01 * m12 * m20 - m02 * m11 * m20 + m02 * m10 * m21 - m00 * m12 * m21 - m01 * m10 * m22 + m00 * m11
+			* m22) * invDet;
+		return true;
+	}
+
+	/** Computes the determinant of the given matrix. This is the pure Java equivalent of {@link #det(float[])}.
+	 * @param values the matrix values.
+	 * @param offset the index of the matrix in values.
+	 * @return the determinant. */
+	public static float det (float[] values, int offset) {
+		final float m00 = values[offset + M00], m01 = values[offset + M01], m02 = values[offset + M02], m03 = values[offset + M03];
+		final float m10 = values[offset + M10], m11 = values[offset + M11], m12 = values[offset + M12], m13 = values[offset + M13];
+		final float m20 = values[offset + M20], m21 = values[offset + M21], m22 = values[offset + M22], m23 = values[offset + M23];
+		final float m30 = values[offset + M30], m31 = values[offset + M31], m32 = values[offset + M32], m33 = values[offset + M33];
+		return m30 * m21 * m12 * m03 - m20 * m31 * m12 * m03 - m30 * m11 * m22 * m03 + m10 * m31 * m22 * m03 + m20 * m11 * m32 * m03
+			- m10 * m21 * m32 * m03 - m30 * m21 * m02 * m13 + m20 * m31 * m02 * m13 + m30 * m01 * m22 * m13 - m00 * m31 * m22 * m13
+			- m20 * m01 * m32 * m13 + m00 * m21 * m32 * m13 + m30 * m11 * m02 * m23 - m10 * m31 * m02 * m23 - m30 * m01 * m12 * m23
+			+ m00 * m31 * m12 * m23 + m10 * m01 * m32 * m23 - m00 * m11 * m32 * m23 - m20 * m11 * m02 * m33 + m10 * m21 * m02 * m33
+			+ m20 * m01 * m12 * m33 - m00 * m21 * m12 * m33 - m10 * m01 * m22 * m33 + m00 * m11 * m22 * m33;
+	}
+
 	/** Postmultiplies this matrix by a translation matrix. Postmultiplication is also used by OpenGL ES'
 	 * glTranslate/glRotate/glScale
 	 * @param translation
@@ -1423,24 +1580,10 @@ public class Matrix4 implements Serializable {
 	 * @param z Translation in the z-axis.
 	 * @return This matrix for the purpose of chaining methods together. */
 	public Matrix4 translate (float x, float y, float z) {
-		tmp[M00] = 1;
-		tmp[M01] = 0;
-		tmp[M02] = 0;
-		tmp[M03] = x;
-		tmp[M10] = 0;
-		tmp[M11] = 1;
-		tmp[M12] = 0;
-		tmp[M13] = y;
-		tmp[M20] = 0;
-		tmp[M21] = 0;
-		tmp[M22] = 1;
-		tmp[M23] = z;
-		tmp[M30] = 0;
-		tmp[M31] = 0;
-		tmp[M32] = 0;
-		tmp[M33] = 1;
-
-		mul(val, tmp);
+		val[M03] += val[M00] * x + val[M01] * y + val[M02] * z;
+		val[M13] += val[M10] * x + val[M11] * y + val[M12] * z;
+		val[M23] += val[M20] * x + val[M21] * y + val[M22] * z;
+		val[M33] += val[M30] * x + val[M31] * y + val[M32] * z;
 		return this;
 	}
 
@@ -1501,7 +1644,10 @@ public class Matrix4 implements Serializable {
 	 * @return This matrix for the purpose of chaining methods together. */
 	public Matrix4 rotate (Quaternion rotation) {
 		rotation.toMatrix(tmp);
-		mul(val, tmp);
+		if (useNatives)
+			mul(val, tmp);
+		else
+			mul(val, 0, tmp, 0);
 		return this;
 	}
 
@@ -1520,24 +1666,18 @@ public class Matrix4 implements Serializable {
 	 * @param scaleZ The scale in the z-axis.
 	 * @return This matrix for the purpose of chaining methods together. */
 	public Matrix4 scale (float scaleX, float scaleY, float scaleZ) {
-		tmp[M00] = scaleX;
-		tmp[M01] = 0;
-		tmp[M02] = 0;
-		tmp[M03] = 0;
-		tmp[M10] = 0;
-		tmp[M11] = scaleY;
-		tmp[M12] = 0;
-		tmp[M13] = 0;
-		tmp[M20] = 0;
-		tmp[M21] = 0;
-		tmp[M22] = scaleZ;
-		tmp[M23] = 0;
-		tmp[M30] = 0;
-		tmp[M31] = 0;
-		tmp[M32] = 0;
-		tmp[M33] = 1;
-
-		mul(val, tmp);
+		val[M00] *= scaleX;
+		val[M01] *= scaleY;
+		val[M02] *= scaleZ;
+		val[M10] *= scaleX;
+		val[M11] *= scaleY;
+		val[M12] *= scaleZ;
+		val[M20] *= scaleX;
+		val[M21] *= scaleY;
+		val[M22] *= scaleZ;
+		val[M30] *= scaleX;
+		val[M31] *= scaleY;
+		val[M32] *= scaleZ;
 		return this;
 	}
 
@@ -0,0 +1,808 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/** Computes the intersection, union, difference or exclusive or of two arbitrary polygons. The polygons may be concave, have
+ * holes, self-intersect, consist of multiple disjoint parts and touch or overlap each other with collinear edges. Each polygon
+ * is given as one or more rings of vertices and the inside is determined with the even-odd rule, so the winding of the rings
+ * doesn't matter. A polygon whose edges overlap its own edges, such as a spike of zero width, may give an incorrect result.
+ * <p>
+ * Uses the sweep line algorithm by Martinez, Rueda and Feito: "A simple algorithm for Boolean operations on polygons", Advances
+ * in Engineering Software (2013). Adapted from https://github.com/w8r/martinez. The edges are split at their intersections as
+ * the sweep line passes over them, each edge is classified by whether it is inside the other polygon and the edges that belong
+ * to the result are connected into rings. This is O((n + k) log n) for n edges and k intersections.
+ * <p>
+ * The result is written as rings: each outer ring is counterclockwise and is followed by its holes, which are clockwise. Rings
+ * don't touch themselves, parts of the result or holes that touch at a vertex are separate rings. No memory is allocated once
+ * the internal buffers have grown to fit the largest operation. This class is not thread safe. */
+public class PolygonClipper {
+	static public final int INTERSECTION = 0;
+	static public final int UNION = 1;
+	static public final int DIFFERENCE = 2;
+	static public final int XOR = 3;
+
+	static private final double EPSILON = 1e-9;
+
+	static private final int NORMAL = 0;
+	static private final int NON_CONTRIBUTING = 1;
+	static private final int SAME_TRANSITION = 2;
+	static private final int DIFFERENT_TRANSITION = 3;
+
+	private final Array<SweepEvent> eventPool = new Array(false, 64, SweepEvent.class);
+	private int eventCount;
+	private final Array<SweepEvent> queue = new Array(false, 64, SweepEvent.class);
+	private final Array<SweepEvent> sortedEvents = new Array(false, 64, SweepEvent.class);
+	private final Array<SweepEvent> status = new Array(true, 16, SweepEvent.class);
+	private final Array<SweepEvent> resultEvents = new Array(true, 64, SweepEvent.class);
+	private final BooleanArray processed = new BooleanArray();
+	private final FloatArray contourPoints = new FloatArray();
+	private final IntArray contourStarts = new IntArray(), contourHoleOf = new IntArray();
+	private final FloatArray loopPoints = new FloatArray();
+	private final IntArray loopStarts = new IntArray(), loopHoleOf = new IntArray();
+	private int contourId, intersections;
+	private double intersectionX1, intersectionY1;
+	private double subjectMinX, subjectMaxX, subjectMinY, subjectMaxY, clipMinX, clipMaxX, clipMinY, clipMaxY;
+
+	/** Clips the transformed vertices of the polygons.
+	 * @see #clip(float[], int, int, IntArray, float[], int, int, IntArray, int, FloatArray, IntArray) */
+	public int clip (Polygon subject, Polygon clip, int operation, FloatArray result, IntArray resultRings) {
+		float[] subjectVertices = subject.getTransformedVertices(), clipVertices = clip.getTransformedVertices();
+		return clip(subjectVertices, 0, subjectVertices.length, null, clipVertices, 0, clipVertices.length, null, operation, result,
+			resultRings);
+	}
+
+	/** @see #clip(float[], int, int, IntArray, float[], int, int, IntArray, int, FloatArray, IntArray) */
+	public int clip (FloatArray subject, IntArray subjectRings, FloatArray clip, IntArray clipRings, int operation,
+		FloatArray result, IntArray resultRings) {
+		return clip(subject.items, 0, subject.size, subjectRings, clip.items, 0, clip.size, clipRings, operation, result,
+			resultRings);
+	}
+
+	/** Computes a boolean operation on two polygons.
+	 * @param subject x,y pairs describing the rings of the subject polygon.
+	 * @param subjectRings the index of the first vertex of each ring after the first, relative to subjectOffset. May be null if
+	 *           the subject has a single ring.
+	 * @param clip x,y pairs describing the rings of the clip polygon.
+	 * @param clipRings the index of the first vertex of each ring after the first, relative to clipOffset. May be null.
+	 * @param operation {@link #INTERSECTION}, {@link #UNION}, {@link #DIFFERENCE} (the subject minus the clip polygon) or
+	 *           {@link #XOR}.
+	 * @param result receives x,y pairs of the result rings. It is cleared first.
+	 * @param resultRings receives the index of the first vertex of each result ring, starting with 0. It is cleared first.
+	 * @return the number of result rings. */
+	public int clip (float[] subject, int subjectOffset, int subjectCount, IntArray subjectRings, float[] clip, int clipOffset,
+		int clipCount, IntArray clipRings, int operation, FloatArray result, IntArray resultRings) {
+		if (operation < INTERSECTION || operation > XOR) throw new IllegalArgumentException("Invalid operation: " + operation);
+		result.clear();
+		resultRings.clear();
+		eventCount = 0;
+		contourId = 0;
+		queue.clear();
+		sortedEvents.clear();
+		status.clear();
+
+		subjectMinX = subjectMinY = clipMinX = clipMinY = Double.POSITIVE_INFINITY;
+		subjectMaxX = subjectMaxY = clipMaxX = clipMaxY = Double.NEGATIVE_INFINITY;
+		addPolygon(subject, subjectOffset, subjectCount, subjectRings, true);
+		addPolygon(clip, clipOffset, clipCount, clipRings, false);
+
+		// Trivial cases.
+		boolean subjectEmpty = subjectMinX > subjectMaxX, clipEmpty = clipMinX > clipMaxX;
+		boolean disjoint = subjectEmpty || clipEmpty || subjectMinX > clipMaxX || clipMinX > subjectMaxX
+			|| subjectMinY > clipMaxY || clipMinY > subjectMaxY;
+		if (disjoint && operation == INTERSECTION) return 0;
+
+		subdivide(operation);
+		connectEdges();
+		return writeResult(result, resultRings);
+	}
+
+	private void addPolygon (float[] vertices, int offset, int count, IntArray rings, boolean subject) {
+		if (rings == null || rings.size == 0) {
+			addRing(vertices, offset, offset + count, subject);
+			return;
+		}
+		int[] items = rings.items;
+		addRing(vertices, offset, offset + items[0] * 2, subject);
+		for (int i = 0, n = rings.size; i < n; i++) {
+			int end = i < n - 1 ? offset + items[i + 1] * 2 : offset + count;
+			addRing(vertices, offset + items[i] * 2, end, subject);
+		}
+	}
+
+	private void addRing (float[] vertices, int start, int end, boolean subject) {
+		if (end - start < 6) return;
+		int contourId = this.contourId++;
+		for (int i = start; i < end; i += 2) {
+			int next = i + 2 < end ? i + 2 : start;
+			double x1 = vertices[i], y1 = vertices[i + 1], x2 = vertices[next], y2 = vertices[next + 1];
+			if (x1 == x2 && y1 == y2) continue; // Collapsed edge.
+			SweepEvent e1 = obtain(x1, y1, false, null, subject), e2 = obtain(x2, y2, false, e1, subject);
+			e1.other = e2;
+			e1.contourId = e2.contourId = contourId;
+			if (compareEvents(e1, e2) > 0) {
+				e2.left = true;
+				e1.setLine(x2, y2, x1, y1);
+			} else {
+				e1.left = true;
+				e1.setLine(x1, y1, x2, y2);
+			}
+			e2.setLine(e1);
+			if (subject) {
+				subjectMinX = Math.min(subjectMinX, x1);
+				subjectMinY = Math.min(subjectMinY, y1);
+				subjectMaxX = Math.max(subjectMaxX, x1);
+				subjectMaxY = Math.max(subjectMaxY, y1);
+			} else {
+				clipMinX = Math.min(clipMinX, x1);
+				clipMinY = Math.min(clipMinY, y1);
+				clipMaxX = Math.max(clipMaxX, x1);
+				clipMaxY = Math.max(clipMaxY, y1);
+			}
+			push(e1);
+			push(e2);
+		}
+	}
+
+	/** Processes the events in order, splitting the edges at their intersections and classifying them. */
+	private void subdivide (int operation) {
+		Array<SweepEvent> status = this.status;
+		double rightBound = Math.min(subjectMaxX, clipMaxX);
+		while (queue.size > 0) {
+			SweepEvent event = pop();
+			sortedEvents.add(event);
+
+			// Nothing to the right of the bounds can be in the result.
+			if ((operation == INTERSECTION && event.x > rightBound) || (operation == DIFFERENCE && event.x > subjectMaxX)) break;
+
+			if (event.left) {
+				int index = insertStatus(event);
+				SweepEvent prev = index > 0 ? status.items[index - 1] : null;
+				if (prev != null && prev.isVertical() && prev.x == event.x && prev.y < event.y && event.y < prev.other.y) {
+					// A vertical edge below passes through the point. Its lower part must be removed before the event is processed.
+					status.removeIndex(index);
+					sortedEvents.pop();
+					divideSegment(prev, event.x, event.y);
+					push(event);
+					continue;
+				}
+				SweepEvent next = index < status.size - 1 ? status.items[index + 1] : null;
+				computeFields(event, prev, operation);
+				if (next != null && possibleIntersection(event, next) == 2) {
+					computeFields(event, prev, operation);
+					computeFields(next, event, operation);
+				}
+				if (prev != null && possibleIntersection(prev, event) == 2) {
+					computeFields(prev, index > 1 ? status.items[index - 2] : null, operation);
+					computeFields(event, prev, operation);
+				}
+			} else {
+				int index = status.indexOf(event.other, true);
+				if (index != -1) {
+					SweepEvent prev = index > 0 ? status.items[index - 1] : null;
+					SweepEvent next = index < status.size - 1 ? status.items[index + 1] : null;
+					status.removeIndex(index);
+					if (prev != null && next != null) possibleIntersection(prev, next);
+				}
+			}
+		}
+	}
+
+	/** Inserts the left event into the sweep line status, which is sorted from bottom to top.
+	 * @return the index of the event. */
+	private int insertStatus (SweepEvent event) {
+		SweepEvent[] items = status.items;
+		int low = 0, high = status.size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (compareSegments(event, items[mid]) < 0)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+		status.insert(low, event);
+		return low;
+	}
+
+	private void computeFields (SweepEvent event, SweepEvent prev, int operation) {
+		if (prev == null) {
+			event.inOut = false;
+			event.otherInOut = true;
+			event.prevInResult = null;
+		} else {
+			if (event.subject == prev.subject) {
+				event.inOut = !prev.inOut;
+				event.otherInOut = prev.otherInOut;
+			} else {
+				event.inOut = !prev.otherInOut;
+				event.otherInOut = prev.isVertical() ? !prev.inOut : prev.inOut;
+			}
+			event.prevInResult = !inResult(prev, operation) || prev.isVertical() ? prev.prevInResult : prev;
+		}
+		event.resultTransition = inResult(event, operation) ? resultTransition(event, operation) : 0;
+	}
+
+	static private boolean inResult (SweepEvent event, int operation) {
+		switch (event.type) {
+		case NORMAL:
+			switch (operation) {
+			case INTERSECTION:
+				return !event.otherInOut;
+			case UNION:
+				return event.otherInOut;
+			case DIFFERENCE:
+				return event.subject == event.otherInOut;
+			default:
+				return true;
+			}
+		case SAME_TRANSITION:
+			return operation == INTERSECTION || operation == UNION;
+		case DIFFERENT_TRANSITION:
+			return operation == DIFFERENCE;
+		}
+		return false;
+	}
+
+	/** Returns 1 if the area above the edge is inside the result, -1 if below. */
+	static private int resultTransition (SweepEvent event, int operation) {
+		boolean thisIn = !event.inOut, thatIn = !event.otherInOut, in;
+		switch (operation) {
+		case INTERSECTION:
+			in = thisIn && thatIn;
+			break;
+		case UNION:
+			in = thisIn || thatIn;
+			break;
+		case DIFFERENCE:
+			in = event.subject ? thisIn && !thatIn : thatIn && !thisIn;
+			break;
+		default:
+			in = thisIn ^ thatIn;
+		}
+		return in ? 1 : -1;
+	}
+
+	/** Splits the edges at their intersection, if any.
+	 * @return 0 if the edges don't intersect or only touch at an endpoint, 1 if they intersect at a point, 2 if they overlap and
+	 *         share the left endpoint, 3 if they otherwise overlap. */
+	private int possibleIntersection (SweepEvent se1, SweepEvent se2) {
+		intersect(se1, se2);
+		int intersections = this.intersections;
+		if (intersections == 0) return 0;
+		if (intersections == 1 && (se1.samePoint(se2) || se1.other.samePoint(se2.other))) return 0;
+
+		if (intersections == 1) {
+			double x = intersectionX1, y = intersectionY1;
+			if (!se1.samePoint(x, y) && !se1.other.samePoint(x, y)) divideSegment(se1, x, y);
+			if (!se2.samePoint(x, y) && !se2.other.samePoint(x, y)) divideSegment(se2, x, y);
+			return 1;
+		}
+
+		// The edges overlap.
+		boolean leftCoincide = se1.samePoint(se2), rightCoincide = se1.other.samePoint(se2.other);
+		SweepEvent left1 = null, left2 = null, right1, right2;
+		if (!leftCoincide) {
+			boolean after = compareEvents(se1, se2) > 0;
+			left1 = after ? se2 : se1;
+			left2 = after ? se1 : se2;
+		}
+		boolean after = compareEvents(se1.other, se2.other) > 0;
+		right1 = after ? se2.other : se1.other;
+		right2 = after ? se1.other : se2.other;
+
+		if (leftCoincide) {
+			// Both edges are equal or share the left endpoint. Equal edges of the same polygon cancel out.
+			se2.type = NON_CONTRIBUTING;
+			se1.twin = se2;
+			se2.twin = se1;
+			if (se1.subject == se2.subject)
+				se1.type = NON_CONTRIBUTING;
+			else
+				se1.type = se2.inOut == se1.inOut ? SAME_TRANSITION : DIFFERENT_TRANSITION;
+			if (!rightCoincide) divideSegment(right2.other, right1.x, right1.y);
+			return 2;
+		}
+		if (rightCoincide) {
+			// The edges share the right endpoint.
+			divideSegment(left1, left2.x, left2.y);
+			return 3;
+		}
+		if (left1 != right2.other) {
+			// Neither edge contains the other.
+			divideSegment(left1, left2.x, left2.y);
+			divideSegment(left2, right1.x, right1.y);
+			return 3;
+		}
+		// One edge contains the other.
+		divideSegment(left1, left2.x, left2.y);
+		divideSegment(right2.other, right1.x, right1.y);
+		return 3;
+	}
+
+	/** Splits the edge of the left event at the point. An equal edge is split at the same point, otherwise rounding could make
+	 * the parts no longer equal. */
+	private void divideSegment (SweepEvent event, double x, double y) {
+		SweepEvent twin = event.twin;
+		if (twin != null) {
+			event.twin = null;
+			twin.twin = null;
+			if (twin.samePoint(event) && twin.other.samePoint(event.other)) {
+				divideSegment(twin, x, y);
+				event.twin = twin;
+				twin.twin = event;
+			}
+		}
+		SweepEvent right = obtain(x, y, false, event, event.subject);
+		SweepEvent left = obtain(x, y, true, event.other, event.subject);
+		right.contourId = left.contourId = event.contourId;
+		right.setLine(event);
+		left.setLine(event);
+		// Avoid a rounding error where the left event would be processed after the right event.
+		if (compareEvents(left, event.other) > 0) {
+			event.other.left = true;
+			left.left = false;
+		}
+		event.other.other = left;
+		event.other = right;
+		push(left);
+		push(right);
+	}
+
+	/** Stores the number of intersections of the edges of the left events: 0, 1 or 2 when they are collinear and overlap. For 1
+	 * the intersection point is stored. The point is computed from the input edges the edges were split from, so it doesn't
+	 * depend on how often the edges were already split. */
+	private void intersect (SweepEvent le1, SweepEvent le2) {
+		intersections = 0;
+		double dax = le1.lineX2 - le1.lineX1, day = le1.lineY2 - le1.lineY1;
+		double dbx = le2.lineX2 - le2.lineX1, dby = le2.lineY2 - le2.lineY1;
+		double ex = le2.lineX1 - le1.lineX1, ey = le2.lineY1 - le1.lineY1;
+		double vax = le1.other.x - le1.x, vay = le1.other.y - le1.y, vbx = le2.other.x - le2.x, vby = le2.other.y - le2.y;
+		double cross = dax * dby - day * dbx;
+		if (cross != 0) { // Not parallel.
+			double u = (ex * dby - ey * dbx) / cross;
+			double x = le1.lineX1 + u * dax, y = le1.lineY1 + u * day;
+			// The position of the point on each edge, 0 at the left and 1 at the right event.
+			double s = ((x - le1.x) * vax + (y - le1.y) * vay) / (vax * vax + vay * vay);
+			if (s < -EPSILON || s > 1 + EPSILON) return;
+			double t = ((x - le2.x) * vbx + (y - le2.y) * vby) / (vbx * vbx + vby * vby);
+			if (t < -EPSILON || t > 1 + EPSILON) return;
+			intersections = 1;
+			// Use the exact endpoint when the edges touch or nearly touch, so an intersection of more than two edges at the same
+			// point doesn't result in several points that differ only by rounding.
+			if (s < EPSILON) {
+				x = le1.x;
+				y = le1.y;
+			} else if (s > 1 - EPSILON) {
+				x = le1.other.x;
+				y = le1.other.y;
+			} else if (t < EPSILON) {
+				x = le2.x;
+				y = le2.y;
+			} else if (t > 1 - EPSILON) {
+				x = le2.other.x;
+				y = le2.other.y;
+			}
+			intersectionX1 = x;
+			intersectionY1 = y;
+			return;
+		}
+		if (ex * day - ey * dax != 0) return; // Parallel but not collinear.
+		double lengthA = vax * vax + vay * vay;
+		double sa = (vax * (le2.x - le1.x) + vay * (le2.y - le1.y)) / lengthA, sb = sa + (vax * vbx + vay * vby) / lengthA;
+		double min = Math.min(sa, sb), max = Math.max(sa, sb);
+		if (min > 1 || max < 0) return;
+		if (min == 1 || max == 0) { // Touching at an endpoint.
+			intersections = 1;
+			intersectionX1 = min == 1 ? le1.other.x : le1.x;
+			intersectionY1 = min == 1 ? le1.other.y : le1.y;
+			return;
+		}
+		intersections = 2; // The overlap is between the endpoints of the edges, only the count is needed.
+	}
+
+	/** Connects the edges in the result into contours and determines which contours are holes. */
+	private void connectEdges () {
+		Array<SweepEvent> resultEvents = this.resultEvents;
+		resultEvents.clear();
+		SweepEvent[] sorted = sortedEvents.items;
+		for (int i = 0, n = sortedEvents.size; i < n; i++) {
+			SweepEvent event = sorted[i];
+			if (event.left ? event.resultTransition != 0 : event.other.resultTransition != 0) resultEvents.add(event);
+		}
+
+		// Overlapping edges can leave the events slightly out of order.
+		SweepEvent[] events = resultEvents.items;
+		int count = resultEvents.size;
+		boolean sortedOrder = false;
+		while (!sortedOrder) {
+			sortedOrder = true;
+			for (int i = 0; i < count - 1; i++) {
+				if (compareEvents(events[i], events[i + 1]) > 0) {
+					SweepEvent temp = events[i];
+					events[i] = events[i + 1];
+					events[i + 1] = temp;
+					sortedOrder = false;
+				}
+			}
+		}
+		for (int i = 0; i < count; i++) {
+			events[i].position = i;
+			events[i].outputContourId = -1;
+		}
+		for (int i = 0; i < count; i++) {
+			SweepEvent event = events[i];
+			if (!event.left) {
+				int temp = event.position;
+				event.position = event.other.position;
+				event.other.position = temp;
+			}
+		}
+
+		BooleanArray processed = this.processed;
+		processed.clear();
+		processed.ensureCapacity(count);
+		processed.size = count;
+		boolean[] processedItems = processed.items;
+		for (int i = 0; i < count; i++)
+			processedItems[i] = false;
+
+		FloatArray contourPoints = this.contourPoints;
+		contourPoints.clear();
+		contourStarts.clear();
+		contourHoleOf.clear();
+		FloatArray loopPoints = this.loopPoints;
+		IntArray loopStarts = this.loopStarts, loopHoleOf = this.loopHoleOf;
+		for (int i = 0; i < count; i++) {
+			if (processedItems[i]) continue;
+			int contourId = contourStarts.size, contourStart = contourPoints.size, holeOf = holeOf(events[i]);
+			contourStarts.add(contourStart);
+			contourHoleOf.add(holeOf);
+			loopPoints.clear();
+			loopStarts.clear();
+			loopHoleOf.clear();
+			// The edges are traced with the result on the same side, so the winding of a loop tells if it is a hole.
+			SweepEvent first = events[i];
+			boolean resultLeft = (first.left ? first.resultTransition : -first.other.resultTransition) > 0;
+
+			int position = i;
+			first.contourPoint = contourStart;
+			contourPoints.add((float)first.x);
+			contourPoints.add((float)first.y);
+			while (true) {
+				processedItems[position] = true;
+				events[position].outputContourId = contourId;
+				position = events[position].position;
+				SweepEvent event = events[position];
+				int point = visitedPoint(position, contourId, count);
+				processedItems[position] = true;
+				event.outputContourId = contourId;
+				if (point == contourStart) break;
+				if (point == -1) {
+					point = contourPoints.size;
+					contourPoints.add((float)event.x);
+					contourPoints.add((float)event.y);
+				} else {
+					// The contour touches itself at the point. The loop since the last visit is moved to its own contour, so no
+					// contour touches itself.
+					int loopStart = loopPoints.size;
+					loopStarts.add(loopStart);
+					loopPoints.addAll(contourPoints, point, contourPoints.size - point);
+					contourPoints.size = point + 2;
+					float area = GeometryUtils.polygonArea(loopPoints.items, loopStart, loopPoints.size - loopStart);
+					if (area > 0 == resultLeft)
+						loopHoleOf.add(-1);
+					else
+						loopHoleOf.add(holeOf != -1 ? holeOf : contourId);
+				}
+				event.contourPoint = point;
+				position = nextPosition(position, i, count);
+				if (position == i || position < 0 || position >= count) break;
+				events[position].contourPoint = point;
+			}
+
+			for (int ii = 0, n = loopStarts.size; ii < n; ii++) {
+				int start = loopStarts.get(ii), end = ii < n - 1 ? loopStarts.get(ii + 1) : loopPoints.size;
+				contourStarts.add(contourPoints.size);
+				contourHoleOf.add(loopHoleOf.get(ii));
+				contourPoints.addAll(loopPoints, start, end - start);
+			}
+		}
+		contourStarts.add(contourPoints.size);
+	}
+
+	/** Returns the index in the contour points where the contour already passed the point of the event, or -1. */
+	private int visitedPoint (int position, int contourId, int count) {
+		SweepEvent[] events = resultEvents.items;
+		float[] points = contourPoints.items;
+		int size = contourPoints.size;
+		SweepEvent event = events[position];
+		float x = (float)event.x, y = (float)event.y;
+		int first = position, last = position;
+		while (first > 0 && events[first - 1].samePoint(event))
+			first--;
+		while (last + 1 < count && events[last + 1].samePoint(event))
+			last++;
+		for (int i = first; i <= last; i++) {
+			if (i == position || events[i].outputContourId != contourId) continue;
+			// The loop containing a visit may have been moved to its own contour.
+			int point = events[i].contourPoint;
+			if (point < size && points[point] == x && points[point + 1] == y) return point;
+		}
+		return -1;
+	}
+
+	/** Returns the contour the contour starting at the event is a hole of, or -1 if it is an outer contour. */
+	private int holeOf (SweepEvent event) {
+		SweepEvent lower = event.prevInResult;
+		if (lower == null || lower.resultTransition <= 0 || lower.outputContourId == -1) return -1;
+		int holeOf = contourHoleOf.get(lower.outputContourId);
+		return holeOf != -1 ? holeOf : lower.outputContourId;
+	}
+
+	private int nextPosition (int position, int start, int count) {
+		SweepEvent[] events = resultEvents.items;
+		boolean[] processed = this.processed.items;
+		SweepEvent event = events[position];
+		// The events at the same point are adjacent.
+		int first = position, last = position;
+		while (first - 1 > start && events[first - 1].samePoint(event))
+			first--;
+		while (last + 1 < count && events[last + 1].samePoint(event))
+			last++;
+		int next = -1;
+		double backAngle = 0, bestAngle = 0;
+		boolean counterclockwise = false;
+		for (int i = first; i <= last; i++) {
+			if (processed[i]) continue;
+			if (next == -1) {
+				next = i;
+				continue;
+			}
+			// The contour touches itself at the point. Take the closest edge on the side of the result of the edge the point was
+			// reached by, so each part of the contour is traced separately and the contour doesn't cross itself.
+			if (bestAngle == 0) {
+				backAngle = Math.atan2(event.other.y - event.y, event.other.x - event.x);
+				counterclockwise = (event.left ? event.resultTransition : event.other.resultTransition) > 0 == event.left;
+				bestAngle = turnAngle(events[next], backAngle, counterclockwise);
+			}
+			double angle = turnAngle(events[i], backAngle, counterclockwise);
+			if (angle < bestAngle) {
+				bestAngle = angle;
+				next = i;
+			}
+		}
+		if (next != -1) return next;
+		int i = position - 1;
+		while (i > start && processed[i])
+			i--;
+		return i;
+	}
+
+	/** Returns the angle in (0, 2pi] from the back angle to the edge of the event. */
+	static private double turnAngle (SweepEvent event, double backAngle, boolean counterclockwise) {
+		double angle = Math.atan2(event.other.y - event.y, event.other.x - event.x) - backAngle;
+		if (!counterclockwise) angle = -angle;
+		if (angle <= 0) angle += MathUtils.PI2;
+		return angle;
+	}
+
+	/** Writes the outer contours counterclockwise, each followed by its holes clockwise. */
+	private int writeResult (FloatArray result, IntArray resultRings) {
+		IntArray contourStarts = this.contourStarts, contourHoleOf = this.contourHoleOf;
+		for (int i = 0, n = contourHoleOf.size; i < n; i++) {
+			if (contourHoleOf.get(i) != -1) continue;
+			writeContour(i, false, result, resultRings);
+			for (int ii = 0; ii < n; ii++)
+				if (contourHoleOf.get(ii) == i) writeContour(ii, true, result, resultRings);
+		}
+		return resultRings.size;
+	}
+
+	private void writeContour (int contour, boolean hole, FloatArray result, IntArray resultRings) {
+		float[] points = contourPoints.items;
+		int start = contourStarts.get(contour), end = contourStarts.get(contour + 1);
+		// The last point repeats the first.
+		if (end - start >= 4 && points[start] == points[end - 2] && points[start + 1] == points[end - 1]) end -= 2;
+		if (end - start < 6) return;
+		resultRings.add(result.size / 2);
+		boolean clockwise = GeometryUtils.polygonArea(points, start, end - start) < 0;
+		if (clockwise == hole)
+			result.addAll(points, start, end - start);
+		else {
+			result.ensureCapacity(end - start);
+			for (int i = end - 2; i >= start; i -= 2) {
+				result.add(points[i]);
+				result.add(points[i + 1]);
+			}
+		}
+	}
+
+	/** Returns 1 if e1 is processed after e2, otherwise -1. */
+	static int compareEvents (SweepEvent e1, SweepEvent e2) {
+		if (e1.x != e2.x) return e1.x > e2.x ? 1 : -1;
+		if (e1.y != e2.y) return e1.y > e2.y ? 1 : -1;
+		// Same point, process right events first.
+		if (e1.left != e2.left) return e1.left ? 1 : -1;
+		// Same point and side, process the lower edge first.
+		if (!e1.isCollinear(e2)) return e1.isBelow(e2.other.x, e2.other.y) ? -1 : 1;
+		return !e1.subject && e2.subject ? 1 : -1;
+	}
+
+	/** Orders left events in the sweep line status from bottom to top. */
+	static int compareSegments (SweepEvent le1, SweepEvent le2) {
+		if (le1 == le2) return 0;
+		if (!le1.isCollinear(le2)) {
+			if (le1.samePoint(le2)) return le1.isBelow(le2.other.x, le2.other.y) ? -1 : 1;
+			if (le1.x == le2.x) return le1.y < le2.y ? -1 : 1;
+			// The edge inserted later is compared to the existing edge. If its left endpoint is on the existing edge, its right
+			// endpoint decides. The existing edge may end at a rounded intersection, so nearly on the edge counts as on it.
+			if (compareEvents(le1, le2) == 1) {
+				if (le2.isOn(le1.x, le1.y))
+					return le2.isBelow(le1.other.x, le1.other.y) ? 1 : -1;
+				return le2.isBelow(le1.x, le1.y) ? 1 : -1;
+			}
+			if (le1.isOn(le2.x, le2.y))
+				return le1.isBelow(le2.other.x, le2.other.y) ? -1 : 1;
+			return le1.isBelow(le2.x, le2.y) ? -1 : 1;
+		}
+		if (le1.subject == le2.subject) {
+			if (le1.samePoint(le2)) {
+				if (le1.other.samePoint(le2.other)) return 0;
+				return le1.contourId > le2.contourId ? 1 : -1;
+			}
+		} else
+			return le1.subject ? -1 : 1;
+		return compareEvents(le1, le2) == 1 ? 1 : -1;
+	}
+
+	/** Twice the signed area of the triangle, positive if counterclockwise. */
+	static double signedArea (double x0, double y0, double x1, double y1, double x2, double y2) {
+		return (x0 - x2) * (y1 - y2) - (x1 - x2) * (y0 - y2);
+	}
+
+	private SweepEvent obtain (double x, double y, boolean left, SweepEvent other, boolean subject) {
+		SweepEvent event;
+		if (eventCount < eventPool.size)
+			event = eventPool.items[eventCount];
+		else {
+			event = new SweepEvent();
+			eventPool.add(event);
+		}
+		eventCount++;
+		event.x = x;
+		event.y = y;
+		event.left = left;
+		event.other = other;
+		event.subject = subject;
+		event.type = NORMAL;
+		event.inOut = false;
+		event.otherInOut = false;
+		event.prevInResult = null;
+		event.twin = null;
+		event.resultTransition = 0;
+		event.contourId = 0;
+		event.outputContourId = -1;
+		event.contourPoint = -1;
+		return event;
+	}
+
+	/** Adds the event to the queue, a binary heap ordered by {@link #compareEvents(SweepEvent, SweepEvent)}. */
+	private void push (SweepEvent event) {
+		Array<SweepEvent> queue = this.queue;
+		queue.add(event);
+		SweepEvent[] items = queue.items;
+		int index = queue.size - 1;
+		while (index > 0) {
+			int parent = (index - 1) >> 1;
+			SweepEvent parentEvent = items[parent];
+			if (compareEvents(event, parentEvent) >= 0) break;
+			items[index] = parentEvent;
+			index = parent;
+		}
+		items[index] = event;
+	}
+
+	private SweepEvent pop () {
+		Array<SweepEvent> queue = this.queue;
+		SweepEvent[] items = queue.items;
+		SweepEvent first = items[0];
+		SweepEvent last = queue.pop();
+		int size = queue.size;
+		if (size == 0) return first;
+		int index = 0;
+		while (true) {
+			int child = (index << 1) + 1;
+			if (child >= size) break;
+			if (child + 1 < size && compareEvents(items[child + 1], items[child]) < 0) child++;
+			if (compareEvents(items[child], last) >= 0) break;
+			items[index] = items[child];
+			index = child;
+		}
+		items[index] = last;
+		return first;
+	}
+
+	static class SweepEvent {
+		double x, y;
+		/** True if this is the left endpoint of the edge. */
+		boolean left;
+		/** The event for the other endpoint of the edge. */
+		SweepEvent other;
+		boolean subject;
+		int type;
+		/** True if the edge is an in-out transition of its own polygon going upward. */
+		boolean inOut;
+		/** True if the edge is an in-out transition of the other polygon for the closest edge of the other polygon below. */
+		boolean otherInOut;
+		/** The closest edge below that is in the result. */
+		SweepEvent prevInResult;
+		/** An equal edge of either polygon. */
+		SweepEvent twin;
+		/** 0 if the edge is not in the result, 1 if the result is above the edge, -1 if below. */
+		int resultTransition;
+		int contourId, outputContourId, position;
+		/** The index in the contour points of the point of the event, while its contour is connected. */
+		int contourPoint;
+
+		/** The input edge this edge was split from, from left to right. Orientation tests use it, so splitting an edge at a rounded
+		 * intersection doesn't change its direction. */
+		double lineX1, lineY1, lineX2, lineY2;
+
+		void setLine (double x1, double y1, double x2, double y2) {
+			lineX1 = x1;
+			lineY1 = y1;
+			lineX2 = x2;
+			lineY2 = y2;
+		}
+
+		void setLine (SweepEvent event) {
+			setLine(event.lineX1, event.lineY1, event.lineX2, event.lineY2);
+		}
+
+		boolean isBelow (double px, double py) {
+			return signedArea(lineX1, lineY1, lineX2, lineY2, px, py) > 0;
+		}
+
+		/** Returns true if the point is on the line through the edge, allowing for rounding. */
+		boolean isOn (double px, double py) {
+			double dx = lineX2 - lineX1, dy = lineY2 - lineY1;
+			return Math.abs(signedArea(lineX1, lineY1, lineX2, lineY2, px, py)) <= EPSILON * (dx * dx + dy * dy);
+		}
+
+		/** Returns true if the input edges of both events are on the same line. */
+		boolean isCollinear (SweepEvent event) {
+			return signedArea(lineX1, lineY1, lineX2, lineY2, event.lineX1, event.lineY1) == 0
+				&& signedArea(lineX1, lineY1, lineX2, lineY2, event.lineX2, event.lineY2) == 0;
+		}
+
+		boolean isVertical () {
+			return x == other.x;
+		}
+
+		boolean samePoint (SweepEvent event) {
+			return x == event.x && y == event.y;
+		}
+
+		boolean samePoint (double px, double py) {
+			return x == px && y == py;
+		}
+	}
+}
@@ -338,6 +338,15 @@ public class Quaternion implements Serializable {
 	 * 
 	 * @param matrix Matrix to fill */
 	public void toMatrix (final float[] matrix) {
+		toMatrix(matrix, 0);
+	}
+
+	/** Fills a 4x4 matrix in the given array with the rotation matrix represented by this quaternion, eg to write many rotations
+	 * into one array without temporary matrices.
+	 * 
+	 * @param matrix Array to fill
+	 * @param offset The index of the matrix in the array */
+	public void toMatrix (final float[] matrix, final int offset) {
 		final float xx = x * x;
 		final float xy = x * y;
 		final float xz = x * z;
@@ -348,22 +357,22 @@ public class Quaternion implements Serializable {
 		final float zz = z * z;
 		final float zw = z * w;
 		// Set matrix from quaternion
-		matrix[Matrix4.M00] = 1 - 2 * (yy + zz);
-		matrix[Matrix4.M01] = 2 * (xy - zw);
-		matrix[Matrix4.M02] = 2 * (xz + yw);
-		matrix[Matrix4.M03] = 0;
-		matrix[Matrix4.M10] = 2 * (xy + zw);
-		matrix[Matrix4.M11] = 1 - 2 * (xx + zz);
-		matrix[Matrix4.M12] = 2 * (yz - xw);
-		matrix[Matrix4.M13] = 0;
-		matrix[Matrix4.M20] = 2 * (xz - yw);
-		matrix[Matrix4.M21] = 2 * (yz + xw);
-		matrix[Matrix4.M22] = 1 - 2 * (xx + yy);
-		matrix[Matrix4.M23] = 0;
-		matrix[Matrix4.M30] = 0;
-		matrix[Matrix4.M31] = 0;
-		matrix[Matrix4.M32] = 0;
-		matrix[Matrix4.M33] = 1;
+		matrix[offset + Matrix4.M00] = 1 - 2 * (yy + zz);
+		matrix[offset + Matrix4.M01] = 2 * (xy - zw);
+		matrix[offset + Matrix4.M02] = 2 * (xz + yw);
+		matrix[offset + Matrix4.M03] = 0;
+		matrix[offset + Matrix4.M10] = 2 * (xy + zw);
+		matrix[offset + Matrix4.M11] = 1 - 2 * (xx + zz);
+		matrix[offset + Matrix4.M12] = 2 * (yz - xw);
+		matrix[offset + Matrix4.M13] = 0;
+		matrix[offset + Matrix4.M20] = 2 * (xz - yw);
+		matrix[offset + Matrix4.M21] = 2 * (yz + xw);
+		matrix[offset + Matrix4.M22] = 1 - 2 * (xx + yy);
+		matrix[offset + Matrix4.M23] = 0;
+		matrix[offset + Matrix4.M30] = 0;
+		matrix[offset + Matrix4.M31] = 0;
+		matrix[offset + Matrix4.M32] = 0;
+		matrix[offset + Matrix4.M33] = 1;
 	}
 
 	/** Sets the quaternion to an identity Quaternion
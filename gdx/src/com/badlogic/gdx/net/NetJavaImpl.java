@@ -21,9 +21,15 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
 import java.net.URL;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.badlogic.gdx.Net;
 import com.badlogic.gdx.Net.HttpMethods;
@@ -33,11 +39,17 @@ import com.badlogic.gdx.Net.HttpResponseListener;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.StreamUtils;
-import com.badlogic.gdx.utils.async.AsyncExecutor;
-import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** Implements part of the {@link Net} API using {@link HttpURLConnection}, to be easily reused between the Android and Desktop
  * backends.
+ * <p>
+ * Requests are processed concurrently by a pool of threads, see {@link #NetJavaImpl(int)}. The connection of a request is
+ * returned to the {@link HttpURLConnection} keep-alive cache after
+ * {@link HttpResponseListener#handleHttpResponse(HttpResponse)} returns, so later requests to the same server can reuse it. The
+ * response body is not buffered: {@link HttpResponse#getResultAsStream()} reads it from the connection as it arrives, and the
+ * stream is closed when handleHttpResponse returns. Content set with {@link HttpRequest#setContent(InputStream, long)} is
+ * streamed to the server when its length is known. The {@link HttpRequest#setTimeOut(int) time out} of each request applies to
+ * connecting and to each read.
  * @author acoppes */
 public class NetJavaImpl {
 
@@ -49,6 +61,8 @@ public class NetJavaImpl {
 			this.connection = connection;
 			try {
 				this.status = new HttpStatus(connection.getResponseCode());
+			} catch (SocketTimeoutException e) {
+				throw e;
 			} catch (IOException e) {
 				this.status = new HttpStatus(-1);
 			}
@@ -110,6 +124,11 @@ public class NetJavaImpl {
 			return connection.getHeaderFields();
 		}
 
+		/** Closes the response body, which allows the connection to be reused if the body was read completely. */
+		void close () {
+			StreamUtils.closeQuietly(getInputStream());
+		}
+
 		private InputStream getInputStream () {
 			try {
 				return connection.getInputStream();
@@ -119,12 +138,33 @@ public class NetJavaImpl {
 		}
 	}
 
-	private final AsyncExecutor asyncExecutor;
+	/** The default maximum number of requests processed at the same time. */
+	static public final int DEFAULT_MAX_THREADS = 8;
+
+	private final ThreadPoolExecutor executorService;
 	final ObjectMap<HttpRequest, HttpURLConnection> connections;
 	final ObjectMap<HttpRequest, HttpResponseListener> listeners;
 
 	public NetJavaImpl () {
-		asyncExecutor = new AsyncExecutor(1);
+		this(DEFAULT_MAX_THREADS);
+	}
+
+	/** @param maxThreads The maximum number of requests processed at the same time. Further requests wait until a thread is
+	 *           available. Threads are created as needed and stop after being idle for a minute. */
+	public NetJavaImpl (int maxThreads) {
+		if (maxThreads < 1) throw new IllegalArgumentException("maxThreads must be > 0: " + maxThreads);
+		executorService = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+			new ThreadFactory() {
+				final AtomicInteger threadCount = new AtomicInteger();
+
+				@Override
+				public Thread newThread (Runnable r) {
+					Thread thread = new Thread(r, "NetThread" + threadCount.getAndIncrement());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		executorService.allowCoreThreadTimeOut(true);
 		connections = new ObjectMap<HttpRequest, HttpURLConnection>();
 		listeners = new ObjectMap<HttpRequest, HttpResponseListener>();
 	}
@@ -154,7 +194,7 @@ public class NetJavaImpl {
 			connection.setDoOutput(doingOutPut);
 			connection.setDoInput(true);
 			connection.setRequestMethod(method);
-			HttpURLConnection.setFollowRedirects(httpRequest.getFollowRedirects());
+			connection.setInstanceFollowRedirects(httpRequest.getFollowRedirects());
 
 			putIntoConnectionsAndListeners(httpRequest, httpResponseListener, connection);
 
@@ -166,9 +206,11 @@ public class NetJavaImpl {
 			connection.setConnectTimeout(httpRequest.getTimeOut());
 			connection.setReadTimeout(httpRequest.getTimeOut());
 
-			asyncExecutor.submit(new AsyncTask<Void>() {
+			executorService.submit(new Runnable() {
 				@Override
-				public Void call () throws Exception {
+				public void run () {
+					// Skip the request if it was cancelled while waiting for a thread.
+					if (getFromListeners(httpRequest) == null) return;
 					try {
 						// Set the content for POST and PUT (GET has the information embedded in the URL)
 						if (doingOutPut) {
@@ -184,6 +226,10 @@ public class NetJavaImpl {
 							} else {
 								InputStream contentAsStream = httpRequest.getContentStream();
 								if (contentAsStream != null) {
+									// Stream the content rather than buffering it to compute the length.
+									long contentLength = httpRequest.getContentLength();
+									if (contentLength > 0 && contentLength <= Integer.MAX_VALUE)
+										connection.setFixedLengthStreamingMode((int)contentLength);
 									OutputStream os = connection.getOutputStream();
 									try {
 										StreamUtils.copyStream(contentAsStream, os);
@@ -205,18 +251,18 @@ public class NetJavaImpl {
 							}
 							removeFromConnectionsAndListeners(httpRequest);
 						} finally {
-							connection.disconnect();
+							// Closing the body instead of disconnecting keeps the connection alive for reuse.
+							clientResponse.close();
 						}
 					} catch (final Exception e) {
 						connection.disconnect();
 						try {
-							httpResponseListener.failed(e);
+							HttpResponseListener listener = getFromListeners(httpRequest);
+							if (listener != null) listener.failed(e);
 						} finally {
 							removeFromConnectionsAndListeners(httpRequest);
 						}
 					}
-
-					return null;
 				}
 			});
 		} catch (Exception e) {
@@ -229,12 +275,19 @@ public class NetJavaImpl {
 		}
 	}
 
+	/** Cancels the request. If it is being processed, its connection is closed so the thread is freed for other requests. */
 	public void cancelHttpRequest (HttpRequest httpRequest) {
-		HttpResponseListener httpResponseListener = getFromListeners(httpRequest);
+		HttpResponseListener httpResponseListener;
+		HttpURLConnection connection;
+		synchronized (this) {
+			httpResponseListener = listeners.get(httpRequest);
+			connection = connections.get(httpRequest);
+			removeFromConnectionsAndListeners(httpRequest);
+		}
 
 		if (httpResponseListener != null) {
 			httpResponseListener.cancelled();
-			removeFromConnectionsAndListeners(httpRequest);
+			if (connection != null) connection.disconnect();
 		}
 	}
 
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.net;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+import com.badlogic.gdx.net.NioSocketGroup.IoThread;
+
+/** A non-blocking TCP connection of a {@link NioSocketGroup}. Received data is passed to the {@link NioSocketListener}. Sending
+ * copies the data to the write buffer of the connection, which is written by the I/O thread of the connection. Data sent by the
+ * listener while it handles events is written in one batch after the events, data sent by other threads wakes up the I/O
+ * thread. Connections can be used by any thread. */
+public class NioConnection {
+	final IoThread thread;
+	final SocketChannel channel;
+	final NioSocketListener listener;
+	final ByteBuffer readBuffer, writeBuffer;
+	final String remoteAddress;
+	SelectionKey key;
+	/** True when the connection is scheduled to be flushed or is waiting for the channel to be writable. Guarded by writeBuffer. */
+	boolean writePending;
+	volatile boolean closeRequested, closed;
+	volatile Object userData;
+
+	NioConnection (IoThread thread, SocketChannel channel, NioSocketListener listener, int readBufferSize, int writeBufferSize) {
+		this.thread = thread;
+		this.channel = channel;
+		this.listener = listener;
+		readBuffer = ByteBuffer.allocateDirect(readBufferSize);
+		writeBuffer = ByteBuffer.allocateDirect(writeBufferSize);
+		remoteAddress = String.valueOf(channel.socket().getRemoteSocketAddress());
+	}
+
+	/** Sends the data from the buffer's position to its limit. The position is set to the limit.
+	 * @return false if the connection is closed or the data does not fit in the write buffer, in which case nothing is sent. */
+	public boolean send (ByteBuffer data) {
+		if (closeRequested) return false;
+		boolean schedule;
+		synchronized (writeBuffer) {
+			if (writeBuffer.remaining() < data.remaining()) return false;
+			writeBuffer.put(data);
+			schedule = !writePending;
+			writePending = true;
+		}
+		if (schedule) thread.schedule(this);
+		return true;
+	}
+
+	/** Sends the bytes of the array.
+	 * @return false if the connection is closed or the data does not fit in the write buffer, in which case nothing is sent. */
+	public boolean send (byte[] data, int offset, int length) {
+		if (closeRequested) return false;
+		boolean schedule;
+		synchronized (writeBuffer) {
+			if (writeBuffer.remaining() < length) return false;
+			writeBuffer.put(data, offset, length);
+			schedule = !writePending;
+			writePending = true;
+		}
+		if (schedule) thread.schedule(this);
+		return true;
+	}
+
+	/** Returns the number of sent bytes that have not been written to the socket yet. */
+	public int getPendingBytes () {
+		synchronized (writeBuffer) {
+			return writeBuffer.position();
+		}
+	}
+
+	/** Closes the connection after writing the pending data. {@link NioSocketListener#disconnected(NioConnection, Throwable)} is
+	 * called by the I/O thread. */
+	public void close () {
+		if (closeRequested) return;
+		closeRequested = true;
+		thread.schedule(this);
+	}
+
+	/** Returns true until the connection is closed. */
+	public boolean isConnected () {
+		return !closed;
+	}
+
+	public String getRemoteAddress () {
+		return remoteAddress;
+	}
+
+	/** Returns the object set by {@link #setUserData(Object)}, such as the player of the connection. */
+	public Object getUserData () {
+		return userData;
+	}
+
+	public void setUserData (Object userData) {
+		this.userData = userData;
+	}
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.net;
+
+import java.nio.channels.ServerSocketChannel;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A non-blocking server socket created by {@link NioSocketGroup#bind(String, int, ServerSocketHints, SocketHints, NioSocketListener)}.
+ * Incoming connections are accepted by an I/O thread and spread over the I/O threads of the group. Disposing stops accepting
+ * connections, already accepted connections stay open. */
+public class NioServerSocket implements Disposable {
+	final ServerSocketChannel channel;
+	final SocketHints socketHints;
+	final NioSocketListener listener;
+
+	NioServerSocket (ServerSocketChannel channel, SocketHints socketHints, NioSocketListener listener) {
+		this.channel = channel;
+		this.socketHints = socketHints;
+		this.listener = listener;
+	}
+
+	/** Returns the port the server socket is bound to, which is useful when it was bound to port 0. */
+	public int getLocalPort () {
+		return channel.socket().getLocalPort();
+	}
+
+	@Override
+	public void dispose () {
+		try {
+			channel.close();
+		} catch (Exception e) {
+			throw new GdxRuntimeException("Error closing server.", e);
+		}
+	}
+}
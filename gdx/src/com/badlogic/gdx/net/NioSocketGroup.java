@@ -0,0 +1,385 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.net;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Non-blocking TCP sockets using java.nio selectors, for servers with many connections. Unlike {@link NetJavaSocketImpl}, which
+ * needs a thread per connection to read its stream, the connections of a group are handled by a small number of I/O threads.
+ * Each connection belongs to one I/O thread, which reads and writes it and calls its {@link NioSocketListener}.
+ * <p>
+ * Typical server usage:
+ *
+ * <pre>
+ * NioSocketGroup group = new NioSocketGroup();
+ * group.bind(null, 54555, null, null, listener);
+ * </pre>
+ *
+ * Received data is read into a direct buffer per connection and passed to the listener without copying. Sent data is copied into a
+ * direct write buffer per connection and written in batches, see {@link NioConnection}.
+ * <p>
+ * The {@link SocketHints} are applied to the connections, except for the socket timeout. The group must be disposed when no longer
+ * needed, which closes all connections and server sockets. */
+public class NioSocketGroup implements Disposable {
+	/** The default size in bytes of the read and write buffer of each connection. */
+	static public final int DEFAULT_BUFFER_SIZE = 8192;
+
+	final IoThread[] threads;
+	final int readBufferSize, writeBufferSize;
+	private int nextThread;
+
+	/** Creates a group with an I/O thread per two available processors, at most 4, and {@link #DEFAULT_BUFFER_SIZE} buffers. */
+	public NioSocketGroup () {
+		this(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)), DEFAULT_BUFFER_SIZE, DEFAULT_BUFFER_SIZE);
+	}
+
+	/** @param threads The number of I/O threads.
+	 * @param readBufferSize The size in bytes of the read buffer of each connection, which limits the size of a message.
+	 * @param writeBufferSize The size in bytes of the write buffer of each connection, which limits how much data can be sent
+	 *           before it is written to the socket. */
+	public NioSocketGroup (int threads, int readBufferSize, int writeBufferSize) {
+		if (threads < 1) throw new IllegalArgumentException("threads must be > 0: " + threads);
+		this.readBufferSize = readBufferSize;
+		this.writeBufferSize = writeBufferSize;
+		this.threads = new IoThread[threads];
+		try {
+			for (int i = 0; i < threads; i++)
+				this.threads[i] = new IoThread(this, "NioSocketGroup" + i);
+		} catch (IOException e) {
+			dispose();
+			throw new GdxRuntimeException("Error opening selector.", e);
+		}
+		for (int i = 0; i < threads; i++)
+			this.threads[i].thread.start();
+	}
+
+	/** Creates a server socket whose connections are handled by this group.
+	 * @param hostname The address to bind to, or null for all addresses.
+	 * @param hints May be null for the default settings.
+	 * @param socketHints Applied to accepted connections. May be null for the default settings.
+	 * @param listener Receives the events of accepted connections. */
+	public NioServerSocket bind (String hostname, int port, ServerSocketHints hints, SocketHints socketHints,
+		NioSocketListener listener) {
+		ServerSocketChannel channel = null;
+		try {
+			channel = ServerSocketChannel.open();
+			java.net.ServerSocket server = channel.socket();
+			if (hints != null) {
+				server.setPerformancePreferences(hints.performancePrefConnectionTime, hints.performancePrefLatency,
+					hints.performancePrefBandwidth);
+				server.setReuseAddress(hints.reuseAddress);
+				server.setReceiveBufferSize(hints.receiveBufferSize);
+			}
+			InetSocketAddress address = hostname != null ? new InetSocketAddress(hostname, port) : new InetSocketAddress(port);
+			if (hints != null)
+				server.bind(address, hints.backlog);
+			else
+				server.bind(address);
+			channel.configureBlocking(false);
+		} catch (Exception e) {
+			if (channel != null) closeQuietly(channel);
+			throw new GdxRuntimeException("Cannot create a server socket at port " + port + ".", e);
+		}
+		NioServerSocket serverSocket = new NioServerSocket(channel, socketHints, listener);
+		threads[0].schedule(serverSocket);
+		return serverSocket;
+	}
+
+	/** Connects to a server. This blocks until the connection is established or the connect timeout of the hints expires.
+	 * {@link NioSocketListener#connected(NioConnection)} is called by the I/O thread afterward. Data can be sent right away.
+	 * @param hints May be null for the default settings. */
+	public NioConnection connect (String host, int port, SocketHints hints, NioSocketListener listener) {
+		SocketChannel channel = null;
+		try {
+			channel = SocketChannel.open();
+			applyHints(channel.socket(), hints);
+			InetSocketAddress address = new InetSocketAddress(host, port);
+			if (hints != null)
+				channel.socket().connect(address, hints.connectTimeout);
+			else
+				channel.socket().connect(address);
+			channel.configureBlocking(false);
+		} catch (Exception e) {
+			if (channel != null) closeQuietly(channel);
+			throw new GdxRuntimeException("Error making a socket connection to " + host + ":" + port, e);
+		}
+		return register(channel, listener);
+	}
+
+	NioConnection register (SocketChannel channel, NioSocketListener listener) {
+		IoThread thread;
+		synchronized (this) {
+			thread = threads[nextThread];
+			nextThread = (nextThread + 1) % threads.length;
+		}
+		NioConnection connection = new NioConnection(thread, channel, listener, readBufferSize, writeBufferSize);
+		thread.schedule(connection);
+		return connection;
+	}
+
+	static void applyHints (java.net.Socket socket, SocketHints hints) throws IOException {
+		if (hints == null) return;
+		socket.setPerformancePreferences(hints.performancePrefConnectionTime, hints.performancePrefLatency,
+			hints.performancePrefBandwidth);
+		socket.setTrafficClass(hints.trafficClass);
+		socket.setTcpNoDelay(hints.tcpNoDelay);
+		socket.setKeepAlive(hints.keepAlive);
+		socket.setSendBufferSize(hints.sendBufferSize);
+		socket.setReceiveBufferSize(hints.receiveBufferSize);
+		socket.setSoLinger(hints.linger, hints.lingerDuration);
+	}
+
+	static void closeQuietly (Closeable closeable) {
+		try {
+			closeable.close();
+		} catch (IOException ignored) {
+		}
+	}
+
+	/** Stops the I/O threads and closes all connections and server sockets. The listeners are notified of the closed connections. */
+	@Override
+	public void dispose () {
+		for (IoThread thread : threads) {
+			if (thread == null) continue;
+			thread.running = false;
+			thread.selector.wakeup();
+		}
+		for (IoThread thread : threads) {
+			if (thread == null) continue;
+			if (thread.thread != Thread.currentThread() && thread.thread.isAlive()) {
+				try {
+					thread.thread.join();
+				} catch (InterruptedException ignored) {
+				}
+			} else if (!thread.thread.isAlive()) closeQuietly(thread.selector);
+		}
+	}
+
+	/** Owns a selector and handles the connections registered with it. */
+	static class IoThread implements Runnable {
+		final NioSocketGroup group;
+		final Selector selector;
+		final Thread thread;
+		volatile boolean running = true;
+		/** Connections and server sockets to register, flush or close. */
+		private Array<Object> pending = new Array(false, 16), processing = new Array(false, 16);
+
+		IoThread (NioSocketGroup group, String name) throws IOException {
+			this.group = group;
+			selector = Selector.open();
+			thread = new Thread(this, name);
+			thread.setDaemon(true);
+		}
+
+		/** Schedules a connection or server socket to be processed by this thread. */
+		void schedule (Object object) {
+			boolean wakeup;
+			synchronized (this) {
+				wakeup = pending.size == 0;
+				pending.add(object);
+			}
+			// When called by this thread during an event, the pending objects are processed before selecting again.
+			if (wakeup && Thread.currentThread() != thread) selector.wakeup();
+		}
+
+		@Override
+		public void run () {
+			try {
+				while (running) {
+					processPending();
+					selector.select();
+					if (!running) break;
+					Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+					while (keys.hasNext()) {
+						SelectionKey key = keys.next();
+						keys.remove();
+						Object attachment = key.attachment();
+						if (attachment instanceof NioServerSocket)
+							accept((NioServerSocket)attachment);
+						else
+							handle((NioConnection)attachment, key);
+					}
+				}
+			} catch (IOException e) {
+				throw new GdxRuntimeException("Error selecting.", e);
+			} finally {
+				closeAll();
+			}
+		}
+
+		private void processPending () {
+			Array<Object> processing;
+			synchronized (this) {
+				processing = pending;
+				pending = this.processing;
+				this.processing = processing;
+			}
+			for (int i = 0, n = processing.size; i < n; i++) {
+				Object object = processing.get(i);
+				if (object instanceof NioServerSocket) {
+					NioServerSocket server = (NioServerSocket)object;
+					try {
+						server.channel.register(selector, SelectionKey.OP_ACCEPT, server);
+					} catch (IOException ignored) { // Disposed before it was registered.
+					}
+					continue;
+				}
+				NioConnection connection = (NioConnection)object;
+				if (connection.closed) continue;
+				if (connection.key == null) {
+					try {
+						connection.key = connection.channel.register(selector, SelectionKey.OP_READ, connection);
+					} catch (IOException ex) {
+						close(connection, ex);
+						continue;
+					}
+					try {
+						connection.listener.connected(connection);
+					} catch (RuntimeException ex) {
+						close(connection, ex);
+						continue;
+					}
+				}
+				flush(connection);
+			}
+			processing.clear();
+		}
+
+		private void accept (NioServerSocket server) {
+			SocketChannel channel;
+			try {
+				channel = server.channel.accept();
+				if (channel == null) return;
+			} catch (IOException ignored) { // The server socket was closed.
+				return;
+			}
+			try {
+				channel.configureBlocking(false);
+				applyHints(channel.socket(), server.socketHints);
+			} catch (IOException ex) {
+				closeQuietly(channel);
+				return;
+			}
+			group.register(channel, server.listener);
+		}
+
+		private void handle (NioConnection connection, SelectionKey key) {
+			if (!key.isValid()) return;
+			if (key.isWritable()) flush(connection);
+			if (connection.closed || !key.isReadable()) return;
+			ByteBuffer buffer = connection.readBuffer;
+			int count;
+			try {
+				count = connection.channel.read(buffer);
+			} catch (IOException ex) {
+				close(connection, ex);
+				return;
+			}
+			if (count == -1) {
+				close(connection, null);
+				return;
+			}
+			if (count == 0) return;
+			buffer.flip();
+			try {
+				connection.listener.received(connection, buffer);
+			} catch (RuntimeException ex) {
+				close(connection, ex);
+				return;
+			}
+			if (buffer.position() == 0 && buffer.limit() == buffer.capacity()) {
+				close(connection, new GdxRuntimeException("Read buffer full, message is too large: " + buffer.capacity()));
+				return;
+			}
+			buffer.compact();
+		}
+
+		/** Writes as much of the write buffer as the socket accepts, waiting for the socket to be writable if necessary. A connection
+		 * whose close was requested is closed once the write buffer is empty. */
+		private void flush (NioConnection connection) {
+			if (connection.closed || connection.key == null) return;
+			ByteBuffer buffer = connection.writeBuffer;
+			boolean done = true;
+			try {
+				synchronized (buffer) {
+					if (connection.writePending) {
+						buffer.flip();
+						try {
+							connection.channel.write(buffer);
+						} finally {
+							done = !buffer.hasRemaining();
+							buffer.compact();
+						}
+						if (done) connection.writePending = false;
+					}
+				}
+			} catch (IOException ex) {
+				close(connection, ex);
+				return;
+			}
+			if (done && connection.closeRequested) {
+				close(connection, null);
+				return;
+			}
+			connection.key.interestOps(done ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+		}
+
+		private void close (NioConnection connection, Throwable cause) {
+			if (connection.closed) return;
+			connection.closed = true;
+			connection.closeRequested = true;
+			if (connection.key != null) connection.key.cancel();
+			closeQuietly(connection.channel);
+			try {
+				connection.listener.disconnected(connection, cause);
+			} catch (RuntimeException ignored) {
+			}
+		}
+
+		private void closeAll () {
+			synchronized (this) {
+				for (Object object : pending) {
+					if (object instanceof NioConnection)
+						close((NioConnection)object, null);
+					else
+						closeQuietly(((NioServerSocket)object).channel);
+				}
+				pending.clear();
+			}
+			for (SelectionKey key : selector.keys()) {
+				Object attachment = key.attachment();
+				if (attachment instanceof NioConnection)
+					close((NioConnection)attachment, null);
+				else
+					closeQuietly(key.channel());
+			}
+			closeQuietly(selector);
+		}
+	}
+}
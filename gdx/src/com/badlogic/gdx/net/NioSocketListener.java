@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.net;
+
+import java.nio.ByteBuffer;
+
+/** Receives the events of {@link NioConnection NioConnections}. The methods are called by the I/O thread of the connection, so
+ * they must not block. All events of a connection are called by the same thread.
+ * @see NioSocketGroup */
+public interface NioSocketListener {
+	/** Called when the connection is established, before any data is received. */
+	public void connected (NioConnection connection);
+
+	/** Called when data was received. The buffer contains all received data that was not consumed by previous calls, from its
+	 * position to its limit. Consume complete messages by advancing the position and leave incomplete messages in the buffer, they
+	 * are passed again with the next data. The connection is closed if its read buffer is full and no data is consumed. The buffer
+	 * must not be used after this method returns. */
+	public void received (NioConnection connection, ByteBuffer buffer);
+
+	/** Called when the connection is closed, either by the other end, by {@link NioConnection#close()}, or because of an error.
+	 * @param cause The error that closed the connection, or null. */
+	public void disconnected (NioConnection connection, Throwable cause);
+}
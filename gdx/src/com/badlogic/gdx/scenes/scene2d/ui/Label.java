@@ -38,6 +38,7 @@ public class Label extends Widget {
 	private final GlyphLayout layout = new GlyphLayout();
 	private final Vector2 prefSize = new Vector2();
 	private final StringBuilder text = new StringBuilder();
+	private int unchangedLength;
 	private BitmapFontCache cache;
 	private int labelAlign = Align.left;
 	private int lineAlign = Align.left;
@@ -93,10 +94,12 @@ public class Label extends Widget {
 		if (newText == null) newText = "";
 		if (newText instanceof StringBuilder) {
 			if (text.equals(newText)) return;
+			unchangedLength = Math.min(unchangedLength, prefixLength(newText));
 			text.setLength(0);
 			text.append((StringBuilder)newText);
 		} else {
 			if (textEquals(newText)) return;
+			unchangedLength = Math.min(unchangedLength, prefixLength(newText));
 			text.setLength(0);
 			text.append(newText);
 		}
@@ -112,6 +115,15 @@ public class Label extends Widget {
 		return true;
 	}
 
+	/** Returns the number of characters at the start of the text that are the same as the specified text. */
+	private int prefixLength (CharSequence other) {
+		char[] chars = text.chars;
+		int i = 0, n = Math.min(text.length, other.length());
+		while (i < n && chars[i] == other.charAt(i))
+			i++;
+		return i;
+	}
+
 	public StringBuilder getText () {
 		return text;
 	}
@@ -199,7 +211,11 @@ public class Label extends Widget {
 		}
 		if (!cache.getFont().isFlipped()) y += textHeight;
 
-		layout.setText(font, text, 0, text.length, Color.WHITE, textWidth, lineAlign, wrap, ellipsis);
+		if (!wrap && ellipsis == null && (lineAlign & Align.left) != 0)
+			layout.setText(font, text, Color.WHITE, unchangedLength); // Only lays out characters that changed since the last layout.
+		else
+			layout.setText(font, text, 0, text.length, Color.WHITE, textWidth, lineAlign, wrap, ellipsis);
+		unchangedLength = text.length;
 		cache.setText(layout, x, y);
 
 		if (fontScaleChanged) font.getData().setScale(oldScaleX, oldScaleY);
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+/** Sorts int, float and long keys with a least significant digit radix sort, eight bits per pass. The time is linear in the
+ * number of keys, and passes where all keys have the same digit are skipped, so eg small positive ints only need one or two
+ * passes. This is faster than the Arrays.sort methods for more than about a thousand keys.
+ * <p>
+ * The argsort methods sort indices by a key, eg to draw sprites ordered by depth without moving them. They are stable, equal keys
+ * keep the order of their indices.
+ * <p>
+ * Sorting requires working memory of the size of the keys, this class allows that memory to be reused to avoid allocation.
+ * Floats are ordered like Arrays.sort orders them, -0 before 0 and NaN last, except NaNs with the sign bit set are first. */
+public class RadixSort {
+	static private RadixSort instance;
+
+	private final int[] counts = new int[8 * 256];
+	private int[] keyBuffer = new int[0], keyBuffer2 = new int[0], indexBuffer = new int[0];
+	private long[] longBuffer = new long[0];
+
+	public void sort (IntArray a) {
+		sort(a.items, 0, a.size);
+	}
+
+	public void sort (int[] a) {
+		sort(a, 0, a.length);
+	}
+
+	public void sort (int[] a, int fromIndex, int toIndex) {
+		rangeCheck(a.length, fromIndex, toIndex);
+		int n = toIndex - fromIndex;
+		if (n < 2) return;
+		int[] sorted = sort(a, fromIndex, keyBuffer(n), n, 0x80, null, null);
+		if (sorted != a) System.arraycopy(sorted, 0, a, fromIndex, n);
+	}
+
+	public void sort (FloatArray a) {
+		sort(a.items, 0, a.size);
+	}
+
+	public void sort (float[] a) {
+		sort(a, 0, a.length);
+	}
+
+	public void sort (float[] a, int fromIndex, int toIndex) {
+		rangeCheck(a.length, fromIndex, toIndex);
+		int n = toIndex - fromIndex;
+		if (n < 2) return;
+		int[] keys = floatKeys(a, fromIndex, n);
+		keys = sort(keys, 0, keyBuffer2(n), n, 0, null, null);
+		for (int i = 0; i < n; i++) {
+			int key = keys[i];
+			a[fromIndex + i] = NumberUtils.intBitsToFloat(key ^ (~(key >> 31) | 0x80000000));
+		}
+	}
+
+	public void sort (LongArray a) {
+		sort(a.items, 0, a.size);
+	}
+
+	public void sort (long[] a) {
+		sort(a, 0, a.length);
+	}
+
+	public void sort (long[] a, int fromIndex, int toIndex) {
+		rangeCheck(a.length, fromIndex, toIndex);
+		int n = toIndex - fromIndex;
+		if (n < 2) return;
+		if (longBuffer.length < n) longBuffer = new long[n];
+		long[] buffer = longBuffer;
+		int[] counts = this.counts;
+		for (int i = 0; i < counts.length; i++)
+			counts[i] = 0;
+		for (int i = fromIndex; i < toIndex; i++) {
+			long value = a[i];
+			for (int pass = 0; pass < 7; pass++)
+				counts[(pass << 8) + (int)(value >>> (pass << 3) & 0xff)]++;
+			counts[7 * 256 + ((int)(value >>> 56) ^ 0x80)]++;
+		}
+		long[] src = a, dst = buffer;
+		int srcOffset = fromIndex, dstOffset = 0;
+		for (int pass = 0; pass < 8; pass++) {
+			int base = pass << 8, shift = pass << 3, flip = pass == 7 ? 0x80 : 0;
+			if (!prefixSums(counts, base, flip, (int)(src[srcOffset] >>> shift & 0xff), n, dstOffset)) continue;
+			for (int i = srcOffset, end = srcOffset + n; i < end; i++) {
+				long value = src[i];
+				dst[counts[base + ((int)(value >>> shift & 0xff) ^ flip)]++] = value;
+			}
+			long[] temp = src;
+			src = dst;
+			dst = temp;
+			int tempOffset = srcOffset;
+			srcOffset = dstOffset;
+			dstOffset = tempOffset;
+		}
+		if (src != a) System.arraycopy(src, 0, a, fromIndex, n);
+	}
+
+	/** Sets indices to the indices of the keys, ordered by key. */
+	public void argsort (IntArray keys, IntArray indices) {
+		argsort(keys.items, 0, keys.size, indices.ensureCapacity(keys.size - indices.size));
+		indices.size = keys.size;
+	}
+
+	/** Stores the indices of the keys from fromIndex to toIndex - 1 in indices, starting at 0 and ordered by key. The keys are not
+	 * modified.
+	 * @param indices Must be at least toIndex - fromIndex large. */
+	public void argsort (int[] keys, int fromIndex, int toIndex, int[] indices) {
+		rangeCheck(keys.length, fromIndex, toIndex);
+		int n = toIndex - fromIndex;
+		int[] keyCopy = keyBuffer2(n);
+		System.arraycopy(keys, fromIndex, keyCopy, 0, n);
+		argsort(keyCopy, fromIndex, n, indices, 0x80);
+	}
+
+	/** Sets indices to the indices of the keys, ordered by key. */
+	public void argsort (FloatArray keys, IntArray indices) {
+		argsort(keys.items, 0, keys.size, indices.ensureCapacity(keys.size - indices.size));
+		indices.size = keys.size;
+	}
+
+	/** Stores the indices of the keys from fromIndex to toIndex - 1 in indices, starting at 0 and ordered by key. The keys are not
+	 * modified.
+	 * @param indices Must be at least toIndex - fromIndex large. */
+	public void argsort (float[] keys, int fromIndex, int toIndex, int[] indices) {
+		rangeCheck(keys.length, fromIndex, toIndex);
+		int n = toIndex - fromIndex;
+		argsort(floatKeys(keys, fromIndex, n), fromIndex, n, indices, 0);
+	}
+
+	private void argsort (int[] keys, int fromIndex, int n, int[] indices, int flip) {
+		if (indices.length < n) throw new IllegalArgumentException("indices must be at least " + n + " large: " + indices.length);
+		for (int i = 0; i < n; i++)
+			indices[i] = fromIndex + i;
+		if (n < 2) return;
+		if (indexBuffer.length < n) indexBuffer = new int[n];
+		int[] buffer = keys == keyBuffer ? keyBuffer2(n) : keyBuffer(n);
+		sort(keys, 0, buffer, n, flip, indices, indexBuffer);
+	}
+
+	/** Sorts n keys starting at offset, moving the indices with them when they are not null. The passes alternate between the keys
+	 * and the buffer, which starts at 0 like the indices and the index buffer. The highest digit is xored with topFlip, 0x80 to
+	 * order signed keys.
+	 * @return The keys or the buffer, whichever has the sorted keys, the indices are always sorted in place. */
+	private int[] sort (int[] a, int offset, int[] buffer, int n, int topFlip, int[] indices, int[] indexBuffer) {
+		int[] counts = this.counts;
+		for (int i = 0; i < 4 * 256; i++)
+			counts[i] = 0;
+		for (int i = offset, end = offset + n; i < end; i++) {
+			int value = a[i];
+			counts[value & 0xff]++;
+			counts[256 + (value >>> 8 & 0xff)]++;
+			counts[512 + (value >>> 16 & 0xff)]++;
+			counts[768 + ((value >>> 24) ^ topFlip)]++;
+		}
+		int[] src = a, dst = buffer, srcIndices = indices, dstIndices = indexBuffer;
+		int srcOffset = offset, dstOffset = 0;
+		for (int pass = 0; pass < 4; pass++) {
+			int base = pass << 8, shift = pass << 3, flip = pass == 3 ? topFlip : 0;
+			if (!prefixSums(counts, base, flip, src[srcOffset] >>> shift & 0xff, n, dstOffset)) continue;
+			if (indices == null) {
+				for (int i = srcOffset, end = srcOffset + n; i < end; i++) {
+					int value = src[i];
+					dst[counts[base + ((value >>> shift & 0xff) ^ flip)]++] = value;
+				}
+			} else {
+				for (int i = srcOffset, end = srcOffset + n; i < end; i++) {
+					int value = src[i], index = counts[base + ((value >>> shift & 0xff) ^ flip)]++;
+					dst[index] = value;
+					dstIndices[index - dstOffset] = srcIndices[i - srcOffset];
+				}
+				int[] temp = srcIndices;
+				srcIndices = dstIndices;
+				dstIndices = temp;
+			}
+			int[] temp = src;
+			src = dst;
+			dst = temp;
+			int tempOffset = srcOffset;
+			srcOffset = dstOffset;
+			dstOffset = tempOffset;
+		}
+		if (srcIndices != indices) System.arraycopy(srcIndices, 0, indices, 0, n);
+		return src;
+	}
+
+	/** Turns the digit counts of a pass into the first destination index of each digit.
+	 * @return False if all keys have the same digit and the pass can be skipped. */
+	static private boolean prefixSums (int[] counts, int base, int flip, int firstDigit, int n, int offset) {
+		if (counts[base + (firstDigit ^ flip)] == n) return false;
+		for (int i = base, end = base + 256, sum = offset; i < end; i++) {
+			int count = counts[i];
+			counts[i] = sum;
+			sum += count;
+		}
+		return true;
+	}
+
+	/** Returns the float bits in the key buffer, changed so their unsigned order is the order of the floats. */
+	private int[] floatKeys (float[] a, int fromIndex, int n) {
+		int[] keys = keyBuffer(n);
+		for (int i = 0; i < n; i++) {
+			int bits = NumberUtils.floatToRawIntBits(a[fromIndex + i]);
+			keys[i] = bits ^ ((bits >> 31) | 0x80000000);
+		}
+		return keys;
+	}
+
+	private int[] keyBuffer (int n) {
+		if (keyBuffer.length < n) keyBuffer = new int[n];
+		return keyBuffer;
+	}
+
+	private int[] keyBuffer2 (int n) {
+		if (keyBuffer2.length < n) keyBuffer2 = new int[n];
+		return keyBuffer2;
+	}
+
+	static private void rangeCheck (int length, int fromIndex, int toIndex) {
+		if (fromIndex > toIndex) throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+		if (fromIndex < 0) throw new ArrayIndexOutOfBoundsException(fromIndex);
+		if (toIndex > length) throw new ArrayIndexOutOfBoundsException(toIndex);
+	}
+
+	/** Returns a RadixSort instance for convenience. Multiple threads must not use this instance at the same time. */
+	static public RadixSort instance () {
+		if (instance == null) instance = new RadixSort();
+		return instance;
+	}
+}
@@ -15,17 +15,27 @@ package com.badlogic.gdx.utils;
 
 import java.util.Comparator;
 
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
 /** Provides methods to sort arrays of objects. Sorting requires working memory and this class allows that memory to be reused to
  * avoid allocation. The sorting is otherwise identical to the Arrays.sort methods (uses timsort).<br>
  * <br>
  * Note that sorting primitive arrays with the Arrays.sort methods does not allocate memory (unless sorting large arrays of char,
- * short, or byte).
+ * short, or byte). {@link RadixSort} sorts primitive arrays faster and can sort indices by a key.<br>
+ * <br>
+ * Large arrays can be sorted in parallel by passing an {@link AsyncExecutor}: chunks of the array are sorted concurrently, then
+ * merged. Like the other methods this is a stable sort.
  * @author Nathan Sweet */
 public class Sort {
 	static private Sort instance;
 
 	private TimSort timSort;
 	private ComparableTimSort comparableTimSort;
+	private final Array<TimSort> chunkSorts = new Array();
+	private final Array<AsyncResult> results = new Array();
+	private Object[] mergeBuffer = new Object[0];
 
 	public <T> void sort (Array<T> a) {
 		if (comparableTimSort == null) comparableTimSort = new ComparableTimSort();
@@ -57,6 +67,111 @@ public class Sort {
 		timSort.doSort(a, c, fromIndex, toIndex);
 	}
 
+	/** Sorts the array with the comparator, sorting and merging chunks on the threads of the executor if the array is large.
+	 * @see #sort(Object[], Comparator, int, int, AsyncExecutor) */
+	public <T> void sort (Array<T> a, Comparator<? super T> c, AsyncExecutor executor) {
+		sort(a.items, c, 0, a.size, executor);
+	}
+
+	/** Sorts the array from fromIndex to toIndex - 1 with the comparator, sorting and merging chunks on the threads of the executor
+	 * if the range is large. The comparator is called concurrently.
+	 * <p>
+	 * This waits for the tasks it submits to the executor, so it must not be called from a thread of the same executor: that
+	 * thread can't run the tasks, which deadlocks if it is the only one.
+	 * @throws GdxRuntimeException if the comparator threw an exception, after all the tasks have finished. The order of the range
+	 *            is then undefined. */
+	public <T> void sort (final T[] a, final Comparator<? super T> c, int fromIndex, int toIndex, AsyncExecutor executor) {
+		int n = toIndex - fromIndex;
+		int chunkSize = Math.max(8192, (n + 7) / 8);
+		if (n <= chunkSize) {
+			sort(a, c, fromIndex, toIndex);
+			return;
+		}
+		if (mergeBuffer.length < n) mergeBuffer = new Object[n];
+		try {
+			sort(a, c, fromIndex, toIndex, executor, n, chunkSize);
+		} finally {
+			Object[] mergeBuffer = this.mergeBuffer;
+			for (int i = 0; i < n; i++)
+				mergeBuffer[i] = null;
+		}
+	}
+
+	private <T> void sort (final T[] a, final Comparator<? super T> c, int fromIndex, int toIndex, AsyncExecutor executor, int n,
+		int chunkSize) {
+		int chunks = (n + chunkSize - 1) / chunkSize;
+		while (chunkSorts.size < chunks)
+			chunkSorts.add(new TimSort());
+		for (int i = 0; i < chunks; i++) {
+			final TimSort timSort = chunkSorts.get(i);
+			final int start = fromIndex + i * chunkSize, end = Math.min(toIndex, start + chunkSize);
+			results.add(executor.submit(new AsyncTask() {
+				public Object call () {
+					timSort.doSort(a, c, start, end);
+					return null;
+				}
+			}));
+		}
+		waitForResults();
+
+		// Merge neighboring runs until one is left, alternating between the array and the buffer.
+		Object[] src = a, dst = mergeBuffer;
+		int srcOffset = fromIndex, dstOffset = 0;
+		for (int runSize = chunkSize; runSize < n; runSize <<= 1) {
+			for (int start = 0; start < n; start += runSize << 1) {
+				final Object[] mergeSrc = src, mergeDst = dst;
+				final int lo = srcOffset + start, mid = Math.min(lo + runSize, srcOffset + n),
+					hi = Math.min(mid + runSize, srcOffset + n), to = dstOffset + start;
+				results.add(executor.submit(new AsyncTask() {
+					public Object call () {
+						merge(mergeSrc, lo, mid, hi, mergeDst, to, (Comparator)c);
+						return null;
+					}
+				}));
+			}
+			waitForResults();
+			Object[] temp = src;
+			src = dst;
+			dst = temp;
+			int tempOffset = srcOffset;
+			srcOffset = dstOffset;
+			dstOffset = tempOffset;
+		}
+		if (src != a) System.arraycopy(src, 0, a, fromIndex, n);
+	}
+
+	/** Merges the sorted runs lo to mid - 1 and mid to hi - 1 of src into dst at the index to. Equal elements of the first run
+	 * come first. */
+	static private void merge (Object[] src, int lo, int mid, int hi, Object[] dst, int to, Comparator c) {
+		if (mid == hi || c.compare(src[mid - 1], src[mid]) <= 0) {
+			System.arraycopy(src, lo, dst, to, hi - lo);
+			return;
+		}
+		int i = lo, j = mid;
+		while (i < mid && j < hi)
+			dst[to++] = c.compare(src[j], src[i]) < 0 ? src[j++] : src[i++];
+		if (i < mid)
+			System.arraycopy(src, i, dst, to, mid - i);
+		else
+			System.arraycopy(src, j, dst, to, hi - j);
+	}
+
+	/** Waits for all submitted tasks, then throws the exception of the first task that failed. Tasks still running could
+	 * otherwise write to the array or the merge buffer after the sort returned. */
+	private void waitForResults () {
+		Array<AsyncResult> results = this.results;
+		GdxRuntimeException error = null;
+		for (int i = 0; i < results.size; i++) {
+			try {
+				results.get(i).get();
+			} catch (GdxRuntimeException ex) {
+				if (error == null) error = ex;
+			}
+		}
+		results.clear();
+		if (error != null) throw error;
+	}
+
 	/** Returns a Sort instance for convenience. Multiple threads must not use this instance at the same time. */
 	static public Sort instance () {
 		if (instance == null) instance = new Sort();
@@ -0,0 +1,136 @@
+package com.badlogic.gdx.graphics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class PixmapUtilsTest {
+	final Random random = new Random(1);
+
+	@BeforeClass
+	static public void loadNatives () {
+		GdxNativesLoader.load();
+	}
+
+	@Test
+	public void testPremultiplyAlphaParallel () {
+		int height = PixmapUtils.minParallelRows * 4;
+		assertTrue(height / 32 >= 2);
+		Pixmap serial = randomPixmap(37, height, Format.RGBA8888);
+		Pixmap parallel = copy(serial);
+		AsyncExecutor executor = new AsyncExecutor(4);
+		try {
+			PixmapUtils.premultiplyAlpha(serial);
+			PixmapUtils.premultiplyAlpha(parallel, executor);
+			assertPixelsEqual(serial, parallel);
+		} finally {
+			executor.dispose();
+			serial.dispose();
+			parallel.dispose();
+		}
+	}
+
+	@Test
+	public void testDownsampleBoxParallel () {
+		int height = PixmapUtils.minParallelRows * 8;
+		Pixmap source = randomPixmap(50, height, Format.RGB888);
+		Pixmap serial = new Pixmap(25, height / 2, Format.RGB888);
+		Pixmap parallel = new Pixmap(25, height / 2, Format.RGB888);
+		AsyncExecutor executor = new AsyncExecutor(4);
+		try {
+			PixmapUtils.downsampleBox(source, serial);
+			PixmapUtils.downsampleBox(source, parallel, executor);
+			assertPixelsEqual(serial, parallel);
+		} finally {
+			executor.dispose();
+			source.dispose();
+			serial.dispose();
+			parallel.dispose();
+		}
+	}
+
+	@Test
+	public void testKnownValues () {
+		int height = PixmapUtils.minParallelRows * 4;
+		Pixmap pixmap = new Pixmap(4, height, Format.RGBA8888);
+		Pixmap source = new Pixmap(2, height, Format.RGB888);
+		Pixmap target = new Pixmap(1, height / 2, Format.RGB888);
+		AsyncExecutor executor = new AsyncExecutor(4);
+		try {
+			ByteBuffer pixels = pixmap.getPixels();
+			for (int i = 0, n = pixels.capacity(); i < n; i += 4) {
+				pixels.put(i, (byte)200);
+				pixels.put(i + 1, (byte)100);
+				pixels.put(i + 2, (byte)50);
+				pixels.put(i + 3, (byte)128);
+			}
+			PixmapUtils.premultiplyAlpha(pixmap, executor);
+			assertPixel(pixmap, 0, 0, 100, 50, 25, 128);
+			assertPixel(pixmap, 3, height / 2, 100, 50, 25, 128);
+			assertPixel(pixmap, 3, height - 1, 100, 50, 25, 128);
+			PixmapUtils.swizzle(pixmap, 2, 1, 0, 3, executor);
+			assertPixel(pixmap, 0, 0, 25, 50, 100, 128);
+			assertPixel(pixmap, 3, height - 1, 25, 50, 100, 128);
+
+			// Red in the right column, green in the odd rows, so each target pixel averages two of each.
+			pixels = source.getPixels();
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < 2; x++) {
+					int i = (y * 2 + x) * 3;
+					pixels.put(i, (byte)(x == 1 ? 255 : 0));
+					pixels.put(i + 1, (byte)(y % 2 == 1 ? 200 : 0));
+					pixels.put(i + 2, (byte)10);
+				}
+			}
+			PixmapUtils.downsampleBox(source, target, executor);
+			assertPixel(target, 0, 0, 128, 100, 10);
+			assertPixel(target, 0, height / 4, 128, 100, 10);
+			assertPixel(target, 0, height / 2 - 1, 128, 100, 10);
+		} finally {
+			executor.dispose();
+			pixmap.dispose();
+			source.dispose();
+			target.dispose();
+		}
+	}
+
+	/** Checks the channels of the pixel in the pixel buffer. */
+	private void assertPixel (Pixmap pixmap, int x, int y, int... expected) {
+		ByteBuffer pixels = pixmap.getPixels();
+		int index = (y * pixmap.getWidth() + x) * expected.length;
+		for (int c = 0; c < expected.length; c++)
+			assertEquals("Channel " + c + " at " + x + "," + y, expected[c], pixels.get(index + c) & 0xff);
+	}
+
+	private Pixmap randomPixmap (int width, int height, Format format) {
+		Pixmap pixmap = new Pixmap(width, height, format);
+		ByteBuffer pixels = pixmap.getPixels();
+		for (int i = 0, n = pixels.capacity(); i < n; i++)
+			pixels.put(i, (byte)random.nextInt(256));
+		return pixmap;
+	}
+
+	private Pixmap copy (Pixmap pixmap) {
+		Pixmap copy = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), pixmap.getFormat());
+		ByteBuffer source = pixmap.getPixels(), target = copy.getPixels();
+		for (int i = 0, n = source.capacity(); i < n; i++)
+			target.put(i, source.get(i));
+		return copy;
+	}
+
+	private void assertPixelsEqual (Pixmap expected, Pixmap actual) {
+		ByteBuffer expectedPixels = expected.getPixels(), actualPixels = actual.getPixels();
+		assertEquals(expectedPixels.capacity(), actualPixels.capacity());
+		for (int i = 0, n = expectedPixels.capacity(); i < n; i++)
+			assertEquals("Byte " + i, expectedPixels.get(i), actualPixels.get(i));
+	}
+}
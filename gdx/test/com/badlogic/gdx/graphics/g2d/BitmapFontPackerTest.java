@@ -0,0 +1,122 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.glutils.GLOnlyTextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+public class BitmapFontPackerTest {
+	static private final int SIZE = 512;
+
+	static private final String TITLE = "info face=\"Title\" size=32 padding=0,0,0,0 spacing=1,1\n" //
+		+ "common lineHeight=32 base=26 scaleW=64 scaleH=64 pages=1 packed=0\n" //
+		+ "page id=0 file=\"title.png\"\n" //
+		+ "char id=65 x=1 y=2 width=20 height=24 xoffset=0 yoffset=2 xadvance=20 page=0\n";
+
+	static private final String TEXT = "info face=\"Text\" size=16 padding=0,0,0,0 spacing=1,1\n" //
+		+ "common lineHeight=16 base=13 scaleW=32 scaleH=32 pages=2 packed=0\n" //
+		+ "page id=0 file=\"text_0.png\"\n" //
+		+ "page id=1 file=\"text_1.png\"\n" //
+		+ "char id=65 x=2 y=3 width=10 height=12 xoffset=0 yoffset=1 xadvance=10 page=0\n" //
+		+ "char id=66 x=4 y=5 width=8 height=12 xoffset=0 yoffset=1 xadvance=9 page=1\n";
+
+	/** Regions laid out the way {@link PixmapPacker} would place the page images of both fonts in one atlas page. */
+	static private TextureAtlas newAtlas () {
+		Texture texture = new TestTexture();
+		TextureAtlas atlas = new TextureAtlas();
+		atlas.addRegion("title_0", texture, 0, 0, 64, 64);
+		atlas.addRegion("text_0", texture, 64, 0, 32, 32);
+		atlas.addRegion("text_1", texture, 64, 32, 32, 32);
+		return atlas;
+	}
+
+	@Test
+	public void testTwoFonts () {
+		TextureAtlas atlas = newAtlas();
+		BitmapFontData titleData = newData("title.fnt", TITLE), textData = newData("text.fnt", TEXT);
+		BitmapFont title = BitmapFontPacker.newFont(atlas, titleData, "title");
+		BitmapFont text = BitmapFontPacker.newFont(atlas, textData, "text");
+
+		assertEquals(1, title.getRegions().size);
+		assertSame(atlas.findRegion("title_0"), title.getRegion(0));
+		assertEquals(2, text.getRegions().size);
+		assertSame(atlas.findRegion("text_0"), text.getRegion(0));
+		assertSame(atlas.findRegion("text_1"), text.getRegion(1));
+
+		// Glyph coordinates are remapped from the font page to the page's region in the shared texture.
+		assertGlyph(titleData.getGlyph('A'), 0, 0 + 1, 0 + 2, 20, 24);
+		assertGlyph(textData.getGlyph('A'), 0, 64 + 2, 0 + 3, 10, 12);
+		assertGlyph(textData.getGlyph('B'), 1, 64 + 4, 32 + 5, 8, 12);
+	}
+
+	@Test
+	public void testSharedTexturePages () {
+		BitmapFontData textData = newData("text.fnt", TEXT);
+		BitmapFont text = BitmapFontPacker.newFont(newAtlas(), textData, "text");
+		BitmapFontCache cache = text.newFontCache();
+		cache.addText("AB", 0, 0);
+		// Both pages are in the same texture, so all glyphs are in the vertex data of the first page.
+		assertEquals(2 * 20, cache.getVertexCount(0));
+		assertEquals(0, cache.getVertexCount(1));
+	}
+
+	@Test
+	public void testMissingRegion () {
+		TextureAtlas atlas = new TextureAtlas();
+		atlas.addRegion("text_0", new TestTexture(), 0, 0, 32, 32);
+		try {
+			BitmapFontPacker.getRegions(atlas, newData("text.fnt", TEXT), "text");
+			fail();
+		} catch (GdxRuntimeException ignored) {
+		}
+	}
+
+	static private void assertGlyph (Glyph glyph, int page, int x, int y, int width, int height) {
+		assertEquals(page, glyph.page);
+		assertEquals(x / (float)SIZE, glyph.u, 0.0001f);
+		assertEquals((x + width) / (float)SIZE, glyph.u2, 0.0001f);
+		assertEquals(y / (float)SIZE, glyph.v, 0.0001f);
+		assertEquals((y + height) / (float)SIZE, glyph.v2, 0.0001f);
+	}
+
+	/** Font data read from a string, flipped so glyph v coordinates increase downward like the page image. */
+	static private BitmapFontData newData (String path, final String fnt) {
+		return new BitmapFontData(new FileHandle(path) {
+			public InputStream read () {
+				return new ByteArrayInputStream(fnt.getBytes());
+			}
+		}, true);
+	}
+
+	/** An atlas page texture that is never uploaded, so no GL context is needed. */
+	static private class TestTexture extends Texture {
+		TestTexture () {
+			super(GL20.GL_TEXTURE_2D, 0, new GLOnlyTextureData(SIZE, SIZE, 0, GL20.GL_RGBA, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE));
+		}
+
+		public void load (TextureData data) {
+		}
+
+		public int getWidth () {
+			return SIZE;
+		}
+
+		public int getHeight () {
+			return SIZE;
+		}
+	}
+}
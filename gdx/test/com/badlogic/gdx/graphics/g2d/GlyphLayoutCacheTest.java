@@ -0,0 +1,105 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Colors;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+
+public class GlyphLayoutCacheTest {
+	/** The default font without textures, the glyph regions aren't needed for layout. */
+	final BitmapFont font = new BitmapFont(new BitmapFontData(new FileHandle("com/badlogic/gdx/utils/arial-15.fnt",
+		FileType.Classpath) {
+	}, false), Array.with(new TextureRegion()), true) {
+		protected void load (BitmapFontData data) {
+		}
+	};
+
+	@Test
+	public void testReuse () {
+		GlyphLayoutCache cache = new GlyphLayoutCache(4);
+		GlyphLayout layout = cache.get(font, "Score: 10", Color.WHITE, 0, Align.left, false);
+		assertEquals("Score: 10".length(), layout.runs.first().glyphs.size);
+		// Equal text in a different instance is found.
+		assertSame(layout, cache.get(font, new StringBuilder("Score: 10"), Color.WHITE, 0, Align.left, false));
+		assertEquals(1, cache.getSize());
+
+		// Any other parameter is a different layout.
+		assertNotSame(layout, cache.get(font, "Score: 10", Color.RED, 0, Align.left, false));
+		assertNotSame(layout, cache.get(font, "Score: 10", Color.WHITE, 100, Align.left, true));
+		assertNotSame(layout, cache.get(font, "Score: 100", Color.WHITE, 0, Align.left, false));
+		assertEquals(4, cache.getSize());
+		assertSame(layout, cache.get(font, "Score: 10", Color.WHITE, 0, Align.left, false));
+
+		// A copy is independent of the cached layout.
+		GlyphLayout copy = new GlyphLayout();
+		cache.setText(copy, font, "Score: 10", Color.WHITE, 0, Align.left, false);
+		assertNotSame(layout, copy);
+		assertEquals(layout.width, copy.width, 0);
+		assertEquals(layout.runs.first().glyphs.size, copy.runs.first().glyphs.size);
+	}
+
+	@Test
+	public void testMarkupNotCached () {
+		GlyphLayoutCache cache = new GlyphLayoutCache(4);
+		font.getData().markupEnabled = true;
+		try {
+			Colors.put("SCORE", new Color(Color.RED));
+			GlyphLayout layout = cache.get(font, "[SCORE]10", Color.WHITE, 0, Align.left, false);
+			assertEquals(Color.RED, layout.runs.first().color);
+			assertEquals(0, cache.getSize());
+
+			// The named color changed, the layout must not be stale.
+			Colors.put("SCORE", new Color(Color.GREEN));
+			layout = cache.get(font, "[SCORE]10", Color.WHITE, 0, Align.left, false);
+			assertEquals(Color.GREEN, layout.runs.first().color);
+			assertEquals(0, cache.getSize());
+
+			// Text without brackets is still cached.
+			cache.get(font, "10", Color.WHITE, 0, Align.left, false);
+			assertEquals(1, cache.getSize());
+		} finally {
+			font.getData().markupEnabled = false;
+			Colors.getColors().remove("SCORE");
+		}
+
+		// Without markup the brackets are text.
+		GlyphLayout layout = cache.get(font, "[SCORE]10", Color.WHITE, 0, Align.left, false);
+		assertEquals("[SCORE]10".length(), layout.runs.first().glyphs.size);
+		assertEquals(2, cache.getSize());
+	}
+
+	@Test
+	public void testMaxSize () {
+		GlyphLayoutCache cache = new GlyphLayoutCache(3);
+		cache.get(font, "0");
+		for (int i = 1; i < 100; i++) {
+			cache.get(font, Integer.toString(i));
+			assertEquals(Math.min(i + 1, 3), cache.getSize());
+		}
+		assertEquals(3, cache.getMaxSize());
+
+		// The least recently used layouts were evicted, "0" is laid out again.
+		GlyphLayout layout = cache.get(font, "0");
+		assertEquals(1, layout.runs.first().glyphs.size);
+		assertEquals(3, cache.getSize());
+		assertSame(layout, cache.get(font, "0"));
+
+		// A recently used layout is kept.
+		GlyphLayout kept = cache.get(font, "98");
+		cache.get(font, "a");
+		cache.get(font, "b");
+		assertSame(kept, cache.get(font, "98"));
+
+		cache.clear();
+		assertEquals(0, cache.getSize());
+	}
+}
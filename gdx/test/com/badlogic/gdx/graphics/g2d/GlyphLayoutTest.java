@@ -0,0 +1,81 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
+import com.badlogic.gdx.utils.Array;
+
+public class GlyphLayoutTest {
+	/** The default font without textures, the glyph regions aren't needed for layout. */
+	final BitmapFont font = new BitmapFont(new BitmapFontData(new FileHandle("com/badlogic/gdx/utils/arial-15.fnt",
+		FileType.Classpath) {
+	}, false), Array.with(new TextureRegion()), true) {
+		protected void load (BitmapFontData data) {
+		}
+	};
+
+	@Test
+	public void testGrow () {
+		GlyphLayout layout = new GlyphLayout(font, "Score: 10");
+		layout.setText(font, "Score: 100", Color.WHITE, 9);
+		assertLayout("Score: 100", layout);
+		layout.setText(font, "Score: 1000 points", Color.WHITE, 10);
+		assertLayout("Score: 1000 points", layout);
+	}
+
+	@Test
+	public void testShrink () {
+		GlyphLayout layout = new GlyphLayout(font, "Score: 100");
+		layout.setText(font, "Score: 9", Color.WHITE, 7);
+		assertLayout("Score: 9", layout);
+
+		// An unchanged length past the end of the new text must not keep the glyphs of the previous text.
+		layout.setText(font, "Score", Color.WHITE, 8);
+		assertLayout("Score", layout);
+		layout.setText(font, "", Color.WHITE, 5);
+		assertLayout("", layout);
+	}
+
+	@Test
+	public void testFullLayout () {
+		GlyphLayout layout = new GlyphLayout(font, "Score: 10");
+		// A newline can't be appended to the single run.
+		layout.setText(font, "Score: 10\n20", Color.WHITE, 9);
+		assertLayout("Score: 10\n20", layout);
+		assertEquals(2, layout.runs.size);
+		// The previous layout had a newline, so it can't be reused.
+		layout.setText(font, "Score: 10\n2", Color.WHITE, 11);
+		assertLayout("Score: 10\n2", layout);
+		// Nothing unchanged.
+		layout.setText(font, "Time: 5", Color.WHITE, 0);
+		assertLayout("Time: 5", layout);
+		layout.setText(font, "Time: 6", Color.WHITE, 6);
+		assertLayout("Time: 6", layout);
+	}
+
+	/** Asserts that the layout is the same as a full layout of the text. */
+	private void assertLayout (String text, GlyphLayout actual) {
+		GlyphLayout expected = new GlyphLayout(font, text);
+		assertEquals(expected.width, actual.width, 0);
+		assertEquals(expected.height, actual.height, 0);
+		assertEquals(expected.runs.size, actual.runs.size);
+		for (int i = 0; i < expected.runs.size; i++) {
+			GlyphRun expectedRun = expected.runs.get(i), actualRun = actual.runs.get(i);
+			assertEquals(expectedRun.glyphs.size, actualRun.glyphs.size);
+			for (int ii = 0; ii < expectedRun.glyphs.size; ii++)
+				assertSame(expectedRun.glyphs.get(ii), actualRun.glyphs.get(ii));
+			assertArrayEquals(expectedRun.xAdvances.toArray(), actualRun.xAdvances.toArray(), 0);
+			assertEquals(expectedRun.x, actualRun.x, 0);
+			assertEquals(expectedRun.y, actualRun.y, 0);
+			assertEquals(expectedRun.width, actualRun.width, 0);
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.GLOnlyTextureData;
+
+public class TextureSlotsTest {
+	static private final int VERTEX_SIZE = 2;
+
+	@Test
+	public void testReuse () {
+		TextureSlots slots = new TextureSlots(4);
+		Texture a = new TestTexture(), b = new TestTexture();
+		slots.use(a, 0);
+		slots.use(b, 2);
+		slots.use(a, 4);
+		slots.use(a, 6);
+		assertEquals(2, slots.size);
+		assertEquals(0, slots.indexOf(a));
+		assertEquals(1, slots.indexOf(b));
+		assertEquals(-1, slots.indexOf(new TestTexture()));
+		assertFalse(slots.isFull());
+
+		float[] output = new float[32];
+		int length = slots.expand(new float[] {1, 1, 2, 2, 3, 3, 4, 4}, 8, VERTEX_SIZE, output);
+		assertEquals(12, length);
+		assertArrayEquals(new float[] {1, 1, 0, 2, 2, 1, 3, 3, 0, 4, 4, 0}, copy(output, length), 0);
+	}
+
+	@Test
+	public void testEmptyRange () {
+		TextureSlots slots = new TextureSlots(4);
+		Texture a = new TestTexture(), b = new TestTexture();
+		// No vertices are drawn with a, b takes over the range.
+		slots.use(a, 0);
+		slots.use(b, 0);
+		float[] output = new float[16];
+		int length = slots.expand(new float[] {1, 1, 2, 2}, 4, VERTEX_SIZE, output);
+		assertArrayEquals(new float[] {1, 1, 1, 2, 2, 1}, copy(output, length), 0);
+	}
+
+	@Test
+	public void testFlushWhenFull () {
+		Batch batch = new Batch(new TextureSlots(2));
+		Texture a = new TestTexture(), b = new TestTexture(), c = new TestTexture();
+		batch.draw(a);
+		batch.draw(b);
+		batch.draw(a);
+		batch.draw(b);
+		assertEquals(0, batch.flushes);
+		assertTrue(batch.slots.isFull());
+
+		batch.draw(c);
+		assertEquals(1, batch.flushes);
+		assertEquals(1, batch.slots.size);
+		assertEquals(0, batch.slots.indexOf(c));
+		assertEquals(-1, batch.slots.indexOf(a));
+
+		batch.draw(a);
+		batch.draw(c);
+		assertEquals(1, batch.flushes);
+		batch.draw(b);
+		assertEquals(2, batch.flushes);
+		assertEquals(0, batch.slots.indexOf(b));
+	}
+
+	@Test
+	public void testReset () {
+		TextureSlots slots = new TextureSlots(2);
+		Texture a = new TestTexture(), b = new TestTexture();
+		slots.use(a, 0);
+		slots.use(b, 2);
+		slots.reset(b);
+		assertEquals(1, slots.size);
+		assertSame(b, slots.textures[0]);
+		float[] output = new float[8];
+		int length = slots.expand(new float[] {1, 1}, 2, VERTEX_SIZE, output);
+		assertArrayEquals(new float[] {1, 1, 0}, copy(output, length), 0);
+
+		slots.reset(null);
+		assertEquals(0, slots.size);
+		assertEquals(-1, slots.indexOf(b));
+	}
+
+	static private float[] copy (float[] array, int length) {
+		float[] result = new float[length];
+		System.arraycopy(array, 0, result, 0, length);
+		return result;
+	}
+
+	/** Applies the same flush rule as {@link MultiTextureSpriteBatch}, one vertex per draw. */
+	static private class Batch {
+		final TextureSlots slots;
+		int idx, flushes;
+
+		Batch (TextureSlots slots) {
+			this.slots = slots;
+		}
+
+		void draw (Texture texture) {
+			if (slots.isFull() && slots.indexOf(texture) == -1) {
+				flushes++;
+				idx = 0;
+				slots.reset(null);
+			}
+			slots.use(texture, idx);
+			idx += VERTEX_SIZE;
+		}
+	}
+
+	/** A texture that is never uploaded, so no GL context is needed. */
+	static private class TestTexture extends Texture {
+		TestTexture () {
+			super(GL20.GL_TEXTURE_2D, 0, new GLOnlyTextureData(1, 1, 0, GL20.GL_RGBA, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE));
+		}
+
+		public void load (TextureData data) {
+		}
+	}
+}
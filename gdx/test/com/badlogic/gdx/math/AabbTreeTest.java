@@ -0,0 +1,207 @@
+
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.math.collision.Ray;
+import com.badlogic.gdx.utils.IntArray;
+
+public class AabbTreeTest {
+	static final int count = 2000;
+	final Random random = new Random(1);
+	final float[] boxes = new float[count * 6];
+	final int[] proxies = new int[count];
+	final boolean[] alive = new boolean[count];
+
+	void randomBox (int i, int dimensions) {
+		for (int d = 0; d < dimensions; d++) {
+			float min = random.nextFloat() * 100, size = random.nextFloat() * 3;
+			boxes[i * dimensions * 2 + d] = min;
+			boxes[i * dimensions * 2 + dimensions + d] = min + size;
+		}
+	}
+
+	/** Returns the sorted indices of the live boxes overlapping the query box, grown by the margin. */
+	IntArray bruteForce (float[] query, int dimensions, float margin) {
+		IntArray result = new IntArray();
+		for (int i = 0; i < count; i++) {
+			if (!alive[i]) continue;
+			boolean overlaps = true;
+			for (int d = 0; d < dimensions; d++) {
+				int offset = i * dimensions * 2;
+				if (boxes[offset + d] - margin > query[dimensions + d] || query[d] > boxes[offset + dimensions + d] + margin)
+					overlaps = false;
+			}
+			if (overlaps) result.add(i);
+		}
+		return result;
+	}
+
+	/** Converts the proxy ids to box indices and sorts them. */
+	IntArray toIndices (AabbTree tree, IntArray result) {
+		for (int i = 0; i < result.size; i++)
+			result.items[i] = (Integer)tree.getUserData(result.items[i]);
+		result.sort();
+		return result;
+	}
+
+	@Test
+	public void testTree2 () {
+		AabbTree2 tree = new AabbTree2(0.5f);
+		for (int i = 0; i < count; i++) {
+			randomBox(i, 2);
+			proxies[i] = tree.createProxy(boxes[i * 4], boxes[i * 4 + 1], boxes[i * 4 + 2], boxes[i * 4 + 3], i);
+			alive[i] = true;
+		}
+		tree.validate();
+		assertTrue(tree.getHeight() < 32);
+
+		for (int iteration = 0; iteration < 3; iteration++) {
+			// Move, destroy and recreate some proxies.
+			for (int i = 0; i < count; i += 3) {
+				if (alive[i] && random.nextInt(10) == 0) {
+					tree.destroyProxy(proxies[i]);
+					alive[i] = false;
+					continue;
+				}
+				randomBox(i, 2);
+				if (alive[i])
+					tree.moveProxy(proxies[i], boxes[i * 4], boxes[i * 4 + 1], boxes[i * 4 + 2], boxes[i * 4 + 3]);
+				else {
+					proxies[i] = tree.createProxy(boxes[i * 4], boxes[i * 4 + 1], boxes[i * 4 + 2], boxes[i * 4 + 3], i);
+					alive[i] = true;
+				}
+			}
+			tree.rebalance(100);
+			tree.validate();
+
+			for (int q = 0; q < 50; q++) {
+				float x = random.nextFloat() * 100, y = random.nextFloat() * 100;
+				float[] query = {x, y, x + random.nextFloat() * 20, y + random.nextFloat() * 20};
+				IntArray result = new IntArray();
+				tree.query(query[0], query[1], query[2], query[3], result);
+				IntArray expected = bruteForce(query, 2, 0.5f);
+				// The fat boxes are at least the boxes grown by the margin.
+				toIndices(tree, result);
+				for (int i = 0; i < expected.size; i++)
+					assertTrue(result.contains(expected.get(i)));
+				for (int i = 0; i < result.size; i++)
+					assertTrue(AabbTree.overlaps(tree.bounds, proxies[result.get(i)] * 4, query, 0, 2));
+			}
+		}
+
+		// Compare the pairs against all pairs of fat boxes.
+		IntArray pairs = new IntArray();
+		int pairCount = tree.getPairs(pairs);
+		assertEquals(pairs.size / 2, pairCount);
+		float[] fat = new float[count * 4];
+		for (int i = 0; i < count; i++)
+			if (alive[i]) System.arraycopy(tree.bounds, proxies[i] * 4, fat, i * 4, 4);
+		int expected = 0;
+		for (int i = 0; i < count; i++) {
+			if (!alive[i]) continue;
+			for (int j = i + 1; j < count; j++)
+				if (alive[j] && AabbTree.overlaps(fat, i * 4, fat, j * 4, 2)) expected++;
+		}
+		assertEquals(expected, pairCount);
+
+		// After reading the moved pairs, moving a single proxy only reports its own pairs.
+		tree.getMovedPairs(new IntArray());
+		int moving = 0;
+		while (!alive[moving])
+			moving++;
+		tree.updateProxy(proxies[moving], 50, 50, 60, 60);
+		IntArray moved = new IntArray();
+		tree.getMovedPairs(moved);
+		IntArray overlapping = new IntArray();
+		tree.query(50 - 0.5f, 50 - 0.5f, 60 + 0.5f, 60 + 0.5f, overlapping);
+		assertEquals(overlapping.size - 1, moved.size / 2);
+		for (int i = 0; i < moved.size; i++)
+			if (i % 2 == 0) assertEquals(proxies[moving], moved.get(i));
+		assertEquals(0, tree.getMovedPairs(moved));
+
+		// Ray casts.
+		for (int q = 0; q < 50; q++) {
+			float x1 = random.nextFloat() * 100, y1 = random.nextFloat() * 100;
+			float x2 = random.nextFloat() * 100, y2 = random.nextFloat() * 100;
+			IntArray result = new IntArray();
+			tree.rayCast(x1, y1, x2, y2, result);
+			int hits = 0;
+			float[] ray = {x1, y1, x2 - x1, y2 - y1};
+			for (int i = 0; i < count; i++)
+				if (alive[i] && AabbTree.intersectsRay(tree.bounds, proxies[i] * 4, ray, 2, 1)) hits++;
+			assertEquals(hits, result.size);
+		}
+
+		tree.clear();
+		assertEquals(0, tree.getProxyCount());
+		tree.validate();
+	}
+
+	@Test
+	public void testTree3 () {
+		AabbTree3 tree = new AabbTree3();
+		for (int i = 0; i < count; i++) {
+			randomBox(i, 3);
+			proxies[i] = tree.createProxy(boxes[i * 6], boxes[i * 6 + 1], boxes[i * 6 + 2], boxes[i * 6 + 3], boxes[i * 6 + 4],
+				boxes[i * 6 + 5], i);
+			alive[i] = true;
+		}
+		tree.validate();
+		BoundingBox box = new BoundingBox();
+		tree.getFatBounds(proxies[0], box);
+		assertEquals(boxes[3], box.max.x, 0);
+
+		for (int q = 0; q < 50; q++) {
+			float x = random.nextFloat() * 100, y = random.nextFloat() * 100, z = random.nextFloat() * 100;
+			float[] query = {x, y, z, x + 10, y + 10, z + 10};
+			IntArray result = new IntArray();
+			tree.query(box.set(new Vector3(x, y, z), new Vector3(x + 10, y + 10, z + 10)), result);
+			assertEquals(bruteForce(query, 3, 0), toIndices(tree, result));
+		}
+
+		// The frustum query must match the per box test.
+		Frustum frustum = FrustumTest.boxFrustum();
+		for (Plane plane : frustum.planes)
+			plane.d += 40;
+		IntArray result = new IntArray();
+		tree.query(frustum, result);
+		IntArray expected = new IntArray();
+		for (int i = 0; i < count; i++) {
+			int o = i * 6;
+			float hx = (boxes[o + 3] - boxes[o]) / 2, hy = (boxes[o + 4] - boxes[o + 1]) / 2, hz = (boxes[o + 5] - boxes[o + 2]) / 2;
+			if (frustum.boundsInFrustum(boxes[o] + hx, boxes[o + 1] + hy, boxes[o + 2] + hz, hx, hy, hz)) expected.add(i);
+		}
+		assertEquals(expected, toIndices(tree, result));
+
+		// The closest hit of a ray cast.
+		Ray ray = new Ray(new Vector3(-10, 50, 50), new Vector3(1, 0.1f, 0.05f).nor());
+		final float[] closest = {Float.MAX_VALUE};
+		final AabbTree3 treeRef = tree;
+		final Ray rayRef = ray;
+		tree.rayCast(ray, 200, new AabbTree.RayCastCallback() {
+			public float reportRayCast (int proxy, float maxFraction) {
+				BoundingBox b = treeRef.getFatBounds(proxy, new BoundingBox());
+				Vector3 hit = new Vector3();
+				if (!Intersector.intersectRayBounds(rayRef, b, hit)) return maxFraction;
+				float distance = hit.dst(rayRef.origin);
+				closest[0] = Math.min(closest[0], distance);
+				return Math.min(distance, maxFraction);
+			}
+		});
+		float expectedClosest = Float.MAX_VALUE;
+		for (int i = 0; i < count; i++) {
+			Vector3 hit = new Vector3();
+			BoundingBox b = tree.getFatBounds(proxies[i], new BoundingBox());
+			if (Intersector.intersectRayBounds(ray, b, hit) && hit.dst(ray.origin) <= 200)
+				expectedClosest = Math.min(expectedClosest, hit.dst(ray.origin));
+		}
+		assertEquals(expectedClosest, closest[0], 0.001f);
+	}
+}
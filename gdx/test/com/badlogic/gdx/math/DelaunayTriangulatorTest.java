@@ -0,0 +1,87 @@
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ShortArray;
+
+public class DelaunayTriangulatorTest {
+	final Random random = new Random(1);
+
+	float[] randomPoints (int count, int grid) {
+		float[] points = new float[count * 2];
+		for (int i = 0; i < points.length; i++)
+			points[i] = random.nextInt(grid) / 10f;
+		return points;
+	}
+
+	/** Asserts no triangle is counterclockwise and no point is inside the circumcircle of any triangle.
+	 * @return the area of the triangles. */
+	float assertDelaunay (float[] points, int offset, ShortArray triangles) {
+		float area = 0;
+		for (int i = 0; i < triangles.size; i += 3) {
+			int a = offset + triangles.get(i) * 2, b = offset + triangles.get(i + 1) * 2, c = offset + triangles.get(i + 2) * 2;
+			double cross = (points[b] - points[a]) * (double)(points[c + 1] - points[a + 1])
+				- (points[c] - points[a]) * (double)(points[b + 1] - points[a + 1]);
+			assertTrue("Triangle is counterclockwise", cross <= 0);
+			for (int p = offset; p < points.length; p += 2) {
+				double ax = points[a] - points[p], ay = points[a + 1] - points[p + 1];
+				double bx = points[b] - points[p], by = points[b + 1] - points[p + 1];
+				double cx = points[c] - points[p], cy = points[c + 1] - points[p + 1];
+				double det = (ax * ax + ay * ay) * (bx * cy - cx * by) - (bx * bx + by * by) * (ax * cy - cx * ay)
+					+ (cx * cx + cy * cy) * (ax * by - bx * ay);
+				assertTrue("Point inside circumcircle", det > -1e-3);
+			}
+			area += Math.abs(cross) / 2;
+		}
+		return area;
+	}
+
+	@Test
+	public void testSweep () {
+		DelaunayTriangulator triangulator = new DelaunayTriangulator();
+		for (int i = 0; i < 30; i++) {
+			float[] points = randomPoints(3 + random.nextInt(150), 100000);
+			float area = assertDelaunay(points, 0, triangulator.computeTrianglesSweep(points, 0, points.length));
+			// The triangles cover the convex hull.
+			FloatArray hull = new ConvexHull().computePolygon(points, false);
+			float hullArea = Math.abs(GeometryUtils.polygonArea(hull.items, 0, hull.size));
+			assertEquals(hullArea, area, hullArea * 0.001f);
+		}
+	}
+
+	@Test
+	public void testDuplicates () {
+		DelaunayTriangulator triangulator = new DelaunayTriangulator();
+		ShortArray triangles = new ShortArray();
+		for (int i = 0; i < 30; i++) {
+			float[] points = randomPoints(3 + random.nextInt(300), 50);
+			triangulator.computeTrianglesSweep(points, 0, points.length, triangles);
+			assertDelaunay(points, 0, triangles);
+		}
+	}
+
+	@Test
+	public void testDegenerate () {
+		DelaunayTriangulator triangulator = new DelaunayTriangulator();
+		assertEquals(0, triangulator.computeTrianglesSweep(new float[] {0, 0, 1, 1, 2, 2, 3, 3}, 0, 8).size);
+		assertEquals(0, triangulator.computeTrianglesSweep(new float[] {1, 1, 1, 1, 1, 1}, 0, 6).size);
+		assertEquals(0, triangulator.computeTrianglesSweep(new float[] {1, 1, 2, 2}, 0, 4).size);
+	}
+
+	@Test
+	public void testOffset () {
+		DelaunayTriangulator triangulator = new DelaunayTriangulator();
+		FloatArray points = new FloatArray(new float[] {99, 99, 0, 0, 10, 0, 10, 10, 0, 10, 3, 4});
+		ShortArray triangles = triangulator.computeTrianglesSweep(points.items, 2, points.size - 2);
+		assertEquals(4 * 3, triangles.size);
+		for (int i = 0; i < triangles.size; i++)
+			assertTrue(triangles.get(i) >= 0 && triangles.get(i) < 5);
+		assertEquals(100, assertDelaunay(points.items, 2, triangles), 0.001f);
+	}
+}
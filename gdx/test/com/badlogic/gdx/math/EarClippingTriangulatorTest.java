@@ -0,0 +1,101 @@
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ShortArray;
+
+public class EarClippingTriangulatorTest {
+	final Random random = new Random(1);
+
+	/** Adds a star shaped ring of vertices around the center, counterclockwise if ccw is true. */
+	void addRing (FloatArray vertices, float x, float y, float minRadius, float maxRadius, int count, boolean ccw) {
+		for (int i = 0; i < count; i++) {
+			float angle = MathUtils.PI2 * i / count * (ccw ? 1 : -1);
+			float radius = minRadius + random.nextFloat() * (maxRadius - minRadius);
+			vertices.add(x + MathUtils.cos(angle) * radius);
+			vertices.add(y + MathUtils.sin(angle) * radius);
+		}
+	}
+
+	/** Asserts all triangles are clockwise and the sum of their areas is the expected area. */
+	void assertTriangles (float[] vertices, ShortArray triangles, float area) {
+		float sum = 0;
+		for (int i = 0; i < triangles.size; i += 3) {
+			int p1 = triangles.get(i) * 2, p2 = triangles.get(i + 1) * 2, p3 = triangles.get(i + 2) * 2;
+			float triangleArea = GeometryUtils.triangleArea(vertices[p1], vertices[p1 + 1], vertices[p2], vertices[p2 + 1],
+				vertices[p3], vertices[p3 + 1]);
+			float cross = (vertices[p2] - vertices[p1]) * (vertices[p3 + 1] - vertices[p1 + 1])
+				- (vertices[p3] - vertices[p1]) * (vertices[p2 + 1] - vertices[p1 + 1]);
+			assertTrue("Triangle is not clockwise", cross <= 0);
+			sum += triangleArea;
+		}
+		assertEquals(area, sum, area * 0.001f);
+	}
+
+	@Test
+	public void testMatchesSimple () {
+		EarClippingTriangulator triangulator = new EarClippingTriangulator();
+		for (int i = 0; i < 50; i++) {
+			FloatArray vertices = new FloatArray();
+			addRing(vertices, 0, 0, 50, 90, 3 + random.nextInt(40), i % 2 == 0);
+			float area = Math.abs(GeometryUtils.polygonArea(vertices.items, 0, vertices.size));
+			ShortArray simple = new ShortArray(triangulator.computeTriangles(vertices));
+			ShortArray linked = triangulator.computeTriangles(vertices, null);
+			assertEquals(simple.size, linked.size);
+			assertTriangles(vertices.items, linked, area);
+		}
+	}
+
+	@Test
+	public void testLarge () {
+		EarClippingTriangulator triangulator = new EarClippingTriangulator();
+		FloatArray vertices = new FloatArray();
+		addRing(vertices, 0, 0, 50, 90, 5000, false);
+		float area = Math.abs(GeometryUtils.polygonArea(vertices.items, 0, vertices.size));
+		ShortArray triangles = triangulator.computeTriangles(vertices, null);
+		assertEquals((5000 - 2) * 3, triangles.size);
+		assertTriangles(vertices.items, triangles, area);
+	}
+
+	@Test
+	public void testHoles () {
+		EarClippingTriangulator triangulator = new EarClippingTriangulator();
+		ShortArray triangles = new ShortArray();
+		for (int i = 0; i < 20; i++) {
+			FloatArray vertices = new FloatArray();
+			IntArray holeIndices = new IntArray();
+			addRing(vertices, 0, 0, 50, 90, 10 + random.nextInt(200), i % 2 == 0);
+			float area = Math.abs(GeometryUtils.polygonArea(vertices.items, 0, vertices.size));
+			int holes = 1 + i % 3;
+			for (int h = 0; h < holes; h++) {
+				int start = vertices.size;
+				holeIndices.add(start / 2);
+				addRing(vertices, -25 + h * 20, h % 2 * 10, 3, 6, 3 + random.nextInt(10), h % 2 == 0);
+				area -= Math.abs(GeometryUtils.polygonArea(vertices.items, start, vertices.size - start));
+			}
+			assertEquals(triangles, triangulator.computeTriangles(vertices.items, 0, vertices.size, holeIndices, triangles));
+			// Each hole adds two bridge vertices.
+			assertEquals((vertices.size / 2 + holes * 2 - 2) * 3, triangles.size);
+			assertTriangles(vertices.items, triangles, area);
+		}
+	}
+
+	@Test
+	public void testOffset () {
+		EarClippingTriangulator triangulator = new EarClippingTriangulator();
+		float[] vertices = {99, 99, 0, 0, 10, 0, 10, 10, 0, 10, 4, 4, 6, 4, 6, 6, 4, 6};
+		IntArray holeIndices = new IntArray(new int[] {4});
+		ShortArray triangles = triangulator.computeTriangles(vertices, 2, 16, holeIndices);
+		assertEquals(8 * 3, triangles.size);
+		for (int i = 0; i < triangles.size; i++)
+			assertTrue(triangles.get(i) >= 1 && triangles.get(i) <= 8);
+		assertTriangles(vertices, triangles, 96);
+	}
+}
@@ -0,0 +1,111 @@
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class FastMathTest {
+	final Random random = new Random(1);
+	final FastMath math = new FastMath(10);
+
+	static void assertRelative (double expected, float actual, double epsilon) {
+		assertEquals(expected, actual, Math.abs(expected) * epsilon);
+	}
+
+	@Test
+	public void testSinCos () {
+		for (int i = 0; i < 10000; i++) {
+			float radians = (random.nextFloat() - 0.5f) * 200;
+			assertEquals(Math.sin(radians), math.sin(radians), 0.00002f);
+			assertEquals(Math.cos(radians), math.cos(radians), 0.00002f);
+			float degrees = radians * MathUtils.radDeg;
+			assertEquals(Math.sin(Math.toRadians(degrees)), math.sinDeg(degrees), 0.00002f);
+			assertEquals(Math.cos(Math.toRadians(degrees)), math.cosDeg(degrees), 0.00002f);
+		}
+		assertEquals(0, math.sin(0), 0);
+		assertEquals(1, math.sinDeg(90), 0);
+		assertEquals(-1, math.cosDeg(-180), 0);
+	}
+
+	@Test
+	public void testExpLog () {
+		for (int i = 0; i < 10000; i++) {
+			float x = (random.nextFloat() - 0.5f) * 100;
+			assertRelative(Math.exp(x), math.exp(x), 0.00001);
+			assertRelative(Math.pow(2, x), math.exp2(x), 0.000002);
+			float positive = random.nextFloat() * 1000 + 0.0001f;
+			assertEquals(Math.log(positive), math.log(positive), 0.00001f);
+			assertEquals(Math.log(positive) / Math.log(2), math.log2(positive), 0.00001f);
+			float exponent = (random.nextFloat() - 0.5f) * 6;
+			assertRelative(Math.pow(positive, exponent), math.pow(positive, exponent), 0.00005);
+		}
+		assertEquals(1, math.exp2(0), 0);
+		assertEquals(1, math.exp2(-1e-9f), 0.000001f);
+		assertEquals(8, math.exp2(3), 0);
+		assertEquals(0.25f, math.exp2(-2), 0);
+		assertEquals(Float.POSITIVE_INFINITY, math.exp2(200), 0);
+		assertEquals(0, math.exp2(-200), 0);
+		assertEquals(10, math.log2(1024), 0);
+		assertEquals(Float.NEGATIVE_INFINITY, math.log2(0), 0);
+		assertTrue(Float.isNaN(math.log2(-1)));
+		assertTrue(Float.isNaN(math.exp(Float.NaN)));
+		assertEquals(1, math.pow(0, 0), 0);
+		assertEquals(0, math.pow(0, 2), 0);
+	}
+
+	@Test
+	public void testInvSqrt () {
+		for (int i = 0; i < 10000; i++) {
+			float x = random.nextFloat() * 10000 + 1e-6f;
+			assertRelative(1 / Math.sqrt(x), math.invSqrt(x), 0.000001);
+		}
+		assertEquals(0.5f, math.invSqrt(4), 0);
+		assertEquals(Float.POSITIVE_INFINITY, math.invSqrt(0), 0);
+		assertEquals(0, math.invSqrt(Float.POSITIVE_INFINITY), 0);
+		assertTrue(Float.isNaN(math.invSqrt(-1)));
+		assertRelative(1 / Math.sqrt(1e-40f), math.invSqrt(1e-40f), 0.000001);
+	}
+
+	@Test
+	public void testAcos () {
+		for (int i = 0; i <= 1000; i++) {
+			float x = i / 500f - 1;
+			assertEquals(Math.acos(x), FastMath.acos(x), 0.0001f);
+			assertEquals(Math.asin(x), FastMath.asin(x), 0.0001f);
+		}
+	}
+
+	@Test
+	public void testArrays () {
+		float[] values = new float[100], result = new float[103];
+		for (int i = 0; i < values.length; i++)
+			values[i] = random.nextFloat() * 10;
+		math.sin(values, 0, result, 3, 100);
+		for (int i = 0; i < 100; i++)
+			assertEquals(math.sin(values[i]), result[i + 3], 0);
+		math.cos(values, 0, result, 3, 100);
+		for (int i = 0; i < 100; i++)
+			assertEquals(math.cos(values[i]), result[i + 3], 0);
+		math.exp(values, 0, result, 3, 100);
+		for (int i = 0; i < 100; i++)
+			assertEquals(math.exp(values[i]), result[i + 3], 0);
+		float[] copy = values.clone();
+		math.invSqrt(copy, 0, copy, 0, 100);
+		for (int i = 0; i < 100; i++)
+			assertEquals(math.invSqrt(values[i]), copy[i], 0);
+
+		float[] x = {3, 0, 1, 5}, y = {4, 0, 2, 0}, z = {0, 0, 2, 0};
+		math.nor(x, y, z, 0, 4);
+		assertEquals(0.6f, x[0], 0.000001f);
+		assertEquals(0.8f, y[0], 0.000001f);
+		assertEquals(0, x[1], 0);
+		assertEquals(1 / 3f, x[2], 0.000001f);
+		assertEquals(2 / 3f, z[2], 0.000001f);
+		assertEquals(1, x[3], 0.000001f);
+		math.nor(x, y, 0, 1);
+		assertEquals(0.6f, x[0], 0.000001f);
+	}
+}
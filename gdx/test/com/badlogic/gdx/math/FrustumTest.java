@@ -0,0 +1,148 @@
+
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class FrustumTest {
+	static final int count = 20000, offset = 10;
+	final float[] x = new float[offset + count], y = new float[offset + count], z = new float[offset + count];
+	final float[] radius = new float[offset + count];
+	final float[] halfWidth = new float[offset + count], halfHeight = new float[offset + count],
+		halfDepth = new float[offset + count];
+
+	/** Returns a frustum with the shape of a box, the planes don't depend on the native matrix methods. */
+	static Frustum boxFrustum () {
+		Frustum frustum = new Frustum();
+		frustum.planes[0].set(0, 0, 1, 10);
+		frustum.planes[1].set(0, 0, -1, 10);
+		frustum.planes[2].set(1, 0, 0, 10);
+		frustum.planes[3].set(-1, 0, 0, 10);
+		frustum.planes[4].set(0, -1, 0, 10);
+		frustum.planes[5].set(0, 1, 0, 10);
+		return frustum;
+	}
+
+	void randomize (long seed) {
+		Random random = new Random(seed);
+		for (int i = 0; i < x.length; i++) {
+			x[i] = random.nextFloat() * 40 - 20;
+			y[i] = random.nextFloat() * 40 - 20;
+			z[i] = random.nextFloat() * 40 - 20;
+			radius[i] = random.nextFloat() * 3;
+			halfWidth[i] = random.nextFloat() * 3;
+			halfHeight[i] = random.nextFloat() * 3;
+			halfDepth[i] = random.nextFloat() * 3;
+		}
+	}
+
+	@Test
+	public void testSpheres () {
+		Frustum frustum = boxFrustum();
+		randomize(1);
+		Bits bits = new Bits();
+		bits.set(offset - 1);
+		int[] indices = new int[count];
+		byte[] lastPlanes = new byte[offset + count];
+		int expected = 0;
+		for (int i = offset; i < offset + count; i++)
+			if (frustum.sphereInFrustum(x[i], y[i], z[i], radius[i])) expected++;
+
+		assertEquals(expected, frustum.spheresInFrustum(x, y, z, radius, offset, count, bits));
+		assertEquals(expected, frustum.spheresInFrustum(x, y, z, radius, offset, count, indices));
+		int index = 0;
+		for (int i = offset; i < offset + count; i++) {
+			boolean visible = frustum.sphereInFrustum(x[i], y[i], z[i], radius[i]);
+			assertEquals(visible, bits.get(i));
+			if (visible) assertEquals(i, indices[index++]);
+		}
+		assertEquals(true, bits.get(offset - 1));
+
+		// Move the spheres, the planes stored for coherency must not change the results.
+		assertEquals(expected, frustum.spheresInFrustum(x, y, z, radius, offset, count, bits, lastPlanes));
+		randomize(2);
+		expected = 0;
+		for (int i = offset; i < offset + count; i++)
+			if (frustum.sphereInFrustum(x[i], y[i], z[i], radius[i])) expected++;
+		assertEquals(expected, frustum.spheresInFrustum(x, y, z, radius, offset, count, bits, lastPlanes));
+		for (int i = offset; i < offset + count; i++)
+			assertEquals(frustum.sphereInFrustum(x[i], y[i], z[i], radius[i]), bits.get(i));
+
+		AsyncExecutor executor = new AsyncExecutor(4);
+		Bits threaded = new Bits();
+		assertEquals(expected, frustum.spheresInFrustum(x, y, z, radius, offset, count, threaded, lastPlanes, executor));
+		executor.dispose();
+		for (int i = offset; i < offset + count; i++)
+			assertEquals(bits.get(i), threaded.get(i));
+	}
+
+	@Test
+	public void testBounds () {
+		Frustum frustum = boxFrustum();
+		randomize(3);
+		Bits bits = new Bits();
+		int[] indices = new int[count];
+		byte[] lastPlanes = new byte[offset + count];
+		int expected = 0;
+		for (int i = offset; i < offset + count; i++)
+			if (frustum.boundsInFrustum(x[i], y[i], z[i], halfWidth[i], halfHeight[i], halfDepth[i])) expected++;
+
+		assertEquals(expected, frustum.boundsInFrustum(x, y, z, halfWidth, halfHeight, halfDepth, offset, count, bits));
+		assertEquals(expected, frustum.boundsInFrustum(x, y, z, halfWidth, halfHeight, halfDepth, offset, count, indices));
+		assertEquals(expected,
+			frustum.boundsInFrustum(x, y, z, halfWidth, halfHeight, halfDepth, offset, count, bits, lastPlanes));
+		int index = 0;
+		for (int i = offset; i < offset + count; i++) {
+			boolean visible = frustum.boundsInFrustum(x[i], y[i], z[i], halfWidth[i], halfHeight[i], halfDepth[i]);
+			assertEquals(visible, bits.get(i));
+			if (visible) assertEquals(i, indices[index++]);
+		}
+
+		AsyncExecutor executor = new AsyncExecutor(4);
+		Bits threaded = new Bits();
+		assertEquals(expected,
+			frustum.boundsInFrustum(x, y, z, halfWidth, halfHeight, halfDepth, offset, count, threaded, null, executor));
+		executor.dispose();
+		for (int i = offset; i < offset + count; i++)
+			assertEquals(bits.get(i), threaded.get(i));
+	}
+
+	@Test
+	public void testFailedChunk () {
+		Frustum frustum = boxFrustum();
+		randomize(4);
+		int expected = 0;
+		for (int i = offset; i < offset + count; i++)
+			if (frustum.sphereInFrustum(x[i], y[i], z[i], radius[i])) expected++;
+
+		AsyncExecutor executor = new AsyncExecutor(4);
+		try {
+			// The radius array is too short for the last chunk, which fails while the other chunks succeed.
+			float[] shortRadius = new float[offset + count - 100];
+			System.arraycopy(radius, 0, shortRadius, 0, shortRadius.length);
+			try {
+				frustum.spheresInFrustum(x, y, z, shortRadius, offset, count, new Bits(), null, executor);
+				fail();
+			} catch (GdxRuntimeException ex) {
+				assertTrue(ex.getCause() instanceof ArrayIndexOutOfBoundsException);
+			}
+
+			// The failed call must not affect the next one.
+			Bits bits = new Bits();
+			assertEquals(expected, frustum.spheresInFrustum(x, y, z, radius, offset, count, bits, null, executor));
+			for (int i = offset; i < offset + count; i++)
+				assertEquals(frustum.sphereInFrustum(x[i], y[i], z[i], radius[i]), bits.get(i));
+		} finally {
+			executor.dispose();
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class Matrix4Test {
+	final Random random = new Random(1);
+
+	Matrix4 randomMatrix () {
+		Matrix4 matrix = new Matrix4();
+		for (int i = 0; i < 16; i++)
+			matrix.val[i] = random.nextFloat() * 4 - 2;
+		return matrix;
+	}
+
+	/** Straightforward column major multiplication to check the unrolled version against. */
+	static float[] multiply (float[] a, float[] b) {
+		float[] result = new float[16];
+		for (int row = 0; row < 4; row++)
+			for (int column = 0; column < 4; column++)
+				for (int i = 0; i < 4; i++)
+					result[column * 4 + row] += a[i * 4 + row] * b[column * 4 + i];
+		return result;
+	}
+
+	static void assertMatrix (float[] expected, float[] actual, int offset, float epsilon) {
+		for (int i = 0; i < 16; i++)
+			assertEquals(expected[i], actual[offset + i], epsilon);
+	}
+
+	static void assertVector (Vector3 expected, float[] actual, int offset) {
+		assertEquals(expected.x, actual[offset], 0.0001f);
+		assertEquals(expected.y, actual[offset + 1], 0.0001f);
+		assertEquals(expected.z, actual[offset + 2], 0.0001f);
+	}
+
+	@Test
+	public void testMul () {
+		for (int i = 0; i < 100; i++) {
+			Matrix4 a = randomMatrix(), b = randomMatrix();
+			float[] expected = multiply(a.val, b.val);
+			float[] values = new float[40];
+			System.arraycopy(a.val, 0, values, 3, 16);
+			System.arraycopy(b.val, 0, values, 21, 16);
+			Matrix4.mul(values, 3, values, 21);
+			assertMatrix(expected, values, 3, 0.0001f);
+			assertMatrix(b.val, values, 21, 0);
+
+			assertMatrix(expected, a.cpy().mul(b).val, 0, 0.0001f);
+			assertMatrix(multiply(b.val, a.val), a.cpy().mulLeft(b).val, 0, 0.0001f);
+
+			// The same array as both arguments.
+			System.arraycopy(a.val, 0, values, 0, 16);
+			Matrix4.mul(values, 0, values, 0);
+			assertMatrix(multiply(a.val, a.val), values, 0, 0.0001f);
+		}
+	}
+
+	@Test
+	public void testInvDet () {
+		for (int i = 0; i < 100; i++) {
+			Matrix4 a = randomMatrix();
+			float[] values = new float[20];
+			System.arraycopy(a.val, 0, values, 4, 16);
+			assertEquals(a.det(), Matrix4.det(values, 4), 0);
+			assertTrue(Matrix4.inv(values, 4));
+			float[] inverse = new float[16];
+			System.arraycopy(values, 4, inverse, 0, 16);
+			assertMatrix(new Matrix4().val, multiply(a.val, inverse), 0, 0.001f);
+		}
+		float[] singular = new float[16];
+		singular[Matrix4.M00] = 1;
+		assertEquals(0, Matrix4.det(singular, 0), 0);
+		assertFalse(Matrix4.inv(singular, 0));
+		assertEquals(1, singular[Matrix4.M00], 0);
+	}
+
+	@Test
+	public void testVectors () {
+		Matrix4 matrix = new Matrix4().setToProjection(1, 100, 60, 1.5f).mul(randomMatrix());
+		float[] vectors = new float[2 + 5 * 10];
+		for (int i = 0; i < vectors.length; i++)
+			vectors[i] = random.nextFloat() * 10 - 5;
+		float[] mul = vectors.clone(), prj = vectors.clone(), rot = vectors.clone();
+		Matrix4.mulVec(matrix.val, 0, mul, 2, 10, 5);
+		Matrix4.prj(matrix.val, 0, prj, 2, 10, 5);
+		Matrix4.rot(matrix.val, 0, rot, 2, 10, 5);
+		Vector3 v = new Vector3();
+		for (int i = 0, o = 2; i < 10; i++, o += 5) {
+			v.set(vectors[o], vectors[o + 1], vectors[o + 2]).mul(matrix);
+			assertVector(v, mul, o);
+			v.set(vectors[o], vectors[o + 1], vectors[o + 2]).prj(matrix);
+			assertVector(v, prj, o);
+			v.set(vectors[o], vectors[o + 1], vectors[o + 2]).rot(matrix);
+			assertVector(v, rot, o);
+			// Values between the vectors are untouched.
+			assertEquals(vectors[o + 3], mul[o + 3], 0);
+			assertEquals(vectors[o + 4], mul[o + 4], 0);
+		}
+	}
+
+	@Test
+	public void testComposition () {
+		Matrix4 a = randomMatrix();
+		assertMatrix(multiply(a.val, new Matrix4().setToTranslation(1, -2, 3).val), a.cpy().translate(1, -2, 3).val, 0, 0.0001f);
+		assertMatrix(multiply(a.val, new Matrix4().setToScaling(2, 3, -4).val), a.cpy().scale(2, 3, -4).val, 0, 0.0001f);
+
+		Affine2 affine = new Affine2().setToTrnRotScl(5, -3, 30, 2, 0.5f);
+		assertMatrix(multiply(a.val, new Matrix4().set(affine).val), a.cpy().mul(affine).val, 0, 0.0001f);
+
+		Quaternion rotation = new Quaternion(new Vector3(1, 2, 3).nor(), 40);
+		float[] values = new float[40];
+		Matrix4.setToTranslationRotationScale(values, 7, 1, 2, 3, rotation.x, rotation.y, rotation.z, rotation.w, 2, 3, 4);
+		Matrix4 expected = new Matrix4().set(new Vector3(1, 2, 3), rotation, new Vector3(2, 3, 4));
+		assertMatrix(expected.val, values, 7, 0);
+		rotation.toMatrix(values, 20);
+		assertMatrix(new Matrix4().set(rotation).val, values, 20, 0.000001f);
+	}
+}
@@ -0,0 +1,237 @@
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+public class PolygonClipperTest {
+	final Random random = new Random(1);
+	final PolygonClipper clipper = new PolygonClipper();
+	final FloatArray result = new FloatArray();
+	final IntArray resultRings = new IntArray();
+
+	/** Adds a star shaped ring of vertices around the center. */
+	void addRing (FloatArray vertices, float x, float y, float minRadius, float maxRadius, int count) {
+		for (int i = 0; i < count; i++) {
+			float angle = MathUtils.PI2 * i / count;
+			float radius = minRadius + random.nextFloat() * (maxRadius - minRadius);
+			vertices.add(x + MathUtils.cos(angle) * radius);
+			vertices.add(y + MathUtils.sin(angle) * radius);
+		}
+	}
+
+	/** Returns true if the ring touches itself at a vertex. */
+	boolean touchesItself (int start, int end) {
+		float[] items = result.items;
+		for (int i = start; i < end; i += 2)
+			for (int ii = i + 2; ii < end; ii += 2)
+				if (items[i] == items[ii] && items[i + 1] == items[ii + 1]) return true;
+		return false;
+	}
+
+	/** Returns the area of the result, asserting the outer rings are counterclockwise and the holes clockwise. */
+	float resultArea (int outerRings) {
+		float area = 0;
+		int outer = 0;
+		for (int i = 0, n = resultRings.size; i < n; i++) {
+			int start = resultRings.get(i) * 2, end = i < n - 1 ? resultRings.get(i + 1) * 2 : result.size;
+			assertTrue(end - start >= 6);
+			assertFalse(touchesItself(start, end));
+			float ringArea = GeometryUtils.polygonArea(result.items, start, end - start);
+			if (ringArea > 0) outer++;
+			area += ringArea;
+		}
+		if (outerRings != -1) assertEquals(outerRings, outer);
+		return area;
+	}
+
+	float clip (FloatArray subject, IntArray subjectRings, FloatArray clip, IntArray clipRings, int operation) {
+		int rings = clipper.clip(subject, subjectRings, clip, clipRings, operation, result, resultRings);
+		assertEquals(resultRings.size, rings);
+		return resultArea(-1);
+	}
+
+	@Test
+	public void testSquares () {
+		FloatArray a = new FloatArray(new float[] {0, 0, 2, 0, 2, 2, 0, 2});
+		FloatArray b = new FloatArray(new float[] {1, 1, 3, 1, 3, 3, 1, 3});
+		assertEquals(1, clip(a, null, b, null, PolygonClipper.INTERSECTION), 0.0001f);
+		assertEquals(1, resultArea(1), 0.0001f);
+		assertEquals(7, clip(a, null, b, null, PolygonClipper.UNION), 0.0001f);
+		assertEquals(3, clip(a, null, b, null, PolygonClipper.DIFFERENCE), 0.0001f);
+		assertEquals(6, clip(a, null, b, null, PolygonClipper.XOR), 0.0001f);
+		resultArea(2);
+	}
+
+	@Test
+	public void testHoles () {
+		FloatArray a = new FloatArray(new float[] {0, 0, 10, 0, 10, 10, 0, 10});
+		FloatArray b = new FloatArray(new float[] {2, 2, 4, 2, 4, 4, 2, 4});
+		assertEquals(96, clip(a, null, b, null, PolygonClipper.DIFFERENCE), 0.0001f);
+		assertEquals(2, resultRings.size);
+		assertEquals(96, resultArea(1), 0.0001f);
+
+		// A polygon with a hole, given as two rings.
+		FloatArray holed = new FloatArray(result);
+		IntArray holedRings = new IntArray(new int[] {resultRings.get(1)});
+		FloatArray inside = new FloatArray(new float[] {3, 3, 8, 3, 8, 8, 3, 8});
+		assertEquals(24, clip(holed, holedRings, inside, null, PolygonClipper.INTERSECTION), 0.0001f);
+		assertEquals(97, clip(holed, holedRings, inside, null, PolygonClipper.UNION), 0.0001f);
+		assertEquals(2, resultRings.size);
+		assertEquals(1, clip(inside, null, holed, holedRings, PolygonClipper.DIFFERENCE), 0.0001f);
+		// Filling the hole exactly.
+		assertEquals(100, clip(holed, holedRings, b, null, PolygonClipper.UNION), 0.0001f);
+		assertEquals(1, resultRings.size);
+	}
+
+	@Test
+	public void testSharedEdges () {
+		FloatArray a = new FloatArray(new float[] {0, 0, 1, 0, 1, 1, 0, 1});
+		FloatArray b = new FloatArray(new float[] {1, 0, 2, 0, 2, 1, 1, 1});
+		assertEquals(2, clip(a, null, b, null, PolygonClipper.UNION), 0.0001f);
+		assertEquals(1, resultRings.size);
+		assertEquals(0, clip(a, null, b, null, PolygonClipper.INTERSECTION), 0.0001f);
+		assertEquals(1, clip(a, null, b, null, PolygonClipper.DIFFERENCE), 0.0001f);
+
+		// Equal polygons.
+		assertEquals(1, clip(a, null, a, null, PolygonClipper.UNION), 0.0001f);
+		assertEquals(1, clip(a, null, a, null, PolygonClipper.INTERSECTION), 0.0001f);
+		assertEquals(0, clip(a, null, a, null, PolygonClipper.DIFFERENCE), 0.0001f);
+		assertEquals(0, resultRings.size);
+
+		// Collinear overlapping edges.
+		FloatArray c = new FloatArray(new float[] {0.5f, 0, 3, 0, 3, 0.5f, 0.5f, 0.5f});
+		assertEquals(0.25f, clip(a, null, c, null, PolygonClipper.INTERSECTION), 0.0001f);
+		assertEquals(2, clip(a, null, c, null, PolygonClipper.UNION), 0.0001f);
+		assertEquals(1, resultRings.size);
+	}
+
+	@Test
+	public void testTouchingVertices () {
+		// Parts of the result touching at a vertex are separate rings.
+		FloatArray a = new FloatArray(new float[] {3, 0, 0, 2, -3, 0, 0, -4});
+		FloatArray b = new FloatArray(new float[] {1, 0, 2, 1, 1, 2, -1, 2, -3, 2, -3, 0, -2, -2, -1, -2, 1, -3, 3, -2});
+		float intersection = clip(a, null, b, null, PolygonClipper.INTERSECTION);
+		float union = clip(a, null, b, null, PolygonClipper.UNION);
+		assertEquals(union - intersection, clip(a, null, b, null, PolygonClipper.XOR), 0.0001f);
+		resultArea(6);
+
+		// A hole touching the outer ring is a separate ring.
+		FloatArray square = new FloatArray(new float[] {0, 0, 10, 0, 10, 10, 0, 10});
+		FloatArray triangle = new FloatArray(new float[] {10, 5, 5, 7, 5, 3});
+		assertEquals(90, clip(square, null, triangle, null, PolygonClipper.DIFFERENCE), 0.0001f);
+		assertEquals(2, resultRings.size);
+		assertEquals(90, resultArea(1), 0.0001f);
+		assertEquals(90, clip(square, null, triangle, null, PolygonClipper.XOR), 0.0001f);
+		assertEquals(2, resultRings.size);
+	}
+
+	@Test
+	public void testDisjoint () {
+		FloatArray a = new FloatArray(new float[] {0, 0, 1, 0, 1, 1, 0, 1});
+		FloatArray b = new FloatArray(new float[] {5, 5, 6, 5, 6, 6, 5, 6});
+		assertEquals(0, clipper.clip(a, null, b, null, PolygonClipper.INTERSECTION, result, resultRings));
+		assertEquals(0, result.size);
+		assertEquals(2, clip(a, null, b, null, PolygonClipper.UNION), 0.0001f);
+		resultArea(2);
+		assertEquals(1, clip(a, null, b, null, PolygonClipper.DIFFERENCE), 0.0001f);
+	}
+
+	@Test
+	public void testPolygon () {
+		Polygon a = new Polygon(new float[] {0, 0, 2, 0, 2, 2, 0, 2});
+		Polygon b = new Polygon(new float[] {0, 0, 2, 0, 2, 2, 0, 2});
+		b.setPosition(1, 1);
+		clipper.clip(a, b, PolygonClipper.INTERSECTION, result, resultRings);
+		assertEquals(1, resultArea(1), 0.0001f);
+	}
+
+	@Test
+	public void testRandom () {
+		FloatArray a = new FloatArray(), b = new FloatArray();
+		IntArray aRings = new IntArray(), bRings = new IntArray();
+		for (int i = 0; i < 200; i++) {
+			a.clear();
+			b.clear();
+			aRings.clear();
+			bRings.clear();
+			addRing(a, 0, 0, 30, 100, 3 + random.nextInt(100));
+			if (i % 2 == 0) {
+				aRings.add(a.size / 2);
+				addRing(a, 0, 0, 5, 20, 3 + random.nextInt(10));
+			}
+			addRing(b, random.nextFloat() * 100 - 50, random.nextFloat() * 100 - 50, 30, 100, 3 + random.nextInt(100));
+			int hole = aRings.size > 0 ? aRings.get(0) * 2 : a.size;
+			float areaA = GeometryUtils.polygonArea(a.items, 0, hole) - GeometryUtils.polygonArea(a.items, hole, a.size - hole);
+			float areaB = GeometryUtils.polygonArea(b.items, 0, b.size);
+			float intersection = clip(a, aRings, b, null, PolygonClipper.INTERSECTION);
+			float union = clip(a, aRings, b, null, PolygonClipper.UNION);
+			float difference = clip(a, aRings, b, null, PolygonClipper.DIFFERENCE);
+			float xor = clip(a, aRings, b, null, PolygonClipper.XOR);
+			float epsilon = (areaA + areaB) * 0.0001f;
+			assertTrue(intersection >= 0 && union >= 0 && difference >= 0 && xor >= 0);
+			assertEquals(areaA + areaB - intersection, union, epsilon);
+			assertEquals(areaA - intersection, difference, epsilon);
+			assertEquals(union - intersection, xor, epsilon);
+		}
+	}
+
+	/** Adds a simple ring of vertices with integer coordinates around the center, so rings often share vertices and edges. */
+	void addIntegerRing (FloatArray vertices, int x, int y, int count) {
+		while (true) {
+			vertices.clear();
+			for (int i = 0; i < count; i++) {
+				float angle = MathUtils.PI2 * (i + random.nextFloat() * 0.5f) / count;
+				float radius = 1 + random.nextInt(5);
+				vertices.add(x + Math.round(MathUtils.cos(angle) * radius));
+				vertices.add(y + Math.round(MathUtils.sin(angle) * radius));
+			}
+			if (isSimple(vertices)) return;
+		}
+	}
+
+	/** Returns true if the ring has no collinear adjacent edges and no intersecting edges. */
+	boolean isSimple (FloatArray vertices) {
+		float[] v = vertices.items;
+		int n = vertices.size;
+		for (int i = 0; i < n; i += 2) {
+			int next = (i + 2) % n, prev = (i + n - 2) % n;
+			float cross = (v[i] - v[prev]) * (v[next + 1] - v[i + 1]) - (v[i + 1] - v[prev + 1]) * (v[next] - v[i]);
+			if (cross == 0) return false;
+		}
+		for (int i = 0; i < n; i += 2) {
+			for (int ii = i + 4; ii < n; ii += 2) {
+				if (i == 0 && ii == n - 2) continue;
+				int next = (i + 2) % n, next2 = (ii + 2) % n;
+				if (Intersector.intersectSegments(v[i], v[i + 1], v[next], v[next + 1], v[ii], v[ii + 1], v[next2], v[next2 + 1],
+					null)) return false;
+			}
+		}
+		return true;
+	}
+
+	@Test
+	public void testRandomInteger () {
+		FloatArray a = new FloatArray(), b = new FloatArray();
+		for (int i = 0; i < 500; i++) {
+			addIntegerRing(a, 0, 0, 3 + random.nextInt(10));
+			addIntegerRing(b, random.nextInt(3) - 1, random.nextInt(3) - 1, 3 + random.nextInt(10));
+			float areaA = Math.abs(GeometryUtils.polygonArea(a.items, 0, a.size));
+			float areaB = Math.abs(GeometryUtils.polygonArea(b.items, 0, b.size));
+			float intersection = clip(a, null, b, null, PolygonClipper.INTERSECTION);
+			float union = clip(a, null, b, null, PolygonClipper.UNION);
+			float difference = clip(a, null, b, null, PolygonClipper.DIFFERENCE);
+			float xor = clip(a, null, b, null, PolygonClipper.XOR);
+			assertEquals(areaA + areaB - intersection, union, 0.001f);
+			assertEquals(areaA - intersection, difference, 0.001f);
+			assertEquals(union - intersection, xor, 0.001f);
+		}
+	}
+}
@@ -0,0 +1,183 @@
+
+package com.badlogic.gdx.net;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.Net.HttpMethods;
+import com.badlogic.gdx.Net.HttpRequest;
+import com.badlogic.gdx.Net.HttpResponse;
+import com.badlogic.gdx.Net.HttpResponseListener;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+public class NetJavaImplTest {
+	static final int SLOW_MILLIS = 500;
+
+	private HttpServer server;
+	private String url;
+	private ExecutorService executor;
+
+	@Before
+	public void startServer () throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		executor = Executors.newCachedThreadPool();
+		server.setExecutor(executor);
+		server.createContext("/", new HttpHandler() {
+			@Override
+			public void handle (HttpExchange exchange) throws IOException {
+				String path = exchange.getRequestURI().getPath();
+				if (path.equals("/slow")) {
+					try {
+						Thread.sleep(SLOW_MILLIS);
+					} catch (InterruptedException ignored) {
+					}
+				}
+				byte[] body;
+				if (path.equals("/echo")) {
+					InputStream input = exchange.getRequestBody();
+					byte[] buffer = new byte[1024];
+					int length = 0, count;
+					while ((count = input.read(buffer, length, buffer.length - length)) > 0)
+						length += count;
+					body = Arrays.copyOf(buffer, length);
+				} else
+					body = ("port " + exchange.getRemoteAddress().getPort()).getBytes("UTF-8");
+				exchange.sendResponseHeaders(200, body.length);
+				OutputStream output = exchange.getResponseBody();
+				output.write(body);
+				output.close();
+			}
+		});
+		server.start();
+		url = "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	@After
+	public void stopServer () {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void concurrentRequests () throws InterruptedException {
+		NetJavaImpl net = new NetJavaImpl(4);
+		Listener listener = new Listener(4);
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < 4; i++)
+			net.sendHttpRequest(request("/slow"), listener);
+		assertTrue("Requests didn't finish", listener.await());
+		long time = System.currentTimeMillis() - start;
+		assertEquals(4, listener.succeeded.get());
+		assertTrue("Requests were not processed concurrently: " + time + " ms", time < SLOW_MILLIS * 3);
+	}
+
+	@Test
+	public void keepAlive () throws InterruptedException {
+		NetJavaImpl net = new NetJavaImpl(1);
+		Listener first = new Listener(1);
+		net.sendHttpRequest(request("/"), first);
+		assertTrue(first.await());
+		Listener second = new Listener(1);
+		net.sendHttpRequest(request("/"), second);
+		assertTrue(second.await());
+		assertEquals("Connection was not reused", first.result, second.result);
+	}
+
+	@Test
+	public void streamedContent () throws InterruptedException {
+		NetJavaImpl net = new NetJavaImpl(1);
+		HttpRequest request = request("/echo");
+		request.setMethod(HttpMethods.POST);
+		byte[] content = "streamed content".getBytes();
+		request.setContent(new ByteArrayInputStream(content), content.length);
+		Listener listener = new Listener(1);
+		net.sendHttpRequest(request, listener);
+		assertTrue(listener.await());
+		assertEquals("streamed content", listener.result);
+	}
+
+	@Test
+	public void timeOut () throws InterruptedException {
+		NetJavaImpl net = new NetJavaImpl(2);
+		HttpRequest request = request("/slow");
+		request.setTimeOut(SLOW_MILLIS / 5);
+		Listener listener = new Listener(1);
+		net.sendHttpRequest(request, listener);
+		assertTrue(listener.await());
+		assertEquals(1, listener.failed.get());
+	}
+
+	@Test
+	public void cancel () throws InterruptedException {
+		NetJavaImpl net = new NetJavaImpl(1);
+		Listener slow = new Listener(1), queued = new Listener(1);
+		HttpRequest slowRequest = request("/slow"), queuedRequest = request("/");
+		net.sendHttpRequest(slowRequest, slow);
+		net.sendHttpRequest(queuedRequest, queued);
+		net.cancelHttpRequest(queuedRequest);
+		net.cancelHttpRequest(slowRequest);
+		assertTrue(slow.await());
+		assertTrue(queued.await());
+		assertEquals(1, slow.cancelled.get());
+		assertEquals(1, queued.cancelled.get());
+		Thread.sleep(SLOW_MILLIS * 2);
+		assertEquals(0, slow.succeeded.get() + slow.failed.get());
+		assertEquals(0, queued.succeeded.get() + queued.failed.get());
+	}
+
+	private HttpRequest request (String path) {
+		HttpRequest request = new HttpRequest(HttpMethods.GET);
+		request.setUrl(url + path);
+		return request;
+	}
+
+	static class Listener implements HttpResponseListener {
+		final CountDownLatch latch;
+		final AtomicInteger succeeded = new AtomicInteger(), failed = new AtomicInteger(), cancelled = new AtomicInteger();
+		volatile String result;
+
+		Listener (int count) {
+			latch = new CountDownLatch(count);
+		}
+
+		boolean await () throws InterruptedException {
+			return latch.await(10, TimeUnit.SECONDS);
+		}
+
+		@Override
+		public void handleHttpResponse (HttpResponse httpResponse) {
+			result = httpResponse.getResultAsString();
+			succeeded.incrementAndGet();
+			latch.countDown();
+		}
+
+		@Override
+		public void failed (Throwable t) {
+			failed.incrementAndGet();
+			latch.countDown();
+		}
+
+		@Override
+		public void cancelled () {
+			cancelled.incrementAndGet();
+			latch.countDown();
+		}
+	}
+}
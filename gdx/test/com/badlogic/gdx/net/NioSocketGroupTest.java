@@ -0,0 +1,176 @@
+
+package com.badlogic.gdx.net;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class NioSocketGroupTest {
+	static final int CLIENTS = 20, MESSAGES = 500;
+
+	private NioSocketGroup group;
+	private NioServerSocket server;
+	private final AtomicInteger serverDisconnects = new AtomicInteger();
+
+	@Before
+	public void startServer () {
+		group = new NioSocketGroup(2, 1024, 64 * 1024);
+		// Echoes each message, which is an int length followed by that many bytes.
+		server = group.bind("127.0.0.1", 0, null, null, new NioSocketListener() {
+			@Override
+			public void connected (NioConnection connection) {
+			}
+
+			@Override
+			public void received (NioConnection connection, ByteBuffer buffer) {
+				while (buffer.remaining() >= 4) {
+					int length = buffer.getInt(buffer.position());
+					if (buffer.remaining() < 4 + length) break;
+					int limit = buffer.limit();
+					buffer.limit(buffer.position() + 4 + length);
+					if (!connection.send(buffer)) connection.close();
+					buffer.limit(limit);
+				}
+			}
+
+			@Override
+			public void disconnected (NioConnection connection, Throwable cause) {
+				serverDisconnects.incrementAndGet();
+			}
+		});
+	}
+
+	@After
+	public void stopServer () {
+		server.dispose();
+		group.dispose();
+	}
+
+	@Test
+	public void echo () throws InterruptedException {
+		final CountDownLatch done = new CountDownLatch(CLIENTS);
+		final AtomicInteger errors = new AtomicInteger();
+		NioConnection[] clients = new NioConnection[CLIENTS];
+		for (int i = 0; i < CLIENTS; i++) {
+			clients[i] = group.connect("127.0.0.1", server.getLocalPort(), null, new NioSocketListener() {
+				int expected;
+
+				@Override
+				public void connected (NioConnection connection) {
+				}
+
+				@Override
+				public void received (NioConnection connection, ByteBuffer buffer) {
+					while (buffer.remaining() >= 8) {
+						if (buffer.getInt() != 4 || buffer.getInt() != expected) errors.incrementAndGet();
+						if (++expected == MESSAGES) done.countDown();
+					}
+				}
+
+				@Override
+				public void disconnected (NioConnection connection, Throwable cause) {
+					if (cause != null) errors.incrementAndGet();
+				}
+			});
+		}
+		ByteBuffer message = ByteBuffer.allocate(8);
+		for (int i = 0; i < MESSAGES; i++) {
+			for (NioConnection client : clients) {
+				message.clear();
+				message.putInt(4).putInt(i).flip();
+				assertTrue(client.send(message));
+			}
+		}
+		assertTrue("Messages were not echoed", done.await(10, TimeUnit.SECONDS));
+		assertEquals(0, errors.get());
+
+		for (NioConnection client : clients)
+			client.close();
+		for (int i = 0; i < 100 && serverDisconnects.get() < CLIENTS; i++)
+			Thread.sleep(20);
+		assertEquals(CLIENTS, serverDisconnects.get());
+		for (NioConnection client : clients)
+			assertFalse(client.isConnected());
+	}
+
+	@Test
+	public void messageTooLarge () throws InterruptedException {
+		final CountDownLatch disconnected = new CountDownLatch(1);
+		NioConnection client = group.connect("127.0.0.1", server.getLocalPort(), null, new NioSocketListener() {
+			@Override
+			public void connected (NioConnection connection) {
+			}
+
+			@Override
+			public void received (NioConnection connection, ByteBuffer buffer) {
+			}
+
+			@Override
+			public void disconnected (NioConnection connection, Throwable cause) {
+				disconnected.countDown();
+			}
+		});
+		// Larger than the server's read buffer, so the server closes the connection.
+		ByteBuffer message = ByteBuffer.allocate(4 + 2048);
+		message.putInt(2048).position(message.capacity());
+		message.flip();
+		assertTrue(client.send(message));
+		assertTrue("Connection was not closed", disconnected.await(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void closeAfterPendingWrites () throws IOException, InterruptedException {
+		// More data than the socket buffers hold while the receiver isn't reading, so the writes are partial.
+		int size = 16 * 1024 * 1024;
+		NioSocketGroup largeGroup = new NioSocketGroup(1, 1024, size);
+		ServerSocket receiver = new ServerSocket();
+		receiver.setReceiveBufferSize(4096);
+		receiver.bind(new InetSocketAddress("127.0.0.1", 0));
+		try {
+			NioConnection client = largeGroup.connect("127.0.0.1", receiver.getLocalPort(), null, new NioSocketListener() {
+				@Override
+				public void connected (NioConnection connection) {
+				}
+
+				@Override
+				public void received (NioConnection connection, ByteBuffer buffer) {
+				}
+
+				@Override
+				public void disconnected (NioConnection connection, Throwable cause) {
+				}
+			});
+			Socket socket = receiver.accept();
+			byte[] data = new byte[size];
+			for (int i = 0; i < size; i++)
+				data[i] = (byte)i;
+			assertTrue(client.send(data, 0, size));
+			client.close();
+			assertFalse(client.send(data, 0, 1));
+
+			InputStream input = new BufferedInputStream(socket.getInputStream());
+			int count = 0;
+			for (int b; (b = input.read()) != -1; count++)
+				if (b != (count & 0xff)) fail("Wrong byte at " + count);
+			assertEquals(size, count);
+			socket.close();
+			assertFalse(client.isConnected());
+		} finally {
+			receiver.close();
+			largeGroup.dispose();
+		}
+	}
+}
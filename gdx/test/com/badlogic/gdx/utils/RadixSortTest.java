@@ -0,0 +1,109 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class RadixSortTest {
+	final Random random = new Random(1);
+	final RadixSort radixSort = new RadixSort();
+
+	@Test
+	public void testInts () {
+		for (int size : new int[] {0, 1, 2, 10, 1000, 20000}) {
+			int[] values = new int[size + 6];
+			for (int i = 0; i < values.length; i++)
+				values[i] = i % 3 == 0 ? random.nextInt(100) : random.nextInt();
+			int[] expected = values.clone();
+			Arrays.sort(expected, 3, size + 3);
+			radixSort.sort(values, 3, size + 3);
+			assertArrayEquals(expected, values);
+		}
+		int[] extremes = {Integer.MAX_VALUE, 0, -1, Integer.MIN_VALUE, 1, -1};
+		radixSort.sort(extremes);
+		assertArrayEquals(new int[] {Integer.MIN_VALUE, -1, -1, 0, 1, Integer.MAX_VALUE}, extremes);
+
+		IntArray array = new IntArray(new int[] {5, -3, 9, 0});
+		radixSort.sort(array);
+		assertArrayEquals(new int[] {-3, 0, 5, 9}, array.toArray());
+	}
+
+	@Test
+	public void testFloats () {
+		float[] values = new float[5000];
+		for (int i = 0; i < values.length; i++)
+			values[i] = (random.nextFloat() - 0.5f) * (i % 2 == 0 ? 1 : 1e6f);
+		values[0] = 0;
+		values[1] = -0f;
+		values[2] = Float.NaN;
+		values[3] = Float.NEGATIVE_INFINITY;
+		values[4] = Float.POSITIVE_INFINITY;
+		values[5] = Float.MIN_VALUE;
+		values[6] = -Float.MAX_VALUE;
+		float[] expected = values.clone();
+		Arrays.sort(expected);
+		radixSort.sort(values);
+		for (int i = 0; i < values.length; i++)
+			assertEquals(Float.floatToIntBits(expected[i]), Float.floatToIntBits(values[i]));
+
+		FloatArray array = new FloatArray(new float[] {2.5f, -1, 0});
+		radixSort.sort(array);
+		assertArrayEquals(new float[] {-1, 0, 2.5f}, array.toArray(), 0);
+	}
+
+	@Test
+	public void testLongs () {
+		long[] values = new long[3000];
+		for (int i = 0; i < values.length; i++)
+			values[i] = i % 2 == 0 ? random.nextInt(1000) - 500 : random.nextLong();
+		values[0] = Long.MIN_VALUE;
+		values[1] = Long.MAX_VALUE;
+		long[] expected = values.clone();
+		Arrays.sort(expected, 10, 2000);
+		radixSort.sort(values, 10, 2000);
+		assertArrayEquals(expected, values);
+
+		LongArray array = new LongArray(new long[] {3, -2, 1L << 40});
+		radixSort.sort(array);
+		assertArrayEquals(new long[] {-2, 3, 1L << 40}, array.toArray());
+	}
+
+	@Test
+	public void testArgsort () {
+		final float[] keys = new float[2000];
+		for (int i = 0; i < keys.length; i++)
+			keys[i] = random.nextInt(50) - 25.5f;
+		int[] indices = new int[1000];
+		radixSort.argsort(keys, 500, 1500, indices);
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(indices[i] >= 500 && indices[i] < 1500);
+			if (i == 0) continue;
+			float previous = keys[indices[i - 1]], key = keys[indices[i]];
+			assertTrue(previous <= key);
+			if (previous == key) assertTrue(indices[i - 1] < indices[i]); // Stable.
+		}
+		assertEquals(499500 + 500 * 1000, sum(indices));
+
+		int[] intKeys = {7, -1, 7, Integer.MIN_VALUE, 3};
+		radixSort.argsort(intKeys, 0, intKeys.length, indices);
+		assertArrayEquals(new int[] {3, 1, 4, 0, 2}, Arrays.copyOf(indices, 5));
+
+		IntArray indexArray = new IntArray();
+		radixSort.argsort(new FloatArray(new float[] {1, -1, 0.5f}), indexArray);
+		assertArrayEquals(new int[] {1, 2, 0}, indexArray.toArray());
+		radixSort.argsort(new IntArray(new int[] {2, 1}), indexArray);
+		assertArrayEquals(new int[] {1, 0}, indexArray.toArray());
+	}
+
+	static int sum (int[] values) {
+		int sum = 0;
+		for (int value : values)
+			sum += value;
+		return sum;
+	}
+}
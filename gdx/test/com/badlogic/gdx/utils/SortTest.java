@@ -0,0 +1,88 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class SortTest {
+	final Random random = new Random(1);
+
+	@Test
+	public void testParallelSort () {
+		AsyncExecutor executor = new AsyncExecutor(4);
+		try {
+			Sort sort = new Sort();
+			Comparator<Integer> byTens = new Comparator<Integer>() {
+				public int compare (Integer a, Integer b) {
+					return a / 10 - b / 10;
+				}
+			};
+			for (int size : new int[] {100, 20000, 100000}) {
+				Integer[] values = new Integer[size + 2];
+				for (int i = 0; i < values.length; i++)
+					values[i] = random.nextInt(10000);
+				Integer[] expected = values.clone();
+				Arrays.sort(expected, 1, size + 1, byTens);
+				sort.sort(values, byTens, 1, size + 1, executor);
+				assertArrayEquals(expected, values); // Identical because both are stable.
+			}
+
+			Array<Integer> array = new Array();
+			for (int i = 0; i < 50000; i++)
+				array.add(random.nextInt());
+			Integer[] expected = array.toArray(Integer.class);
+			Arrays.sort(expected);
+			sort.sort(array, new Comparator<Integer>() {
+				public int compare (Integer a, Integer b) {
+					return a.compareTo(b);
+				}
+			}, executor);
+			assertArrayEquals(expected, array.toArray(Integer.class));
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	@Test
+	public void testParallelSortFailure () {
+		AsyncExecutor executor = new AsyncExecutor(4);
+		try {
+			final AtomicInteger running = new AtomicInteger();
+			Comparator<Integer> failing = new Comparator<Integer>() {
+				public int compare (Integer a, Integer b) {
+					if (a == -1 || b == -1) throw new IllegalStateException();
+					running.incrementAndGet();
+					try {
+						return a.compareTo(b);
+					} finally {
+						running.decrementAndGet();
+					}
+				}
+			};
+			// Only the first chunk fails, the other chunks are still being sorted when it does.
+			Integer[] values = new Integer[100000];
+			for (int i = 0; i < values.length; i++)
+				values[i] = random.nextInt(1000000);
+			values[1] = -1;
+			try {
+				new Sort().sort(values, failing, 0, values.length, executor);
+				fail();
+			} catch (GdxRuntimeException ex) {
+				assertTrue(ex.getCause() instanceof IllegalStateException);
+			}
+			assertEquals("Tasks are still running", 0, running.get());
+		} finally {
+			executor.dispose();
+		}
+	}
+}
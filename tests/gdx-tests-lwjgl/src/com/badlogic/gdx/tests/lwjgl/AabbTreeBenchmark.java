@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.lwjgl;
+
+import java.util.Random;
+
+import com.badlogic.gdx.math.AabbTree3;
+import com.badlogic.gdx.utils.IntArray;
+
+/** Compares the {@link AabbTree3} against brute force for box queries and pair enumeration, with a fraction of the boxes
+ * moving every frame. The optional argument is the number of boxes. */
+public class AabbTreeBenchmark {
+	static final int frames = 100, queries = 1000;
+	static final float worldSize = 1000, boxSize = 4, querySize = 40, speed = 0.5f;
+
+	public static void main (String[] args) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		Random random = new Random(1);
+		float[] boxes = new float[count * 6];
+		for (int i = 0; i < count; i++)
+			randomBox(random, boxes, i);
+
+		System.out.println(count + " boxes, " + frames + " frames");
+		for (int run = 0; run < 2; run++) { // The first run warms up.
+			long start = System.nanoTime();
+			AabbTree3 tree = new AabbTree3(speed * 2);
+			int[] proxies = new int[count];
+			for (int i = 0; i < count; i++) {
+				int o = i * 6;
+				proxies[i] = tree.createProxy(boxes[o], boxes[o + 1], boxes[o + 2], boxes[o + 3], boxes[o + 4], boxes[o + 5], null);
+			}
+			long build = System.nanoTime() - start;
+
+			IntArray result = new IntArray();
+			float[] moved = boxes.clone();
+			Random moves = new Random(2);
+			long treeUpdate = 0, treeQuery = 0, treePairs = 0, bruteQuery = 0, brutePairs = 0;
+			int treeHits = 0, bruteHits = 0, treePairCount = 0, brutePairCount = 0;
+			for (int frame = 0; frame < frames; frame++) {
+				start = System.nanoTime();
+				for (int i = 0; i < count; i += 10) {
+					move(moves, moved, i);
+					int o = i * 6;
+					tree.moveProxy(proxies[i], moved[o], moved[o + 1], moved[o + 2], moved[o + 3], moved[o + 4], moved[o + 5]);
+				}
+				tree.rebalance(count / 100);
+				treeUpdate += System.nanoTime() - start;
+
+				Random queryRandom = new Random(frame);
+				start = System.nanoTime();
+				for (int q = 0; q < queries; q++) {
+					float x = queryRandom.nextFloat() * worldSize, y = queryRandom.nextFloat() * worldSize;
+					float z = queryRandom.nextFloat() * worldSize;
+					result.clear();
+					tree.query(x, y, z, x + querySize, y + querySize, z + querySize, result);
+					treeHits += result.size;
+				}
+				treeQuery += System.nanoTime() - start;
+
+				queryRandom = new Random(frame);
+				start = System.nanoTime();
+				for (int q = 0; q < queries; q++) {
+					float x = queryRandom.nextFloat() * worldSize, y = queryRandom.nextFloat() * worldSize;
+					float z = queryRandom.nextFloat() * worldSize;
+					for (int i = 0, o = 0; i < count; i++, o += 6) {
+						if (moved[o] <= x + querySize && moved[o + 3] >= x && moved[o + 1] <= y + querySize && moved[o + 4] >= y
+							&& moved[o + 2] <= z + querySize && moved[o + 5] >= z) bruteHits++;
+					}
+				}
+				bruteQuery += System.nanoTime() - start;
+
+				start = System.nanoTime();
+				result.clear();
+				treePairCount += tree.getMovedPairs(result);
+				treePairs += System.nanoTime() - start;
+
+				if (frame % 10 == 0) { // Brute force pairs are quadratic, measure them every tenth frame.
+					start = System.nanoTime();
+					for (int i = 0, a = 0; i < count; i++, a += 6) {
+						for (int j = i + 1, b = a + 6; j < count; j++, b += 6) {
+							if (moved[a] <= moved[b + 3] && moved[a + 3] >= moved[b] && moved[a + 1] <= moved[b + 4]
+								&& moved[a + 4] >= moved[b + 1] && moved[a + 2] <= moved[b + 5] && moved[a + 5] >= moved[b + 2])
+								brutePairCount++;
+						}
+					}
+					brutePairs += (System.nanoTime() - start) * 10;
+				}
+			}
+			if (run == 0) continue;
+			System.out.println(String.format("tree build:        %8.2f ms", build / 1000000f));
+			System.out.println(String.format("tree update/frame: %8.2f ms", treeUpdate / 1000000f / frames));
+			System.out.println(String.format("query/frame:       %8.2f ms tree, %8.2f ms brute force (%d, %d hits)",
+				treeQuery / 1000000f / frames, bruteQuery / 1000000f / frames, treeHits, bruteHits));
+			System.out.println(String.format("pairs/frame:       %8.2f ms tree, %8.2f ms brute force (%d moved, %d all pairs)",
+				treePairs / 1000000f / frames, brutePairs / 1000000f / frames, treePairCount, brutePairCount));
+			System.out.println("tree height: " + tree.getHeight());
+		}
+	}
+
+	static void randomBox (Random random, float[] boxes, int i) {
+		for (int d = 0; d < 3; d++) {
+			float min = random.nextFloat() * worldSize;
+			boxes[i * 6 + d] = min;
+			boxes[i * 6 + 3 + d] = min + random.nextFloat() * boxSize;
+		}
+	}
+
+	static void move (Random random, float[] boxes, int i) {
+		for (int d = 0; d < 3; d++) {
+			float offset = (random.nextFloat() - 0.5f) * speed;
+			boxes[i * 6 + d] += offset;
+			boxes[i * 6 + 3 + d] += offset;
+		}
+	}
+}
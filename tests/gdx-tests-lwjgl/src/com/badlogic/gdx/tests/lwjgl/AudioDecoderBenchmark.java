@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.lwjgl;
+
+import java.io.File;
+
+import com.badlogic.gdx.backends.lwjgl.audio.AudioDecoder;
+import com.badlogic.gdx.backends.lwjgl.audio.Mp3;
+import com.badlogic.gdx.backends.lwjgl.audio.Ogg;
+import com.badlogic.gdx.backends.lwjgl.audio.Wav;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** Measures the throughput of the OpenAL backend's audio decoders, decoding on one thread and on a pool of threads. The decoders
+ * don't use OpenAL, so no audio device is needed. The optional argument is the directory of the test assets. */
+public class AudioDecoderBenchmark {
+	static final String[] files = {"shotgun.wav", "shotgun.ogg", "shotgun.mp3", "cloudconnected.ogg", "engine-2.ogg"};
+	static final int iterations = 20;
+
+	public static void main (String[] args) throws Exception {
+		File dir = new File(args.length > 0 ? args[0] : "../gdx-tests-android/assets/data");
+		System.out.println("file                   PCM bytes   MB/s  x realtime");
+		for (String name : files) {
+			FileHandle file = new FileHandle(new File(dir, name));
+			decode(file); // Warm up.
+			long start = System.nanoTime();
+			long bytes = 0;
+			for (int i = 0; i < iterations; i++) {
+				AudioDecoder decoder = newDecoder(file);
+				bytes += decoder.readAll().length;
+				decoder.dispose();
+			}
+			float time = (System.nanoTime() - start) / 1000000000f;
+			AudioDecoder decoder = newDecoder(file);
+			int length = decoder.readAll().length;
+			float duration = length / (2f * decoder.getChannels() * decoder.getSampleRate());
+			decoder.dispose();
+			System.out.println(String.format("%-20s %11d %6.1f %11.1f", name, length, bytes / time / 1000000, duration
+				* iterations / time));
+		}
+
+		int processors = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads <= processors; threads *= 2) {
+			AsyncExecutor executor = new AsyncExecutor(threads);
+			Array<AsyncResult<Integer>> results = new Array();
+			long start = System.nanoTime();
+			for (int i = 0; i < iterations; i++) {
+				for (final String name : files) {
+					final FileHandle file = new FileHandle(new File(dir, name));
+					results.add(executor.submit(new AsyncTask<Integer>() {
+						public Integer call () {
+							return decode(file);
+						}
+					}));
+				}
+			}
+			long bytes = 0;
+			for (AsyncResult<Integer> result : results)
+				bytes += result.get();
+			float time = (System.nanoTime() - start) / 1000000000f;
+			executor.dispose();
+			System.out.println(String.format("%d threads: %6.1f MB/s", threads, bytes / time / 1000000));
+		}
+	}
+
+	static int decode (FileHandle file) {
+		AudioDecoder decoder = newDecoder(file);
+		try {
+			return decoder.readAll().length;
+		} finally {
+			decoder.dispose();
+		}
+	}
+
+	static AudioDecoder newDecoder (FileHandle file) {
+		String extension = file.extension();
+		if (extension.equals("ogg")) return new Ogg.Decoder(file);
+		if (extension.equals("mp3")) return new Mp3.Decoder(file);
+		return new Wav.Decoder(file);
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.lwjgl;
+
+import java.util.Random;
+
+import com.badlogic.gdx.math.FastMath;
+import com.badlogic.gdx.math.MathUtils;
+
+/** Measures the accuracy and throughput of {@link FastMath} for several table sizes, compared to {@link Math} and
+ * {@link MathUtils}. The optional arguments are the table bits to measure. */
+public class FastMathBenchmark {
+	static final int count = 1 << 16, repeats = 200;
+	static final String[] names = {"sin", "exp", "log", "pow", "invSqrt", "acos"};
+	static float sink;
+
+	public static void main (String[] args) {
+		int[] allBits = {8, 10, 12, 14};
+		if (args.length > 0) {
+			allBits = new int[args.length];
+			for (int i = 0; i < args.length; i++)
+				allBits[i] = Integer.parseInt(args[i]);
+		}
+
+		Random random = new Random(1);
+		float[][] inputs = new float[names.length][count];
+		for (int i = 0; i < count; i++) {
+			inputs[0][i] = (random.nextFloat() - 0.5f) * 100;
+			inputs[1][i] = (random.nextFloat() - 0.5f) * 40;
+			inputs[2][i] = random.nextFloat() * 1000 + 0.001f;
+			inputs[3][i] = random.nextFloat() * 10 + 0.01f;
+			inputs[4][i] = random.nextFloat() * 1000 + 0.001f;
+			inputs[5][i] = random.nextFloat() * 2 - 1;
+		}
+		float[] output = new float[count];
+
+		System.out.println("Largest error (absolute for sin and acos, relative otherwise):");
+		for (int bits : allBits) {
+			FastMath math = new FastMath(bits);
+			StringBuilder buffer = new StringBuilder(String.format("%2d bits:", bits));
+			for (int f = 0; f < names.length; f++) {
+				double max = 0;
+				for (int i = 0; i < count; i++) {
+					float x = inputs[f][i];
+					double expected = exact(f, x), actual = fast(math, f, x);
+					double error = Math.abs(actual - expected);
+					if (f != 0 && f != 5) error /= Math.abs(expected);
+					max = Math.max(max, error);
+				}
+				buffer.append(String.format(" %s %.1e", names[f], max));
+			}
+			System.out.println(buffer);
+		}
+		double max = 0;
+		for (int i = 0; i < count; i++)
+			max = Math.max(max, Math.abs(MathUtils.sin(inputs[0][i]) - Math.sin(inputs[0][i])));
+		System.out.println(String.format("MathUtils sin %.1e", max));
+
+		System.out.println("Nanoseconds per value:");
+		for (int run = 0; run < 2; run++) { // The first run warms up.
+			boolean print = run == 1;
+			for (int bits : allBits) {
+				FastMath math = new FastMath(bits);
+				StringBuilder buffer = new StringBuilder(String.format("%2d bits:", bits));
+				for (int f = 0; f < names.length; f++) {
+					long start = System.nanoTime();
+					for (int r = 0; r < repeats; r++)
+						for (int i = 0; i < count; i++)
+							output[i] = fast(math, f, inputs[f][i]);
+					buffer.append(String.format(" %s %.2f", names[f], nanos(start)));
+				}
+				long start = System.nanoTime();
+				for (int r = 0; r < repeats; r++)
+					math.sin(inputs[0], 0, output, 0, count);
+				buffer.append(String.format(", sin array %.2f", nanos(start)));
+				if (print) System.out.println(buffer);
+				sink += output[count / 2];
+			}
+			StringBuilder buffer = new StringBuilder("Math:   ");
+			for (int f = 0; f < names.length; f++) {
+				long start = System.nanoTime();
+				for (int r = 0; r < repeats; r++)
+					for (int i = 0; i < count; i++)
+						output[i] = (float)exact(f, inputs[f][i]);
+				buffer.append(String.format(" %s %.2f", names[f], nanos(start)));
+				sink += output[count / 2];
+			}
+			long start = System.nanoTime();
+			for (int r = 0; r < repeats; r++)
+				for (int i = 0; i < count; i++)
+					output[i] = MathUtils.sin(inputs[0][i]);
+			buffer.append(String.format(", MathUtils sin %.2f", nanos(start)));
+			if (print) System.out.println(buffer);
+		}
+		if (sink == 0) System.out.println();
+	}
+
+	static double exact (int function, float x) {
+		switch (function) {
+		case 0:
+			return Math.sin(x);
+		case 1:
+			return Math.exp(x);
+		case 2:
+			return Math.log(x);
+		case 3:
+			return Math.pow(x, 2.5);
+		case 4:
+			return 1 / Math.sqrt(x);
+		default:
+			return Math.acos(x);
+		}
+	}
+
+	static float fast (FastMath math, int function, float x) {
+		switch (function) {
+		case 0:
+			return math.sin(x);
+		case 1:
+			return math.exp(x);
+		case 2:
+			return math.log(x);
+		case 3:
+			return math.pow(x, 2.5f);
+		case 4:
+			return math.invSqrt(x);
+		default:
+			return FastMath.acos(x);
+		}
+	}
+
+	static float nanos (long start) {
+		return (System.nanoTime() - start) / (float)(repeats * count);
+	}
+}
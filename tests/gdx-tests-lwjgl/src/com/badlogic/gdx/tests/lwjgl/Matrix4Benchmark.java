@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.lwjgl;
+
+import java.util.Random;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+/** Compares the native {@link Matrix4} array methods against their pure Java versions. The natives are skipped if they can't
+ * be loaded. The optional argument is the number of vectors for the batched vector methods. */
+public class Matrix4Benchmark {
+	static final int operations = 2000000, runs = 5;
+	static float sink;
+
+	public static void main (String[] args) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+		boolean natives = true;
+		try {
+			GdxNativesLoader.load();
+			Matrix4.mul(new Matrix4().val, new Matrix4().val);
+		} catch (Throwable ex) {
+			System.out.println("Natives unavailable, only measuring Java: " + ex);
+			natives = false;
+		}
+
+		Random random = new Random(1);
+		float[] a = new float[16], b = new float[16], c = new float[16];
+		for (int i = 0; i < 16; i++) {
+			a[i] = random.nextFloat();
+			b[i] = random.nextFloat();
+		}
+		a[Matrix4.M00] += 4;
+		a[Matrix4.M11] += 4;
+		a[Matrix4.M22] += 4;
+		a[Matrix4.M33] += 4;
+		float[] source = new float[count * 3], vectors = new float[count * 3];
+		for (int i = 0; i < source.length; i++)
+			source[i] = random.nextFloat();
+
+		System.out.println(operations + " operations, " + count + " vectors per batch");
+		for (int run = 0; run < runs; run++) { // The first runs warm up.
+			boolean print = run == runs - 1;
+			for (int java = natives ? 0 : 1; java < 2; java++) {
+				String name = java == 1 ? "java" : "native";
+				long start = System.nanoTime();
+				for (int i = 0; i < operations; i++) {
+					System.arraycopy(a, 0, c, 0, 16);
+					if (java == 1)
+						Matrix4.mul(c, 0, b, 0);
+					else
+						Matrix4.mul(c, b);
+				}
+				report(print, name + " mul:", start, operations);
+
+				start = System.nanoTime();
+				for (int i = 0; i < operations; i++) {
+					System.arraycopy(a, 0, c, 0, 16);
+					if (java == 1)
+						Matrix4.inv(c, 0);
+					else
+						Matrix4.inv(c);
+				}
+				report(print, name + " inv:", start, operations);
+
+				start = System.nanoTime();
+				float det = 0;
+				for (int i = 0; i < operations; i++) {
+					a[Matrix4.M03] = i;
+					det += java == 1 ? Matrix4.det(a, 0) : Matrix4.det(a);
+				}
+				sink += det;
+				report(print, name + " det:", start, operations);
+
+				int batches = Math.max(1, operations / count);
+				start = System.nanoTime();
+				for (int i = 0; i < batches; i++) {
+					System.arraycopy(source, 0, vectors, 0, vectors.length);
+					if (java == 1)
+						Matrix4.mulVec(a, 0, vectors, 0, count, 3);
+					else
+						Matrix4.mulVec(a, vectors, 0, count, 3);
+				}
+				report(print, name + " mulVec per vector:", start, batches * count);
+
+				start = System.nanoTime();
+				for (int i = 0; i < batches; i++) {
+					System.arraycopy(source, 0, vectors, 0, vectors.length);
+					if (java == 1)
+						Matrix4.prj(a, 0, vectors, 0, count, 3);
+					else
+						Matrix4.prj(a, vectors, 0, count, 3);
+				}
+				report(print, name + " prj per vector:", start, batches * count);
+			}
+			a[Matrix4.M03] = 0;
+		}
+		sink += c[0] + vectors[0];
+		if (sink == 0) System.out.println();
+	}
+
+	static void report (boolean print, String name, long start, int operations) {
+		long time = System.nanoTime() - start;
+		if (print) System.out.println(String.format("%-30s %8.2f ns/op", name, time / (float)operations));
+	}
+}
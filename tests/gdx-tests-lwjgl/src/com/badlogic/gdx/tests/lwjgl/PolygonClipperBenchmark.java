@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.lwjgl;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.PolygonClipper;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/** Measures {@link PolygonClipper} operations per second for destructible terrain: circles are subtracted from and added to a
+ * terrain polygon. The optional argument is the number of terrain vertices. */
+public class PolygonClipperBenchmark {
+	static final int operations = 10000, circleVertices = 32;
+	static final float radius = 15;
+
+	public static void main (String[] args) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+		FloatArray terrain = new FloatArray();
+		for (int i = 0; i < count - 2; i++) {
+			terrain.add(i * 2);
+			terrain.add(100 + MathUtils.sin(i * 0.05f) * 20 + MathUtils.sin(i * 0.31f) * 5);
+		}
+		terrain.add((count - 3) * 2);
+		terrain.add(0);
+		terrain.add(0);
+		terrain.add(0);
+
+		PolygonClipper clipper = new PolygonClipper();
+		FloatArray circle = new FloatArray(), result = new FloatArray();
+		IntArray resultRings = new IntArray();
+		System.out.println(count + " terrain vertices, " + circleVertices + " circle vertices");
+		for (int run = 0; run < 2; run++) { // The first run warms up.
+			for (int operation = 0; operation <= PolygonClipper.XOR; operation++) {
+				long start = System.nanoTime();
+				int vertices = 0;
+				for (int i = 0; i < operations; i++) {
+					circle.clear();
+					float x = (i * 37) % (count * 2), y = 100 + (i % 7 - 3) * 5;
+					for (int ii = 0; ii < circleVertices; ii++) {
+						float angle = MathUtils.PI2 * ii / circleVertices;
+						circle.add(x + MathUtils.cos(angle) * radius);
+						circle.add(y + MathUtils.sin(angle) * radius);
+					}
+					clipper.clip(terrain, null, circle, null, operation, result, resultRings);
+					vertices += result.size / 2;
+				}
+				long time = System.nanoTime() - start;
+				if (run == 0) continue;
+				String name = new String[] {"intersection", "union", "difference", "xor"}[operation];
+				System.out.println(String.format("%-13s %8.0f ops/s (%d result vertices)", name + ":", operations / (time / 1e9),
+					vertices / operations));
+			}
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.lwjgl;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import com.badlogic.gdx.utils.RadixSort;
+import com.badlogic.gdx.utils.Sort;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Compares {@link RadixSort} to Arrays.sort and the parallel {@link Sort} methods to sorting on one thread. The optional
+ * arguments are the number of values and the number of threads. */
+public class SortBenchmark {
+	static final int runs = 5;
+
+	public static void main (String[] args) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		int repeats = Math.max(1, 10000000 / count);
+
+		Random random = new Random(1);
+		int[] ints = new int[count], intValues = new int[count], indices = new int[count];
+		float[] floats = new float[count], floatValues = new float[count];
+		long[] longs = new long[count], longValues = new long[count];
+		Float[] objects = new Float[count], objectValues = new Float[count];
+		for (int i = 0; i < count; i++) {
+			ints[i] = random.nextInt();
+			floats[i] = random.nextFloat() * 1000 - 500;
+			longs[i] = random.nextLong();
+			objects[i] = floats[i];
+		}
+		Comparator<Float> comparator = new Comparator<Float>() {
+			public int compare (Float a, Float b) {
+				return Float.compare(a, b);
+			}
+		};
+		RadixSort radixSort = new RadixSort();
+		Sort sort = new Sort();
+		AsyncExecutor executor = new AsyncExecutor(threads);
+
+		System.out.println(count + " values, " + threads + " threads");
+		for (int run = 0; run < runs; run++) { // The first runs warm up.
+			boolean print = run == runs - 1;
+			long start = System.nanoTime();
+			for (int r = 0; r < repeats; r++) {
+				System.arraycopy(ints, 0, intValues, 0, count);
+				Arrays.sort(intValues);
+			}
+			report(print, "Arrays.sort int:", start, repeats * count);
+			start = System.nanoTime();
+			for (int r = 0; r < repeats; r++) {
+				System.arraycopy(ints, 0, intValues, 0, count);
+				radixSort.sort(intValues);
+			}
+			report(print, "RadixSort int:", start, repeats * count);
+
+			start = System.nanoTime();
+			for (int r = 0; r < repeats; r++) {
+				System.arraycopy(floats, 0, floatValues, 0, count);
+				Arrays.sort(floatValues);
+			}
+			report(print, "Arrays.sort float:", start, repeats * count);
+			start = System.nanoTime();
+			for (int r = 0; r < repeats; r++) {
+				System.arraycopy(floats, 0, floatValues, 0, count);
+				radixSort.sort(floatValues);
+			}
+			report(print, "RadixSort float:", start, repeats * count);
+
+			start = System.nanoTime();
+			for (int r = 0; r < repeats; r++) {
+				System.arraycopy(longs, 0, longValues, 0, count);
+				Arrays.sort(longValues);
+			}
+			report(print, "Arrays.sort long:", start, repeats * count);
+			start = System.nanoTime();
+			for (int r = 0; r < repeats; r++) {
+				System.arraycopy(longs, 0, longValues, 0, count);
+				radixSort.sort(longValues);
+			}
+			report(print, "RadixSort long:", start, repeats * count);
+
+			start = System.nanoTime();
+			for (int r = 0; r < repeats; r++)
+				radixSort.argsort(floats, 0, count, indices);
+			report(print, "RadixSort argsort float:", start, repeats * count);
+
+			start = System.nanoTime();
+			for (int r = 0; r < repeats; r++) {
+				System.arraycopy(objects, 0, objectValues, 0, count);
+				sort.sort(objectValues, comparator, 0, count);
+			}
+			report(print, "Sort comparator:", start, repeats * count);
+			start = System.nanoTime();
+			for (int r = 0; r < repeats; r++) {
+				System.arraycopy(objects, 0, objectValues, 0, count);
+				sort.sort(objectValues, comparator, 0, count, executor);
+			}
+			report(print, "Sort comparator parallel:", start, repeats * count);
+		}
+		executor.dispose();
+	}
+
+	static void report (boolean print, String name, long start, int values) {
+		long time = System.nanoTime() - start;
+		if (print) System.out.println(String.format("%-30s %8.2f ns/value", name, time / (float)values));
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.EdgeShape;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.physics.box2d.WorldStepper;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Compares stepping worlds with {@link World#step(float, int, int)} to stepping them with a {@link WorldStepper}, both by solving
+ * the islands of a world in parallel and by stepping several worlds at the same time. The worlds contain many separate stacks of
+ * boxes, so there are many islands. */
+public class Box2DParallelStepTest extends GdxTest {
+	static final int WORLDS = 4, STACKS = 64, BOXES = 10, STEPS = 300;
+
+	@Override
+	public void create () {
+		WorldStepper stepper = new WorldStepper();
+		Gdx.app.log("Box2DParallelStepTest", "Threads: " + stepper.getThreads());
+
+		// Single world, serial and island parallel. The results must be the same.
+		Array<Body> serialBodies = new Array(), parallelBodies = new Array();
+		World serial = createWorld(serialBodies), parallel = createWorld(parallelBodies);
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < STEPS; i++)
+			serial.step(1 / 60f, 8, 3);
+		log("Serial", start);
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < STEPS; i++)
+			stepper.step(parallel, 1 / 60f, 8, 3);
+		log("Island parallel", start);
+		check(serialBodies, parallelBodies);
+		serial.dispose();
+		parallel.dispose();
+
+		// Multiple worlds, serial and stepped at the same time.
+		Array<World> worlds = new Array();
+		for (int i = 0; i < WORLDS; i++)
+			worlds.add(createWorld(null));
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < STEPS; i++)
+			for (World world : worlds)
+				world.step(1 / 60f, 8, 3);
+		log(WORLDS + " worlds serial", start);
+		for (World world : worlds)
+			world.dispose();
+		worlds.clear();
+		for (int i = 0; i < WORLDS; i++)
+			worlds.add(createWorld(null));
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < STEPS; i++)
+			stepper.step(worlds, 1 / 60f, 8, 3);
+		log(WORLDS + " worlds parallel", start);
+		for (World world : worlds)
+			world.dispose();
+
+		stepper.dispose();
+		Gdx.app.log("Box2DParallelStepTest", "All tests passed.");
+	}
+
+	/** @param bodies If not null, the dynamic bodies are added in the order they are created. */
+	private World createWorld (Array<Body> bodies) {
+		World world = new World(new Vector2(0, -10), true);
+
+		BodyDef bodyDef = new BodyDef();
+		Body ground = world.createBody(bodyDef);
+		EdgeShape edge = new EdgeShape();
+		edge.set(-1, 0, STACKS * 2 + 1, 0);
+		ground.createFixture(edge, 0);
+		edge.dispose();
+
+		PolygonShape box = new PolygonShape();
+		box.setAsBox(0.5f, 0.5f);
+		bodyDef.type = BodyType.DynamicBody;
+		for (int i = 0; i < STACKS; i++) {
+			for (int ii = 0; ii < BOXES; ii++) {
+				bodyDef.position.set(i * 2, 0.5f + ii * 1.05f);
+				Body body = world.createBody(bodyDef);
+				body.createFixture(box, 1);
+				if (bodies != null) bodies.add(body);
+			}
+		}
+		box.dispose();
+		return world;
+	}
+
+	/** Compares the bodies by creation order. {@link World#getBodies(Array)} can't be used, its order depends on the native
+	 * addresses of the bodies. */
+	private void check (Array<Body> expectedBodies, Array<Body> actualBodies) {
+		for (int i = 0; i < expectedBodies.size; i++) {
+			Vector2 a = expectedBodies.get(i).getPosition(), b = actualBodies.get(i).getPosition();
+			if (!a.epsilonEquals(b, 0.0001f)) throw new GdxRuntimeException("Island parallel step differs: " + a + " != " + b);
+		}
+	}
+
+	private void log (String name, long start) {
+		Gdx.app.log("Box2DParallelStepTest", name + ": " + (TimeUtils.nanoTime() - start) / 1000000f + " ms");
+	}
+}
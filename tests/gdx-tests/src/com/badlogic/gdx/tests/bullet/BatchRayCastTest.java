@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bullet;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.Ray;
+import com.badlogic.gdx.physics.bullet.collision.btBroadphaseProxy.CollisionFilterGroups;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionObject;
+import com.badlogic.gdx.physics.bullet.dynamics.btRigidBody;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/** Casts a spread of rays with a single call to {@link com.badlogic.gdx.physics.bullet.collision.btCollisionWorld#rayTestBatch}
+ * and pushes every box that is hit. */
+public class BatchRayCastTest extends BaseBulletTest {
+	final int BOXCOUNT_X = 5;
+	final int BOXCOUNT_Y = 5;
+	final int BOXCOUNT_Z = 1;
+
+	final float BOXOFFSET_X = 0f;
+	final float BOXOFFSET_Y = 0.5f;
+	final float BOXOFFSET_Z = 2.5f;
+
+	final int SPREAD = 7;
+	final int RAYCOUNT = SPREAD * SPREAD;
+
+	final FloatBuffer rays = BufferUtils.newFloatBuffer(RAYCOUNT * 6);
+	final IntBuffer filters = BufferUtils.newIntBuffer(RAYCOUNT * 2);
+	final FloatBuffer results = BufferUtils.newFloatBuffer(RAYCOUNT * 7);
+	final IntBuffer userValues = BufferUtils.newIntBuffer(RAYCOUNT);
+	final Vector3 direction = new Vector3();
+
+	@Override
+	public void create () {
+		super.create();
+		instructions = "Tap to cast a spread of rays\nLong press to toggle debug mode\nSwipe for next test\nCtrl+drag to rotate\nScroll to zoom";
+
+		world.add("ground", -7f, 0f, -7f).setColor(0.25f + 0.5f * (float)Math.random(), 0.25f + 0.5f * (float)Math.random(),
+			0.25f + 0.5f * (float)Math.random(), 1f);
+
+		for (int x = 0; x < BOXCOUNT_X; x++) {
+			for (int y = 0; y < BOXCOUNT_Y; y++) {
+				for (int z = 0; z < BOXCOUNT_Z; z++) {
+					world.add("box", BOXOFFSET_X + x, BOXOFFSET_Y + y, BOXOFFSET_Z + z).setColor(0.5f + 0.5f * (float)Math.random(),
+						0.5f + 0.5f * (float)Math.random(), 0.5f + 0.5f * (float)Math.random(), 1f);
+				}
+			}
+		}
+
+		for (int i = 0; i < RAYCOUNT; i++) {
+			filters.put(CollisionFilterGroups.DefaultFilter);
+			filters.put(CollisionFilterGroups.AllFilter);
+		}
+	}
+
+	@Override
+	public boolean tap (float x, float y, int count, int button) {
+		rays.clear();
+		for (int i = 0; i < SPREAD; i++) {
+			for (int j = 0; j < SPREAD; j++) {
+				Ray ray = camera.getPickRay(x + (i - SPREAD / 2) * 8f, y + (j - SPREAD / 2) * 8f);
+				direction.set(ray.direction).scl(50f).add(ray.origin); // 50 meters max from the origin
+				rays.put(ray.origin.x).put(ray.origin.y).put(ray.origin.z);
+				rays.put(direction.x).put(direction.y).put(direction.z);
+			}
+		}
+
+		world.collisionWorld.rayTestBatch(rays, filters, results, userValues, RAYCOUNT);
+
+		for (int i = 0; i < RAYCOUNT; i++) {
+			final int userValue = userValues.get(i);
+			if (userValue < 0) continue;
+			final btCollisionObject obj = world.entities.get(userValue).body;
+			if (!obj.isStaticOrKinematicObject()) {
+				final btRigidBody body = (btRigidBody)(obj);
+				body.activate();
+				direction.set(rays.get(i * 6 + 3), rays.get(i * 6 + 4), rays.get(i * 6 + 5))
+					.sub(rays.get(i * 6), rays.get(i * 6 + 1), rays.get(i * 6 + 2)).nor().scl(2f);
+				// The hit point is the second vector of the result.
+				tmpV1.set(results.get(i * 7 + 4), results.get(i * 7 + 5), results.get(i * 7 + 6)).sub(body.getCenterOfMassPosition());
+				body.applyImpulse(direction, tmpV1);
+			}
+		}
+		return true;
+	}
+}
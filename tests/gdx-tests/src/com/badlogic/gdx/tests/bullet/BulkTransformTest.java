@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bullet;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.physics.bullet.dynamics.btDiscreteDynamicsWorld;
+import com.badlogic.gdx.physics.bullet.dynamics.btRigidBody;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/** Updates the transforms of the entities with {@link btDiscreteDynamicsWorld#getActiveTransforms(FloatBuffer, IntBuffer, int)}
+ * instead of a motion state per body, so no director callbacks are made during the simulation. */
+public class BulkTransformTest extends BaseBulletTest {
+	final int BOXCOUNT_X = 8;
+	final int BOXCOUNT_Y = 8;
+	final int BOXCOUNT_Z = 4;
+
+	int capacity = 64;
+	FloatBuffer transforms = BufferUtils.newFloatBuffer(capacity * 16);
+	IntBuffer userIndices = BufferUtils.newIntBuffer(capacity);
+
+	@Override
+	public void create () {
+		super.create();
+
+		world.add("ground", 0f, 0f, 0f).setColor(0.25f + 0.5f * (float)Math.random(), 0.25f + 0.5f * (float)Math.random(),
+			0.25f + 0.5f * (float)Math.random(), 1f);
+
+		for (int x = 0; x < BOXCOUNT_X; x++) {
+			for (int y = 0; y < BOXCOUNT_Y; y++) {
+				for (int z = 0; z < BOXCOUNT_Z; z++) {
+					BulletEntity entity = world.add("box", -4f + x, 0.5f + y, -2f + z);
+					entity.setColor(0.5f + 0.5f * (float)Math.random(), 0.5f + 0.5f * (float)Math.random(),
+						0.5f + 0.5f * (float)Math.random(), 1f);
+					removeMotionState(entity);
+				}
+			}
+		}
+	}
+
+	/** The transform of the body was set from the motion state when it was created, after that the entity is updated by
+	 * {@link #update()}. The user index maps the body back to the entity. */
+	protected void removeMotionState (BulletEntity entity) {
+		((btRigidBody)entity.body).setMotionState(null);
+		entity.body.setUserIndex(world.entities.size - 1);
+	}
+
+	@Override
+	public void update () {
+		super.update();
+		btDiscreteDynamicsWorld dynamicsWorld = (btDiscreteDynamicsWorld)world.collisionWorld;
+		int count = dynamicsWorld.getActiveTransforms(transforms, userIndices, capacity);
+		if (count > capacity) {
+			capacity = count;
+			transforms = BufferUtils.newFloatBuffer(capacity * 16);
+			userIndices = BufferUtils.newIntBuffer(capacity);
+			dynamicsWorld.getActiveTransforms(transforms, userIndices, capacity);
+		}
+		transforms.clear();
+		for (int i = 0; i < count; i++)
+			transforms.get(world.entities.get(userIndices.get(i)).transform.val);
+	}
+
+	@Override
+	public boolean tap (float x, float y, int count, int button) {
+		removeMotionState(shoot(x, y));
+		return true;
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bullet;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.physics.bullet.collision.ContactEventBuffer;
+
+/** Colors the boxes while they touch the ground, reading the contact events once per frame from a {@link ContactEventBuffer}
+ * instead of receiving a callback per event. */
+public class ContactEventBufferTest extends BaseBulletTest {
+	final int BOXCOUNT_X = 5;
+	final int BOXCOUNT_Y = 5;
+	final int BOXCOUNT_Z = 1;
+
+	final float BOXOFFSET_X = -2.5f;
+	final float BOXOFFSET_Y = 0.5f;
+	final float BOXOFFSET_Z = 0f;
+
+	ContactEventBuffer events;
+
+	@Override
+	public void create () {
+		super.create();
+
+		world.add("ground", 0f, 0f, 0f).setColor(0.25f + 0.5f * (float)Math.random(), 0.25f + 0.5f * (float)Math.random(),
+			0.25f + 0.5f * (float)Math.random(), 1f);
+		world.entities.get(0).body.setContactCallbackFlag(2);
+
+		for (int x = 0; x < BOXCOUNT_X; x++) {
+			for (int y = 0; y < BOXCOUNT_Y; y++) {
+				for (int z = 0; z < BOXCOUNT_Z; z++) {
+					final BulletEntity e = world.add("box", BOXOFFSET_X + x, BOXOFFSET_Y + y, BOXOFFSET_Z + z);
+					e.setColor(Color.BLUE);
+					e.body.setContactCallbackFilter(2);
+				}
+			}
+		}
+
+		events = new ContactEventBuffer(256);
+	}
+
+	@Override
+	public void update () {
+		super.update();
+		final int count = events.update();
+		for (int i = 0; i < count; i++) {
+			final Color color = events.getType(i) == ContactEventBuffer.STARTED ? Color.RED : Color.BLUE;
+			if (events.getMatch0(i)) world.entities.get(events.getUserValue0(i)).setColor(color);
+			if (events.getMatch1(i)) world.entities.get(events.getUserValue1(i)).setColor(color);
+		}
+		if (events.getDropped() > 0) Gdx.app.log("ContactEventBufferTest", "Dropped events: " + events.getDropped());
+		events.clear();
+	}
+
+	@Override
+	public boolean tap (float x, float y, int count, int button) {
+		shoot(x, y).body.setContactCallbackFilter(2);
+		return true;
+	}
+
+	@Override
+	public void dispose () {
+		// Deleting the enabled buffer also disables it.
+		if (events != null) events.dispose();
+		events = null;
+
+		super.dispose();
+	}
+}
@@ -105,6 +105,7 @@ public class GdxTests {
 		BitmapFontTest.class,
 		BitmapFontAtlasRegionTest.class,
 		BlitTest.class,
+		Box2DParallelStepTest.class,
 		Box2DTest.class,
 		Box2DTestCollection.class,
 		Bresenham2Test.class,